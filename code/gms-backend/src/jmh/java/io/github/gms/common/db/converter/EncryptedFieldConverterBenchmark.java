@@ -0,0 +1,78 @@
+package io.github.gms.common.db.converter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost per row of a bulk read (e.g. listing keystores) with the previous implementation,
+ * which decoded the key and looked up a new {@link Cipher} for every column value.
+ * <p>
+ * Run with: {@code mvn -P benchmark test-compile exec:exec -Dbenchmark.includes=EncryptedFieldConverterBenchmark}
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class EncryptedFieldConverterBenchmark {
+
+	private static final String SECRET = "YXNkZmdoamsxMjM0NTY3OGFzZGZnaGprMTIzNDU2Nzg=";
+	private static final String ENCRYPTION_IV = "R4nd0mIv1234567!";
+
+	@Param({ "500" })
+	private int rows;
+
+	private EncryptedFieldConverter converter;
+	private String[] columnValues;
+
+	@Setup
+	public void setup() {
+		converter = new EncryptedFieldConverter(SECRET, ENCRYPTION_IV);
+		columnValues = new String[rows];
+
+		for (int i = 0; i < rows; i++) {
+			columnValues[i] = converter.convertToDatabaseColumn("keystore-credential-" + i);
+		}
+	}
+
+	@Benchmark
+	public void bulkReadLegacy(Blackhole blackhole) throws Exception {
+		for (String columnValue : columnValues) {
+			Key key = new SecretKeySpec(Base64.getDecoder().decode(SECRET.getBytes()), "AES");
+			Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+			cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(128, ENCRYPTION_IV.getBytes(StandardCharsets.UTF_8)));
+			blackhole.consume(new String(cipher.doFinal(Base64.getDecoder().decode(columnValue))));
+		}
+	}
+
+	@Benchmark
+	public void bulkReadPooled(Blackhole blackhole) {
+		for (String columnValue : columnValues) {
+			blackhole.consume(converter.convertToEntityAttribute(columnValue));
+		}
+	}
+}
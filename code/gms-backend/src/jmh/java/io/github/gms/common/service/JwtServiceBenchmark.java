@@ -0,0 +1,72 @@
+package io.github.gms.common.service;
+
+import io.github.gms.common.model.GenerateJwtRequest;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JWT generate/parse throughput of {@link JwtService}. The legacy benchmark rebuilds the key
+ * and the parser on every call like the previous implementation did.
+ * <p>
+ * Run with: {@code mvn -P benchmark test-compile exec:exec -Dbenchmark.includes=JwtServiceBenchmark}
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtServiceBenchmark {
+
+	private static final String SECRET = "YXNkZjEyMzQ1Njc4OTBhc2RmMTIzNDU2Nzg5MGFzZGYxMjM0NTY3ODkwYXNkZjEyMzQ1Njc4OTA=";
+	private static final String ALGORITHM = "HS512";
+
+	private JwtService service;
+	private GenerateJwtRequest request;
+	private String token;
+
+	@Setup
+	public void setup() {
+		service = new JwtService(Clock.systemUTC(), SECRET);
+		request = new GenerateJwtRequest("user1", ALGORITHM, 900L, Map.of("userId", 1L, "roles", "ROLE_USER"));
+		token = service.generateJwt(request);
+	}
+
+	@Benchmark
+	public String generate() {
+		return service.generateJwt(request);
+	}
+
+	@Benchmark
+	public Object parse() {
+		return service.parseJwt(token, ALGORITHM);
+	}
+
+	@Benchmark
+	public Object parseLegacy() {
+		Key key = new SecretKeySpec(Base64.getDecoder().decode(SECRET), SignatureAlgorithm.forName(ALGORITHM).getJcaName());
+		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+	}
+}
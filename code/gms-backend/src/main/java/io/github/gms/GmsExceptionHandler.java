@@ -14,6 +14,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Clock;
 import java.time.ZonedDateTime;
@@ -50,6 +51,16 @@ public class GmsExceptionHandler {
 		return getResponse(ex, HttpStatus.BAD_REQUEST);
 	}
 
+	@ExceptionHandler(ResponseStatusException.class)
+	public ResponseEntity<ErrorResponseDto> handleResponseStatusException(ResponseStatusException ex) {
+		return new ResponseEntity<>(new ErrorResponseDto(
+				ex.getReason(),
+				MDC.get(MdcParameter.CORRELATION_ID.getDisplayName()),
+				ZonedDateTime.now(clock),
+				ErrorCode.GMS_000.getCode()
+		), ex.getStatusCode());
+	}
+
 	private ResponseEntity<ErrorResponseDto> getResponse(Exception ex, HttpStatus httpStatus) {
 		return new ResponseEntity<>(new ErrorResponseDto(
 				Throwables.getRootCause(ex).getMessage(),
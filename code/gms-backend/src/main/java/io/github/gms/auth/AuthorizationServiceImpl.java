@@ -3,6 +3,7 @@ package io.github.gms.auth;
 import io.github.gms.auth.model.AuthorizationResponse;
 import io.github.gms.auth.model.GmsUserDetails;
 import io.github.gms.auth.service.TokenGeneratorService;
+import io.github.gms.common.enums.JwtConfigType;
 import io.github.gms.common.enums.MdcParameter;
 import io.github.gms.common.enums.SystemProperty;
 import io.github.gms.common.service.JwtService;
@@ -10,9 +11,9 @@ import io.github.gms.functions.systemproperty.SystemPropertyService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.util.Pair;
 import org.springframework.http.HttpStatus;
@@ -21,26 +22,50 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.WebUtils;
 
+import java.time.Clock;
 import java.util.Date;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static io.github.gms.common.util.Constants.ACCESS_JWT_TOKEN;
 import static io.github.gms.common.util.Constants.CONFIG_AUTH_TYPE_NOT_KEYCLOAK_SSO;
 
 /**
+ * When sliding refresh is enabled, the JWT pair is re-issued only if the access token has already passed the
+ * configured fraction of its lifetime. Otherwise the response does not contain a JWT pair, and the client keeps
+ * using its current cookies.
+ *
  * @author Peter Szrnka
  * @since 1.0
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Profile(value = { CONFIG_AUTH_TYPE_NOT_KEYCLOAK_SSO })
 public class AuthorizationServiceImpl implements AuthorizationService {
 
 	private final JwtService jwtService;
 	private final TokenGeneratorService tokenGeneratorService;
 	private final SystemPropertyService systemPropertyService;
-	private final UserAuthService userAuthService;
+	private final UserDetailsCacheService userDetailsCacheService;
+	private final Clock clock;
+	private final boolean slidingRefreshEnabled;
+	private final double slidingRefreshThreshold;
+
+	public AuthorizationServiceImpl(JwtService jwtService,
+									TokenGeneratorService tokenGeneratorService,
+									SystemPropertyService systemPropertyService,
+									UserDetailsCacheService userDetailsCacheService,
+									Clock clock,
+									@Value("${config.auth.slidingRefresh.enabled:false}") boolean slidingRefreshEnabled,
+									@Value("${config.auth.slidingRefresh.threshold:0.5}") double slidingRefreshThreshold) {
+		this.jwtService = jwtService;
+		this.tokenGeneratorService = tokenGeneratorService;
+		this.systemPropertyService = systemPropertyService;
+		this.userDetailsCacheService = userDetailsCacheService;
+		this.clock = clock;
+		this.slidingRefreshEnabled = slidingRefreshEnabled;
+		this.slidingRefreshThreshold = slidingRefreshThreshold;
+	}
 
     @Override
 	public AuthorizationResponse authorize(HttpServletRequest request) {
@@ -66,7 +91,7 @@ public class AuthorizationServiceImpl implements AuthorizationService {
 						.build();
 			}
 
-			GmsUserDetails userDetails = (GmsUserDetails) userAuthService.loadUserByUsername(jwsResult.get(MdcParameter.USER_NAME.getDisplayName(), String.class));
+			GmsUserDetails userDetails = userDetailsCacheService.loadUserByUsername(jwsResult.get(MdcParameter.USER_NAME.getDisplayName(), String.class));
 
 			if (!userDetails.isEnabled()) {
 				log.warn("User is blocked");
@@ -76,7 +101,6 @@ public class AuthorizationServiceImpl implements AuthorizationService {
 						.build();
 			}
 			
-			// Let's refresh the existing tokens
 			UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 			authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -87,7 +111,7 @@ public class AuthorizationServiceImpl implements AuthorizationService {
 
 			return AuthorizationResponse.builder()
 					.authentication(authentication)
-					.jwtPair(tokenGeneratorService.getAuthenticationDetails(userDetails))
+					.jwtPair(refreshJwtPair(jwsResult, userDetails))
 					.build();
 		} catch (Exception e) {
 			log.warn("Authorization failed: {}", e.getMessage());
@@ -98,8 +122,29 @@ public class AuthorizationServiceImpl implements AuthorizationService {
 		}
 	}
 
-	private static Pair<HttpStatus, String> validateJwt(Claims jwsResult) {
-		if (jwsResult.getExpiration().before(new Date())) {
+	private Map<JwtConfigType, String> refreshJwtPair(Claims jwsResult, GmsUserDetails userDetails) {
+		if (slidingRefreshEnabled && !isRefreshRequired(jwsResult)) {
+			return null;
+		}
+
+		// Let's refresh the existing tokens
+		return tokenGeneratorService.getAuthenticationDetails(userDetails);
+	}
+
+	private boolean isRefreshRequired(Claims jwsResult) {
+		Date issuedAt = jwsResult.getIssuedAt();
+
+		if (issuedAt == null) {
+			return true;
+		}
+
+		long lifetime = jwsResult.getExpiration().getTime() - issuedAt.getTime();
+		long elapsed = clock.millis() - issuedAt.getTime();
+		return lifetime <= 0 || elapsed >= lifetime * slidingRefreshThreshold;
+	}
+
+	private Pair<HttpStatus, String> validateJwt(Claims jwsResult) {
+		if (jwsResult.getExpiration().before(Date.from(clock.instant()))) {
 			return Pair.of(HttpStatus.BAD_REQUEST, "JWT token has expired!");
 		}
 		
@@ -0,0 +1,105 @@
+package io.github.gms.auth;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.github.gms.auth.model.GmsUserDetails;
+import io.github.gms.common.model.UserChangeEvent;
+import io.github.gms.common.service.LocalCacheInvalidationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static io.github.gms.common.util.Constants.CACHE_USER_DETAILS;
+import static io.github.gms.common.util.Constants.CONFIG_AUTH_TYPE_NOT_KEYCLOAK_SSO;
+
+/**
+ * Short-living, node-local cache of the user details loaded during request authorization, so the database
+ * or the LDAP server is not queried on every request. Entries are evicted on every node when a {@link UserChangeEvent}
+ * is published, hence blocked or disabled users are rejected on the next request. Evictions are applied after the
+ * transaction of the change has been committed, so the users cannot be reloaded with the old state in the meantime.
+ * The TTL only limits how long changes can be missed when the invalidation message is lost.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@Profile(value = { CONFIG_AUTH_TYPE_NOT_KEYCLOAK_SSO })
+public class UserDetailsCacheService {
+
+	private static final long MAXIMUM_SIZE = 10000L;
+
+	private static final String USER_ID_SEPARATOR = ",";
+
+	private final UserAuthService userAuthService;
+	private final LocalCacheInvalidationService localCacheInvalidationService;
+	private final Cache<String, GmsUserDetails> cache;
+	private final AtomicLong generation = new AtomicLong();
+
+	public UserDetailsCacheService(UserAuthService userAuthService,
+								   LocalCacheInvalidationService localCacheInvalidationService,
+								   @Value("${config.auth.userDetailsCache.ttlSeconds:30}") long ttlSeconds) {
+		this.userAuthService = userAuthService;
+		this.localCacheInvalidationService = localCacheInvalidationService;
+		this.cache = CacheBuilder.newBuilder()
+				.maximumSize(MAXIMUM_SIZE)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.build();
+		localCacheInvalidationService.register(CACHE_USER_DETAILS, this::evict);
+	}
+
+	public GmsUserDetails loadUserByUsername(String username) {
+		GmsUserDetails cached = cache.getIfPresent(username);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		long loadGeneration = generation.get();
+		GmsUserDetails userDetails = (GmsUserDetails) userAuthService.loadUserByUsername(username);
+		cache.put(username, userDetails);
+
+		// An eviction happened while the user has been loaded, so the loaded data may be outdated
+		if (generation.get() != loadGeneration) {
+			cache.invalidate(username);
+		}
+
+		return userDetails;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onUserChange(UserChangeEvent event) {
+		Set<Long> userIds = event.getUserIds();
+
+		if (userIds.isEmpty()) {
+			localCacheInvalidationService.evictAll(CACHE_USER_DETAILS);
+			return;
+		}
+
+		localCacheInvalidationService.evict(CACHE_USER_DETAILS,
+				userIds.stream().map(String::valueOf).collect(Collectors.joining(USER_ID_SEPARATOR)));
+	}
+
+	private void evict(String key) {
+		generation.incrementAndGet();
+
+		if (key == null) {
+			cache.invalidateAll();
+			log.info("User details cache has been cleared");
+			return;
+		}
+
+		Set<Long> userIds = Arrays.stream(key.split(USER_ID_SEPARATOR)).map(Long::valueOf).collect(Collectors.toSet());
+		cache.asMap().values().removeIf(userDetails -> userIds.contains(userDetails.getUserId()));
+		log.info("User details cache entries have been evicted for user(s)={}", userIds);
+	}
+}
@@ -1,6 +1,10 @@
 package io.github.gms.auth.ldap;
 
 import io.github.gms.auth.model.GmsUserDetails;
+import io.github.gms.common.enums.ApiCacheTag;
+import io.github.gms.common.enums.EntityStatus;
+import io.github.gms.common.model.UserChangeEvent;
+import io.github.gms.common.service.ApiCacheInvalidationService;
 import io.github.gms.functions.user.UserEntity;
 import io.github.gms.functions.user.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +12,7 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.util.Pair;
 import org.springframework.ldap.core.LdapTemplate;
@@ -15,6 +20,7 @@ import org.springframework.ldap.query.LdapQueryBuilder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.github.gms.common.util.Constants.*;
@@ -32,11 +38,13 @@ public class LdapSyncService {
 	private final LdapTemplate ldapTemplate;
     private final UserRepository repository;
 	private final LdapUserConverter converter;
+	private final ApiCacheInvalidationService apiCacheInvalidationService;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	@Setter
 	@Value("${config.auth.type}")
 	private String authType;
 
-	@CacheEvict(cacheNames = { CACHE_USER, CACHE_API }, allEntries = true)
+	@CacheEvict(cacheNames = { CACHE_USER }, allEntries = true)
 	public Pair<Integer, Integer> synchronizeUsers() {
 		if (!SELECTED_AUTH_LDAP.equals(authType)) {
 			return Pair.of(0, 0);
@@ -54,11 +62,18 @@ public class LdapSyncService {
 				.filter(username -> !usernamesFromLdap.contains(username))
 				.forEach(username -> blockUser(username, toBeDeletedCounter));
 
+		// Status, role or credential of any user could have been changed
+		applicationEventPublisher.publishEvent(new UserChangeEvent(this, Set.of()));
+
 		return Pair.of(counter.get(), toBeDeletedCounter.get());
 	}
 
 	private void blockUser(String username, AtomicInteger deletedCounter) {
 		repository.markUserAsDeleted(username);
+		repository.findByUsername(username).ifPresent(entity -> {
+			apiCacheInvalidationService.evict(ApiCacheTag.USER, entity.getId());
+			apiCacheInvalidationService.evictPrincipals(ApiCacheTag.USER, entity.getId());
+		});
 		deletedCounter.incrementAndGet();
 	}
 
@@ -69,9 +84,15 @@ public class LdapSyncService {
     }
 
 	private void saveUser(GmsUserDetails foundUser, UserEntity existingEntity) {
+		EntityStatus previousStatus = existingEntity == null ? null : existingEntity.getStatus();
 		UserEntity entity = converter.toEntity(foundUser, existingEntity);
 		entity = repository.save(entity);
 
+		if (previousStatus != null && previousStatus != entity.getStatus()) {
+			apiCacheInvalidationService.evict(ApiCacheTag.USER, entity.getId());
+			apiCacheInvalidationService.evictPrincipals(ApiCacheTag.USER, entity.getId());
+		}
+
 		foundUser.setUserId(entity.getId());
 		log.info("User data has been saved into DB for user={}", foundUser.getUsername());
 	}
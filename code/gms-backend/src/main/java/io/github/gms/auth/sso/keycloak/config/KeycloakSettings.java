@@ -26,4 +26,10 @@ public class KeycloakSettings {
     private String clientSecret;
     @Value("${config.keycloak.realm}")
     private String realm;
+    @Value("${config.keycloak.jwksUrl:}")
+    private String jwksUrl;
+    @Value("${config.keycloak.issuer:}")
+    private String issuer;
+    @Value("${config.keycloak.localVerification.enabled:false}")
+    private boolean localVerificationEnabled;
 }
@@ -3,16 +3,20 @@ package io.github.gms.auth.sso.keycloak.converter;
 import dev.samstevens.totp.secret.SecretGenerator;
 import io.github.gms.auth.model.GmsUserDetails;
 import io.github.gms.auth.sso.keycloak.model.IntrospectResponse;
+import io.github.gms.auth.sso.keycloak.model.RealmAccess;
 import io.github.gms.common.dto.UserInfoDto;
 import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.UserRole;
 import io.github.gms.functions.user.UserEntity;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -28,6 +32,12 @@ import static io.github.gms.common.util.Constants.TRUE;
 @Profile(value = { CONFIG_AUTH_TYPE_KEYCLOAK_SSO })
 public class KeycloakConverter {
 
+    private static final String REALM_ACCESS = "realm_access";
+    private static final String ROLES = "roles";
+    private static final String PREFERRED_USERNAME = "preferred_username";
+    private static final String NAME = "name";
+    private static final String EMAIL = "email";
+
     private final Clock clock;
     private final SecretGenerator secretGenerator;
 
@@ -41,6 +51,21 @@ public class KeycloakConverter {
                 .build();
     }
 
+    public IntrospectResponse toIntrospectResponse(Claims claims) {
+        Map<?, ?> realmAccess = claims.get(REALM_ACCESS, Map.class);
+        List<String> roles = realmAccess == null || !(realmAccess.get(ROLES) instanceof List<?> roleList) ? List.of() :
+                roleList.stream().map(String::valueOf).toList();
+
+        return IntrospectResponse.builder()
+                .username(claims.get(PREFERRED_USERNAME, String.class))
+                .name(claims.get(NAME, String.class))
+                .email(claims.get(EMAIL, String.class))
+                // A successfully verified token is not expired
+                .active(TRUE)
+                .realmAccess(RealmAccess.builder().roles(roles).build())
+                .build();
+    }
+
     public UserInfoDto toUserInfoDto(IntrospectResponse response) {
         return UserInfoDto.builder()
                 .name(response.getName())
@@ -36,6 +36,8 @@ public class IntrospectResponse implements Serializable {
     private RealmAccess realmAccess;
     @JsonAlias("failed_attempts")
     private Integer failedAttempts;
+    @JsonAlias("exp")
+    private Long expiration;
 
     @JsonAlias("error")
     private String error;
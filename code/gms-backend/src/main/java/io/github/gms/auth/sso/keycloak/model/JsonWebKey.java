@@ -0,0 +1,28 @@
+package io.github.gms.auth.sso.keycloak.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class JsonWebKey implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3360592318240154627L;
+
+    private String kid;
+    private String kty;
+    private String use;
+    private String alg;
+    private String n;
+    private String e;
+}
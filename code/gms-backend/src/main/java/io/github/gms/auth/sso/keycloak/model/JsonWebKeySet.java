@@ -0,0 +1,24 @@
+package io.github.gms.auth.sso.keycloak.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class JsonWebKeySet implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2185029517963218664L;
+
+    private List<JsonWebKey> keys;
+}
@@ -1,41 +1,141 @@
 package io.github.gms.auth.sso.keycloak.service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import io.github.gms.auth.sso.keycloak.config.KeycloakSettings;
 import io.github.gms.auth.sso.keycloak.model.IntrospectResponse;
-import lombok.RequiredArgsConstructor;
+import io.github.gms.common.service.LocalCacheInvalidationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
-import static io.github.gms.common.util.Constants.CACHE_KEYCLOAK_SSO_GENERATOR;
-import static io.github.gms.common.util.Constants.CACHE_SSO_USER;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.github.gms.common.util.Constants.CACHE_SSO_SESSION;
 import static io.github.gms.common.util.Constants.CLIENT_ID;
 import static io.github.gms.common.util.Constants.CLIENT_SECRET;
 import static io.github.gms.common.util.Constants.CONFIG_AUTH_TYPE_KEYCLOAK_SSO;
 import static io.github.gms.common.util.Constants.REFRESH_TOKEN;
 import static io.github.gms.common.util.Constants.TOKEN;
+import static io.github.gms.common.util.Constants.TRUE;
 
 /**
+ * Introspection results are cached per token pair until the access token expires (the "exp" claim of
+ * the introspection response), but not longer than the configured maximum TTL. Only successful, active sessions
+ * are cached. Concurrent lookups of the same token pair are coalesced into a single introspection call.
+ * The cache is node-local, so an eviction (e.g. on logout) is broadcast to the other nodes as well. A response
+ * loaded while an eviction happened is not cached, and the eviction detaches the in-flight load from later lookups.
+ *
  * @author Peter Szrnka
  * @since 1.0
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-@CacheConfig(cacheNames = { CACHE_SSO_USER }, keyGenerator = CACHE_KEYCLOAK_SSO_GENERATOR)
 @Profile(value = { CONFIG_AUTH_TYPE_KEYCLOAK_SSO })
 public class KeycloakIntrospectService {
 
+    private static final String CACHE_METRIC = "gms.sso.session.cache";
+    private static final String RESULT = "result";
+
     private final KeycloakOAuthService oAuthService;
     private final KeycloakSettings keycloakSettings;
+    private final Clock clock;
+    private final LocalCacheInvalidationService localCacheInvalidationService;
+    private final Duration maxTtl;
+    private final Cache<String, CachedSession> cache;
+    private final ConcurrentMap<String, CompletableFuture<ResponseEntity<IntrospectResponse>>> inFlightLoads = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+    private final Timer loadTimer;
+    private final AtomicLong generation = new AtomicLong();
+
+    public KeycloakIntrospectService(KeycloakOAuthService oAuthService, KeycloakSettings keycloakSettings, Clock clock,
+                                     MeterRegistry meterRegistry, LocalCacheInvalidationService localCacheInvalidationService,
+                                     @Value("${config.keycloak.sessionCache.maxTtlSeconds:300}") long maxTtlSeconds,
+                                     @Value("${config.keycloak.sessionCache.maxSize:10000}") long maxSize) {
+        this.oAuthService = oAuthService;
+        this.keycloakSettings = keycloakSettings;
+        this.clock = clock;
+        this.localCacheInvalidationService = localCacheInvalidationService;
+        this.maxTtl = Duration.ofSeconds(maxTtlSeconds);
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(maxTtl)
+                .build();
+        this.hitCounter = meterRegistry.counter(CACHE_METRIC, RESULT, "hit");
+        this.missCounter = meterRegistry.counter(CACHE_METRIC, RESULT, "miss");
+        this.coalescedCounter = meterRegistry.counter(CACHE_METRIC, RESULT, "coalesced");
+        this.loadTimer = meterRegistry.timer(CACHE_METRIC + ".load");
+        meterRegistry.gauge(CACHE_METRIC + ".size", cache, Cache::size);
+        localCacheInvalidationService.register(CACHE_SSO_SESSION, this::evictLocal);
+    }
 
-    @Cacheable
     public ResponseEntity<IntrospectResponse> getUserDetails(String accessToken, String refreshToken) {
+        String key = getKey(accessToken, refreshToken);
+        CachedSession cachedSession = cache.getIfPresent(key);
+
+        if (cachedSession != null && cachedSession.expiresAt().isAfter(clock.instant())) {
+            hitCounter.increment();
+            return cachedSession.response();
+        }
+
+        CompletableFuture<ResponseEntity<IntrospectResponse>> load = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<IntrospectResponse>> inFlightLoad = inFlightLoads.putIfAbsent(key, load);
+
+        if (inFlightLoad != null) {
+            coalescedCounter.increment();
+            return await(inFlightLoad);
+        }
+
+        missCounter.increment();
+        long loadGeneration = generation.get();
+        try {
+            ResponseEntity<IntrospectResponse> response = loadTimer.record(() -> introspect(accessToken, refreshToken));
+            cacheSession(key, response, loadGeneration);
+            load.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, load);
+        }
+    }
+
+    public void evict(String accessToken, String refreshToken) {
+        localCacheInvalidationService.evict(CACHE_SSO_SESSION, getKey(accessToken, refreshToken));
+    }
+
+    private void evictLocal(String key) {
+        generation.incrementAndGet();
+
+        if (key == null) {
+            cache.invalidateAll();
+            inFlightLoads.clear();
+        } else {
+            cache.invalidate(key);
+            inFlightLoads.remove(key);
+        }
+    }
+
+    private ResponseEntity<IntrospectResponse> introspect(String accessToken, String refreshToken) {
         MultiValueMap<String, String> requestBody = new LinkedMultiValueMap<>();
         requestBody.add(CLIENT_ID, keycloakSettings.getClientId());
         requestBody.add(CLIENT_SECRET, keycloakSettings.getClientSecret());
@@ -44,4 +144,46 @@ public class KeycloakIntrospectService {
 
         return oAuthService.callPostEndpoint(keycloakSettings.getIntrospectUrl(), requestBody, IntrospectResponse.class);
     }
+
+    private void cacheSession(String key, ResponseEntity<IntrospectResponse> response, long loadGeneration) {
+        IntrospectResponse body = response.getBody();
+
+        if (!response.getStatusCode().is2xxSuccessful() || body == null || !TRUE.equals(body.getActive())) {
+            return;
+        }
+
+        Instant maxExpiration = clock.instant().plus(maxTtl);
+        Instant expiresAt = body.getExpiration() == null ? maxExpiration :
+                Instant.ofEpochSecond(body.getExpiration());
+        CachedSession session = new CachedSession(response, expiresAt.isBefore(maxExpiration) ? expiresAt : maxExpiration);
+        cache.put(key, session);
+
+        // An eviction happened while the session has been introspected, so the response may be outdated
+        if (generation.get() != loadGeneration) {
+            cache.asMap().remove(key, session);
+        }
+    }
+
+    private static ResponseEntity<IntrospectResponse> await(CompletableFuture<ResponseEntity<IntrospectResponse>> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    private static String getKey(String accessToken, String refreshToken) {
+        return Hashing.sha256().newHasher()
+                .putString(accessToken, StandardCharsets.UTF_8)
+                .putChar('\n')
+                .putString(refreshToken, StandardCharsets.UTF_8)
+                .hash().toString();
+    }
+
+    private record CachedSession(ResponseEntity<IntrospectResponse> response, Instant expiresAt) {
+    }
 }
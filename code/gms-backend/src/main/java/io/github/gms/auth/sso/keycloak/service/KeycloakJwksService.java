@@ -0,0 +1,106 @@
+package io.github.gms.auth.sso.keycloak.service;
+
+import io.github.gms.auth.sso.keycloak.config.KeycloakSettings;
+import io.github.gms.auth.sso.keycloak.model.JsonWebKey;
+import io.github.gms.auth.sso.keycloak.model.JsonWebKeySet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.github.gms.common.util.Constants.CONFIG_AUTH_TYPE_KEYCLOAK_SSO;
+
+/**
+ * Keeps the public signing keys of the Keycloak realm in memory. The key set is refreshed in the background,
+ * and on demand when a token is signed with an unknown key (e.g. right after a key rotation). On-demand refreshes
+ * are rate limited, so tokens with made-up key IDs cannot be used to flood the Keycloak server.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Profile(value = { CONFIG_AUTH_TYPE_KEYCLOAK_SSO })
+public class KeycloakJwksService {
+
+    private static final String RSA = "RSA";
+    private static final String SIGNATURE_USE = "sig";
+    private static final long MIN_REFRESH_INTERVAL_MILLIS = 10000L;
+
+    private final KeycloakOAuthService oAuthService;
+    private final KeycloakSettings keycloakSettings;
+    private final Clock clock;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Map<String, PublicKey> publicKeys = Map.of();
+    private volatile long lastRefresh = Long.MIN_VALUE / 2;
+
+    public PublicKey getPublicKey(String keyId) {
+        PublicKey publicKey = publicKeys.get(keyId);
+
+        if (publicKey != null) {
+            return publicKey;
+        }
+
+        refreshLock.lock();
+        try {
+            if (!publicKeys.containsKey(keyId) && clock.millis() - lastRefresh >= MIN_REFRESH_INTERVAL_MILLIS) {
+                refresh();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+
+        return publicKeys.get(keyId);
+    }
+
+    @Scheduled(fixedDelayString = "${config.keycloak.jwksRefreshIntervalMillis:300000}")
+    public void refresh() {
+        if (!keycloakSettings.isLocalVerificationEnabled()) {
+            return;
+        }
+
+        refreshLock.lock();
+        try {
+            lastRefresh = clock.millis();
+            JsonWebKeySet keySet = oAuthService.callGetEndpoint(keycloakSettings.getJwksUrl(), JsonWebKeySet.class);
+            publicKeys = toPublicKeys(keySet == null || keySet.getKeys() == null ? List.of() : keySet.getKeys());
+            log.info("{} signing key(s) have been loaded from the JWKS endpoint", publicKeys.size());
+        } catch (Exception e) {
+            log.warn("JWKS could not be refreshed: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private static Map<String, PublicKey> toPublicKeys(List<JsonWebKey> keys) throws GeneralSecurityException {
+        Map<String, PublicKey> result = new HashMap<>();
+        KeyFactory keyFactory = KeyFactory.getInstance(RSA);
+
+        for (JsonWebKey key : keys) {
+            if (key.getKid() == null || !RSA.equals(key.getKty()) || (key.getUse() != null && !SIGNATURE_USE.equals(key.getUse()))) {
+                continue;
+            }
+
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            RSAPublicKeySpec keySpec = new RSAPublicKeySpec(new BigInteger(1, decoder.decode(key.getN())),
+                    new BigInteger(1, decoder.decode(key.getE())));
+            result.put(key.getKid(), keyFactory.generatePublic(keySpec));
+        }
+
+        return Map.copyOf(result);
+    }
+}
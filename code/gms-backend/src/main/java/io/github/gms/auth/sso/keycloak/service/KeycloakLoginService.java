@@ -5,8 +5,6 @@ import io.github.gms.auth.sso.keycloak.model.LoginResponse;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -16,8 +14,6 @@ import org.springframework.web.util.WebUtils;
 
 import static io.github.gms.common.util.Constants.ACCESS_JWT_TOKEN;
 import static io.github.gms.common.util.Constants.AUDIENCE;
-import static io.github.gms.common.util.Constants.CACHE_KEYCLOAK_SSO_GENERATOR;
-import static io.github.gms.common.util.Constants.CACHE_SSO_USER;
 import static io.github.gms.common.util.Constants.CLIENT_ID;
 import static io.github.gms.common.util.Constants.CLIENT_SECRET;
 import static io.github.gms.common.util.Constants.CONFIG_AUTH_TYPE_KEYCLOAK_SSO;
@@ -37,12 +33,12 @@ import static io.github.gms.common.util.Constants.USERNAME;
 @Service
 @RequiredArgsConstructor
 @Profile(value = { CONFIG_AUTH_TYPE_KEYCLOAK_SSO })
-@CacheConfig(cacheNames = { CACHE_SSO_USER }, keyGenerator = CACHE_KEYCLOAK_SSO_GENERATOR)
 public class KeycloakLoginService {
 
     private final KeycloakOAuthService oAuthService;
     private final HttpServletRequest httpServletRequest;
     private final KeycloakSettings keycloakSettings;
+    private final KeycloakIntrospectService keycloakIntrospectService;
 
     public ResponseEntity<LoginResponse> login(String username, String credential) {
         MultiValueMap<String, String> requestBody = new LinkedMultiValueMap<>();
@@ -57,7 +53,6 @@ public class KeycloakLoginService {
         return oAuthService.callPostEndpoint(keycloakSettings.getKeycloakTokenUrl(), requestBody, LoginResponse.class);
     }
 
-    @CacheEvict
     public void logout() {
         MultiValueMap<String, String> requestBody = new LinkedMultiValueMap<>();
         Cookie accessJwtCookie = WebUtils.getCookie(httpServletRequest, ACCESS_JWT_TOKEN);
@@ -72,5 +67,6 @@ public class KeycloakLoginService {
         requestBody.add(TOKEN, accessJwtCookie.getValue());
         requestBody.add(REFRESH_TOKEN, refreshJwtCookie.getValue());
         oAuthService.callPostEndpoint(keycloakSettings.getLogoutUrl(), requestBody, Void.class);
+        keycloakIntrospectService.evict(accessJwtCookie.getValue(), refreshJwtCookie.getValue());
     }
 }
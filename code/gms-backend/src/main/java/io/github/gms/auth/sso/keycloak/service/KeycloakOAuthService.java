@@ -30,4 +30,8 @@ public class KeycloakOAuthService {
         HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(requestBody, headers);
         return restTemplate.postForEntity(url, requestEntity, responseClass);
     }
+
+    public <T> T callGetEndpoint(String url, Class<T> responseClass) {
+        return restTemplate.getForObject(url, responseClass);
+    }
 }
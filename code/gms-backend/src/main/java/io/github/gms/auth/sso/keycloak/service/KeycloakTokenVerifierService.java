@@ -0,0 +1,111 @@
+package io.github.gms.auth.sso.keycloak.service;
+
+import io.github.gms.auth.sso.keycloak.config.KeycloakSettings;
+import io.github.gms.auth.sso.keycloak.converter.KeycloakConverter;
+import io.github.gms.auth.sso.keycloak.model.IntrospectResponse;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtParserBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Optional;
+
+import static io.github.gms.common.util.Constants.CONFIG_AUTH_TYPE_KEYCLOAK_SSO;
+
+/**
+ * Verifies Keycloak access tokens offline with the public keys of the realm. An empty result means that
+ * the token could not be verified locally (local verification is disabled, the token has expired, the signing key
+ * is unknown, etc.), and the caller should fall back to the introspection endpoint, which also detects revoked
+ * tokens and disabled users. Only access tokens ({@code typ=Bearer}) issued for the configured client (by the
+ * {@code azp} or the {@code aud} claim) are accepted locally, ID and refresh tokens or tokens of other clients of the
+ * realm are always introspected.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@Profile(value = { CONFIG_AUTH_TYPE_KEYCLOAK_SSO })
+public class KeycloakTokenVerifierService {
+
+    private static final String TYPE = "typ";
+    private static final String AUTHORIZED_PARTY = "azp";
+    private static final String BEARER = "Bearer";
+
+    private final KeycloakSettings keycloakSettings;
+    private final KeycloakConverter converter;
+    private final JwtParser parser;
+
+    public KeycloakTokenVerifierService(KeycloakSettings keycloakSettings, KeycloakJwksService keycloakJwksService,
+                                        KeycloakConverter converter, Clock clock) {
+        this.keycloakSettings = keycloakSettings;
+        this.converter = converter;
+
+        JwtParserBuilder parserBuilder = Jwts.parserBuilder()
+                .setClock(() -> Date.from(clock.instant()))
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    // The header type is raw in the overridden jjwt signature
+                    @Override
+                    @SuppressWarnings("rawtypes")
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        PublicKey publicKey = keycloakJwksService.getPublicKey(header.getKeyId());
+
+                        if (publicKey == null) {
+                            throw new JwtException("Unknown signing key: " + header.getKeyId());
+                        }
+
+                        return publicKey;
+                    }
+                });
+
+        if (StringUtils.hasText(keycloakSettings.getIssuer())) {
+            parserBuilder.requireIssuer(keycloakSettings.getIssuer());
+        }
+
+        this.parser = parserBuilder.build();
+    }
+
+    public Optional<IntrospectResponse> verify(String accessToken) {
+        if (!keycloakSettings.isLocalVerificationEnabled()) {
+            return Optional.empty();
+        }
+
+        try {
+            Claims claims = parser.parseClaimsJws(accessToken).getBody();
+
+            if (!isAccessTokenOfClient(claims)) {
+                log.info("Token is not an access token of the client, falling back to introspection");
+                return Optional.empty();
+            }
+
+            return Optional.of(converter.toIntrospectResponse(claims));
+        } catch (Exception e) {
+            log.info("Access token could not be verified locally, falling back to introspection: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private boolean isAccessTokenOfClient(Claims claims) {
+        String clientId = keycloakSettings.getClientId();
+
+        if (!BEARER.equals(claims.get(TYPE, String.class)) || !StringUtils.hasText(clientId)) {
+            return false;
+        }
+
+        Object audience = claims.get(Claims.AUDIENCE);
+        return clientId.equals(claims.get(AUTHORIZED_PARTY, String.class)) || clientId.equals(audience)
+                || (audience instanceof Collection<?> audiences && audiences.contains(clientId));
+    }
+}
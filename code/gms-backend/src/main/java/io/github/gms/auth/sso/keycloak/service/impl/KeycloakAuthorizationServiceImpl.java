@@ -6,6 +6,7 @@ import io.github.gms.auth.model.GmsUserDetails;
 import io.github.gms.auth.sso.keycloak.converter.KeycloakConverter;
 import io.github.gms.auth.sso.keycloak.model.IntrospectResponse;
 import io.github.gms.auth.sso.keycloak.service.KeycloakIntrospectService;
+import io.github.gms.auth.sso.keycloak.service.KeycloakTokenVerifierService;
 import io.github.gms.common.enums.JwtConfigType;
 import io.github.gms.common.util.Constants;
 import io.github.gms.functions.user.UserEntity;
@@ -39,6 +40,7 @@ public class KeycloakAuthorizationServiceImpl implements AuthorizationService {
 
     private final KeycloakConverter converter;
     private final KeycloakIntrospectService keycloakIntrospectService;
+    private final KeycloakTokenVerifierService keycloakTokenVerifierService;
     private final UserRepository userRepository;
 
     @Override
@@ -50,12 +52,13 @@ public class KeycloakAuthorizationServiceImpl implements AuthorizationService {
             return AuthorizationResponse.builder().responseStatus(HttpStatus.FORBIDDEN).errorMessage(Constants.ACCESS_DENIED).build();
         }
 
-        ResponseEntity<IntrospectResponse> response = keycloakIntrospectService.getUserDetails(accessJwtCookie.getValue(), refreshJwtCookie.getValue());
-        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+        IntrospectResponse introspectResponse = keycloakTokenVerifierService.verify(accessJwtCookie.getValue())
+                .orElseGet(() -> introspect(accessJwtCookie.getValue(), refreshJwtCookie.getValue()));
+        if (introspectResponse == null) {
             return AuthorizationResponse.builder().responseStatus(HttpStatus.FORBIDDEN).errorMessage(Constants.ACCESS_DENIED).build();
         }
 
-        GmsUserDetails userDetails = converter.toUserDetails(response.getBody());
+        GmsUserDetails userDetails = converter.toUserDetails(introspectResponse);
         Optional<UserEntity> userResult = userRepository.findByUsername(userDetails.getUsername());
 
         if (userResult.isEmpty()) {
@@ -75,4 +78,9 @@ public class KeycloakAuthorizationServiceImpl implements AuthorizationService {
                 ))
                 .build();
     }
+
+    private IntrospectResponse introspect(String accessToken, String refreshToken) {
+        ResponseEntity<IntrospectResponse> response = keycloakIntrospectService.getUserDetails(accessToken, refreshToken);
+        return response.getStatusCode().is2xxSuccessful() ? response.getBody() : null;
+    }
 }
@@ -4,8 +4,10 @@ import io.github.gms.common.enums.JobStatus;
 import io.github.gms.common.enums.MdcParameter;
 import io.github.gms.common.enums.SystemProperty;
 import io.github.gms.common.enums.SystemStatus;
+import io.github.gms.common.model.JobShard;
 import io.github.gms.common.util.MdcUtils;
 import io.github.gms.functions.maintenance.job.JobEntity;
+import io.github.gms.functions.maintenance.job.JobLeaseService;
 import io.github.gms.functions.maintenance.job.JobRepository;
 import io.github.gms.functions.setup.SystemAttributeEntity;
 import io.github.gms.functions.setup.SystemAttributeRepository;
@@ -43,6 +45,8 @@ public abstract class AbstractJob {
     protected JobRepository jobRepository;
     @Autowired
     protected SystemAttributeRepository systemAttributeRepository;
+    @Autowired
+    protected JobLeaseService jobLeaseService;
 
     public abstract void run();
 
@@ -74,7 +78,21 @@ public abstract class AbstractJob {
     }
 
     protected boolean skipJobExecution() {
-        return !manualJobExecution() && (systemIsNotReady() || jobDisabled() || multiNodeEnabled());
+        return !manualJobExecution() && (systemIsNotReady() || jobDisabled() || notResponsibleNode());
+    }
+
+    /**
+     * @return True, if the work of the job can be split between the live nodes with {@link #currentShard()}
+     */
+    protected boolean shardingSupported() {
+        return false;
+    }
+
+    /**
+     * @return The share of the records the current node has to process. Without sharding, it covers every record.
+     */
+    protected JobShard currentShard() {
+        return !manualJobExecution() && shardingEnabled() ? jobLeaseService.getShard() : JobShard.SINGLE;
     }
 
     private void createJobExecution() {
@@ -117,9 +135,31 @@ public abstract class AbstractJob {
         return !systemPropertyService.getBoolean(systemPropertyConfigs().getFirst());
     }
 
-    private boolean multiNodeEnabled() {
-        return systemPropertyService.getBoolean(SystemProperty.ENABLE_MULTI_NODE) &&
-                !StringUtils.equals(systemPropertyService.get(systemPropertyConfigs().getSecond()), systemService.getContainerId());
+    private boolean notResponsibleNode() {
+        if (!systemPropertyService.getBoolean(SystemProperty.ENABLE_MULTI_NODE)) {
+            return false;
+        }
+
+        String runnerContainerId = getRunnerContainerId();
+
+        if (runnerContainerId != null) {
+            return !StringUtils.equals(runnerContainerId, systemService.getContainerId());
+        }
+
+        return !shardingEnabled() && !jobLeaseService.tryAcquire(getClass().getSimpleName());
+    }
+
+    private boolean shardingEnabled() {
+        return shardingSupported() && systemPropertyService.getBoolean(SystemProperty.ENABLE_MULTI_NODE)
+                && systemPropertyService.getBoolean(SystemProperty.ENABLE_JOB_SHARDING) && getRunnerContainerId() == null;
+    }
+
+    /**
+     * @return The container the job is pinned to, or null if the nodes have to elect the runner
+     */
+    private String getRunnerContainerId() {
+        String runnerContainerId = systemPropertyService.get(systemPropertyConfigs().getSecond());
+        return runnerContainerId == null || runnerContainerId.isEmpty() ? null : runnerContainerId;
     }
 
     private static long getMillis(ZonedDateTime zonedDateTime) {
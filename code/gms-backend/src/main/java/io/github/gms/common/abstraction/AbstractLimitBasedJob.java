@@ -1,20 +1,102 @@
 package io.github.gms.common.abstraction;
 
+import io.github.gms.common.enums.MdcParameter;
 import io.github.gms.common.enums.SystemProperty;
 import io.github.gms.common.enums.TimeUnit;
+import io.github.gms.common.util.MdcUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 /**
  * @author Peter Szrnka
  * @since 1.0
  */
+@Slf4j
 public abstract class AbstractLimitBasedJob extends AbstractJob {
 
+	@Value("${config.job.retention.chunkSize:1000}")
+	protected int chunkSize;
+	@Value("${config.job.retention.chunkPauseMillis:100}")
+	protected long chunkPauseMillis;
+	@Value("${config.job.retention.timeBudgetSeconds:600}")
+	protected long timeBudgetSeconds;
+
+	@FunctionalInterface
+	protected interface ExpiredIdLoader {
+		List<Long> load(Long lastId, Pageable pageable);
+	}
+
 	protected ZonedDateTime processConfig(SystemProperty limitProperty) {
 		String oldEventLimitValue = systemPropertyService.get(limitProperty);
 		String[] values = oldEventLimitValue.split(";");
 		TimeUnit timeUnit = TimeUnit.getByCode(values[1]);
 		return ZonedDateTime.now(clock).minus(Long.parseLong(values[0]), timeUnit.getUnit());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Deletes the expired records in chunks ordered by their ID. Every chunk is deleted in its own transaction and
+	 * the job pauses between the chunks, so locks are held only briefly. Records left when the time budget
+	 * of the run is exhausted are deleted by the next run.
+	 *
+	 * @return The number of deleted records
+	 */
+	protected long deleteInChunks(ExpiredIdLoader loader, JpaRepository<?, Long> repository) {
+		Instant deadline = clock.instant().plusSeconds(timeBudgetSeconds);
+		Pageable chunk = Pageable.ofSize(chunkSize);
+		long deleted = 0L;
+		Long lastId = 0L;
+
+		while (true) {
+			List<Long> ids = loader.load(lastId, chunk);
+
+			if (!ids.isEmpty()) {
+				repository.deleteAllByIdInBatch(ids);
+				deleted += ids.size();
+				lastId = ids.getLast();
+				reportProgress(deleted);
+			}
+
+			if (ids.size() < chunkSize) {
+				return deleted;
+			}
+
+			if (!clock.instant().isBefore(deadline)) {
+				log.info("Time budget of {} second(s) exhausted, the remaining records will be deleted by the next run", timeBudgetSeconds);
+				return deleted;
+			}
+
+			if (!pause()) {
+				return deleted;
+			}
+		}
+	}
+
+	private void reportProgress(long processedCount) {
+		if (MdcUtils.get(MdcParameter.JOB_ID) == null) {
+			return;
+		}
+
+		jobRepository.updateProcessedCount(MdcUtils.getLong(MdcParameter.JOB_ID), processedCount);
+	}
+
+	private boolean pause() {
+		if (chunkPauseMillis <= 0) {
+			return true;
+		}
+
+		try {
+			Thread.sleep(chunkPauseMillis);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("Chunked delete has been interrupted");
+			return false;
+		}
+	}
+}
@@ -1,10 +1,12 @@
 package io.github.gms.common.abstraction;
 
+import io.github.gms.common.model.UserChangeEvent;
 import io.github.gms.common.model.UserMaintenanceConfig;
 import io.github.gms.functions.maintenance.model.BatchUserOperationDto;
 import io.github.gms.functions.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Set;
 
@@ -18,10 +20,12 @@ public abstract class UserMaintenanceService {
 
     protected final UserRepository userRepository;
     private final UserMaintenanceConfig userMaintenanceConfig;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public void requestProcess(BatchUserOperationDto dto) {
         log.info("Batch user {} requested. requestId={}", userMaintenanceConfig.scope(), dto.getRequestId());
         userRepository.batchUpdateStatus(dto.getUserIds(), userMaintenanceConfig.status());
+        applicationEventPublisher.publishEvent(new UserChangeEvent(this, dto.getUserIds()));
     }
 
     public Set<Long> getRequestedUserIds() {
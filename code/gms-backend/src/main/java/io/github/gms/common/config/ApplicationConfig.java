@@ -16,6 +16,7 @@ import io.github.gms.common.logging.GmsJacksonAnnotationIntrospector;
 import io.github.gms.functions.announcement.AnnouncementRepository;
 import io.github.gms.functions.apikey.ApiKeyRepository;
 import io.github.gms.functions.event.EventRepository;
+import io.github.gms.functions.home.UserCounterRepository;
 import io.github.gms.functions.iprestriction.IpRestrictionRepository;
 import io.github.gms.functions.keystore.KeystoreAliasRepository;
 import io.github.gms.functions.keystore.KeystoreRepository;
@@ -76,6 +77,7 @@ import static io.github.gms.common.util.Constants.LOGGING_OBJECT_MAPPER;
 		SecretRepository.class,
 		SystemAttributeRepository.class,
 		SystemPropertyRepository.class,
+		UserCounterRepository.class,
 		UserRepository.class
 })
 public class ApplicationConfig implements WebMvcConfigurer {
@@ -84,10 +86,10 @@ public class ApplicationConfig implements WebMvcConfigurer {
 	private boolean resourceHandlerDisabled;
 
 	@Bean("secretRotationExecutor")
-    public TaskExecutor getAsyncExecutor() {
+    public TaskExecutor getAsyncExecutor(@Value("${config.secretRotation.workerThreads:4}") int workerThreads) {
         final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(1);
-        executor.setMaxPoolSize(1);
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setThreadNamePrefix("secret-rotation-");
         return executor;
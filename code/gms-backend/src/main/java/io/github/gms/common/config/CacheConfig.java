@@ -1,7 +1,7 @@
 package io.github.gms.common.config;
 
 import io.github.gms.common.config.cache.ApiCacheKeyGenerator;
-import io.github.gms.common.config.cache.KeycloakSsoKeyGenerator;
+import io.github.gms.common.config.cache.ApiKeyPrincipalKeyGenerator;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurer;
@@ -15,11 +15,10 @@ import org.springframework.context.annotation.Primary;
 
 import static io.github.gms.common.util.Constants.CACHE_API;
 import static io.github.gms.common.util.Constants.CACHE_API_GENERATOR;
+import static io.github.gms.common.util.Constants.CACHE_API_KEY_PRINCIPAL;
+import static io.github.gms.common.util.Constants.CACHE_API_KEY_PRINCIPAL_GENERATOR;
 import static io.github.gms.common.util.Constants.CACHE_GLOBAL_IP_RESTRICTION;
 import static io.github.gms.common.util.Constants.CACHE_IP_RESTRICTION;
-import static io.github.gms.common.util.Constants.CACHE_KEYCLOAK_SSO_GENERATOR;
-import static io.github.gms.common.util.Constants.CACHE_SSO_USER;
-import static io.github.gms.common.util.Constants.CACHE_SYSTEM_PROPERTY;
 import static io.github.gms.common.util.Constants.CACHE_USER;
 
 /**
@@ -36,11 +35,10 @@ public class CacheConfig implements CachingConfigurer {
     public CacheManager cacheManager() {
 		ConcurrentMapCacheManager manager = new ConcurrentMapCacheManager(
 				CACHE_USER,
-				CACHE_SYSTEM_PROPERTY,
 				CACHE_API,
 				CACHE_GLOBAL_IP_RESTRICTION,
 				CACHE_IP_RESTRICTION,
-				CACHE_SSO_USER);
+				CACHE_API_KEY_PRINCIPAL);
 		manager.setAllowNullValues(false);
 		return manager;
     }
@@ -57,8 +55,8 @@ public class CacheConfig implements CachingConfigurer {
         return new ApiCacheKeyGenerator();
     }
 
-	@Bean(CACHE_KEYCLOAK_SSO_GENERATOR)
-	public KeyGenerator keycloakSsoKeyGenerator() {
-		return new KeycloakSsoKeyGenerator();
+	@Bean(CACHE_API_KEY_PRINCIPAL_GENERATOR)
+	public KeyGenerator apiKeyPrincipalKeyGenerator() {
+		return new ApiKeyPrincipalKeyGenerator();
 	}
 }
\ No newline at end of file
@@ -26,7 +26,7 @@ public class FilterConfig {
 		FilterRegistrationBean<IpRestrictionFilter> registrationBean = new FilterRegistrationBean<>();
 		registrationBean.setFilter(ipRestrictionFilter);
 		registrationBean.setName("ipRestrictionFilter");
-		registrationBean.addUrlPatterns("/api/secret/*");
+		registrationBean.addUrlPatterns("/api/secret/*", "/api/secrets");
 		registrationBean.setOrder(1);
 		return registrationBean;
 	}
@@ -1,11 +1,12 @@
 package io.github.gms.common.config;
 
 import io.github.gms.common.config.cache.ApiCacheKeyGenerator;
-import io.github.gms.common.config.cache.KeycloakSsoKeyGenerator;
+import io.github.gms.common.config.cache.ApiKeyPrincipalKeyGenerator;
+import io.github.gms.common.config.cache.TwoTierCacheManager;
+import io.github.gms.common.service.LocalCacheInvalidationService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.cache.interceptor.SimpleKeyGenerator;
@@ -17,17 +18,19 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 
 import static io.github.gms.common.util.Constants.CACHE_API;
 import static io.github.gms.common.util.Constants.CACHE_API_GENERATOR;
+import static io.github.gms.common.util.Constants.CACHE_API_KEY_PRINCIPAL;
+import static io.github.gms.common.util.Constants.CACHE_API_KEY_PRINCIPAL_GENERATOR;
 import static io.github.gms.common.util.Constants.CACHE_GLOBAL_IP_RESTRICTION;
+import static io.github.gms.common.util.Constants.CACHE_INVALIDATION_CHANNEL;
 import static io.github.gms.common.util.Constants.CACHE_IP_RESTRICTION;
-import static io.github.gms.common.util.Constants.CACHE_KEYCLOAK_SSO_GENERATOR;
-import static io.github.gms.common.util.Constants.CACHE_SSO_USER;
-import static io.github.gms.common.util.Constants.CACHE_SYSTEM_PROPERTY;
 import static io.github.gms.common.util.Constants.CACHE_USER;
 import static io.github.gms.common.util.Constants.TRUE;
 
@@ -61,16 +64,36 @@ public class RedisCacheConfig {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, RedisCacheManagerBuilderCustomizer customizer) {
-        return RedisCacheManager.RedisCacheManagerBuilder
+    public TwoTierCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${config.cache.local.maxSize:1000}") long localMaxSize,
+            @Value("${config.cache.local.ttlSeconds:30}") long localTtlSeconds
+    ) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder
                 .fromConnectionFactory(connectionFactory)
                 .withCacheConfiguration(CACHE_USER, minutesCacheConfig(10))
-                .withCacheConfiguration(CACHE_SYSTEM_PROPERTY, minutesCacheConfig(10))
                 .withCacheConfiguration(CACHE_API, minutesCacheConfig(10))
                 .withCacheConfiguration(CACHE_GLOBAL_IP_RESTRICTION, minutesCacheConfig(10))
                 .withCacheConfiguration(CACHE_IP_RESTRICTION, minutesCacheConfig(10))
-                .withCacheConfiguration(CACHE_SSO_USER, minutesCacheConfig(5))
+                .withCacheConfiguration(CACHE_API_KEY_PRINCIPAL, minutesCacheConfig(10))
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoTierCacheManager(redisCacheManager,
+                message -> redisTemplate.convertAndSend(CACHE_INVALIDATION_CHANNEL, message),
+                localMaxSize, Duration.ofSeconds(localTtlSeconds));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoTierCacheManager cacheManager,
+                                                                            LocalCacheInvalidationService localCacheInvalidationService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(CACHE_INVALIDATION_CHANNEL));
+        container.addMessageListener(localCacheInvalidationService, new ChannelTopic(CACHE_INVALIDATION_CHANNEL));
+        return container;
     }
 
     @Bean
@@ -89,9 +112,9 @@ public class RedisCacheConfig {
         return new ApiCacheKeyGenerator();
     }
 
-    @Bean(CACHE_KEYCLOAK_SSO_GENERATOR)
-    public KeyGenerator keycloakSsoKeyGenerator() {
-        return new KeycloakSsoKeyGenerator();
+    @Bean(CACHE_API_KEY_PRINCIPAL_GENERATOR)
+    public KeyGenerator apiKeyPrincipalKeyGenerator() {
+        return new ApiKeyPrincipalKeyGenerator();
     }
 
     private static RedisCacheConfiguration minutesCacheConfig(int minutes) {
@@ -7,6 +7,9 @@ import org.springframework.lang.NonNull;
 import java.lang.reflect.Method;
 
 /**
+ * Keys the API cache by the owner user ID and the secret ID, given either as a {@link SecretEntity} or as the
+ * first two parameters. The secret ID alone is unique only per user.
+ *
  * @author Peter Szrnka
  * @since 1.0
  */
@@ -14,7 +17,14 @@ public class ApiCacheKeyGenerator implements KeyGenerator {
 
 	@Override
 	public @NonNull Object generate(@NonNull Object target, @NonNull Method method, Object... params) {
-		SecretEntity request = (SecretEntity) params[0];
-		return request.getSecretId();
+		return params[0] instanceof SecretEntity secretEntity ? key(secretEntity) : key((Long) params[1], (String) params[0]);
+	}
+
+	public static String key(SecretEntity secretEntity) {
+		return key(secretEntity.getUserId(), secretEntity.getSecretId());
+	}
+
+	public static String key(Long userId, String secretId) {
+		return userId + ":" + secretId;
 	}
 }
\ No newline at end of file
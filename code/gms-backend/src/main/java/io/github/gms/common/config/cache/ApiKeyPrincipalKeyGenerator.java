@@ -0,0 +1,26 @@
+package io.github.gms.common.config.cache;
+
+import com.google.common.hash.Hashing;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.lang.NonNull;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Keys the API key principal cache by the SHA-256 hash of the API key, so the raw value is never stored in the cache.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+public class ApiKeyPrincipalKeyGenerator implements KeyGenerator {
+
+	@Override
+	public @NonNull Object generate(@NonNull Object target, @NonNull Method method, Object... params) {
+		return hash((String) params[0]);
+	}
+
+	public static String hash(String apiKey) {
+		return Hashing.sha256().hashString(apiKey, StandardCharsets.UTF_8).toString();
+	}
+}
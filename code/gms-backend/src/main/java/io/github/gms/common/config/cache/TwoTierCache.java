@@ -0,0 +1,130 @@
+package io.github.gms.common.config.cache;
+
+import com.google.common.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * Near-cache that keeps a bounded, short-lived local copy (L1) of the entries read from the shared
+ * remote cache (L2). Evictions are applied to both tiers and then published, so the other nodes can
+ * drop their local copies as well.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+public class TwoTierCache implements org.springframework.cache.Cache {
+
+	private final org.springframework.cache.Cache remoteCache;
+	private final Cache<String, ValueWrapper> localCache;
+	private final BiConsumer<String, String> evictionPublisher;
+
+	/**
+	 * @param remoteCache The shared L2 cache
+	 * @param localCache The in-process L1 cache
+	 * @param evictionPublisher Publishes the cache name and the evicted key ({@code null} means a full clear)
+	 */
+	public TwoTierCache(org.springframework.cache.Cache remoteCache, Cache<String, ValueWrapper> localCache,
+						BiConsumer<String, String> evictionPublisher) {
+		this.remoteCache = remoteCache;
+		this.localCache = localCache;
+		this.evictionPublisher = evictionPublisher;
+	}
+
+	@Override
+	public @NonNull String getName() {
+		return remoteCache.getName();
+	}
+
+	@Override
+	public @NonNull Object getNativeCache() {
+		return remoteCache.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(@NonNull Object key) {
+		String localKey = toLocalKey(key);
+		ValueWrapper valueWrapper = localCache.getIfPresent(localKey);
+
+		if (valueWrapper != null) {
+			return valueWrapper;
+		}
+
+		valueWrapper = remoteCache.get(key);
+
+		if (valueWrapper != null) {
+			localCache.put(localKey, valueWrapper);
+		}
+
+		return valueWrapper;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(@NonNull Object key, Class<T> type) {
+		ValueWrapper valueWrapper = get(key);
+		Object value = valueWrapper != null ? valueWrapper.get() : null;
+
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+		String localKey = toLocalKey(key);
+		ValueWrapper valueWrapper = localCache.getIfPresent(localKey);
+
+		if (valueWrapper != null) {
+			return (T) valueWrapper.get();
+		}
+
+		T value = remoteCache.get(key, valueLoader);
+		localCache.put(localKey, new SimpleValueWrapper(value));
+		return value;
+	}
+
+	@Override
+	public void put(@NonNull Object key, Object value) {
+		remoteCache.put(key, value);
+		localCache.put(toLocalKey(key), new SimpleValueWrapper(value));
+	}
+
+	@Override
+	public void evict(@NonNull Object key) {
+		String localKey = toLocalKey(key);
+		remoteCache.evict(key);
+		localCache.invalidate(localKey);
+		evictionPublisher.accept(getName(), localKey);
+	}
+
+	@Override
+	public void clear() {
+		remoteCache.clear();
+		localCache.invalidateAll();
+		evictionPublisher.accept(getName(), null);
+	}
+
+	/**
+	 * Drops the local copy only, used when another node has published an eviction.
+	 *
+	 * @param localKey The key to drop, or {@code null} to drop every local entry
+	 */
+	public void evictLocal(String localKey) {
+		if (localKey == null) {
+			localCache.invalidateAll();
+			return;
+		}
+
+		localCache.invalidate(localKey);
+	}
+
+	static String toLocalKey(Object key) {
+		return String.valueOf(key);
+	}
+}
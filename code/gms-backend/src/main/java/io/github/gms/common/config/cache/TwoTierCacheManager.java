@@ -0,0 +1,101 @@
+package io.github.gms.common.config.cache;
+
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * {@link CacheManager} that puts a bounded in-process L1 cache with a short TTL in front of every cache of
+ * the remote (Redis) L2 cache manager. Evictions are broadcast to the other nodes through the given publisher
+ * (Redis pub/sub), and the received broadcasts are handled by {@link #onMessage(Message, byte[])}.
+ * <p>
+ * Message format: {@code <nodeId>|<cacheName>|<key>}, the key part is omitted when the whole cache has been cleared.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+	private static final String SEPARATOR = "|";
+	private static final int MESSAGE_PARTS = 3;
+
+	private final String nodeId = UUID.randomUUID().toString();
+	private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+	private final CacheManager remoteCacheManager;
+	private final Consumer<String> invalidationPublisher;
+	private final long localMaxSize;
+	private final Duration localTtl;
+
+	public TwoTierCacheManager(CacheManager remoteCacheManager, Consumer<String> invalidationPublisher,
+							   long localMaxSize, Duration localTtl) {
+		this.remoteCacheManager = remoteCacheManager;
+		this.invalidationPublisher = invalidationPublisher;
+		this.localMaxSize = localMaxSize;
+		this.localTtl = localTtl;
+	}
+
+	@Override
+	public Cache getCache(@NonNull String name) {
+		TwoTierCache cache = caches.get(name);
+
+		if (cache != null) {
+			return cache;
+		}
+
+		Cache remoteCache = remoteCacheManager.getCache(name);
+
+		if (remoteCache == null) {
+			return null;
+		}
+
+		return caches.computeIfAbsent(name, cacheName -> new TwoTierCache(remoteCache,
+				CacheBuilder.newBuilder().maximumSize(localMaxSize).expireAfterWrite(localTtl).build(),
+				this::publishEviction));
+	}
+
+	@Override
+	public @NonNull Collection<String> getCacheNames() {
+		return remoteCacheManager.getCacheNames();
+	}
+
+	@Override
+	public void onMessage(@NonNull Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, MESSAGE_PARTS);
+
+		if (parts.length < MESSAGE_PARTS - 1 || nodeId.equals(parts[0])) {
+			return;
+		}
+
+		TwoTierCache cache = caches.get(parts[1]);
+
+		if (cache == null) {
+			return;
+		}
+
+		cache.evictLocal(parts.length == MESSAGE_PARTS ? parts[2] : null);
+		log.debug("Local cache entries of {} have been invalidated by node {}", parts[1], parts[0]);
+	}
+
+	private void publishEviction(String cacheName, String key) {
+		String message = nodeId + SEPARATOR + cacheName + (key != null ? SEPARATOR + key : "");
+
+		try {
+			invalidationPublisher.accept(message);
+		} catch (Exception e) {
+			log.warn("Cache invalidation message could not be published: {}", e.getMessage());
+		}
+	}
+}
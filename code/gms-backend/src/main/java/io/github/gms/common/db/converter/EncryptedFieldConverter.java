@@ -5,22 +5,27 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
-import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidAlgorithmParameterException;
-import java.security.InvalidKeyException;
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
 import java.util.Base64;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 
 import static io.github.gms.common.util.Constants.TRUE;
 
 /**
+ * The key material and the cipher provider are resolved only once. Initialized decryption ciphers are pooled
+ * and reused, because request threads are virtual threads and thread-confined instances would not be reused.
+ * Encryption always needs a new {@link Cipher} instance, since an AES-GCM cipher cannot be reinitialized
+ * with the same key and IV for encryption.
+ *
  * @author Peter Szrnka
  * @since 1.0
  */
@@ -31,25 +36,28 @@ public class EncryptedFieldConverter implements AttributeConverter<String, Strin
 	private static final int AUTHENTICATION_TAG_LENGTH = 128;
 	private static final String ENCRYPTION_ALGORITHM = "AES/GCM/NoPadding";
 	private static final String AES = "AES";
+	private static final int CIPHER_POOL_SIZE = 64;
 
-	private final String secret;
-	private final String encryptionIv;
+	private final Key key;
+	private final GCMParameterSpec parameterSpec;
+	private final Provider provider;
+	private final Queue<Cipher> decryptCipherPool = new ArrayBlockingQueue<>(CIPHER_POOL_SIZE);
 
 	public EncryptedFieldConverter(
-			@Value("${config.crypto.secret}") String secret, 
+			@Value("${config.crypto.secret}") String secret,
 			@Value("${config.encryption.iv}") String encryptionIv) {
-        this.secret = secret;
-        this.encryptionIv = encryptionIv;
-    }
+		this.key = new SecretKeySpec(Base64.getDecoder().decode(secret.getBytes()), AES);
+		this.parameterSpec = new GCMParameterSpec(AUTHENTICATION_TAG_LENGTH, encryptionIv.getBytes(StandardCharsets.UTF_8));
+		this.provider = resolveProvider();
+	}
 
 	@Override
 	public String convertToDatabaseColumn(String attribute) {
 		try {
-			Key key = new SecretKeySpec(Base64.getDecoder().decode(secret.getBytes()), AES);
-			Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
-			cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(AUTHENTICATION_TAG_LENGTH, encryptionIv.getBytes(StandardCharsets.UTF_8)));
+			Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM, provider);
+			cipher.init(Cipher.ENCRYPT_MODE, key, parameterSpec);
 			return Base64.getEncoder().encodeToString(cipher.doFinal(attribute.getBytes()));
-		} catch (IllegalBlockSizeException | BadPaddingException | InvalidKeyException | InvalidAlgorithmParameterException | NoSuchAlgorithmException | NoSuchPaddingException e) {
+		} catch (GeneralSecurityException e) {
 			throw new IllegalStateException(e);
 		}
 	}
@@ -57,11 +65,26 @@ public class EncryptedFieldConverter implements AttributeConverter<String, Strin
 	@Override
 	public String convertToEntityAttribute(String dbData) {
 		try {
-			Key key = new SecretKeySpec(Base64.getDecoder().decode(secret.getBytes()), AES);
-			Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
-			cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(AUTHENTICATION_TAG_LENGTH, encryptionIv.getBytes(StandardCharsets.UTF_8)));
-			return new String(cipher.doFinal(Base64.getDecoder().decode(dbData)));
-		} catch (InvalidKeyException | BadPaddingException | IllegalBlockSizeException | InvalidAlgorithmParameterException | NoSuchAlgorithmException | NoSuchPaddingException e) {
+			Cipher cipher = decryptCipherPool.poll();
+
+			if (cipher == null) {
+				cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM, provider);
+				cipher.init(Cipher.DECRYPT_MODE, key, parameterSpec);
+			}
+
+			// doFinal resets the cipher to its initialized state, so it can be returned to the pool
+			String result = new String(cipher.doFinal(Base64.getDecoder().decode(dbData)));
+			decryptCipherPool.offer(cipher);
+			return result;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Provider resolveProvider() {
+		try {
+			return Cipher.getInstance(ENCRYPTION_ALGORITHM).getProvider();
+		} catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
 			throw new IllegalStateException(e);
 		}
 	}
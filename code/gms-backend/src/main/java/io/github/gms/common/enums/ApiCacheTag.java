@@ -0,0 +1,15 @@
+package io.github.gms.common.enums;
+
+/**
+ * Entity types which can be used to select the affected entries of the API cache.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+public enum ApiCacheTag {
+	SECRET,
+	USER,
+	KEYSTORE,
+	KEYSTORE_ALIAS,
+	API_KEY
+}
@@ -2,6 +2,7 @@ package io.github.gms.common.enums;
 
 import lombok.Getter;
 
+import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 
 /**
@@ -25,4 +26,11 @@ public enum RotationPeriod {
 		this.unit = unit;
 		this.unitValue = 1L;
 	}
+
+	/**
+	 * @return The time when a secret rotated at the given time becomes due again
+	 */
+	public ZonedDateTime next(ZonedDateTime lastRotated) {
+		return lastRotated.plus(unitValue, unit);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package io.github.gms.common.enums;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+public enum SecretResultStatus {
+	OK,
+	NOT_FOUND,
+	FORBIDDEN,
+	FAILED
+}
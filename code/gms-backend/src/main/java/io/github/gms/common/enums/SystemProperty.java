@@ -34,6 +34,8 @@ public enum SystemProperty {
 	JOB_OLD_MESSAGE_LIMIT(JOB, STRING, "90;d"),
 	JOB_OLD_EVENT_LIMIT(JOB, STRING, "180;d"),
 	ENABLE_MULTI_NODE(JOB, BOOLEAN, "false"),
+	// Shardable jobs are executed by every live node on their own share of the records
+	ENABLE_JOB_SHARDING(JOB, BOOLEAN, "false"),
 	EVENT_MAINTENANCE_RUNNER_CONTAINER_ID(JOB, STRING, ""),
 	EVENT_MAINTENANCE_JOB_ENABLED(JOB, BOOLEAN, TRUE),
 	JOB_MAINTENANCE_RUNNER_CONTAINER_ID(JOB, STRING, ""),
@@ -50,6 +52,8 @@ public enum SystemProperty {
 	USER_ANONYMIZATION_RUNNER_CONTAINER_ID(JOB, STRING, ""),
 	USER_DELETION_RUNNER_CONTAINER_ID(JOB, STRING, ""),
 	USER_DELETION_JOB_ENABLED(JOB, BOOLEAN, TRUE),
+	USER_COUNTER_RECONCILIATION_RUNNER_CONTAINER_ID(JOB, STRING, ""),
+	USER_COUNTER_RECONCILIATION_JOB_ENABLED(JOB, BOOLEAN, TRUE),
 	// Other configurations
 	ENABLE_AUTOMATIC_LOGOUT(GENERAL, BOOLEAN, "false"),
 	AUTOMATIC_LOGOUT_TIME_IN_MINUTES(GENERAL, INTEGER, "15", value -> Integer.parseInt(value) >= 15);
@@ -0,0 +1,13 @@
+package io.github.gms.common.enums;
+
+/**
+ * Entity types counted per user for the home page.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+public enum UserCounterType {
+	API_KEY,
+	KEYSTORE,
+	SECRET
+}
@@ -35,7 +35,7 @@ public class IpRestrictionFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         IpRestrictionPatterns patterns = ipRestrictionService.checkGlobalIpRestrictions();
-        boolean ipBlocked = validator.isIpAddressBlocked(patterns.getItems());
+        boolean ipBlocked = validator.isIpAddressBlocked(patterns);
 
         if (ipBlocked) {
             response.sendError(HttpStatus.FORBIDDEN.value(), "You are not allowed to get this secret from your IP address!");
@@ -24,6 +24,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -68,13 +69,7 @@ public class SecureHeaderInitializerFilter extends OncePerRequestFilter {
 
 		GmsUserDetails userDetails = (GmsUserDetails) authenticationResponse.getAuthentication().getPrincipal();
 		MDC.put(MdcParameter.USER_ID.getDisplayName(), String.valueOf(userDetails.getUserId()));
-		String accessCookie = CookieUtils.createCookie(Constants.ACCESS_JWT_TOKEN, authenticationResponse.getJwtPair().get(JwtConfigType.ACCESS_JWT),
-				systemPropertyService.getLong(SystemProperty.ACCESS_JWT_EXPIRATION_TIME_SECONDS), secure).toString();
-		String refreshCookie = CookieUtils.createCookie(Constants.REFRESH_JWT_TOKEN, authenticationResponse.getJwtPair().get(JwtConfigType.REFRESH_JWT),
-				systemPropertyService.getLong(SystemProperty.REFRESH_JWT_EXPIRATION_TIME_SECONDS), secure).toString();
-
-		response.addHeader(Constants.SET_COOKIE, accessCookie);
-		response.addHeader(Constants.SET_COOKIE, refreshCookie);
+		addJwtCookies(response, authenticationResponse.getJwtPair());
 
 		Authentication authentication = authenticationResponse.getAuthentication();
 		boolean admin = authentication.getAuthorities().stream().anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
@@ -86,6 +81,21 @@ public class SecureHeaderInitializerFilter extends OncePerRequestFilter {
 		MDC.remove(MdcParameter.IS_ADMIN.getDisplayName());
 	}
 	
+	private void addJwtCookies(HttpServletResponse response, Map<JwtConfigType, String> jwtPair) {
+		if (jwtPair == null) {
+			// Sliding refresh: the current tokens are still fresh enough
+			return;
+		}
+
+		String accessCookie = CookieUtils.createCookie(Constants.ACCESS_JWT_TOKEN, jwtPair.get(JwtConfigType.ACCESS_JWT),
+				systemPropertyService.getLong(SystemProperty.ACCESS_JWT_EXPIRATION_TIME_SECONDS), secure).toString();
+		String refreshCookie = CookieUtils.createCookie(Constants.REFRESH_JWT_TOKEN, jwtPair.get(JwtConfigType.REFRESH_JWT),
+				systemPropertyService.getLong(SystemProperty.REFRESH_JWT_EXPIRATION_TIME_SECONDS), secure).toString();
+
+		response.addHeader(Constants.SET_COOKIE, accessCookie);
+		response.addHeader(Constants.SET_COOKIE, refreshCookie);
+	}
+
 	private static boolean shouldSkipUrl(String url) {
 		return IGNORED_URLS.stream().noneMatch(urlPattern -> {
 			Pattern p = Pattern.compile(urlPattern);
@@ -0,0 +1,40 @@
+package io.github.gms.common.model;
+
+import io.github.gms.common.enums.EntityStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolved API key with everything needed to authorize a secret request without any database query.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiKeyPrincipal implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = -3022484930417353516L;
+
+	private Long apiKeyId;
+	private Long userId;
+	private EntityStatus userStatus;
+	/**
+	 * Secret ID -> entity ID of every active secret of the user
+	 */
+	private Map<String, Long> secrets;
+	/**
+	 * Entity IDs of the secrets that are restricted to other API keys
+	 */
+	private Set<Long> restrictedSecretIds;
+}
@@ -0,0 +1,79 @@
+package io.github.gms.common.model;
+
+/**
+ * Binary prefix trie of CIDR ranges of one address family (IPv4 or IPv6). Every node on the path
+ * of an address is a prefix of it, so a lookup is a single walk over at most 32 or 128 bits.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+final class IpPrefixTrie {
+
+	static final int DENIED = -1;
+
+	private final int maxPrefixLength;
+	private final Node root = new Node();
+	private int size;
+
+	IpPrefixTrie(int maxPrefixLength) {
+		this.maxPrefixLength = maxPrefixLength;
+	}
+
+	void add(byte[] address, int prefixLength, boolean allow) {
+		Node node = root;
+
+		for (int i = 0; i < prefixLength; i++) {
+			if (bit(address, i)) {
+				node = node.one == null ? (node.one = new Node()) : node.one;
+			} else {
+				node = node.zero == null ? (node.zero = new Node()) : node.zero;
+			}
+		}
+
+		if (allow) {
+			node.allowCount++;
+		} else {
+			node.denyCount++;
+		}
+
+		size++;
+	}
+
+	/**
+	 * @return The number of allow ranges containing the address, or {@link #DENIED} when any deny range contains it
+	 */
+	int match(byte[] address) {
+		Node node = root;
+		int allowCount = 0;
+
+		for (int i = 0; node != null; i++) {
+			if (node.denyCount > 0) {
+				return DENIED;
+			}
+
+			allowCount += node.allowCount;
+			node = i == maxPrefixLength ? null : bit(address, i) ? node.one : node.zero;
+		}
+
+		return allowCount;
+	}
+
+	int getMaxPrefixLength() {
+		return maxPrefixLength;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	private static boolean bit(byte[] address, int index) {
+		return (address[index >>> 3] & (0x80 >>> (index & 7))) != 0;
+	}
+
+	private static final class Node {
+		private Node zero;
+		private Node one;
+		private int allowCount;
+		private int denyCount;
+	}
+}
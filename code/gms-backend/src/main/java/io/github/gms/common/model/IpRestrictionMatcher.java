@@ -0,0 +1,118 @@
+package io.github.gms.common.model;
+
+import com.google.common.net.InetAddresses;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled form of a set of {@link IpRestrictionPattern}s. Patterns that are plain IPv4/IPv6 addresses or
+ * CIDR ranges (e.g. "10.0.0.0/8", "fd00::/8") are stored in prefix tries, every other pattern is compiled
+ * once as a regular expression.
+ * <p>
+ * An IP address is blocked if any allow rule does not match it, or any deny rule matches it.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+public final class IpRestrictionMatcher {
+
+	private static final String PREFIX_SEPARATOR = "/";
+	private static final int IPV4_BITS = 32;
+	private static final int IPV6_BITS = 128;
+
+	private final List<Pattern> allowPatterns = new ArrayList<>();
+	private final List<Pattern> denyPatterns = new ArrayList<>();
+	private final IpPrefixTrie ipv4Ranges = new IpPrefixTrie(IPV4_BITS);
+	private final IpPrefixTrie ipv6Ranges = new IpPrefixTrie(IPV6_BITS);
+	private int allowRangeCount;
+
+	private IpRestrictionMatcher() {
+	}
+
+	public static IpRestrictionMatcher compile(List<IpRestrictionPattern> patterns) {
+		IpRestrictionMatcher matcher = new IpRestrictionMatcher();
+		patterns.forEach(matcher::add);
+		return matcher;
+	}
+
+	public boolean isBlocked(String ipAddress) {
+		if (!ipv4Ranges.isEmpty() || !ipv6Ranges.isEmpty()) {
+			int matchingAllowRanges = matchRanges(ipAddress);
+
+			if (matchingAllowRanges == IpPrefixTrie.DENIED || matchingAllowRanges < allowRangeCount) {
+				return true;
+			}
+		}
+
+		for (Pattern pattern : denyPatterns) {
+			if (pattern.matcher(ipAddress).matches()) {
+				return true;
+			}
+		}
+
+		for (Pattern pattern : allowPatterns) {
+			if (!pattern.matcher(ipAddress).matches()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void add(IpRestrictionPattern pattern) {
+		String ipPattern = pattern.getIpPattern();
+		int separatorIndex = ipPattern.indexOf(PREFIX_SEPARATOR);
+		String address = separatorIndex == -1 ? ipPattern : ipPattern.substring(0, separatorIndex);
+
+		byte[] bytes = toBytes(address);
+
+		if (bytes == null) {
+			(pattern.isAllow() ? allowPatterns : denyPatterns).add(Pattern.compile(ipPattern));
+			return;
+		}
+
+		IpPrefixTrie ranges = bytes.length == IPV4_BITS / Byte.SIZE ? ipv4Ranges : ipv6Ranges;
+		Integer prefixLength = separatorIndex == -1 ? Integer.valueOf(ranges.getMaxPrefixLength())
+				: parsePrefixLength(ipPattern.substring(separatorIndex + 1), ranges.getMaxPrefixLength());
+
+		if (prefixLength == null) {
+			(pattern.isAllow() ? allowPatterns : denyPatterns).add(Pattern.compile(ipPattern));
+			return;
+		}
+
+		ranges.add(bytes, prefixLength, pattern.isAllow());
+
+		if (pattern.isAllow()) {
+			allowRangeCount++;
+		}
+	}
+
+	private int matchRanges(String ipAddress) {
+		byte[] bytes = toBytes(ipAddress);
+
+		if (bytes == null) {
+			return 0;
+		}
+
+		return (bytes.length == IPV4_BITS / Byte.SIZE ? ipv4Ranges : ipv6Ranges).match(bytes);
+	}
+
+	private static byte[] toBytes(String address) {
+		try {
+			return InetAddresses.forString(address).getAddress();
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static Integer parsePrefixLength(String value, int maxPrefixLength) {
+		try {
+			int prefixLength = Integer.parseInt(value);
+			return prefixLength >= 0 && prefixLength <= maxPrefixLength ? prefixLength : null;
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
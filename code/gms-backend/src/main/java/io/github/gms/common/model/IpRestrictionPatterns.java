@@ -1,8 +1,12 @@
 package io.github.gms.common.model;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -10,16 +14,45 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
+ * Cached IP restriction rules. The compiled {@link IpRestrictionMatcher} is built when the cache entry is created,
+ * or lazily after the entry has been deserialized from a remote cache. Instances are shared between request
+ * threads, so the matcher is published only through the volatile field after it has been fully built.
+ *
  * @author Peter Szrnka
  * @since 1.0
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class IpRestrictionPatterns implements Serializable {
 
     @Serial
     private static final long serialVersionUID = -1724820252495121314L;
 
     private List<IpRestrictionPattern> items = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient volatile IpRestrictionMatcher matcher;
+
+    public IpRestrictionPatterns(List<IpRestrictionPattern> items) {
+        this.items = items;
+        this.matcher = IpRestrictionMatcher.compile(items);
+    }
+
+    public void setItems(List<IpRestrictionPattern> items) {
+        this.items = items;
+        this.matcher = null;
+    }
+
+    public boolean isBlocked(String ipAddress) {
+        IpRestrictionMatcher currentMatcher = matcher;
+
+        if (currentMatcher == null) {
+            currentMatcher = IpRestrictionMatcher.compile(items);
+            matcher = currentMatcher;
+        }
+
+        return currentMatcher.isBlocked(ipAddress);
+    }
 }
@@ -0,0 +1,13 @@
+package io.github.gms.common.model;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ *
+ * @param index Index of the current node among the live nodes
+ * @param count Number of live nodes sharing the work
+ */
+public record JobShard(int index, int count) {
+
+	public static final JobShard SINGLE = new JobShard(0, 1);
+}
@@ -0,0 +1,21 @@
+package io.github.gms.common.model;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ *
+ * @param sort Requested order, always ending with the unique id
+ * @param size Maximum number of the returned elements
+ * @param position Keys of the last element of the previous page, or an empty position for the first page
+ * @param withCount Whether the total number of elements shall be counted
+ */
+public record KeysetPageRequest(Sort sort, int size, KeysetScrollPosition position, boolean withCount) {
+
+	public Limit limit() {
+		return Limit.of(size);
+	}
+}
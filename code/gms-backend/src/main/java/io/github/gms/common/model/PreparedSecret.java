@@ -0,0 +1,30 @@
+package io.github.gms.common.model;
+
+import io.github.gms.common.enums.SecretResultStatus;
+import io.github.gms.common.types.GmsException;
+import io.github.gms.functions.secret.SecretEntity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of the validation of a single secret within a batch secret request.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+public class PreparedSecret {
+
+	private SecretEntity entity;
+	private SecretResultStatus status;
+	private GmsException error;
+
+	public static PreparedSecret of(SecretEntity entity) {
+		return new PreparedSecret(entity, SecretResultStatus.OK, null);
+	}
+
+	public static PreparedSecret failed(SecretResultStatus status, GmsException error) {
+		return new PreparedSecret(null, status, error);
+	}
+}
@@ -0,0 +1,29 @@
+package io.github.gms.common.model;
+
+import io.github.gms.common.enums.SystemProperty;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.context.ApplicationEvent;
+
+import java.io.Serial;
+
+/**
+ * Published when the value of a system property has been changed or reset to its default value.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Getter
+@ToString
+public class SystemPropertyChangeEvent extends ApplicationEvent {
+
+	@Serial
+	private static final long serialVersionUID = 4391237856614862251L;
+
+	private final SystemProperty property;
+
+	public SystemPropertyChangeEvent(Object source, SystemProperty property) {
+		super(source);
+		this.property = property;
+	}
+}
@@ -0,0 +1,30 @@
+package io.github.gms.common.model;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.context.ApplicationEvent;
+
+import java.io.Serial;
+import java.util.Set;
+
+/**
+ * Published when the status, role or credentials of users have been changed. An empty set of user IDs
+ * means that any user could have been changed (e.g. after an LDAP synchronization).
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Getter
+@ToString
+public class UserChangeEvent extends ApplicationEvent {
+
+	@Serial
+	private static final long serialVersionUID = -2871093460284133175L;
+
+	private final Set<Long> userIds;
+
+	public UserChangeEvent(Object source, Set<Long> userIds) {
+		super(source);
+		this.userIds = userIds;
+	}
+}
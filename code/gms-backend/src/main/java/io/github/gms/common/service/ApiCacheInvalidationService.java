@@ -0,0 +1,102 @@
+package io.github.gms.common.service;
+
+import io.github.gms.common.config.cache.ApiCacheKeyGenerator;
+import io.github.gms.common.config.cache.ApiKeyPrincipalKeyGenerator;
+import io.github.gms.common.dto.IdNamePairDto;
+import io.github.gms.common.enums.ApiCacheTag;
+import io.github.gms.functions.apikey.ApiKeyEntity;
+import io.github.gms.functions.apikey.ApiKeyRepository;
+import io.github.gms.functions.secret.SecretEntity;
+import io.github.gms.functions.secret.SecretRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+import static io.github.gms.common.util.Constants.CACHE_API;
+import static io.github.gms.common.util.Constants.CACHE_API_KEY_PRINCIPAL;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Evicts only the affected entries of the API cache and the API key principal cache instead of clearing
+ * the whole cache. The cache keys are resolved from the database by the given tag, so it works with every
+ * {@link CacheManager} implementation (local or Redis) in the same way.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiCacheInvalidationService {
+
+	private final ObjectProvider<CacheManager> cacheManagerProvider;
+	private final SecretRepository secretRepository;
+	private final ApiKeyRepository apiKeyRepository;
+
+	public Set<String> getCacheKeys(ApiCacheTag tag, Long id) {
+		return switch (tag) {
+			case SECRET -> secretRepository.findById(id).map(ApiCacheKeyGenerator::key).map(Set::of).orElse(Set.of());
+			case USER -> toCacheKeys(secretRepository.findAllUserSecretIdByUserId(id));
+			case KEYSTORE -> toCacheKeys(secretRepository.findAllUserSecretIdByKeystoreId(id));
+			case KEYSTORE_ALIAS -> toCacheKeys(secretRepository.findAllUserSecretIdByKeystoreAliasId(id));
+			case API_KEY -> toCacheKeys(secretRepository.findAllUserSecretIdByApiKeyId(id));
+		};
+	}
+	public void evict(ApiCacheTag tag, Long id) {
+		evict(getCacheKeys(tag, id));
+	}
+
+	public void evict(Set<String> cacheKeys) {
+		evict(CACHE_API, cacheKeys, "API cache");
+	}
+
+	public Set<String> getPrincipalCacheKeys(ApiCacheTag tag, Long id) {
+		Set<String> apiKeys = switch (tag) {
+			case SECRET -> secretRepository.findById(id)
+					.map(entity -> apiKeyRepository.findAllValueByUserId(entity.getUserId())).orElse(Set.of());
+			case USER -> apiKeyRepository.findAllValueByUserId(id);
+			case API_KEY -> apiKeyRepository.findById(id).map(ApiKeyEntity::getValue).map(Set::of).orElse(Set.of());
+			case KEYSTORE, KEYSTORE_ALIAS -> Set.of();
+		};
+
+		return hash(apiKeys);
+	}
+
+	public Set<String> getPrincipalCacheKeys(Set<Long> userIds) {
+		return hash(apiKeyRepository.findAllValueByUserIdIn(userIds));
+	}
+
+	public void evictPrincipals(ApiCacheTag tag, Long id) {
+		evictPrincipals(getPrincipalCacheKeys(tag, id));
+	}
+
+	public void evictPrincipals(Set<String> cacheKeys) {
+		evict(CACHE_API_KEY_PRINCIPAL, cacheKeys, "API key principal cache");
+	}
+
+	private void evict(String cacheName, Set<String> cacheKeys, String cacheDescription) {
+		CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+		Cache cache = cacheManager == null ? null : cacheManager.getCache(cacheName);
+
+		if (cache == null || cacheKeys.isEmpty()) {
+			return;
+		}
+
+		cacheKeys.forEach(cache::evict);
+		log.info("{} entries have been evicted from the {}", cacheKeys.size(), cacheDescription);
+	}
+
+	private static Set<String> toCacheKeys(List<IdNamePairDto> userSecretIds) {
+		return userSecretIds.stream().map(pair -> ApiCacheKeyGenerator.key(pair.getId(), pair.getName())).collect(toSet());
+	}
+
+	private static Set<String> hash(Set<String> apiKeys) {
+		return apiKeys.stream().map(ApiKeyPrincipalKeyGenerator::hash).collect(toSet());
+	}
+}
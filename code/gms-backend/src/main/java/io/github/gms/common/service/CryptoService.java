@@ -1,38 +1,77 @@
 package io.github.gms.common.service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.github.gms.common.model.KeystorePair;
 import io.github.gms.common.types.GmsException;
 import io.github.gms.functions.keystore.KeystoreAliasDto;
 import io.github.gms.functions.keystore.KeystoreDataService;
 import io.github.gms.functions.keystore.SaveKeystoreRequestDto;
 import io.github.gms.functions.secret.SecretEntity;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.KeyGenerator;
 import javax.crypto.NoSuchPaddingException;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.*;
 import java.security.cert.Certificate;
+import java.time.Duration;
 import java.util.Base64;
+import java.util.concurrent.ExecutionException;
 
 import static io.github.gms.common.types.ErrorCode.GMS_001;
 import static io.github.gms.common.types.ErrorCode.GMS_006;
 
 /**
+ * Encrypts and decrypts secret values with the keystore alias of the secret.
+ * <p>
+ * By default the value is encrypted directly with the RSA key of the alias. With envelope encryption enabled,
+ * values of secrets that are decrypted on server side are encrypted with a random AES-GCM data key instead, and
+ * only the data key is wrapped with the RSA key. The format of these values is
+ * {@code env1:<wrapped data key>:<IV>:<ciphertext>}, so both formats can be decrypted at the same time.
+ * Unwrapped data keys are kept for a short time to avoid an RSA private key operation on every read.
+ *
  * @author Peter Szrnka
  * @since 1.0
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CryptoService {
 
+	static final String ENVELOPE_PREFIX = "env1:";
+	private static final String ENVELOPE_SEPARATOR = ":";
+	private static final String DATA_KEY_ALGORITHM = "AES";
+	private static final String DATA_ENCRYPTION_ALGORITHM = "AES/GCM/NoPadding";
+	private static final int DATA_KEY_SIZE = 256;
+	private static final int IV_LENGTH = 12;
+	private static final int AUTHENTICATION_TAG_LENGTH = 128;
+	private static final int ENVELOPE_PARTS = 3;
+	private static final long DATA_KEY_CACHE_MAX_SIZE = 1000L;
+
 	private final KeystoreDataService keystoreDataService;
+	private final boolean envelopeEnabled;
+	private final Cache<String, SecretKey> dataKeyCache;
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	public CryptoService(KeystoreDataService keystoreDataService,
+						 @Value("${config.crypto.envelope.enabled:false}") boolean envelopeEnabled,
+						 @Value("${config.crypto.envelope.dataKeyCacheTtlSeconds:60}") long dataKeyCacheTtlSeconds) {
+		this.keystoreDataService = keystoreDataService;
+		this.envelopeEnabled = envelopeEnabled;
+		this.dataKeyCache = CacheBuilder.newBuilder()
+				.maximumSize(DATA_KEY_CACHE_MAX_SIZE)
+				.expireAfterWrite(Duration.ofSeconds(dataKeyCacheTtlSeconds))
+				.build();
+	}
 
 	public void validateKeyStoreFile(SaveKeystoreRequestDto dto, byte[] fileContent) {
 		try {
@@ -51,10 +90,20 @@ public class CryptoService {
 	}
 
 	public String decrypt(SecretEntity secretEntity) {
+		return decrypt(secretEntity, getKeystoreData(secretEntity));
+	}
+
+	/**
+	 * Decrypts the value of the secret with an already loaded keystore alias, so callers processing several secrets
+	 * of the same alias can load the key material only once.
+	 */
+	public String decrypt(SecretEntity secretEntity, KeystorePair keyPairData) {
 		try {
-			KeystorePair keyPairData = keystoreDataService.getKeystoreData(secretEntity);
-			PrivateKey privateKey = (PrivateKey) keyPairData.getKeystore().getKey(keyPairData.getEntity().getAlias(),
-					keyPairData.getEntity().getAliasCredential().toCharArray());
+			if (isEnvelope(secretEntity.getValue())) {
+				return decryptEnvelope(secretEntity.getValue(), keyPairData);
+			}
+
+			PrivateKey privateKey = keystoreDataService.getPrivateKey(keyPairData);
 
 			Cipher decrypt = Cipher.getInstance(privateKey.getAlgorithm());
 			decrypt.init(Cipher.DECRYPT_MODE, privateKey);
@@ -69,19 +118,39 @@ public class CryptoService {
 	}
 
 	public void encrypt(SecretEntity secretEntity) {
+		encrypt(secretEntity, getKeystoreData(secretEntity));
+	}
+
+	/**
+	 * Encrypts the value of the secret with an already loaded keystore alias.
+	 */
+	public void encrypt(SecretEntity secretEntity, KeystorePair keyPairData) {
 		try {
-			KeystorePair keyPairData = keystoreDataService.getKeystoreData(secretEntity);
-			String encryptedValue = encrypt(secretEntity.getValue(), keyPairData);
-			secretEntity.setValue(encryptedValue);
+			secretEntity.setValue(encrypt(secretEntity.getValue(), secretEntity.isReturnDecrypted(), keyPairData));
 		} catch (Exception e) {
 			log.warn("Encrypt failed!", e);
 			throw new GmsException(e, GMS_001);
 		}
 	}
 
+	/**
+	 * Encrypts the value in the same format as it would be stored for a secret with the given return mode.
+	 */
+	public String encrypt(String value, boolean returnDecrypted, KeystorePair keyPairData) throws GeneralSecurityException {
+		return useEnvelope(returnDecrypted) ? encryptEnvelope(value, keyPairData) : encrypt(value, keyPairData);
+	}
+
+	/**
+	 * Decrypts the stored value and encrypts it again in the format required by the current settings of the secret.
+	 */
+	public void reEncrypt(SecretEntity secretEntity) {
+		secretEntity.setValue(decrypt(secretEntity));
+		encrypt(secretEntity);
+	}
+
 	public String encrypt(String value, KeystorePair keyPairData)
-			throws KeyStoreException, NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException, IllegalBlockSizeException, BadPaddingException {
-		PublicKey publicKey = keyPairData.getKeystore().getCertificate(keyPairData.getEntity().getAlias()).getPublicKey();
+			throws KeyStoreException, NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException, IllegalBlockSizeException, BadPaddingException, UnrecoverableKeyException {
+		PublicKey publicKey = keystoreDataService.getPublicKey(keyPairData);
 
 		Cipher encrypt = Cipher.getInstance(publicKey.getAlgorithm());
 		encrypt.init(Cipher.ENCRYPT_MODE, publicKey);
@@ -89,6 +158,82 @@ public class CryptoService {
 		return Base64.getEncoder().withoutPadding().encodeToString(encryptedMessage);
 	}
 
+	/**
+	 * @return True, if the value of the secret is still stored in the legacy format but envelope encryption should be used for it
+	 */
+	public boolean isReEncryptionRequired(SecretEntity secretEntity) {
+		return useEnvelope(secretEntity.isReturnDecrypted()) && !isEnvelope(secretEntity.getValue());
+	}
+
+	/**
+	 * @return True, if the stored format of the value does not match the current settings of the secret. Values
+	 * returned to the clients as they are must never be stored in envelope format.
+	 */
+	public boolean isFormatChangeRequired(SecretEntity secretEntity) {
+		return isReEncryptionRequired(secretEntity) || (!secretEntity.isReturnDecrypted() && isEnvelope(secretEntity.getValue()));
+	}
+
+	private KeystorePair getKeystoreData(SecretEntity secretEntity) {
+		try {
+			return keystoreDataService.getKeystoreData(secretEntity);
+		} catch (Exception e) {
+			log.warn("Keystore data cannot be loaded!", e);
+			throw new GmsException(e, GMS_001);
+		}
+	}
+
+	private boolean useEnvelope(boolean returnDecrypted) {
+		// Encrypted values are returned to the clients as they are, so they must remain decryptable with the RSA key
+		return envelopeEnabled && returnDecrypted;
+	}
+
+	private static boolean isEnvelope(String value) {
+		return value != null && value.startsWith(ENVELOPE_PREFIX);
+	}
+
+	private String encryptEnvelope(String value, KeystorePair keyPairData) throws GeneralSecurityException {
+		KeyGenerator keyGenerator = KeyGenerator.getInstance(DATA_KEY_ALGORITHM);
+		keyGenerator.init(DATA_KEY_SIZE, secureRandom);
+		SecretKey dataKey = keyGenerator.generateKey();
+
+		PublicKey publicKey = keystoreDataService.getPublicKey(keyPairData);
+		Cipher wrap = Cipher.getInstance(publicKey.getAlgorithm());
+		wrap.init(Cipher.ENCRYPT_MODE, publicKey);
+		byte[] wrappedKey = wrap.doFinal(dataKey.getEncoded());
+
+		byte[] iv = new byte[IV_LENGTH];
+		secureRandom.nextBytes(iv);
+		Cipher encrypt = Cipher.getInstance(DATA_ENCRYPTION_ALGORITHM);
+		encrypt.init(Cipher.ENCRYPT_MODE, dataKey, new GCMParameterSpec(AUTHENTICATION_TAG_LENGTH, iv));
+		byte[] encryptedMessage = encrypt.doFinal(value.getBytes(StandardCharsets.UTF_8));
+
+		Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+		return ENVELOPE_PREFIX + encoder.encodeToString(wrappedKey) + ENVELOPE_SEPARATOR + encoder.encodeToString(iv)
+				+ ENVELOPE_SEPARATOR + encoder.encodeToString(encryptedMessage);
+	}
+
+	private String decryptEnvelope(String value, KeystorePair keyPairData) throws GeneralSecurityException, ExecutionException {
+		String[] parts = value.substring(ENVELOPE_PREFIX.length()).split(ENVELOPE_SEPARATOR);
+
+		if (parts.length != ENVELOPE_PARTS) {
+			throw new GeneralSecurityException("Invalid envelope format!");
+		}
+
+		Base64.Decoder decoder = Base64.getDecoder();
+		SecretKey dataKey = dataKeyCache.get(parts[0], () -> unwrapDataKey(decoder.decode(parts[0]), keyPairData));
+
+		Cipher decrypt = Cipher.getInstance(DATA_ENCRYPTION_ALGORITHM);
+		decrypt.init(Cipher.DECRYPT_MODE, dataKey, new GCMParameterSpec(AUTHENTICATION_TAG_LENGTH, decoder.decode(parts[1])));
+		return new String(decrypt.doFinal(decoder.decode(parts[2])), StandardCharsets.UTF_8);
+	}
+
+	private SecretKey unwrapDataKey(byte[] wrappedKey, KeystorePair keyPairData) throws GeneralSecurityException {
+		PrivateKey privateKey = keystoreDataService.getPrivateKey(keyPairData);
+		Cipher unwrap = Cipher.getInstance(privateKey.getAlgorithm());
+		unwrap.init(Cipher.DECRYPT_MODE, privateKey);
+		return new SecretKeySpec(unwrap.doFinal(wrappedKey), DATA_KEY_ALGORITHM);
+	}
+
 	private static void validateAliasDto(KeyStore keystore, KeystoreAliasDto dto)
 			throws KeyStoreException, InvalidKeyException, NoSuchAlgorithmException, NoSuchPaddingException, IllegalBlockSizeException, BadPaddingException, UnrecoverableKeyException {
 
@@ -2,11 +2,16 @@ package io.github.gms.common.service;
 
 import com.google.common.collect.Maps;
 import io.github.gms.common.enums.JwtConfigType;
+import io.github.gms.common.enums.SystemProperty;
 import io.github.gms.common.model.GenerateJwtRequest;
+import io.github.gms.common.model.SystemPropertyChangeEvent;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.spec.SecretKeySpec;
@@ -17,21 +22,31 @@ import java.time.temporal.ChronoUnit;
 import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * Signing keys and parsers are built once per algorithm and kept in a registry. The registry is reloaded
+ * when the JWT algorithm system properties change.
+ *
  * @author Peter Szrnka
  * @since 1.0
  */
+@Slf4j
 @Service
 public class JwtService {
 
+	private static final Set<SystemProperty> ALGORITHM_PROPERTIES =
+			Set.of(SystemProperty.ACCESS_JWT_ALGORITHM, SystemProperty.REFRESH_JWT_ALGORITHM);
+
 	private final Clock clock;
-	private final String secret;
+	private final byte[] secret;
+	private final Map<String, SigningContext> signingContextRegistry = new ConcurrentHashMap<>();
 
 	public JwtService(Clock clock, @Value("${config.jwt.secret}") String secret) {
 		this.clock = clock;
-		this.secret = secret;
+		this.secret = Base64.getDecoder().decode(secret);
 	}
 
 	public Map<JwtConfigType, String> generateJwts(Map<JwtConfigType, GenerateJwtRequest> request) {
@@ -41,7 +56,7 @@ public class JwtService {
 	}
 
 	public String generateJwt(GenerateJwtRequest request) {
-		Key key = getKey(request.getAlgorithm());
+		Key key = getSigningContext(request.getAlgorithm()).key();
 
 		Instant now = clock.instant();
 		return Jwts.builder()
@@ -52,15 +67,30 @@ public class JwtService {
 	}
 
 	public Claims parseJwt(String jwtToken, String algorithm) {
-		Key key = getKey(algorithm);
-		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(jwtToken).getBody();
+		return getSigningContext(algorithm).parser().parseClaimsJws(jwtToken).getBody();
+	}
+
+	@EventListener
+	public void onSystemPropertyChange(SystemPropertyChangeEvent event) {
+		if (ALGORITHM_PROPERTIES.contains(event.getProperty())) {
+			signingContextRegistry.clear();
+			log.info("JWT signing keys have been reloaded");
+		}
 	}
 
-	private Key getKey(String algorithmName) {
-		return new SecretKeySpec(Base64.getDecoder().decode(secret), getAlgorithmByName(algorithmName).getJcaName());
+	private SigningContext getSigningContext(String algorithmName) {
+		return signingContextRegistry.computeIfAbsent(algorithmName, this::createSigningContext);
+	}
+
+	private SigningContext createSigningContext(String algorithmName) {
+		Key key = new SecretKeySpec(secret, getAlgorithmByName(algorithmName).getJcaName());
+		return new SigningContext(key, Jwts.parserBuilder().setSigningKey(key).build());
 	}
 
 	private static SignatureAlgorithm getAlgorithmByName(String name) {
 		return SignatureAlgorithm.forName(name);
 	}
+
+	private record SigningContext(Key key, JwtParser parser) {
+	}
 }
@@ -0,0 +1,93 @@
+package io.github.gms.common.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static io.github.gms.common.util.Constants.CACHE_INVALIDATION_CHANNEL;
+
+/**
+ * Evicts entries of the node-local caches that are not managed by the cache manager (e.g. the Guava caches of
+ * the services) on every node. Every cache registers its evictor by name. Evictions are applied locally first,
+ * then they are published on the cache invalidation channel when Redis is enabled, and the other nodes apply
+ * them in {@link #onMessage(Message, byte[])}.
+ * <p>
+ * Message format: {@code <nodeId>|<cacheName>|<key>}, the key part is omitted when the whole cache has to be
+ * cleared. It is the same format as the one of the two-tier cache manager, so both can listen to the same
+ * channel and ignore the cache names they do not own.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class LocalCacheInvalidationService implements MessageListener {
+
+	private static final String SEPARATOR = "|";
+	private static final int MESSAGE_PARTS = 3;
+
+	private final String nodeId = UUID.randomUUID().toString();
+	private final Map<String, Consumer<String>> evictors = new ConcurrentHashMap<>();
+	private final ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+
+	public LocalCacheInvalidationService(ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider) {
+		this.redisTemplateProvider = redisTemplateProvider;
+	}
+
+	/**
+	 * @param evictor Evicts the given key from the local cache, {@code null} means a full clear
+	 */
+	public void register(String cacheName, Consumer<String> evictor) {
+		evictors.put(cacheName, evictor);
+	}
+
+	public void evict(String cacheName, String key) {
+		evictLocal(cacheName, key);
+
+		RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+
+		if (redisTemplate == null) {
+			return;
+		}
+
+		try {
+			redisTemplate.convertAndSend(CACHE_INVALIDATION_CHANNEL, nodeId + SEPARATOR + cacheName + (key != null ? SEPARATOR + key : ""));
+		} catch (Exception e) {
+			log.warn("Cache invalidation message could not be published: {}", e.getMessage());
+		}
+	}
+
+	public void evictAll(String cacheName) {
+		evict(cacheName, null);
+	}
+
+	@Override
+	public void onMessage(@NonNull Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, MESSAGE_PARTS);
+
+		if (parts.length < MESSAGE_PARTS - 1 || nodeId.equals(parts[0]) || !evictors.containsKey(parts[1])) {
+			return;
+		}
+
+		evictLocal(parts[1], parts.length == MESSAGE_PARTS ? parts[2] : null);
+		log.debug("Local cache entries of {} have been invalidated by node {}", parts[1], parts[0]);
+	}
+
+	private void evictLocal(String cacheName, String key) {
+		Consumer<String> evictor = evictors.get(cacheName);
+
+		if (evictor != null) {
+			evictor.accept(key);
+		}
+	}
+}
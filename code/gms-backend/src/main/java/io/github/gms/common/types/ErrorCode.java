@@ -40,6 +40,10 @@ public enum ErrorCode {
     // System property
     GMS_026("GMS-026"),
     GMS_027("GMS-027"),
+    // API
+    GMS_028("GMS-028"),
+    // Paging
+    GMS_029("GMS-029"),
     ;
 
     private final String code;
@@ -57,12 +57,15 @@ public final class Constants {
 	// Cache
 	public static final String CACHE_API = "apiCache";
 	public static final String CACHE_API_GENERATOR = "apiCacheKeyGenerator";
-	public static final String CACHE_KEYCLOAK_SSO_GENERATOR = "keycloakSsoKeyGenerator";
 	public static final String CACHE_USER = "userCache";
-	public static final String CACHE_SYSTEM_PROPERTY = "systemPropertyCache";
 	public static final String CACHE_IP_RESTRICTION = "ipRestrictionCache";
 	public static final String CACHE_GLOBAL_IP_RESTRICTION = "globalIpRestrictionCache";
-	public static final String CACHE_SSO_USER = "ssoUserCache";
+	public static final String CACHE_API_KEY_PRINCIPAL = "apiKeyPrincipalCache";
+	public static final String CACHE_API_KEY_PRINCIPAL_GENERATOR = "apiKeyPrincipalKeyGenerator";
+	public static final String CACHE_SSO_SESSION = "ssoSessionCache";
+	public static final String CACHE_USER_DETAILS = "userDetailsCache";
+	public static final String CACHE_KEYSTORE_REGISTRY = "keystoreRegistry";
+	public static final String CACHE_INVALIDATION_CHANNEL = "gms:cache:invalidation";
 	
 	// Formats
 	public static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
@@ -98,6 +101,8 @@ public final class Constants {
 	public static final String PROPERTY = "property";
 	public static final String PAGE = "page";
 	public static final String SIZE = "size";
+	public static final String CURSOR = "cursor";
+	public static final String WITH_COUNT = "withCount";
 	public static final String KEY = "key";
 
 	public static final String LOGGING_OBJECT_MAPPER = "loggingObjectMapper";
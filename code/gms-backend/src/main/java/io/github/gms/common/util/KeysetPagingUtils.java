@@ -0,0 +1,128 @@
+package io.github.gms.common.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.gms.common.model.KeysetPageRequest;
+import io.github.gms.common.types.GmsException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
+
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static io.github.gms.common.types.ErrorCode.GMS_029;
+import static io.github.gms.common.util.Constants.ID;
+
+/**
+ * Keyset (seek) pagination helpers. The cursor is an opaque, URL safe token holding the sort direction and the
+ * sort keys of the last element of the previous page, so the next page is read with an index seek instead of
+ * skipping rows.
+ * <p>
+ * Only NOT NULL columns can be used as sort property: the seek predicate does not match NULL values, so rows with
+ * a NULL key would be skipped silently, and a NULL key could not be continued from.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+public class KeysetPagingUtils {
+
+	public static final long TOTAL_NOT_COUNTED = -1L;
+	private static final String INVALID_CURSOR = "Invalid cursor!";
+	private static final String UNSUPPORTED_PROPERTY = "Sort property is not supported with cursor!";
+	private static final String DIRECTION = "direction";
+	private static final String KEYS = "keys";
+	private static final ObjectMapper MAPPER = JsonMapper.builder()
+			.addModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+
+	private KeysetPagingUtils() {}
+
+	/**
+	 * @param keysetProperties Properties of the NOT NULL columns of the entity, the only ones that can be sorted by
+	 */
+	public static KeysetPageRequest createKeysetPageRequest(String direction, String property, int size, String cursor,
+															 boolean withCount, Class<?> entityClass,
+															 Set<String> keysetProperties) {
+		if (!ID.equals(property) && !keysetProperties.contains(property)) {
+			throw new GmsException(UNSUPPORTED_PROPERTY, GMS_029);
+		}
+
+		Direction sortDirection = Direction.valueOf(direction);
+		Sort sort = ID.equals(property) ? Sort.by(sortDirection, ID) : Sort.by(sortDirection, property, ID);
+		KeysetScrollPosition position = cursor.isEmpty() ? ScrollPosition.keyset() :
+				decode(cursor, sortDirection, property, entityClass);
+		return new KeysetPageRequest(sort, size, position, withCount);
+	}
+
+	public static String toCursor(Window<?> window, Sort sort) {
+		if (!window.hasNext() || window.isEmpty()) {
+			return null;
+		}
+
+		KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+		Map<String, Object> cursor = new LinkedHashMap<>();
+		cursor.put(DIRECTION, sort.iterator().next().getDirection());
+		cursor.put(KEYS, position.getKeys());
+
+		try {
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(cursor));
+		} catch (Exception e) {
+			throw new GmsException(e.getMessage(), GMS_029);
+		}
+	}
+
+	public static <T> Page<T> toPage(Window<T> window, long totalElements) {
+		return new PageImpl<>(window.getContent(), Pageable.unpaged(), totalElements);
+	}
+
+	private static KeysetScrollPosition decode(String cursor, Direction direction, String property, Class<?> entityClass) {
+		JsonNode decoded;
+
+		try {
+			decoded = MAPPER.readTree(Base64.getUrlDecoder().decode(cursor));
+		} catch (Exception e) {
+			throw new GmsException(INVALID_CURSOR, GMS_029);
+		}
+
+		JsonNode encodedKeys = decoded.path(KEYS);
+		Set<String> names = new HashSet<>();
+		encodedKeys.fieldNames().forEachRemaining(names::add);
+
+		// A cursor can only continue the same ordering it was issued for
+		if (!direction.name().equals(decoded.path(DIRECTION).asText()) || !names.equals(Set.of(property, ID))) {
+			throw new GmsException(INVALID_CURSOR, GMS_029);
+		}
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		encodedKeys.fields().forEachRemaining(entry -> keys.put(entry.getKey(), convert(entry.getKey(), entry.getValue(), entityClass)));
+		return ScrollPosition.forward(keys);
+	}
+
+	private static Object convert(String name, JsonNode value, Class<?> entityClass) {
+		Class<?> type = BeanUtils.findPropertyType(name, entityClass);
+
+		if (Object.class.equals(type) || value.isNull()) {
+			throw new GmsException(INVALID_CURSOR, GMS_029);
+		}
+
+		try {
+			return MAPPER.treeToValue(value, type);
+		} catch (Exception e) {
+			throw new GmsException(INVALID_CURSOR, GMS_029);
+		}
+	}
+}
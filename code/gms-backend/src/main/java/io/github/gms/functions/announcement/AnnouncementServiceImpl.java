@@ -13,6 +13,8 @@ import org.springframework.stereotype.Service;
 
 import java.time.Clock;
 import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static io.github.gms.common.types.ErrorCode.GMS_002;
 import static io.github.gms.common.util.Constants.ENTITY_NOT_FOUND;
@@ -55,9 +57,12 @@ public class AnnouncementServiceImpl implements AnnouncementService {
 	@Override
 	public AnnouncementListDto list(Pageable pageable) {
 		Page<AnnouncementEntity> results = repository.findAll(pageable);
+		Map<Long, String> authors = userService.getUsernamesByIds(results.stream()
+				.map(AnnouncementEntity::getAuthorId)
+				.collect(Collectors.toSet()));
 		return AnnouncementListDto.builder()
 				.resultList(results.toList().stream()
-						.map(this::toDto)
+						.map(announcement -> toDto(announcement, authors.get(announcement.getAuthorId())))
 						.toList())
 				.totalElements(results.getTotalElements())
 				.build();
@@ -65,8 +70,9 @@ public class AnnouncementServiceImpl implements AnnouncementService {
 	
 	@Override
 	public AnnouncementDto getById(Long id) {
-		return toDto(repository.findById(id)
-				.orElseThrow(() -> new GmsException(ENTITY_NOT_FOUND, GMS_002)));
+		AnnouncementEntity announcement = repository.findById(id)
+				.orElseThrow(() -> new GmsException(ENTITY_NOT_FOUND, GMS_002));
+		return toDto(announcement, userService.getUsernameById(announcement.getAuthorId()));
 	}
 
 	@Override
@@ -74,10 +80,10 @@ public class AnnouncementServiceImpl implements AnnouncementService {
 		repository.deleteById(id);
 	}
 	
-	private AnnouncementDto toDto(AnnouncementEntity announcement) {
+	private static AnnouncementDto toDto(AnnouncementEntity announcement, String author) {
 		return AnnouncementDto.builder()
 		.announcementDate(announcement.getAnnouncementDate())
-		.author(userService.getUsernameById(announcement.getAuthorId()))
+		.author(author)
 		.description(announcement.getDescription())
 		.id(announcement.getId())
 		.title(announcement.getTitle())
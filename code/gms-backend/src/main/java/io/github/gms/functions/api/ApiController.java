@@ -3,14 +3,24 @@ package io.github.gms.functions.api;
 import io.github.gms.common.abstraction.GmsController;
 import io.github.gms.common.types.SkipSecurityTestCheck;
 import io.github.gms.functions.secret.dto.GetSecretRequestDto;
+import io.github.gms.functions.secret.dto.GetSecretsRequestDto;
+import io.github.gms.functions.secret.dto.SecretResultDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static io.github.gms.common.util.Constants.API_KEY_HEADER;
 
@@ -29,4 +39,14 @@ public class ApiController implements GmsController {
 	public Map<String, String> getSecret(@RequestHeader(name = API_KEY_HEADER) String apiKey, @PathVariable(name = "secretId") String secretId) {
 		return service.getSecret(new GetSecretRequestDto(apiKey, secretId));
 	}
-}
\ No newline at end of file
+
+	@PostMapping(path = "/api/secrets", consumes = MimeTypeUtils.APPLICATION_JSON_VALUE, produces = MimeTypeUtils.APPLICATION_JSON_VALUE)
+	public Map<String, SecretResultDto> getSecrets(@RequestHeader(name = API_KEY_HEADER) String apiKey,
+												   @RequestBody(required = false) List<String> secretIds) {
+		if (CollectionUtils.isEmpty(secretIds) || secretIds.stream().anyMatch(Objects::isNull)) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one secret id has to be provided!");
+		}
+
+		return service.getSecrets(new GetSecretsRequestDto(apiKey, new LinkedHashSet<>(secretIds)));
+	}
+}
@@ -0,0 +1,98 @@
+package io.github.gms.functions.api;
+
+import io.github.gms.common.dto.IdNamePairDto;
+import io.github.gms.common.enums.EntityStatus;
+import io.github.gms.common.model.ApiKeyPrincipal;
+import io.github.gms.common.types.GmsException;
+import io.github.gms.functions.apikey.ApiKeyEntity;
+import io.github.gms.functions.apikey.ApiKeyHashService;
+import io.github.gms.functions.apikey.ApiKeyRepository;
+import io.github.gms.functions.secret.ApiKeyRestrictionEntity;
+import io.github.gms.functions.secret.ApiKeyRestrictionRepository;
+import io.github.gms.functions.secret.SecretRepository;
+import io.github.gms.functions.user.UserEntity;
+import io.github.gms.functions.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.github.gms.common.types.ErrorCode.GMS_003;
+import static io.github.gms.common.types.ErrorCode.GMS_016;
+import static io.github.gms.common.util.Constants.CACHE_API_KEY_PRINCIPAL;
+import static io.github.gms.common.util.Constants.CACHE_API_KEY_PRINCIPAL_GENERATOR;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Resolves an API key into an {@link ApiKeyPrincipal}. The principals are cached by the hash of the API key,
+ * and {@link io.github.gms.common.service.ApiCacheInvalidationService} evicts them when the API key, its owner,
+ * the secrets or their restrictions change.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@CacheConfig(cacheNames = CACHE_API_KEY_PRINCIPAL, keyGenerator = CACHE_API_KEY_PRINCIPAL_GENERATOR)
+public class ApiKeyPrincipalService {
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final UserRepository userRepository;
+    private final SecretRepository secretRepository;
+    private final ApiKeyRestrictionRepository apiKeyRestrictionRepository;
+    private final ApiKeyHashService apiKeyHashService;
+
+    @Cacheable
+    public ApiKeyPrincipal getPrincipal(String apiKey) {
+        List<ApiKeyEntity> apiKeyEntities = apiKeyRepository.findAllByValueHashAndStatus(apiKeyHashService.hash(apiKey), EntityStatus.ACTIVE);
+
+        if (apiKeyEntities.isEmpty()) {
+            log.warn("API key not found");
+            throw new GmsException("Wrong API key!", GMS_016);
+        }
+
+        if (apiKeyEntities.size() > 1) {
+            // Keys created before the value had to be globally unique cannot be resolved to a single user
+            log.warn("API key is assigned to {} users", apiKeyEntities.size());
+            throw new GmsException("Wrong API key!", GMS_016);
+        }
+
+        ApiKeyEntity apiKeyEntity = apiKeyEntities.getFirst();
+
+        UserEntity userEntity = userRepository.findById(apiKeyEntity.getUserId()).orElseThrow(() -> {
+            log.warn("User not found");
+            return new GmsException("User not found!", GMS_003);
+        });
+
+        Map<String, Long> secrets = secretRepository.findAllActiveSecretIdByUserId(apiKeyEntity.getUserId()).stream()
+                .collect(toMap(IdNamePairDto::getName, IdNamePairDto::getId, (first, second) -> first));
+
+        return ApiKeyPrincipal.builder()
+                .apiKeyId(apiKeyEntity.getId())
+                .userId(apiKeyEntity.getUserId())
+                .userStatus(userEntity.getStatus())
+                .secrets(secrets)
+                .restrictedSecretIds(getRestrictedSecretIds(apiKeyEntity))
+                .build();
+    }
+
+    private Set<Long> getRestrictedSecretIds(ApiKeyEntity apiKeyEntity) {
+        Map<Long, List<ApiKeyRestrictionEntity>> restrictions = apiKeyRestrictionRepository
+                .findAllByUserId(apiKeyEntity.getUserId()).stream()
+                .collect(groupingBy(ApiKeyRestrictionEntity::getSecretId));
+
+        return restrictions.entrySet().stream()
+                .filter(entry -> entry.getValue().stream()
+                        .noneMatch(restriction -> restriction.getApiKeyId().equals(apiKeyEntity.getId())))
+                .map(Map.Entry::getKey)
+                .collect(toSet());
+    }
+}
@@ -1,13 +1,21 @@
 package io.github.gms.functions.api;
 
+import io.github.gms.common.enums.SecretResultStatus;
+import io.github.gms.common.model.ApiKeyPrincipal;
+import io.github.gms.common.model.PreparedSecret;
+import io.github.gms.common.types.GmsException;
 import io.github.gms.functions.secret.dto.GetSecretRequestDto;
-import io.github.gms.functions.secret.SecretEntity;
+import io.github.gms.functions.secret.dto.GetSecretsRequestDto;
+import io.github.gms.functions.secret.dto.SecretResultDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import static io.github.gms.common.types.ErrorCode.GMS_028;
+
 /**
  * @author Peter Szrnka
  * @since 1.0
@@ -17,16 +25,58 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ApiService {
 
+	private static final int MAX_BATCH_SIZE = 100;
+
 	private final SecretPreparationService secretPreparationService;
 	private final SecretValueProviderService secretValueProviderService;
 
 	public Map<String, String> getSecret(GetSecretRequestDto dto) {
 		log.info("Searching for secret={}", dto.getSecretId());
 
-		// Validate API key, user, then get the secret
-		SecretEntity secretEntity = secretPreparationService.getSecretEntity(dto);
+		// Validate API key, user and the restrictions of the secret (cached)
+		ApiKeyPrincipal principal = secretPreparationService.validateSecretRequest(dto);
 
 		// Validate the keystore & retrieve the secret (cached)
-		return secretValueProviderService.getSecretValue(secretEntity);
+		return secretValueProviderService.getSecretValue(dto.getSecretId(), principal.getUserId());
+	}
+
+	public Map<String, SecretResultDto> getSecrets(GetSecretsRequestDto dto) {
+		log.info("Searching for secrets={}", dto.getSecretIds());
+
+		if (dto.getSecretIds().size() > MAX_BATCH_SIZE) {
+			throw new GmsException("Maximum " + MAX_BATCH_SIZE + " secrets can be requested at once!", GMS_028);
+		}
+
+		// Validate API key and user once, then get all secrets
+		Map<String, PreparedSecret> preparedSecrets = secretPreparationService.getSecretEntities(dto);
+
+		Map<String, SecretResultDto> result = new LinkedHashMap<>();
+		preparedSecrets.forEach((secretId, preparedSecret) -> result.put(secretId, getSecretResult(preparedSecret)));
+		return result;
+	}
+
+	private SecretResultDto getSecretResult(PreparedSecret preparedSecret) {
+		if (preparedSecret.getStatus() != SecretResultStatus.OK) {
+			return toErrorResult(preparedSecret.getStatus(), preparedSecret.getError());
+		}
+
+		try {
+			// Validate the keystore & retrieve the secret (cached)
+			return SecretResultDto.builder()
+					.status(SecretResultStatus.OK)
+					.value(secretValueProviderService.getSecretValue(preparedSecret.getEntity()))
+					.build();
+		} catch (GmsException e) {
+			log.warn("Secret value cannot be retrieved: {}", e.getMessage());
+			return toErrorResult(SecretResultStatus.FAILED, e);
+		}
+	}
+
+	private static SecretResultDto toErrorResult(SecretResultStatus status, GmsException error) {
+		return SecretResultDto.builder()
+				.status(status)
+				.errorCode(error.getErrorCode().getCode())
+				.message(error.getMessage())
+				.build();
 	}
 }
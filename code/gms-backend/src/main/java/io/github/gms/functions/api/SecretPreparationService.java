@@ -1,29 +1,31 @@
 package io.github.gms.functions.api;
 
 import io.github.gms.common.enums.EntityStatus;
+import io.github.gms.common.enums.SecretResultStatus;
+import io.github.gms.common.model.ApiKeyPrincipal;
 import io.github.gms.common.model.IpRestrictionPatterns;
+import io.github.gms.common.model.PreparedSecret;
 import io.github.gms.common.types.GmsException;
-import io.github.gms.functions.apikey.ApiKeyEntity;
-import io.github.gms.functions.apikey.ApiKeyRepository;
 import io.github.gms.functions.iprestriction.IpRestrictionService;
 import io.github.gms.functions.iprestriction.IpRestrictionValidator;
-import io.github.gms.functions.secret.ApiKeyRestrictionEntity;
-import io.github.gms.functions.secret.ApiKeyRestrictionRepository;
 import io.github.gms.functions.secret.dto.GetSecretRequestDto;
+import io.github.gms.functions.secret.dto.GetSecretsRequestDto;
 import io.github.gms.functions.secret.SecretEntity;
 import io.github.gms.functions.secret.SecretRepository;
-import io.github.gms.functions.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
-import static io.github.gms.common.types.ErrorCode.GMS_003;
-import static io.github.gms.common.types.ErrorCode.GMS_016;
 import static io.github.gms.common.types.ErrorCode.GMS_017;
 import static io.github.gms.common.types.ErrorCode.GMS_022;
 import static io.github.gms.common.types.ErrorCode.GMS_023;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * @author Peter Szrnka
@@ -34,52 +36,82 @@ import static io.github.gms.common.types.ErrorCode.GMS_023;
 @RequiredArgsConstructor
 public class SecretPreparationService {
     private final SecretRepository secretRepository;
-    private final ApiKeyRepository apiKeyRepository;
-    private final UserRepository userRepository;
-    private final ApiKeyRestrictionRepository apiKeyRestrictionRepository;
+    private final ApiKeyPrincipalService apiKeyPrincipalService;
     private final IpRestrictionService ipRestrictionService;
     private final IpRestrictionValidator ipRestrictionValidator;
 
-    public SecretEntity getSecretEntity(GetSecretRequestDto dto) {
-        ApiKeyEntity apiKeyEntity = apiKeyRepository.findByValueAndStatus(dto.getApiKey(), EntityStatus.ACTIVE);
+    /**
+     * Validates the API key, the user and the restrictions of the requested secret. Every check is served
+     * from cache when the principal and the IP restrictions of the secret have already been loaded.
+     */
+    public ApiKeyPrincipal validateSecretRequest(GetSecretRequestDto dto) {
+        ApiKeyPrincipal principal = apiKeyPrincipalService.getPrincipal(dto.getApiKey());
 
-        validateApiKey(apiKeyEntity);
-        validateUserByApiKey(apiKeyEntity);
-
-        SecretEntity secretEntity = secretRepository.findByUserIdAndSecretIdAndStatus(apiKeyEntity.getUserId(),
-                dto.getSecretId(), EntityStatus.ACTIVE).orElseThrow(() -> {
-            log.warn("Secret not found"); return new GmsException("Secret is not available!", GMS_022); });
+        Long secretEntityId = principal.getSecrets().get(dto.getSecretId());
+        if (secretEntityId == null) {
+            log.warn("Secret not found");
+            throw new GmsException("Secret is not available!", GMS_022);
+        }
 
         // Ip Restriction
-        IpRestrictionPatterns patterns = ipRestrictionService.checkIpRestrictionsBySecret(secretEntity.getId());
-        if (ipRestrictionValidator.isIpAddressBlocked(patterns.getItems())) {
+        IpRestrictionPatterns patterns = ipRestrictionService.checkIpRestrictionsBySecret(secretEntityId);
+        if (ipRestrictionValidator.isIpAddressBlocked(patterns)) {
             throw new GmsException("You are not allowed to get this secret from your IP address!", GMS_023);
         }
 
         // API key restriction
-        List<ApiKeyRestrictionEntity> restrictions = apiKeyRestrictionRepository
-                .findAllByUserIdAndSecretId(apiKeyEntity.getUserId(), secretEntity.getId());
-
-        if (!restrictions.isEmpty() && restrictions.stream().noneMatch(restriction -> restriction.getApiKeyId().equals(apiKeyEntity.getId()))) {
+        if (principal.getRestrictedSecretIds().contains(secretEntityId)) {
             log.warn("You are not allowed to use this API key for this secret!");
             throw new GmsException("You are not allowed to use this API key for this secret!", GMS_017);
         }
 
-        return secretEntity;
+        return principal;
     }
 
-    private void validateApiKey(ApiKeyEntity apiKeyEntity) {
-        if (apiKeyEntity == null) {
-            log.warn("API key not found");
-            throw new GmsException("Wrong API key!", GMS_016);
-        }
-    }
+    /**
+     * Validates the API key and the user only once, then resolves all requested secrets
+     * and their IP restrictions with bulk queries. The result is ordered as the request.
+     */
+    public Map<String, PreparedSecret> getSecretEntities(GetSecretsRequestDto dto) {
+        ApiKeyPrincipal principal = apiKeyPrincipalService.getPrincipal(dto.getApiKey());
+
+        Map<String, SecretEntity> secretEntities = secretRepository.findAllByUserIdAndSecretIdInAndStatus(
+                principal.getUserId(), dto.getSecretIds(), EntityStatus.ACTIVE).stream()
+                .collect(toMap(SecretEntity::getSecretId, Function.identity()));
+        Set<Long> ids = secretEntities.values().stream().map(SecretEntity::getId).collect(toSet());
+
+        Map<Long, IpRestrictionPatterns> ipRestrictions = ids.isEmpty() ? Map.of() :
+                ipRestrictionService.checkIpRestrictionsBySecrets(ids);
 
-    private void validateUserByApiKey(ApiKeyEntity apiKeyEntity) {
-        userRepository.findById(apiKeyEntity.getUserId()).ifPresentOrElse(entity -> {
-        }, () -> {
-            log.warn("User not found");
-            throw new GmsException("User not found!", GMS_003);
+        Map<String, PreparedSecret> result = new LinkedHashMap<>();
+        dto.getSecretIds().forEach(secretId -> {
+            SecretEntity secretEntity = secretEntities.get(secretId);
+
+            if (secretEntity == null) {
+                log.warn("Secret not found");
+                result.put(secretId, PreparedSecret.failed(SecretResultStatus.NOT_FOUND,
+                        new GmsException("Secret is not available!", GMS_022)));
+                return;
+            }
+
+            IpRestrictionPatterns patterns = ipRestrictions.get(secretEntity.getId());
+            if (patterns != null && ipRestrictionValidator.isIpAddressBlocked(patterns)) {
+                result.put(secretId, PreparedSecret.failed(SecretResultStatus.FORBIDDEN,
+                        new GmsException("You are not allowed to get this secret from your IP address!", GMS_023)));
+                return;
+            }
+
+            if (principal.getRestrictedSecretIds().contains(secretEntity.getId())) {
+                log.warn("You are not allowed to use this API key for this secret!");
+                result.put(secretId, PreparedSecret.failed(SecretResultStatus.FORBIDDEN,
+                        new GmsException("You are not allowed to use this API key for this secret!", GMS_017)));
+                return;
+            }
+
+            result.put(secretId, PreparedSecret.of(secretEntity));
         });
+
+        return result;
     }
-}
\ No newline at end of file
+
+}
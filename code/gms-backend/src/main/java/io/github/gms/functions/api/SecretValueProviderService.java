@@ -1,8 +1,11 @@
 package io.github.gms.functions.api;
 
+import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.SecretType;
 import io.github.gms.common.service.CryptoService;
+import io.github.gms.common.types.GmsException;
 import io.github.gms.functions.secret.SecretEntity;
+import io.github.gms.functions.secret.SecretRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheConfig;
@@ -13,6 +16,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import static io.github.gms.common.types.ErrorCode.GMS_022;
 import static io.github.gms.common.util.Constants.CACHE_API;
 import static io.github.gms.common.util.Constants.CACHE_API_GENERATOR;
 import static io.github.gms.common.util.Constants.VALUE;
@@ -29,9 +33,28 @@ public class SecretValueProviderService {
 
     private final KeystoreValidatorService keystoreValidatorService;
     private final CryptoService cryptoService;
+    private final SecretRepository secretRepository;
+
+    /**
+     * Loads the secret entity only on cache miss, so a cached request does not touch the database.
+     */
+    @Cacheable
+    public Map<String, String> getSecretValue(String secretId, Long userId) {
+        SecretEntity secretEntity = secretRepository.findByUserIdAndSecretIdAndStatus(userId, secretId, EntityStatus.ACTIVE)
+                .orElseThrow(() -> {
+                    log.warn("Secret not found");
+                    return new GmsException("Secret is not available!", GMS_022);
+                });
+
+        return resolveSecretValue(secretEntity);
+    }
 
     @Cacheable
     public Map<String, String> getSecretValue(SecretEntity secretEntity) {
+        return resolveSecretValue(secretEntity);
+    }
+
+    private Map<String, String> resolveSecretValue(SecretEntity secretEntity) {
         log.info("Retrieve secretValue from entity={}", secretEntity.getId());
 
         // Validate the Keystore
@@ -46,9 +69,40 @@ public class SecretValueProviderService {
         }
 
         String decryptedValue = cryptoService.decrypt(secretEntity);
+        migrateToEnvelope(secretEntity, decryptedValue);
         return processDecryptedValue(decryptedValue, secretEntity.getType());
     }
 
+    /**
+     * Re-encrypts values that are still stored in the legacy format. Only the value column is updated, and only
+     * if it has not been changed since the entity was loaded. A failed or skipped migration does not fail the
+     * request, the value will be migrated on a later read.
+     */
+    private void migrateToEnvelope(SecretEntity secretEntity, String decryptedValue) {
+        if (!cryptoService.isReEncryptionRequired(secretEntity)) {
+            return;
+        }
+
+        String originalValue = secretEntity.getValue();
+
+        try {
+            secretEntity.setValue(decryptedValue);
+            cryptoService.encrypt(secretEntity);
+            String migratedValue = secretEntity.getValue();
+
+            if (secretRepository.updateValue(secretEntity.getId(), originalValue, migratedValue) > 0) {
+                log.info("Secret value of entity={} migrated to envelope encryption", secretEntity.getId());
+            } else {
+                log.info("Secret value of entity={} has been changed in the meantime, migration skipped", secretEntity.getId());
+            }
+        } catch (Exception e) {
+            log.warn("Secret value of entity={} could not be migrated: {}", secretEntity.getId(), e.getMessage());
+        } finally {
+            // The loaded entity must stay unchanged, otherwise it could be flushed with stale columns
+            secretEntity.setValue(originalValue);
+        }
+    }
+
     private static Map<String, String> processDecryptedValue(String decryptedValue, SecretType type) {
         if (SecretType.SIMPLE_CREDENTIAL == type) {
             return Map.of(VALUE, decryptedValue);
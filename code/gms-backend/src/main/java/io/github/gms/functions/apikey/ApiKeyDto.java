@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.types.Sensitive;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -16,6 +17,7 @@ import static io.github.gms.common.util.Constants.DATE_FORMAT;
  * @since 1.0
  */
 @Data
+@NoArgsConstructor
 public class ApiKeyDto implements Serializable {
 
 	@Serial
@@ -30,4 +32,16 @@ public class ApiKeyDto implements Serializable {
 	private EntityStatus status;
 	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATE_FORMAT)
 	private ZonedDateTime creationDate;
+
+	/**
+	 * Used by the list query, which does not load and decrypt the value.
+	 */
+	public ApiKeyDto(Long id, Long userId, String name, String description, EntityStatus status, ZonedDateTime creationDate) {
+		this.id = id;
+		this.userId = userId;
+		this.name = name;
+		this.description = description;
+		this.status = status;
+		this.creationDate = creationDate;
+	}
 }
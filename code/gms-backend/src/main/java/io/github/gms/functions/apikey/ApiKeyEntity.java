@@ -6,6 +6,7 @@ import io.github.gms.common.enums.EntityStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -28,6 +29,7 @@ import static io.github.gms.common.util.Constants.ID;
 @Data
 @Entity
 @Table(name = "gms_api_key")
+@EntityListeners(ApiKeyValueHashListener.class)
 @EqualsAndHashCode(callSuper = false)
 public class ApiKeyEntity extends AbstractGmsEntity {
 
@@ -48,6 +50,9 @@ public class ApiKeyEntity extends AbstractGmsEntity {
 	@Column(name = "value", length = 512)
 	@Convert(converter = EncryptedFieldConverter.class)
 	private String value = UUID.randomUUID().toString();
+
+	@Column(name = "value_hash", length = 64)
+	private String valueHash;
 	
 	@Column(name = "description")
 	private String description;
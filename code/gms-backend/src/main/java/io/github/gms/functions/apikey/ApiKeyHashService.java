@@ -0,0 +1,51 @@
+package io.github.gms.functions.apikey;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Computes the keyed HMAC (blind index) of API key values. API keys are looked up by this value instead of
+ * comparing the encrypted value column, so the lookup can use an index.
+ * <p>
+ * The HMAC key is the dedicated API key hash secret. If it is not configured, the key is derived from the
+ * crypto secret with HKDF, so the AES key itself is never used as an HMAC key.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Service
+public class ApiKeyHashService {
+
+	private static final byte[] HKDF_INFO = "gms-api-key-hash".getBytes(StandardCharsets.UTF_8);
+	private static final int HKDF_HASH_LENGTH = 32;
+
+	private final HashFunction hashFunction;
+
+	public ApiKeyHashService(@Value("${config.crypto.apiKeyHashSecret:}") String hashSecret,
+							 @Value("${config.crypto.secret}") String cryptoSecret) {
+		byte[] key = StringUtils.hasText(hashSecret) ? hashSecret.getBytes(StandardCharsets.UTF_8)
+				: deriveKey(Base64.getDecoder().decode(cryptoSecret));
+		this.hashFunction = Hashing.hmacSha256(key);
+	}
+
+	public String hash(String value) {
+		return value == null ? null : hashFunction.hashString(value, StandardCharsets.UTF_8).toString();
+	}
+
+	/**
+	 * HKDF-SHA256 (RFC 5869) with an empty salt, the output is a single block.
+	 */
+	private static byte[] deriveKey(byte[] inputKey) {
+		byte[] pseudoRandomKey = Hashing.hmacSha256(new byte[HKDF_HASH_LENGTH]).hashBytes(inputKey).asBytes();
+		byte[] expandInput = new byte[HKDF_INFO.length + 1];
+		System.arraycopy(HKDF_INFO, 0, expandInput, 0, HKDF_INFO.length);
+		expandInput[HKDF_INFO.length] = 1;
+		return Hashing.hmacSha256(pseudoRandomKey).hashBytes(expandInput).asBytes();
+	}
+}
@@ -24,20 +24,36 @@ import static io.github.gms.common.util.Constants.USER_ID;
 @Repository
 public interface ApiKeyRepository extends CountableRepository<ApiKeyEntity, Long> {
 
-	ApiKeyEntity findByValueAndStatus(String value, EntityStatus status);
+	List<ApiKeyEntity> findAllByValueHashAndStatus(String valueHash, EntityStatus status);
+
+	List<ApiKeyEntity> findAllByValueHashIsNull();
 	
 	Optional<ApiKeyEntity> findByIdAndUserId(Long id, Long userId);
 	
-	Page<ApiKeyEntity> findAllByUserId(Long userId, Pageable pageable);
+	@Query(value = "select new io.github.gms.functions.apikey.ApiKeyDto(a.id, a.userId, a.name, a.description, a.status, " +
+			"a.creationDate) from ApiKeyEntity a where a.userId = :userId",
+			countQuery = "select count(a) from ApiKeyEntity a where a.userId = :userId")
+	Page<ApiKeyDto> findAllDtoByUserId(@Param(USER_ID) Long userId, Pageable pageable);
 	
 	@Query("select new io.github.gms.common.dto.IdNamePairDto(a.id,a.name) from ApiKeyEntity a where a.status='ACTIVE' and a.userId = :userId")
 	List<IdNamePairDto> getAllApiKeyNames(@Param(USER_ID) Long userId);
 	
-	@Query("select count(a) from ApiKeyEntity a where a.userId = :userId and a.name = :name")
-	long countAllApiKeysByName(@Param(USER_ID) Long userId, @Param("name") String name);
+	@Query("select count(a) from ApiKeyEntity a where a.userId = :userId and a.name = :name and (:id is null or a.id <> :id)")
+	long countOtherApiKeysByName(@Param(USER_ID) Long userId, @Param("name") String name, @Param("id") Long id);
 	
-	@Query("select count(a) from ApiKeyEntity a where a.userId = :userId and a.value = :value")
-	long countAllApiKeysByValue(@Param(USER_ID) Long userId, @Param("value") String value);
+	@Query("select count(a) from ApiKeyEntity a where a.valueHash = :valueHash and (:id is null or a.id <> :id)")
+	long countOtherApiKeysByValueHash(@Param("valueHash") String valueHash, @Param("id") Long id);
+
+	@Query("select a.value from ApiKeyEntity a where a.userId = :userId")
+	Set<String> findAllValueByUserId(@Param(USER_ID) Long userId);
+
+	@Query("select a.value from ApiKeyEntity a where a.userId in :userIds")
+	Set<String> findAllValueByUserIdIn(@Param("userIds") Set<Long> userIds);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM ApiKeyEntity a where a.id = :id and a.userId = :userId")
+	int deleteByIdAndUserId(@Param("id") Long id, @Param(USER_ID) Long userId);
 
 	@Modifying
 	@Transactional
@@ -3,15 +3,17 @@ package io.github.gms.functions.apikey;
 import io.github.gms.common.dto.IdNamePairListDto;
 import io.github.gms.common.dto.LongValueDto;
 import io.github.gms.common.dto.SaveEntityResponseDto;
+import io.github.gms.common.enums.ApiCacheTag;
 import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.MdcParameter;
+import io.github.gms.common.enums.UserCounterType;
+import io.github.gms.common.service.ApiCacheInvalidationService;
 import io.github.gms.common.types.GmsException;
 import io.github.gms.common.util.MdcUtils;
+import io.github.gms.functions.home.UserCounterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
-import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Async;
@@ -23,7 +25,6 @@ import java.util.Set;
 import static io.github.gms.common.types.ErrorCode.GMS_002;
 import static io.github.gms.common.types.ErrorCode.GMS_018;
 import static io.github.gms.common.types.ErrorCode.GMS_019;
-import static io.github.gms.common.util.Constants.CACHE_API;
 import static io.github.gms.common.util.Constants.ENTITY_NOT_FOUND;
 
 /**
@@ -33,28 +34,40 @@ import static io.github.gms.common.util.Constants.ENTITY_NOT_FOUND;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@CacheConfig(cacheNames = { CACHE_API })
 public class ApiKeyServiceImpl implements ApiKeyService {
 
     private final ApiKeyRepository repository;
     private final ApiKeyConverter converter;
+    private final ApiCacheInvalidationService apiCacheInvalidationService;
+    private final ApiKeyHashService apiKeyHashService;
+    private final UserCounterService userCounterService;
 
     @Override
-    @CacheEvict(cacheNames = { CACHE_API }, allEntries = true)
     public SaveEntityResponseDto save(SaveApiKeyRequestDto dto) {
         Long userId = Long.parseLong(MDC.get(MdcParameter.USER_ID.getDisplayName()));
         ApiKeyEntity entity;
+        Set<String> principalCacheKeys = Set.of();
 
         dto.setUserId(userId);
-        validateNewApiKey(dto, dto.getId() == null ? 0 : 1);
+        validateNewApiKey(dto);
 
         if (dto.getId() == null) {
             entity = converter.toNewEntity(dto);
         } else {
+            // The value may change, so the cached principal has to be resolved by the previous value
+            principalCacheKeys = apiCacheInvalidationService.getPrincipalCacheKeys(ApiCacheTag.API_KEY, dto.getId());
             entity = converter.toEntity(getApiKeyEntity(dto.getId(), userId), dto);
         }
 
         entity = repository.save(entity);
+
+        if (dto.getId() != null) {
+            apiCacheInvalidationService.evict(ApiCacheTag.API_KEY, entity.getId());
+            apiCacheInvalidationService.evictPrincipals(principalCacheKeys);
+        } else {
+            userCounterService.increment(userId, UserCounterType.API_KEY);
+        }
+
         return new SaveEntityResponseDto(entity.getId());
     }
 
@@ -69,27 +82,36 @@ public class ApiKeyServiceImpl implements ApiKeyService {
         Long userId = Long.parseLong(MDC.get(MdcParameter.USER_ID.getDisplayName()));
 
         try {
-            Page<ApiKeyEntity> resultList = repository.findAllByUserId(userId, pageable);
-            return converter.toDtoList(resultList);
+            Page<ApiKeyDto> resultList = repository.findAllDtoByUserId(userId, pageable);
+            return ApiKeyListDto.builder().resultList(resultList.toList()).totalElements(resultList.getTotalElements()).build();
         } catch (Exception e) {
             return ApiKeyListDto.builder().resultList(Collections.emptyList()).totalElements(0).build();
         }
     }
 
     @Override
-    @CacheEvict(cacheNames = { CACHE_API }, allEntries = true)
     public void delete(Long id) {
-        repository.deleteById(id);
+        ApiKeyEntity entity = getApiKeyEntity(id, MdcUtils.getUserId());
+        Set<String> cacheKeys = apiCacheInvalidationService.getCacheKeys(ApiCacheTag.API_KEY, id);
+        Set<String> principalCacheKeys = apiCacheInvalidationService.getPrincipalCacheKeys(ApiCacheTag.API_KEY, id);
+
+        if (repository.deleteByIdAndUserId(id, entity.getUserId()) > 0) {
+            userCounterService.decrement(entity.getUserId(), UserCounterType.API_KEY);
+        }
+
+        apiCacheInvalidationService.evict(cacheKeys);
+        apiCacheInvalidationService.evictPrincipals(principalCacheKeys);
     }
 
     @Override
-    @CacheEvict(cacheNames = { CACHE_API }, allEntries = true)
     public void toggleStatus(Long id, boolean enabled) {
         Long userId = Long.parseLong(MDC.get(MdcParameter.USER_ID.getDisplayName()));
 
         ApiKeyEntity entity = getApiKeyEntity(id, userId);
         entity.setStatus(enabled ? EntityStatus.ACTIVE : EntityStatus.DISABLED);
         repository.save(entity);
+        apiCacheInvalidationService.evict(ApiCacheTag.API_KEY, id);
+        apiCacheInvalidationService.evictPrincipals(ApiCacheTag.API_KEY, id);
     }
 
     public String getDecryptedValue(Long id) {
@@ -111,7 +133,9 @@ public class ApiKeyServiceImpl implements ApiKeyService {
     @Async
     @Override
     public void batchDeleteByUserIds(Set<Long> userIds) {
+        Set<String> principalCacheKeys = apiCacheInvalidationService.getPrincipalCacheKeys(userIds);
         repository.deleteAllByUserId(userIds);
+        apiCacheInvalidationService.evictPrincipals(principalCacheKeys);
         log.info("All API keys have been removed for the requested users");
     }
 
@@ -119,12 +143,14 @@ public class ApiKeyServiceImpl implements ApiKeyService {
         return repository.findByIdAndUserId(id, userId).orElseThrow(() -> new GmsException(ENTITY_NOT_FOUND, GMS_002));
     }
 
-    private void validateNewApiKey(SaveApiKeyRequestDto dto, int expectedCount) {
-        if (repository.countAllApiKeysByName(MdcUtils.getUserId(), dto.getName()) > expectedCount) {
+    private void validateNewApiKey(SaveApiKeyRequestDto dto) {
+        // The key itself is excluded, so an update cannot take over the name or value of another key
+        if (repository.countOtherApiKeysByName(MdcUtils.getUserId(), dto.getName(), dto.getId()) > 0) {
             throw new GmsException("API key name must be unique!", GMS_018);
         }
 
-        if (repository.countAllApiKeysByValue(MdcUtils.getUserId(), dto.getValue()) > expectedCount) {
+        // API keys are resolved by their value only, so the value has to be unique across all users
+        if (repository.countOtherApiKeysByValueHash(apiKeyHashService.hash(dto.getValue()), dto.getId()) > 0) {
             throw new GmsException("API key value must be unique!", GMS_019);
         }
     }
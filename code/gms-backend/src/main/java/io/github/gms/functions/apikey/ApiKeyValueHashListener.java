@@ -0,0 +1,25 @@
+package io.github.gms.functions.apikey;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@link ApiKeyEntity#getValueHash()} in sync with the value on every save.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiKeyValueHashListener {
+
+	private final ApiKeyHashService apiKeyHashService;
+
+	@PrePersist
+	@PreUpdate
+	public void updateValueHash(ApiKeyEntity entity) {
+		entity.setValueHash(apiKeyHashService.hash(entity.getValue()));
+	}
+}
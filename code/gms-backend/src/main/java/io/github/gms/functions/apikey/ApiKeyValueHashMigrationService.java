@@ -0,0 +1,46 @@
+package io.github.gms.functions.apikey;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Fills the value hash of API keys created before the hash column has been introduced.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiKeyValueHashMigrationService {
+
+	private final ApiKeyRepository repository;
+	private final ApiKeyHashService apiKeyHashService;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrate() {
+		List<ApiKeyEntity> resultList = repository.findAllByValueHashIsNull();
+
+		if (resultList.isEmpty()) {
+			return;
+		}
+
+		int migrated = 0;
+		for (ApiKeyEntity entity : resultList) {
+			try {
+				entity.setValueHash(apiKeyHashService.hash(entity.getValue()));
+				repository.save(entity);
+				migrated++;
+			} catch (Exception e) {
+				log.warn("Value hash of API key={} could not be updated: {}", entity.getId(), e.getMessage());
+			}
+		}
+
+		log.info("Value hash has been updated for {} API key(s)", migrated);
+	}
+}
@@ -0,0 +1,180 @@
+package io.github.gms.functions.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists the audit events outside the request that produced them.
+ * <p>
+ * Events are buffered in a bounded queue and a background writer saves them in batches, as soon as a batch
+ * is full or the flush interval has elapsed. When the queue is full because the database cannot keep up,
+ * the caller waits a bit for free space and finally saves its event by itself, so events are never dropped
+ * and the load is pushed back to the producers. A batch that cannot be saved at once is retried event by event,
+ * so one bad event does not lose the others. On shutdown the writer stops accepting events first, then the
+ * pending ones are saved.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class AuditEventWriter {
+
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000L;
+
+	private final EventRepository repository;
+	private final BlockingQueue<EventEntity> queue;
+	private final int batchSize;
+	private final long flushIntervalMillis;
+	private final long offerTimeoutMillis;
+	private volatile boolean running;
+	private volatile boolean closed;
+	private Thread writerThread;
+
+	public AuditEventWriter(EventRepository repository,
+							MeterRegistry meterRegistry,
+							@Value("${config.audit.queueCapacity:10000}") int queueCapacity,
+							@Value("${config.audit.batchSize:100}") int batchSize,
+							@Value("${config.audit.flushIntervalMillis:200}") long flushIntervalMillis,
+							@Value("${config.audit.offerTimeoutMillis:100}") long offerTimeoutMillis) {
+		this.repository = repository;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.flushIntervalMillis = flushIntervalMillis;
+		this.offerTimeoutMillis = offerTimeoutMillis;
+		meterRegistry.gaugeCollectionSize("gms.audit.queue.size", List.of(), queue);
+	}
+
+	@PostConstruct
+	public void start() {
+		running = true;
+		writerThread = Thread.ofVirtual().name("gms-audit-writer").start(this::writeLoop);
+	}
+
+	public void enqueue(EventEntity event) {
+		try {
+			if (!closed && running && queue.offer(event, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				// The writer may have been closed while the event was offered. If stop() has already drained
+				// the queue, the event can be removed here and it is saved below.
+				if (!closed || !queue.remove(event)) {
+					return;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		// Back-pressure: the producer pays for the write when the writer cannot keep up
+		repository.save(event);
+	}
+
+	@PreDestroy
+	public void stop() {
+		closed = true;
+		running = false;
+
+		if (writerThread != null) {
+			try {
+				writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		List<EventEntity> pending = new ArrayList<>();
+		queue.drainTo(pending);
+		save(pending);
+		log.info("Audit event writer has been stopped");
+	}
+
+	private void writeLoop() {
+		while (running || !queue.isEmpty()) {
+			List<EventEntity> batch = new ArrayList<>(batchSize);
+
+			try {
+				collectBatch(batch);
+			} catch (InterruptedException e) {
+				// Producers save their events by themselves from now on, and the queued ones are saved by stop()
+				Thread.currentThread().interrupt();
+				running = false;
+				save(batch);
+				return;
+			}
+
+			save(batch);
+		}
+	}
+
+	private void collectBatch(List<EventEntity> batch) throws InterruptedException {
+		EventEntity first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+
+		if (first == null) {
+			return;
+		}
+
+		batch.add(first);
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+
+		while (batch.size() < batchSize) {
+			queue.drainTo(batch, batchSize - batch.size());
+			long remaining = deadline - System.nanoTime();
+
+			if (batch.size() >= batchSize || remaining <= 0) {
+				return;
+			}
+
+			EventEntity next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+
+			if (next == null) {
+				return;
+			}
+
+			batch.add(next);
+		}
+	}
+
+	private void save(List<EventEntity> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		try {
+			repository.saveAll(batch);
+		} catch (DataAccessException e) {
+			log.warn("Batch of {} audit event(s) could not be saved, saving them one by one: {}", batch.size(), e.getMessage());
+			saveOneByOne(batch);
+		}
+	}
+
+	private void saveOneByOne(List<EventEntity> batch) {
+		int failed = 0;
+		String lastError = null;
+
+		for (EventEntity event : batch) {
+			// The ID may have been assigned by the rolled back batch insert
+			event.setId(null);
+
+			try {
+				repository.save(event);
+			} catch (DataAccessException e) {
+				failed++;
+				lastError = e.getMessage();
+			}
+		}
+
+		if (failed > 0) {
+			log.error("{} audit event(s) could not be saved: {}", failed, lastError);
+		}
+	}
+}
@@ -2,9 +2,12 @@ package io.github.gms.functions.event;
 
 import io.github.gms.common.abstraction.AbstractController;
 import io.github.gms.common.util.ConverterUtils;
+import io.github.gms.common.util.KeysetPagingUtils;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
+
 import static io.github.gms.common.util.Constants.*;
 
 /**
@@ -15,6 +18,9 @@ import static io.github.gms.common.util.Constants.*;
 @RequestMapping("/secure/event")
 public class EventController extends AbstractController<EventService> {
 
+	// Properties of the NOT NULL columns, nullable ones cannot be used as keyset
+	private static final Set<String> KEYSET_PROPERTIES = Set.of("userId", "eventDate");
+
 	public EventController(EventService service) {
 		super(service);
 	}
@@ -24,8 +30,14 @@ public class EventController extends AbstractController<EventService> {
 	public EventListDto list(
 			@RequestParam(DIRECTION) String direction,
 			@RequestParam(PROPERTY) String property,
-			@RequestParam(PAGE) int page,
-			@RequestParam(SIZE) int size) {
+			@RequestParam(value = PAGE, defaultValue = "0") int page,
+			@RequestParam(SIZE) int size,
+			@RequestParam(value = CURSOR, required = false) String cursor,
+			@RequestParam(value = WITH_COUNT, defaultValue = "false") boolean withCount) {
+		if (cursor != null) {
+			return service.list(KeysetPagingUtils.createKeysetPageRequest(direction, property, size, cursor, withCount, EventEntity.class, KEYSET_PROPERTIES));
+		}
+
 		return service.list(ConverterUtils.createPageable(direction, property, page, size));
 	}
 	
@@ -34,8 +46,14 @@ public class EventController extends AbstractController<EventService> {
 	public EventListDto listByUserId(@PathVariable(USER_ID) Long userId,
 									 @RequestParam(DIRECTION) String direction,
 									 @RequestParam(PROPERTY) String property,
-									 @RequestParam(PAGE) int page,
-									 @RequestParam(SIZE) int size) {
+									 @RequestParam(value = PAGE, defaultValue = "0") int page,
+									 @RequestParam(SIZE) int size,
+									 @RequestParam(value = CURSOR, required = false) String cursor,
+									 @RequestParam(value = WITH_COUNT, defaultValue = "false") boolean withCount) {
+		if (cursor != null) {
+			return service.listByUser(userId, KeysetPagingUtils.createKeysetPageRequest(direction, property, size, cursor, withCount, EventEntity.class, KEYSET_PROPERTIES));
+		}
+
 		return service.listByUser(userId, ConverterUtils.createPageable(direction, property, page, size));
 	}
 }
@@ -26,4 +26,5 @@ public class EventListDto implements Serializable {
 	private List<EventDto> resultList = new ArrayList<>();
 	@Builder.Default
 	private long totalElements = 0L;
+	private String nextCursor;
 }
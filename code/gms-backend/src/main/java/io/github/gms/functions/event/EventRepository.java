@@ -1,7 +1,11 @@
 package io.github.gms.functions.event;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +14,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -19,13 +24,19 @@ import java.util.Set;
 @Repository
 public interface EventRepository extends JpaRepository<EventEntity, Long> {
 
-	@Modifying
-	@Transactional
-	@Query("delete from EventEntity e where e.eventDate < :eventDate")
-	int deleteAllEventDateOlderThan(@Param("eventDate") ZonedDateTime eventDate);
+	@Query("select e.id from EventEntity e where e.eventDate < :eventDate and e.id > :lastId " +
+			"and mod(e.id, :shardCount) = :shardIndex order by e.id")
+	List<Long> findAllExpiredIds(@Param("eventDate") ZonedDateTime eventDate, @Param("lastId") Long lastId,
+								 @Param("shardCount") int shardCount, @Param("shardIndex") int shardIndex, Pageable pageable);
 	
 	Page<EventEntity> findAllByUserId(Long userId, Pageable pageable);
 
+	Window<EventEntity> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+	Window<EventEntity> findAllByUserId(Long userId, ScrollPosition position, Sort sort, Limit limit);
+
+	long countByUserId(Long userId);
+
 	@Modifying
 	@Transactional
 	@Query("DELETE FROM EventEntity e where e.userId in :userIds")
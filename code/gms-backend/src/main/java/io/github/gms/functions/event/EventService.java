@@ -2,6 +2,7 @@ package io.github.gms.functions.event;
 
 import io.github.gms.common.abstraction.BatchDeletionService;
 import io.github.gms.common.abstraction.GmsService;
+import io.github.gms.common.model.KeysetPageRequest;
 import io.github.gms.common.model.UserEvent;
 import org.springframework.data.domain.Pageable;
 
@@ -16,4 +17,8 @@ public interface EventService extends GmsService, BatchDeletionService {
 	EventListDto list(Pageable pageable);
 	
 	EventListDto listByUser(Long userId, Pageable pageable);
+
+	EventListDto list(KeysetPageRequest request);
+
+	EventListDto listByUser(Long userId, KeysetPageRequest request);
 }
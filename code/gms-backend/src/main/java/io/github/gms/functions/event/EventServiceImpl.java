@@ -1,18 +1,26 @@
 package io.github.gms.functions.event;
 
+import io.github.gms.common.model.KeysetPageRequest;
 import io.github.gms.common.model.UserEvent;
 import io.github.gms.functions.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import static io.github.gms.common.util.KeysetPagingUtils.TOTAL_NOT_COUNTED;
+import static io.github.gms.common.util.KeysetPagingUtils.toCursor;
+import static io.github.gms.common.util.KeysetPagingUtils.toPage;
 import static io.github.gms.common.util.MdcUtils.getUserId;
 
 /**
@@ -24,10 +32,14 @@ import static io.github.gms.common.util.MdcUtils.getUserId;
 @RequiredArgsConstructor
 public class EventServiceImpl implements EventService {
 
+	private static final Long SETUP_USER_ID = 0L;
+	private static final String SETUP_USERNAME = "setup";
+
 	private final Clock clock;
 	private final EventRepository repository;
 	private final UserRepository userRepository;
 	private final EventConverter converter;
+	private final AuditEventWriter auditEventWriter;
 
 	@Override
 	public void saveUserEvent(UserEvent event) {
@@ -36,7 +48,7 @@ public class EventServiceImpl implements EventService {
 		entity.setUserId(getUserId());
 		entity.setOperation(event.getOperation());
 		entity.setTarget(event.getTarget());
-		repository.save(entity);
+		auditEventWriter.enqueue(entity);
 	}
 
 	@Override
@@ -47,9 +59,7 @@ public class EventServiceImpl implements EventService {
 	@Override
 	public EventListDto list(Pageable pageable) {
 		Page<EventEntity> results = repository.findAll(pageable);
-		return EventListDto.builder().resultList(results.toList().stream()
-						.map(entity -> converter.toDto(entity, getUsername(entity.getUserId())))
-						.toList()).totalElements(results.getTotalElements()).build();
+		return toListDto(results.toList(), results.getTotalElements());
 	}
 
 	@Override
@@ -57,6 +67,23 @@ public class EventServiceImpl implements EventService {
 		return converter.toDtoList(repository.findAllByUserId(userId, pageable), getUsername(userId));
 	}
 
+	@Override
+	public EventListDto list(KeysetPageRequest request) {
+		Window<EventEntity> window = repository.findAllBy(request.position(), request.sort(), request.limit());
+		EventListDto response = toListDto(window.getContent(), request.withCount() ? repository.count() : TOTAL_NOT_COUNTED);
+		response.setNextCursor(toCursor(window, request.sort()));
+		return response;
+	}
+
+	@Override
+	public EventListDto listByUser(Long userId, KeysetPageRequest request) {
+		Window<EventEntity> window = repository.findAllByUserId(userId, request.position(), request.sort(), request.limit());
+		EventListDto response = converter.toDtoList(toPage(window, request.withCount() ? repository.countByUserId(userId) : TOTAL_NOT_COUNTED),
+				getUsername(userId));
+		response.setNextCursor(toCursor(window, request.sort()));
+		return response;
+	}
+
 	@Async
 	@Override
 	public void batchDeleteByUserIds(Set<Long> userIds) {
@@ -64,7 +91,21 @@ public class EventServiceImpl implements EventService {
 		log.info("All events have been removed for the requested users");
 	}
 	
+	private EventListDto toListDto(List<EventEntity> results, long totalElements) {
+		Map<Long, String> usernames = userRepository.getUsernamesByIds(results.stream()
+				.map(EventEntity::getUserId)
+				.filter(userId -> !SETUP_USER_ID.equals(userId))
+				.collect(Collectors.toSet()));
+		return EventListDto.builder().resultList(results.stream()
+						.map(entity -> converter.toDto(entity, getUsername(entity.getUserId(), usernames)))
+						.toList()).totalElements(totalElements).build();
+	}
+
 	private String getUsername(Long userId) {
-		return userId.equals(0L) ? "setup" : userRepository.getUsernameById(userId);
+		return SETUP_USER_ID.equals(userId) ? SETUP_USERNAME : userRepository.getUsernameById(userId);
+	}
+
+	private static String getUsername(Long userId, Map<Long, String> usernames) {
+		return SETUP_USER_ID.equals(userId) ? SETUP_USERNAME : usernames.get(userId);
 	}
 }
@@ -4,10 +4,7 @@ import io.github.gms.common.dto.LongValueDto;
 import io.github.gms.common.util.ConverterUtils;
 import io.github.gms.common.util.MdcUtils;
 import io.github.gms.functions.announcement.AnnouncementService;
-import io.github.gms.functions.apikey.ApiKeyService;
 import io.github.gms.functions.event.EventService;
-import io.github.gms.functions.keystore.KeystoreService;
-import io.github.gms.functions.secret.SecretService;
 import io.github.gms.functions.user.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -22,11 +19,9 @@ import org.springframework.stereotype.Service;
 public class HomeService {
 
     private final AnnouncementService announcementService;
-    private final ApiKeyService apiKeyService;
     private final EventService eventService;
-    private final KeystoreService keystoreService;
-    private final SecretService secretService;
     private final UserService userService;
+    private final UserCounterService userCounterService;
 
     public HomeDataResponseDto getHomeData() {
         HomeDataResponseDto dto = new HomeDataResponseDto();
@@ -37,9 +32,10 @@ public class HomeService {
             dto.setUserCount(getValue(userService.count()));
         } else {
             dto.setAnnouncements(announcementService.list(buildPaging("announcementDate")));
-            dto.setApiKeyCount(getValue(apiKeyService.count()));
-            dto.setKeystoreCount(getValue(keystoreService.count()));
-            dto.setSecretCount(getValue(secretService.count()));
+            UserCounterEntity counters = userCounterService.getCounters(MdcUtils.getUserId());
+            dto.setApiKeyCount(counters.getApiKeyCount());
+            dto.setKeystoreCount(counters.getKeystoreCount());
+            dto.setSecretCount(counters.getSecretCount());
         }
 
         return dto;
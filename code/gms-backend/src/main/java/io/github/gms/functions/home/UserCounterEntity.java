@@ -0,0 +1,42 @@
+package io.github.gms.functions.home;
+
+import io.github.gms.common.abstraction.AbstractGmsEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.io.Serial;
+import java.time.ZonedDateTime;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Data
+@Entity
+@Table(name = "gms_user_counter")
+@EqualsAndHashCode(callSuper = false)
+public class UserCounterEntity extends AbstractGmsEntity {
+
+	@Serial
+	private static final long serialVersionUID = -4713026513937620544L;
+
+	@Id
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(name = "api_key_count")
+	private long apiKeyCount;
+
+	@Column(name = "keystore_count")
+	private long keystoreCount;
+
+	@Column(name = "secret_count")
+	private long secretCount;
+
+	@Column(name = "last_updated")
+	private ZonedDateTime lastUpdated;
+}
@@ -0,0 +1,61 @@
+package io.github.gms.functions.home;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+import static io.github.gms.common.util.Constants.USER_ID;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Repository
+public interface UserCounterRepository extends JpaRepository<UserCounterEntity, Long> {
+
+	@Modifying
+	@Transactional
+	@Query("insert into UserCounterEntity (userId, apiKeyCount, keystoreCount, secretCount, lastUpdated) " +
+			"values (:userId, :apiKeyCount, :keystoreCount, :secretCount, :now)")
+	int insert(@Param(USER_ID) Long userId, @Param("apiKeyCount") long apiKeyCount,
+			   @Param("keystoreCount") long keystoreCount, @Param("secretCount") long secretCount,
+			   @Param("now") ZonedDateTime now);
+
+	@Modifying
+	@Transactional
+	@Query("update UserCounterEntity c set c.apiKeyCount = c.apiKeyCount + :delta, c.lastUpdated = :now " +
+			"where c.userId = :userId and c.apiKeyCount + :delta >= 0")
+	int addApiKeyCount(@Param(USER_ID) Long userId, @Param("delta") long delta, @Param("now") ZonedDateTime now);
+
+	@Modifying
+	@Transactional
+	@Query("update UserCounterEntity c set c.keystoreCount = c.keystoreCount + :delta, c.lastUpdated = :now " +
+			"where c.userId = :userId and c.keystoreCount + :delta >= 0")
+	int addKeystoreCount(@Param(USER_ID) Long userId, @Param("delta") long delta, @Param("now") ZonedDateTime now);
+
+	@Modifying
+	@Transactional
+	@Query("update UserCounterEntity c set c.secretCount = c.secretCount + :delta, c.lastUpdated = :now " +
+			"where c.userId = :userId and c.secretCount + :delta >= 0")
+	int addSecretCount(@Param(USER_ID) Long userId, @Param("delta") long delta, @Param("now") ZonedDateTime now);
+
+	@Modifying
+	@Transactional
+	@Query("update UserCounterEntity c set " +
+			"c.apiKeyCount = (select count(a) from ApiKeyEntity a where a.userId = c.userId), " +
+			"c.keystoreCount = (select count(k) from KeystoreEntity k where k.userId = c.userId), " +
+			"c.secretCount = (select count(s) from SecretEntity s where s.userId = c.userId), " +
+			"c.lastUpdated = :now")
+	int reconcileAll(@Param("now") ZonedDateTime now);
+
+	@Modifying
+	@Transactional
+	@Query("delete from UserCounterEntity c where c.userId in :userIds")
+	void deleteAllByUserId(@Param("userIds") Set<Long> userIds);
+}
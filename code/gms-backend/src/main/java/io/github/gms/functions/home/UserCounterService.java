@@ -0,0 +1,92 @@
+package io.github.gms.functions.home;
+
+import io.github.gms.common.enums.UserCounterType;
+import io.github.gms.functions.apikey.ApiKeyRepository;
+import io.github.gms.functions.keystore.KeystoreRepository;
+import io.github.gms.functions.secret.SecretRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+/**
+ * Maintains the number of API keys, keystores and secrets of every user in one row, so the home page does
+ * not have to count them on every load.
+ * <p>
+ * The row of a user is created with the real counts when it is read for the first time, and it is updated
+ * incrementally when an entity is created or deleted. Changes made before the row exists are already part of
+ * the initial counts. Any drift caused by concurrent changes is corrected by {@link #reconcile()}.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserCounterService {
+
+	private final UserCounterRepository repository;
+	private final ApiKeyRepository apiKeyRepository;
+	private final KeystoreRepository keystoreRepository;
+	private final SecretRepository secretRepository;
+	private final Clock clock;
+
+	public UserCounterEntity getCounters(Long userId) {
+		return repository.findById(userId).orElseGet(() -> initCounters(userId));
+	}
+
+	public void increment(Long userId, UserCounterType type) {
+		add(userId, type, 1L);
+	}
+
+	public void decrement(Long userId, UserCounterType type) {
+		add(userId, type, -1L);
+	}
+
+	/**
+	 * Recalculates the counters of every user in one statement.
+	 *
+	 * @return Number of reconciled users
+	 */
+	public int reconcile() {
+		return repository.reconcileAll(ZonedDateTime.now(clock));
+	}
+
+	public void batchDeleteByUserIds(Set<Long> userIds) {
+		repository.deleteAllByUserId(userIds);
+	}
+
+	private void add(Long userId, UserCounterType type, long delta) {
+		ZonedDateTime now = ZonedDateTime.now(clock);
+
+		// Missing rows are skipped, they will be created with the real counts on the next read
+		switch (type) {
+			case API_KEY -> repository.addApiKeyCount(userId, delta, now);
+			case KEYSTORE -> repository.addKeystoreCount(userId, delta, now);
+			case SECRET -> repository.addSecretCount(userId, delta, now);
+		}
+	}
+
+	private UserCounterEntity initCounters(Long userId) {
+		UserCounterEntity entity = new UserCounterEntity();
+		entity.setUserId(userId);
+		entity.setApiKeyCount(apiKeyRepository.countByUserId(userId));
+		entity.setKeystoreCount(keystoreRepository.countByUserId(userId));
+		entity.setSecretCount(secretRepository.countByUserId(userId));
+		entity.setLastUpdated(ZonedDateTime.now(clock));
+
+		try {
+			// Insert only, the row must not be overwritten if it has been created in the meantime
+			repository.insert(userId, entity.getApiKeyCount(), entity.getKeystoreCount(), entity.getSecretCount(),
+					entity.getLastUpdated());
+			return entity;
+		} catch (DataIntegrityViolationException e) {
+			log.info("Counters of user={} have been created by a concurrent request", userId);
+			return repository.findById(userId).orElse(entity);
+		}
+	}
+}
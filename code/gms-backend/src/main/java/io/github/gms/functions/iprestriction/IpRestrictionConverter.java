@@ -10,6 +10,11 @@ import org.springframework.stereotype.Component;
 import java.time.Clock;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 
 /**
  * @author Peter Szrnka
@@ -31,6 +36,11 @@ public class IpRestrictionConverter {
         return new IpRestrictionPatterns(entities.stream().map(IpRestrictionConverter::toModel).toList());
     }
 
+    public Map<Long, IpRestrictionPatterns> toModelMap(List<IpRestrictionEntity> entities) {
+        return entities.stream().collect(groupingBy(IpRestrictionEntity::getSecretId,
+                collectingAndThen(toList(), this::toModel)));
+    }
+
     public IpRestrictionEntity toEntity(IpRestrictionDto dto) {
         IpRestrictionEntity entity = new IpRestrictionEntity();
 
@@ -27,6 +27,8 @@ public interface IpRestrictionRepository extends JpaRepository<IpRestrictionEnti
 
     List<IpRestrictionEntity> findAllBySecretId(Long secretId);
 
+    List<IpRestrictionEntity> findAllBySecretIdIn(Set<Long> secretIds);
+
     @Modifying
     @Transactional
     @Query("DELETE FROM IpRestrictionEntity i where i.userId in :userIds")
@@ -7,6 +7,7 @@ import io.github.gms.common.model.IpRestrictionPatterns;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -31,6 +32,8 @@ public interface IpRestrictionService extends
 
     IpRestrictionPatterns checkIpRestrictionsBySecret(Long secretId);
 
+    Map<Long, IpRestrictionPatterns> checkIpRestrictionsBySecrets(Set<Long> secretIds);
+
     IpRestrictionPatterns checkGlobalIpRestrictions();
 
     void toggleStatus(Long id, boolean enabled);
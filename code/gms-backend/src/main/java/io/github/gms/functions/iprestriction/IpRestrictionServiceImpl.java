@@ -15,6 +15,7 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -99,6 +100,11 @@ public class IpRestrictionServiceImpl implements IpRestrictionService {
         return converter.toModel(findAll(secretId));
     }
 
+    @Override
+    public Map<Long, IpRestrictionPatterns> checkIpRestrictionsBySecrets(Set<Long> secretIds) {
+        return converter.toModelMap(repository.findAllBySecretIdIn(secretIds));
+    }
+
     @Cacheable(cacheNames = CACHE_GLOBAL_IP_RESTRICTION)
     public IpRestrictionPatterns checkGlobalIpRestrictions() {
         return converter.toModel(repository.findAllGlobal());
@@ -1,12 +1,17 @@
 package io.github.gms.functions.keystore;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.github.gms.common.model.GetKeystore;
 import io.github.gms.common.model.KeystorePair;
 import io.github.gms.common.service.FileService;
+import io.github.gms.common.service.LocalCacheInvalidationService;
 import io.github.gms.common.types.GmsException;
 import io.github.gms.functions.secret.SecretEntity;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -14,13 +19,24 @@ import java.io.IOException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
+import java.time.Duration;
 
 import static io.github.gms.common.types.ErrorCode.GMS_003;
 import static io.github.gms.common.types.ErrorCode.GMS_008;
+import static io.github.gms.common.util.Constants.CACHE_KEYSTORE_REGISTRY;
 import static io.github.gms.common.util.Constants.SLASH;
 
 /**
+ * Loads keystores and keeps the loaded {@link KeyStore} instances (by keystore ID) and the unwrapped
+ * key handles (by alias ID) in a bounded in-memory registry, because loading a keystore and recovering
+ * its keys are expensive operations. {@link KeystoreService} invalidates the registry on every change, the
+ * invalidation is applied on every node after the transaction of the change has been committed. Entries also
+ * expire after a TTL, so a lost invalidation message cannot keep an outdated keystore in use indefinitely.
+ *
  * @author Peter Szrnka
  * @since 1.0
  */
@@ -30,27 +46,49 @@ public class KeystoreDataService {
 	private final KeystoreRepository keystoreRepository;
 	private final KeystoreAliasRepository keystoreAliasRepository;
 	private final FileService fileService;
+	private final LocalCacheInvalidationService localCacheInvalidationService;
 	private final String keystorePath;
+	private final Cache<Long, KeyStore> keystoreRegistry;
+	private final Cache<Long, KeyHandles> keyRegistry;
 
 	public KeystoreDataService(KeystoreRepository keystoreRepository,
 								   KeystoreAliasRepository keystoreAliasRepository,
 								   FileService fileService,
-								   @Value("${config.location.keystore.path}") String keystorePath) {
+								   LocalCacheInvalidationService localCacheInvalidationService,
+								   @Value("${config.location.keystore.path}") String keystorePath,
+								   @Value("${config.keystore.registry.maxSize:100}") long registryMaxSize,
+								   @Value("${config.keystore.registry.ttlSeconds:3600}") long registryTtlSeconds) {
 		this.keystoreRepository = keystoreRepository;
 		this.keystoreAliasRepository = keystoreAliasRepository;
 		this.fileService = fileService;
+		this.localCacheInvalidationService = localCacheInvalidationService;
 		this.keystorePath = keystorePath;
+		this.keystoreRegistry = CacheBuilder.newBuilder().maximumSize(registryMaxSize)
+				.expireAfterWrite(Duration.ofSeconds(registryTtlSeconds)).build();
+		this.keyRegistry = CacheBuilder.newBuilder().maximumSize(registryMaxSize)
+				.expireAfterWrite(Duration.ofSeconds(registryTtlSeconds)).build();
+		localCacheInvalidationService.register(CACHE_KEYSTORE_REGISTRY, this::evict);
 	}
 
 	public KeystorePair getKeystoreData(SecretEntity secretEntity)
 			throws NoSuchAlgorithmException, CertificateException, KeyStoreException, IOException {
-		KeystoreAliasEntity keystoreAliasEntity = keystoreAliasRepository.findById(secretEntity.getKeystoreAliasId())
+		return getKeystoreData(secretEntity.getKeystoreAliasId());
+	}
+
+	public KeystorePair getKeystoreData(Long keystoreAliasId)
+			throws NoSuchAlgorithmException, CertificateException, KeyStoreException, IOException {
+		KeystoreAliasEntity keystoreAliasEntity = keystoreAliasRepository.findById(keystoreAliasId)
 				.orElseThrow(() -> new GmsException("Invalid keystore alias!", GMS_008));
 
-		KeystoreEntity keystoreEntity = getKeystoreEntity(keystoreAliasEntity.getKeystoreId());
-		KeyStore keystore = getKeyStore(GetKeystore.builder().keystoreEntity(keystoreEntity)
-				.keystorePath(keystorePath + keystoreEntity.getUserId() + SLASH + keystoreEntity.getFileName())
-				.build());
+		KeyStore keystore = keystoreRegistry.getIfPresent(keystoreAliasEntity.getKeystoreId());
+
+		if (keystore == null) {
+			KeystoreEntity keystoreEntity = getKeystoreEntity(keystoreAliasEntity.getKeystoreId());
+			keystore = getKeyStore(GetKeystore.builder().keystoreEntity(keystoreEntity)
+					.keystorePath(keystorePath + keystoreEntity.getUserId() + SLASH + keystoreEntity.getFileName())
+					.build());
+			keystoreRegistry.put(keystoreEntity.getId(), keystore);
+		}
 
 		return new KeystorePair(keystoreAliasEntity, keystore);
 	}
@@ -67,7 +105,67 @@ public class KeystoreDataService {
 		return keystore;
 	}
 
+	public PrivateKey getPrivateKey(KeystorePair keystorePair)
+			throws UnrecoverableKeyException, KeyStoreException, NoSuchAlgorithmException {
+		return getKeyHandles(keystorePair).privateKey();
+	}
+
+	public PublicKey getPublicKey(KeystorePair keystorePair)
+			throws UnrecoverableKeyException, KeyStoreException, NoSuchAlgorithmException {
+		return getKeyHandles(keystorePair).publicKey();
+	}
+
+	public void invalidate(Long keystoreId) {
+		String key = String.valueOf(keystoreId);
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			localCacheInvalidationService.evict(CACHE_KEYSTORE_REGISTRY, key);
+			return;
+		}
+
+		// Other nodes could reload the old keystore data if they were notified before the commit
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				localCacheInvalidationService.evict(CACHE_KEYSTORE_REGISTRY, key);
+			}
+		});
+	}
+
+	private void evict(String key) {
+		if (key == null) {
+			keystoreRegistry.invalidateAll();
+			keyRegistry.invalidateAll();
+			return;
+		}
+
+		Long keystoreId = Long.valueOf(key);
+		keystoreRegistry.invalidate(keystoreId);
+		keyRegistry.asMap().values().removeIf(keyHandles -> keystoreId.equals(keyHandles.keystoreId()));
+	}
+
+	private KeyHandles getKeyHandles(KeystorePair keystorePair)
+			throws UnrecoverableKeyException, KeyStoreException, NoSuchAlgorithmException {
+		KeystoreAliasEntity aliasEntity = keystorePair.getEntity();
+		KeyHandles keyHandles = keyRegistry.getIfPresent(aliasEntity.getId());
+
+		if (keyHandles == null) {
+			KeyStore keystore = keystorePair.getKeystore();
+			PrivateKey privateKey = (PrivateKey) keystore.getKey(aliasEntity.getAlias(),
+					aliasEntity.getAliasCredential().toCharArray());
+			PublicKey publicKey = keystore.getCertificate(aliasEntity.getAlias()).getPublicKey();
+
+			keyHandles = new KeyHandles(aliasEntity.getKeystoreId(), privateKey, publicKey);
+			keyRegistry.put(aliasEntity.getId(), keyHandles);
+		}
+
+		return keyHandles;
+	}
+
 	private KeystoreEntity getKeystoreEntity(Long keystoreId) {
 		return keystoreRepository.findById(keystoreId).orElseThrow(() -> new GmsException("Keystore entity not found!", GMS_003));
 	}
+
+	private record KeyHandles(Long keystoreId, PrivateKey privateKey, PublicKey publicKey) {
+	}
 }
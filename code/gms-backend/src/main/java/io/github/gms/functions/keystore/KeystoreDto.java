@@ -6,6 +6,7 @@ import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.KeystoreType;
 import io.github.gms.common.types.Sensitive;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -20,6 +21,7 @@ import static io.github.gms.common.util.Constants.DATE_FORMAT;
  * @since 1.0
  */
 @Data
+@NoArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class KeystoreDto implements Serializable {
 
@@ -38,4 +40,19 @@ public class KeystoreDto implements Serializable {
 	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATE_FORMAT)
 	private ZonedDateTime creationDate;
 	private List<KeystoreAliasDto> aliases = new ArrayList<>();
+
+	/**
+	 * Used by the list query, which does not load and decrypt the credential.
+	 */
+	public KeystoreDto(Long id, Long userId, EntityStatus status, String name, String fileName, KeystoreType type,
+					   String description, ZonedDateTime creationDate) {
+		this.id = id;
+		this.userId = userId;
+		this.status = status;
+		this.name = name;
+		this.fileName = fileName;
+		this.type = type;
+		this.description = description;
+		this.creationDate = creationDate;
+	}
 }
@@ -27,7 +27,10 @@ public interface KeystoreRepository extends CountableRepository<KeystoreEntity,
 	
 	Optional<KeystoreEntity> findByIdAndUserIdAndStatus(Long id, Long userId, EntityStatus status);
 	
-	Page<KeystoreEntity> findAllByUserId(Long userId, Pageable pagingRequest);
+	@Query(value = "select new io.github.gms.functions.keystore.KeystoreDto(k.id, k.userId, k.status, k.name, k.fileName, " +
+			"k.type, k.description, k.creationDate) from KeystoreEntity k where k.userId = :userId",
+			countQuery = "select count(k) from KeystoreEntity k where k.userId = :userId")
+	Page<KeystoreDto> findAllDtoByUserId(@Param(USER_ID) Long userId, Pageable pagingRequest);
 
 	@Query("select new io.github.gms.common.dto.IdNamePairDto(k.id,k.name) from KeystoreEntity k where k.status='ACTIVE' and k.userId = :userId")
 	List<IdNamePairDto> getAllKeystoreNames(@Param(USER_ID) Long userId);
@@ -8,20 +8,22 @@ import io.github.gms.common.dto.KeystoreBasicInfoDto;
 import io.github.gms.common.dto.LongValueDto;
 import io.github.gms.common.dto.SaveEntityResponseDto;
 import io.github.gms.common.enums.AliasOperation;
+import io.github.gms.common.enums.ApiCacheTag;
 import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.KeyStoreValueType;
+import io.github.gms.common.enums.UserCounterType;
 import io.github.gms.common.model.EntityChangeEvent;
+import io.github.gms.common.service.ApiCacheInvalidationService;
 import io.github.gms.common.service.CountService;
 import io.github.gms.common.service.CryptoService;
 import io.github.gms.common.service.FileService;
 import io.github.gms.common.types.GmsException;
+import io.github.gms.functions.home.UserCounterService;
 import io.github.gms.functions.secret.dto.GetSecureValueDto;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -50,11 +52,11 @@ import static java.util.Objects.requireNonNull;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@CacheConfig(cacheNames = { CACHE_API })
 public class KeystoreService implements AbstractCrudService<SaveKeystoreRequestDto, SaveEntityResponseDto, KeystoreDto, KeystoreListDto>, CountService,
 		BatchDeletionService {
 
 	private final CryptoService cryptoService;
+	private final KeystoreDataService keystoreDataService;
 	private final KeystoreRepository repository;
 	private final KeystoreAliasRepository aliasRepository;
 	private final KeystoreConverter converter;
@@ -62,6 +64,8 @@ public class KeystoreService implements AbstractCrudService<SaveKeystoreRequestD
 	private final ApplicationEventPublisher applicationEventPublisher;
 	private final KeystoreFileService keystoreFileService;
 	private final FileService fileService;
+	private final ApiCacheInvalidationService apiCacheInvalidationService;
+	private final UserCounterService userCounterService;
 	@Setter
 	@Value("${config.location.keystore.path}")
 	private String keystorePath;
@@ -70,7 +74,6 @@ public class KeystoreService implements AbstractCrudService<SaveKeystoreRequestD
 	private String keystoreTempPath;
 
 	@Transactional
-	@CacheEvict(cacheNames = { CACHE_API }, allEntries = true)
 	public SaveEntityResponseDto save(String model, MultipartFile file) {
 		SaveKeystoreRequestDto dto = parseInput(model);
 		dto.setUserId(getUserId());
@@ -78,6 +81,10 @@ public class KeystoreService implements AbstractCrudService<SaveKeystoreRequestD
 		// Validation
 		validateInput(dto, file);
 
+		// Secrets of an existing keystore have to be resolved before the aliases are changed
+		Set<String> cacheKeys = dto.getId() == null ? Set.of() :
+				apiCacheInvalidationService.getCacheKeys(ApiCacheTag.KEYSTORE, dto.getId());
+
 		// Prepare data to persist later
 		KeystoreEntity entity = convertKeystore(dto, file);
 
@@ -100,13 +107,15 @@ public class KeystoreService implements AbstractCrudService<SaveKeystoreRequestD
 		if (dto.getId() == null) {
 			// Persist file
 			persistFile(newEntity, fileContent, dto.isGenerated());
+			userCounterService.increment(newEntity.getUserId(), UserCounterType.KEYSTORE);
 		}
 
+		keystoreDataService.invalidate(newEntity.getId());
+		apiCacheInvalidationService.evict(cacheKeys);
 		return new SaveEntityResponseDto(newEntity.getId());
 	}
 
 	@Override
-	@CacheEvict(cacheNames = { CACHE_API }, allEntries = true)
 	public SaveEntityResponseDto save(SaveKeystoreRequestDto dto) {
 		throw new UnsupportedOperationException("Not supported!");
 	}
@@ -122,8 +131,8 @@ public class KeystoreService implements AbstractCrudService<SaveKeystoreRequestD
 	@Override
 	public KeystoreListDto list(Pageable pageable) {
 		try {
-			Page<KeystoreEntity> resultList = repository.findAllByUserId(getUserId(), pageable);
-			return converter.toDtoList(resultList);
+			Page<KeystoreDto> resultList = repository.findAllDtoByUserId(getUserId(), pageable);
+			return KeystoreListDto.builder().resultList(resultList.toList()).totalElements(resultList.getTotalElements()).build();
 		} catch (Exception e) {
 			return KeystoreListDto.builder().resultList(Collections.emptyList()).totalElements(0).build();
 		}
@@ -131,21 +140,25 @@ public class KeystoreService implements AbstractCrudService<SaveKeystoreRequestD
 
 	@Override
 	@Transactional
-	@CacheEvict(cacheNames = { CACHE_API }, allEntries = true)
 	public void delete(Long id) {
 		KeystoreEntity entity = getKeystore(id);
+		Set<String> cacheKeys = apiCacheInvalidationService.getCacheKeys(ApiCacheTag.KEYSTORE, id);
 		deleteFileById(id, entity.getUserId(), entity.getFileName(),true);
 
 		aliasRepository.deleteByKeystoreId(id);
 		repository.deleteById(id);
+		userCounterService.decrement(entity.getUserId(), UserCounterType.KEYSTORE);
+		keystoreDataService.invalidate(id);
+		apiCacheInvalidationService.evict(cacheKeys);
 	}
 
 	@Override
-	@CacheEvict(cacheNames = { CACHE_API }, allEntries = true)
 	public void toggleStatus(Long id, boolean enabled) {
 		KeystoreEntity entity = getKeystore(id);
 		entity.setStatus(enabled ? EntityStatus.ACTIVE : EntityStatus.DISABLED);
 		repository.save(entity);
+		keystoreDataService.invalidate(id);
+		apiCacheInvalidationService.evict(ApiCacheTag.KEYSTORE, id);
 
 		if (EntityStatus.DISABLED != entity.getStatus()) {
 			return;
@@ -200,6 +213,7 @@ public class KeystoreService implements AbstractCrudService<SaveKeystoreRequestD
 			deleteFileById(entity.getId(), entity.getUserId(), entity.getFilename(), false);
 			aliasRepository.deleteByKeystoreId(entity.getId());
 			repository.deleteById(entity.getId());
+			keystoreDataService.invalidate(entity.getId());
 		});
 
 		log.info("All keystore entities and files have been removed for the requested users");
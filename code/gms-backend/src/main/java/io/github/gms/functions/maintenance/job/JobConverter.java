@@ -28,6 +28,7 @@ public class JobConverter implements GmsConverter<JobListDto, JobEntity> {
                 .startTime(entity.getStartTime())
                 .endTime(entity.getEndTime())
                 .duration(entity.getDuration())
+                .processedCount(entity.getProcessedCount())
                 .status(entity.getStatus())
                 .message(entity.getMessage())
                 .build();
@@ -23,6 +23,7 @@ public class JobDto {
     private ZonedDateTime startTime;
     private ZonedDateTime endTime;
     private Long duration;
+    private Long processedCount;
     private JobStatus status;
     private String message;
 }
@@ -49,6 +49,9 @@ public class JobEntity extends AbstractGmsEntity {
     @Column(name = "duration")
     private Long duration;
 
+    @Column(name = "processed_count")
+    private Long processedCount;
+
     @Column(name = "status")
     @Enumerated(EnumType.STRING)
     private JobStatus status;
@@ -0,0 +1,36 @@
+package io.github.gms.functions.maintenance.job;
+
+import io.github.gms.common.abstraction.AbstractGmsEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.io.Serial;
+import java.time.ZonedDateTime;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Data
+@Entity
+@Table(name = "gms_job_lease")
+@EqualsAndHashCode(callSuper = false)
+public class JobLeaseEntity extends AbstractGmsEntity {
+
+    @Serial
+    private static final long serialVersionUID = 4386305170913728761L;
+
+    @Id
+    @Column(name = "job_name")
+    private String jobName;
+
+    @Column(name = "owner_id")
+    private String ownerId;
+
+    @Column(name = "expires_at")
+    private ZonedDateTime expiresAt;
+}
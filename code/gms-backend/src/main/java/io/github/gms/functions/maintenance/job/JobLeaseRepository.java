@@ -0,0 +1,41 @@
+package io.github.gms.functions.maintenance.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLeaseEntity, String> {
+
+    @Modifying
+    @Transactional
+    @Query("update JobLeaseEntity l set l.ownerId = :ownerId, l.expiresAt = :expiresAt where l.jobName = :jobName " +
+            "and (l.ownerId = :ownerId or l.expiresAt < :now)")
+    int acquire(@Param("jobName") String jobName, @Param("ownerId") String ownerId,
+                @Param("expiresAt") ZonedDateTime expiresAt, @Param("now") ZonedDateTime now);
+
+    // Plain insert instead of save(), because merging an entity with an assigned ID could overwrite a concurrently created lease
+    @Modifying
+    @Transactional
+    @Query(value = "insert into gms_job_lease (job_name, owner_id, expires_at) values (:jobName, :ownerId, :expiresAt)", nativeQuery = true)
+    int create(@Param("jobName") String jobName, @Param("ownerId") String ownerId, @Param("expiresAt") ZonedDateTime expiresAt);
+
+    @Modifying
+    @Transactional
+    @Query("update JobLeaseEntity l set l.expiresAt = :expiresAt where l.ownerId = :ownerId")
+    int renewAll(@Param("ownerId") String ownerId, @Param("expiresAt") ZonedDateTime expiresAt);
+
+    @Modifying
+    @Transactional
+    @Query("delete from JobLeaseEntity l where l.ownerId = :ownerId")
+    int releaseAll(@Param("ownerId") String ownerId);
+}
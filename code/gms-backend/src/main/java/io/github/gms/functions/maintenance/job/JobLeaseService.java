@@ -0,0 +1,141 @@
+package io.github.gms.functions.maintenance.job;
+
+import io.github.gms.common.model.JobShard;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Coordinates job execution between the nodes of a multi-node deployment through the database.
+ * <p>
+ * A job is executed by the node holding its lease. The lease is taken over by another node only when it
+ * has expired, and the holder keeps extending it with a heartbeat, so leadership moves to another node
+ * only when the current leader stops. Shardable jobs are executed by every live node instead, and each
+ * node processes only its own share of the records. Live nodes are the ones with a recent heartbeat.
+ * <p>
+ * A node takes part in the coordination only after the first job has asked for a lease or a shard.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class JobLeaseService {
+
+    private static final int DEAD_NODE_RETENTION_FACTOR = 10;
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final JobNodeRepository jobNodeRepository;
+    private final Clock clock;
+    private final Duration leaseTtl;
+    @Getter
+    private final String nodeId;
+    private volatile boolean registered;
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository,
+                           JobNodeRepository jobNodeRepository,
+                           Clock clock,
+                           @Value("${config.job.lease.ttlSeconds:30}") long leaseTtlSeconds,
+                           @Value("${config.job.lease.nodeId:}") String nodeId) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.jobNodeRepository = jobNodeRepository;
+        this.clock = clock;
+        this.leaseTtl = Duration.ofSeconds(leaseTtlSeconds);
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+    }
+
+    /**
+     * @return True, if the current node holds the lease of the given job
+     */
+    public boolean tryAcquire(String jobName) {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        registerNode(now);
+
+        ZonedDateTime expiresAt = now.plus(leaseTtl);
+        if (jobLeaseRepository.acquire(jobName, nodeId, expiresAt, now) > 0) {
+            return true;
+        }
+
+        if (jobLeaseRepository.existsById(jobName)) {
+            return false;
+        }
+
+        try {
+            return jobLeaseRepository.create(jobName, nodeId, expiresAt) > 0;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Lease of job={} has been created by another node", jobName);
+            return false;
+        }
+    }
+
+    /**
+     * @return The share of the current node among the live nodes
+     */
+    public JobShard getShard() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        registerNode(now);
+
+        List<String> aliveNodeIds = jobNodeRepository.findAllAliveNodeIds(now.minus(leaseTtl));
+        int index = aliveNodeIds.indexOf(nodeId);
+        return index < 0 ? JobShard.SINGLE : new JobShard(index, aliveNodeIds.size());
+    }
+
+    @Scheduled(fixedDelayString = "${config.job.lease.heartbeatMillis:10000}")
+    public void heartbeat() {
+        if (!registered) {
+            return;
+        }
+
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        touchNode(now);
+        jobLeaseRepository.renewAll(nodeId, now.plus(leaseTtl));
+        jobNodeRepository.deleteAllDead(now.minus(leaseTtl.multipliedBy(DEAD_NODE_RETENTION_FACTOR)));
+    }
+
+    @PreDestroy
+    public void release() {
+        if (!registered) {
+            return;
+        }
+
+        registered = false;
+
+        try {
+            jobLeaseRepository.releaseAll(nodeId);
+            jobNodeRepository.deleteById(nodeId);
+            log.info("Job leases of node={} have been released", nodeId);
+        } catch (DataAccessException e) {
+            log.warn("Job leases of node={} could not be released: {}", nodeId, e.getMessage());
+        }
+    }
+
+    private void registerNode(ZonedDateTime now) {
+        touchNode(now);
+        registered = true;
+    }
+
+    private void touchNode(ZonedDateTime now) {
+        if (jobNodeRepository.heartbeat(nodeId, now) > 0) {
+            return;
+        }
+
+        try {
+            jobNodeRepository.create(nodeId, now);
+        } catch (DataIntegrityViolationException e) {
+            // The node row has been created by a concurrent heartbeat of the same node
+            jobNodeRepository.heartbeat(nodeId, now);
+        }
+    }
+}
@@ -24,4 +24,5 @@ public class JobListDto implements Serializable {
 
     private List<JobDto> resultList;
     private long totalElements;
+    private String nextCursor;
 }
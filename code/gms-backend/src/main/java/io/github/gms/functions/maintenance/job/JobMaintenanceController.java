@@ -2,6 +2,7 @@ package io.github.gms.functions.maintenance.job;
 
 import io.github.gms.common.abstraction.GmsController;
 import io.github.gms.common.util.ConverterUtils;
+import io.github.gms.common.util.KeysetPagingUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,6 +10,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Set;
+
 import static io.github.gms.common.util.Constants.*;
 
 /**
@@ -20,6 +23,9 @@ import static io.github.gms.common.util.Constants.*;
 @RequestMapping("/secure/job")
 public class JobMaintenanceController implements GmsController {
 
+    // Properties of the NOT NULL columns, nullable ones cannot be used as keyset
+    private static final Set<String> KEYSET_PROPERTIES = Set.of("name", "status", "creationDate", "startTime");
+
     private final JobMaintenanceService service;
 
     @GetMapping(PATH_LIST)
@@ -27,8 +33,14 @@ public class JobMaintenanceController implements GmsController {
     public JobListDto list(
             @RequestParam(DIRECTION) String direction,
             @RequestParam(PROPERTY) String property,
-            @RequestParam(PAGE) int page,
-            @RequestParam(SIZE) int size) {
+            @RequestParam(value = PAGE, defaultValue = "0") int page,
+            @RequestParam(SIZE) int size,
+            @RequestParam(value = CURSOR, required = false) String cursor,
+            @RequestParam(value = WITH_COUNT, defaultValue = "false") boolean withCount) {
+        if (cursor != null) {
+            return service.list(KeysetPagingUtils.createKeysetPageRequest(direction, property, size, cursor, withCount, JobEntity.class, KEYSET_PROPERTIES));
+        }
+
         return service.list(ConverterUtils.createPageable(direction, property, page, size));
     }
 }
@@ -1,9 +1,15 @@
 package io.github.gms.functions.maintenance.job;
 
+import io.github.gms.common.model.KeysetPageRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
+import static io.github.gms.common.util.KeysetPagingUtils.TOTAL_NOT_COUNTED;
+import static io.github.gms.common.util.KeysetPagingUtils.toCursor;
+import static io.github.gms.common.util.KeysetPagingUtils.toPage;
+
 /**
  * @author Peter Szrnka
  * @since 1.0
@@ -18,4 +24,11 @@ public class JobMaintenanceService {
     public JobListDto list(Pageable pageable) {
         return converter.toDtoList(repository.findAll(pageable));
     }
+
+    public JobListDto list(KeysetPageRequest request) {
+        Window<JobEntity> window = repository.findAllBy(request.position(), request.sort(), request.limit());
+        JobListDto response = converter.toDtoList(toPage(window, request.withCount() ? repository.count() : TOTAL_NOT_COUNTED));
+        response.setNextCursor(toCursor(window, request.sort()));
+        return response;
+    }
 }
@@ -0,0 +1,33 @@
+package io.github.gms.functions.maintenance.job;
+
+import io.github.gms.common.abstraction.AbstractGmsEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.io.Serial;
+import java.time.ZonedDateTime;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Data
+@Entity
+@Table(name = "gms_job_node")
+@EqualsAndHashCode(callSuper = false)
+public class JobNodeEntity extends AbstractGmsEntity {
+
+    @Serial
+    private static final long serialVersionUID = -2264725907614377452L;
+
+    @Id
+    @Column(name = "node_id")
+    private String nodeId;
+
+    @Column(name = "last_heartbeat")
+    private ZonedDateTime lastHeartbeat;
+}
@@ -0,0 +1,37 @@
+package io.github.gms.functions.maintenance.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Repository
+public interface JobNodeRepository extends JpaRepository<JobNodeEntity, String> {
+
+    @Modifying
+    @Transactional
+    @Query("update JobNodeEntity n set n.lastHeartbeat = :lastHeartbeat where n.nodeId = :nodeId")
+    int heartbeat(@Param("nodeId") String nodeId, @Param("lastHeartbeat") ZonedDateTime lastHeartbeat);
+
+    @Modifying
+    @Transactional
+    @Query(value = "insert into gms_job_node (node_id, last_heartbeat) values (:nodeId, :lastHeartbeat)", nativeQuery = true)
+    int create(@Param("nodeId") String nodeId, @Param("lastHeartbeat") ZonedDateTime lastHeartbeat);
+
+    @Query("select n.nodeId from JobNodeEntity n where n.lastHeartbeat >= :aliveAfter order by n.nodeId")
+    List<String> findAllAliveNodeIds(@Param("aliveAfter") ZonedDateTime aliveAfter);
+
+    @Modifying
+    @Transactional
+    @Query("delete from JobNodeEntity n where n.lastHeartbeat < :aliveAfter")
+    int deleteAllDead(@Param("aliveAfter") ZonedDateTime aliveAfter);
+}
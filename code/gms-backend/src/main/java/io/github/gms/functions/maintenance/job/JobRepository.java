@@ -1,9 +1,16 @@
 package io.github.gms.functions.maintenance.job;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -15,6 +22,13 @@ import java.util.List;
 @Repository
 public interface JobRepository extends JpaRepository<JobEntity, Long> {
 
-    @Query("select j from JobEntity j where j.endTime < :endTime") //
-    List<JobEntity> findAllOld(@Param("endTime") ZonedDateTime endTime);
+    @Query("select j.id from JobEntity j where j.endTime < :endTime and j.id > :lastId order by j.id")
+    List<Long> findAllExpiredIds(@Param("endTime") ZonedDateTime endTime, @Param("lastId") Long lastId, Pageable pageable);
+
+    Window<JobEntity> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    @Modifying
+    @Transactional
+    @Query("update JobEntity j set j.processedCount = :processedCount where j.id = :id")
+    void updateProcessedCount(@Param("id") Long id, @Param("processedCount") Long processedCount);
 }
@@ -2,6 +2,7 @@ package io.github.gms.functions.maintenance.user;
 
 import io.github.gms.functions.apikey.ApiKeyService;
 import io.github.gms.functions.event.EventService;
+import io.github.gms.functions.home.UserCounterService;
 import io.github.gms.functions.iprestriction.IpRestrictionService;
 import io.github.gms.functions.keystore.KeystoreService;
 import io.github.gms.functions.message.MessageService;
@@ -29,6 +30,7 @@ public class UserAssetDeletionService {
     private final SecretService secretService;
     private final MessageService messageService;
     private final EventService eventService;
+    private final UserCounterService userCounterService;
 
     public void executeRequestedUserAssetDeletion(Set<Long> userIds) {
         apiKeyService.batchDeleteByUserIds(userIds);
@@ -38,5 +40,6 @@ public class UserAssetDeletionService {
         secretService.batchDeleteByUserIds(userIds);
         messageService.batchDeleteByUserIds(userIds);
         eventService.batchDeleteByUserIds(userIds);
+        userCounterService.batchDeleteByUserIds(userIds);
     }
 }
@@ -5,6 +5,7 @@ import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.model.UserMaintenanceConfig;
 import io.github.gms.functions.user.UserRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.Set;
@@ -17,8 +18,8 @@ import java.util.Set;
 @Service
 public class UserDeletionService extends UserMaintenanceService {
 
-    public UserDeletionService(UserRepository userRepository) {
-        super(userRepository, new UserMaintenanceConfig("deletion", EntityStatus.DELETE_REQUESTED));
+    public UserDeletionService(UserRepository userRepository, ApplicationEventPublisher applicationEventPublisher) {
+        super(userRepository, new UserMaintenanceConfig("deletion", EntityStatus.DELETE_REQUESTED), applicationEventPublisher);
     }
 
     @Override
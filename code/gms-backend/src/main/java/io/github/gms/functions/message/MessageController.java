@@ -4,12 +4,15 @@ import io.github.gms.common.abstraction.GmsController;
 import io.github.gms.common.dto.IdListDto;
 import io.github.gms.common.dto.LongValueDto;
 import io.github.gms.common.util.ConverterUtils;
+import io.github.gms.common.util.KeysetPagingUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
+
 import static io.github.gms.common.util.Constants.*;
 
 /**
@@ -21,6 +24,9 @@ import static io.github.gms.common.util.Constants.*;
 @RequestMapping("/secure/message")
 public class MessageController implements GmsController {
 
+	// Properties of the NOT NULL columns, nullable ones cannot be used as keyset
+	private static final Set<String> KEYSET_PROPERTIES = Set.of("userId", "opened", "creationDate");
+
 	private final MessageService service;
 
 	@GetMapping(PATH_LIST)
@@ -28,8 +34,14 @@ public class MessageController implements GmsController {
 	public MessageListDto list(
 			@RequestParam(DIRECTION) String direction,
 			@RequestParam(PROPERTY) String property,
-			@RequestParam(PAGE) int page,
-			@RequestParam(SIZE) int size) {
+			@RequestParam(value = PAGE, defaultValue = "0") int page,
+			@RequestParam(SIZE) int size,
+			@RequestParam(value = CURSOR, required = false) String cursor,
+			@RequestParam(value = WITH_COUNT, defaultValue = "false") boolean withCount) {
+		if (cursor != null) {
+			return service.list(KeysetPagingUtils.createKeysetPageRequest(direction, property, size, cursor, withCount, MessageEntity.class, KEYSET_PROPERTIES));
+		}
+
 		return service.list(ConverterUtils.createPageable(direction, property, page, size));
 	}
 	
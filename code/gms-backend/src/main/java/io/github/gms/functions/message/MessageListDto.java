@@ -23,4 +23,5 @@ public class MessageListDto implements Serializable {
 	private static final long serialVersionUID = -6739157804075769220L;
 	private List<MessageDto> resultList;
 	private long totalElements;
+	private String nextCursor;
 }
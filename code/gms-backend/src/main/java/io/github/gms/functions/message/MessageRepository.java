@@ -1,7 +1,11 @@
 package io.github.gms.functions.message;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +14,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Set;
 
 import static io.github.gms.common.util.Constants.USER_ID;
@@ -22,6 +27,10 @@ import static io.github.gms.common.util.Constants.USER_ID;
 public interface MessageRepository extends JpaRepository<MessageEntity, Long> {
 	
 	Page<MessageEntity> findAllByUserId(Long userId, Pageable pageable);
+
+	Window<MessageEntity> findAllByUserId(Long userId, ScrollPosition position, Sort sort, Limit limit);
+
+	long countByUserId(Long userId);
 	
 	@Query("select count(m) from MessageEntity m where m.opened = false and m.userId = :userId")
 	Long countAllUnreadByUserId(@Param(USER_ID) Long id);
@@ -31,10 +40,8 @@ public interface MessageRepository extends JpaRepository<MessageEntity, Long> {
 	@Query("update MessageEntity m set m.opened=:opened where m.userId = :userId and m.id in :messageIds")
 	void markAsRead(@Param(USER_ID) Long userId, @Param("messageIds") Set<Long> messageIds, @Param("opened") boolean opened);
 
-	@Modifying
-	@Transactional
-	@Query("delete from MessageEntity m where m.creationDate < :eventDate")
-	int deleteAllEventDateOlderThan(@Param("eventDate") ZonedDateTime eventDate);
+	@Query("select m.id from MessageEntity m where m.creationDate < :creationDate and m.id > :lastId order by m.id")
+	List<Long> findAllExpiredIds(@Param("creationDate") ZonedDateTime creationDate, @Param("lastId") Long lastId, Pageable pageable);
 
 	@Modifying
 	@Transactional
@@ -3,6 +3,7 @@ package io.github.gms.functions.message;
 import io.github.gms.common.abstraction.BatchDeletionService;
 import io.github.gms.common.dto.IdListDto;
 import io.github.gms.common.dto.SaveEntityResponseDto;
+import io.github.gms.common.model.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
 
 /**
@@ -14,6 +15,8 @@ public interface MessageService extends BatchDeletionService {
 	SaveEntityResponseDto save(MessageDto dto);
 
 	MessageListDto list(Pageable pageable);
+
+	MessageListDto list(KeysetPageRequest request);
 	
 	long getUnreadMessagesCount();
 
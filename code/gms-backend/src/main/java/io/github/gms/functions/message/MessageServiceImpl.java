@@ -2,10 +2,12 @@ package io.github.gms.functions.message;
 
 import io.github.gms.common.dto.IdListDto;
 import io.github.gms.common.dto.SaveEntityResponseDto;
+import io.github.gms.common.model.KeysetPageRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
@@ -13,6 +15,9 @@ import java.time.Clock;
 import java.time.ZonedDateTime;
 import java.util.Set;
 
+import static io.github.gms.common.util.KeysetPagingUtils.TOTAL_NOT_COUNTED;
+import static io.github.gms.common.util.KeysetPagingUtils.toCursor;
+import static io.github.gms.common.util.KeysetPagingUtils.toPage;
 import static io.github.gms.common.util.MdcUtils.getUserId;
 
 /**
@@ -47,6 +52,15 @@ public class MessageServiceImpl implements MessageService {
 		return converter.toDtoList(resultList);
 	}
 
+	@Override
+	public MessageListDto list(KeysetPageRequest request) {
+		Long userId = getUserId();
+		Window<MessageEntity> window = repository.findAllByUserId(userId, request.position(), request.sort(), request.limit());
+		MessageListDto response = converter.toDtoList(toPage(window, request.withCount() ? repository.countByUserId(userId) : TOTAL_NOT_COUNTED));
+		response.setNextCursor(toCursor(window, request.sort()));
+		return response;
+	}
+
 	@Override
 	public long getUnreadMessagesCount() {
 		return repository.countAllUnreadByUserId(getUserId());
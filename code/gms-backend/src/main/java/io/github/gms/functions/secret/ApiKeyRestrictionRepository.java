@@ -17,8 +17,12 @@ import java.util.Set;
 @Repository
 public interface ApiKeyRestrictionRepository extends JpaRepository<ApiKeyRestrictionEntity, Long> {
 
+	List<ApiKeyRestrictionEntity> findAllByUserId(Long userId);
+
 	List<ApiKeyRestrictionEntity> findAllByUserIdAndSecretId(Long userId, Long secretId);
 
+	List<ApiKeyRestrictionEntity> findAllByUserIdAndSecretIdIn(Long userId, Set<Long> secretIds);
+
 	@Transactional
 	void deleteByUserIdAndSecretIdAndApiKeyId(Long userId, Long secretId, Long apiKeyId);
 
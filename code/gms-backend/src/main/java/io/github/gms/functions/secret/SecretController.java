@@ -8,6 +8,7 @@ import io.github.gms.common.enums.EventTarget;
 import io.github.gms.common.types.AuditTarget;
 import io.github.gms.common.types.Audited;
 import io.github.gms.common.util.ConverterUtils;
+import io.github.gms.common.util.KeysetPagingUtils;
 import io.github.gms.functions.secret.dto.SaveSecretRequestDto;
 import io.github.gms.functions.secret.dto.SecretDto;
 import io.github.gms.functions.secret.dto.SecretListDto;
@@ -17,6 +18,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
+
 import static io.github.gms.common.util.Constants.*;
 
 /**
@@ -28,6 +31,10 @@ import static io.github.gms.common.util.Constants.*;
 @AuditTarget(EventTarget.SECRET)
 public class SecretController extends AbstractClientController<SecretService> {
 
+	// Properties of the NOT NULL columns, nullable ones cannot be used as keyset
+	private static final Set<String> KEYSET_PROPERTIES = Set.of("userId", "keystoreAliasId", "secretId", "type", "creationDate",
+			"lastUpdated", "lastRotated", "rotationPeriod", "returnDecrypted", "rotationEnabled");
+
 	private final SecretRotationService secretRotationService;
 	private final SecretLengthValidatorService secretLengthValidatorService;
 
@@ -55,8 +62,14 @@ public class SecretController extends AbstractClientController<SecretService> {
 	public SecretListDto list(
 			@RequestParam(DIRECTION) String direction,
 			@RequestParam(PROPERTY) String property,
-			@RequestParam(PAGE) int page,
-			@RequestParam(SIZE) int size) {
+			@RequestParam(value = PAGE, defaultValue = "0") int page,
+			@RequestParam(SIZE) int size,
+			@RequestParam(value = CURSOR, required = false) String cursor,
+			@RequestParam(value = WITH_COUNT, defaultValue = "false") boolean withCount) {
+		if (cursor != null) {
+			return service.list(KeysetPagingUtils.createKeysetPageRequest(direction, property, size, cursor, withCount, SecretEntity.class, KEYSET_PROPERTIES));
+		}
+
 		return service.list(ConverterUtils.createPageable(direction, property, page, size));
 	}
 	
@@ -5,6 +5,7 @@ import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.functions.secret.dto.SaveSecretRequestDto;
 import io.github.gms.functions.secret.dto.SecretDto;
 import io.github.gms.functions.secret.dto.SecretListDto;
+import io.github.gms.functions.secret.dto.SecretListItem;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
@@ -45,6 +46,10 @@ public class SecretConverter implements GmsConverter<SecretListDto, SecretEntity
 			entity.setStatus(dto.getStatus());
 		}
 
+		if (entity.getRotationPeriod() != null && entity.getLastRotated() != null) {
+			entity.setNextRotationAt(entity.getRotationPeriod().next(entity.getLastRotated()));
+		}
+
 		return entity;
 	}
 
@@ -58,6 +63,11 @@ public class SecretConverter implements GmsConverter<SecretListDto, SecretEntity
 		entity.setLastUpdated(ZonedDateTime.now(clock));
 		entity.setLastRotated(ZonedDateTime.now(clock));
 		entity.setRotationPeriod(dto.getRotationPeriod());
+
+		if (dto.getRotationPeriod() != null) {
+			entity.setNextRotationAt(dto.getRotationPeriod().next(entity.getLastRotated()));
+		}
+
 		entity.setReturnDecrypted(dto.isReturnDecrypted());
 		entity.setRotationEnabled(dto.isRotationEnabled());
 		entity.setStatus(EntityStatus.ACTIVE);
@@ -87,4 +97,12 @@ public class SecretConverter implements GmsConverter<SecretListDto, SecretEntity
 		List<SecretDto> results = resultList.toList().stream().map(this::toDto).toList();
 		return SecretListDto.builder().resultList(results).totalElements(resultList.getTotalElements()).build();
 	}
+
+	public SecretListDto toListItemDtoList(List<SecretListItem> resultList, long totalElements) {
+		List<SecretDto> results = resultList.stream().map(item -> new SecretDto(item.getId(), item.getUserId(),
+				item.getKeystoreAliasId(), item.getSecretId(), item.getStatus(), item.getType(), item.getCreationDate(),
+				item.getLastUpdated(), item.getLastRotated(), item.getRotationPeriod(), item.isReturnDecrypted(),
+				item.isRotationEnabled())).toList();
+		return SecretListDto.builder().resultList(results).totalElements(totalElements).build();
+	}
 }
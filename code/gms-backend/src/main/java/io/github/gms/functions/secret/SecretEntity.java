@@ -67,6 +67,9 @@ public class SecretEntity extends AbstractGmsEntity {
 
 	@Column(name = "last_rotated")
 	private ZonedDateTime lastRotated;
+
+	@Column(name = "next_rotation_at")
+	private ZonedDateTime nextRotationAt;
 	
 	@Column(name = "rotation_period")
 	@Enumerated(EnumType.STRING)
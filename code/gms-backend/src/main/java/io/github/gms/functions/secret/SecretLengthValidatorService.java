@@ -53,7 +53,8 @@ public class SecretLengthValidatorService {
                     .build());
 
             log.info("Input value size: {}", dto.getValue().length());
-            String encryptedValue = cryptoService.encrypt(dto.getValue(), new KeystorePair(keystoreAliasEntity, keystore));
+            String encryptedValue = cryptoService.encrypt(dto.getValue(), dto.isReturnDecrypted(),
+                    new KeystorePair(keystoreAliasEntity, keystore));
 
             log.info("Encrypted secret value size: {}", encryptedValue.length());
             return new BooleanValueDto(true);
@@ -1,9 +1,16 @@
 package io.github.gms.functions.secret;
 
 import io.github.gms.common.abstraction.CountableRepository;
+import io.github.gms.common.dto.IdNamePairDto;
 import io.github.gms.common.enums.EntityStatus;
+import io.github.gms.functions.secret.dto.SecretDto;
+import io.github.gms.functions.secret.dto.SecretListItem;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,6 +22,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import static io.github.gms.common.util.Constants.USER_ID;
+
 /**
  * @author Peter Szrnka
  * @since 1.0
@@ -24,12 +33,24 @@ public interface SecretRepository extends CountableRepository<SecretEntity, Long
 
 	Optional<SecretEntity> findByUserIdAndSecretIdAndStatus(Long userId, String secretId, EntityStatus status);
 
-	@Query("select s from SecretEntity s where (s.lastRotated is null or s.lastRotated <= ?1) and s.rotationEnabled = true and s.status=io.github.gms.common.enums.EntityStatus.ACTIVE") // 
-	List<SecretEntity> findAllOldRotated(ZonedDateTime input);
+	List<SecretEntity> findAllByUserIdAndSecretIdInAndStatus(Long userId, Set<String> secretIds, EntityStatus status);
+
+	@Query("select s from SecretEntity s where s.id > :lastId and s.nextRotationAt <= :now " +
+			"and s.rotationEnabled = true and s.status=io.github.gms.common.enums.EntityStatus.ACTIVE " +
+			"and mod(s.id, :shardCount) = :shardIndex order by s.id")
+	List<SecretEntity> findAllDueForRotation(@Param("now") ZonedDateTime now, @Param("lastId") Long lastId,
+											 @Param("shardCount") int shardCount, @Param("shardIndex") int shardIndex,
+											 Pageable pageable);
 	
 	Optional<SecretEntity> findByIdAndUserId(Long id, Long userId);
 	
-	Page<SecretEntity> findAllByUserId(Long userId, Pageable pagingRequest);
+	@Query(value = "select new io.github.gms.functions.secret.dto.SecretDto(s.id, s.userId, s.keystoreAliasId, s.secretId, " +
+			"s.status, s.type, s.creationDate, s.lastUpdated, s.lastRotated, s.rotationPeriod, s.returnDecrypted, s.rotationEnabled) " +
+			"from SecretEntity s where s.userId = :userId",
+			countQuery = "select count(s) from SecretEntity s where s.userId = :userId")
+	Page<SecretDto> findAllDtoByUserId(@Param(USER_ID) Long userId, Pageable pagingRequest);
+
+	Window<SecretListItem> findAllByUserId(Long userId, ScrollPosition position, Sort sort, Limit limit);
 
 	@Modifying
 	@Query("update SecretEntity s set s.status=io.github.gms.common.enums.EntityStatus.DISABLED where s.status != io.github.gms.common.enums.EntityStatus.DISABLED and s.keystoreAliasId = :keystoreAliasId")
@@ -37,6 +58,35 @@ public interface SecretRepository extends CountableRepository<SecretEntity, Long
 
 	long countAllSecretsByUserIdAndSecretId(Long userId, String secretId);
 
+	@Query("select new io.github.gms.common.dto.IdNamePairDto(s.userId, s.secretId) from SecretEntity s where s.userId = :userId")
+	List<IdNamePairDto> findAllUserSecretIdByUserId(@Param(USER_ID) Long userId);
+
+	@Query("select new io.github.gms.common.dto.IdNamePairDto(s.id, s.secretId) from SecretEntity s where s.userId = :userId " +
+			"and s.status = io.github.gms.common.enums.EntityStatus.ACTIVE")
+	List<IdNamePairDto> findAllActiveSecretIdByUserId(@Param(USER_ID) Long userId);
+
+	@Query("select new io.github.gms.common.dto.IdNamePairDto(s.userId, s.secretId) from SecretEntity s " +
+			"where s.keystoreAliasId = :keystoreAliasId")
+	List<IdNamePairDto> findAllUserSecretIdByKeystoreAliasId(@Param("keystoreAliasId") Long keystoreAliasId);
+
+	@Query("select new io.github.gms.common.dto.IdNamePairDto(s.userId, s.secretId) from SecretEntity s " +
+			"where s.keystoreAliasId in (select a.id from KeystoreAliasEntity a where a.keystoreId = :keystoreId)")
+	List<IdNamePairDto> findAllUserSecretIdByKeystoreId(@Param("keystoreId") Long keystoreId);
+
+	@Query("select new io.github.gms.common.dto.IdNamePairDto(s.userId, s.secretId) from SecretEntity s " +
+			"where s.id in (select r.secretId from ApiKeyRestrictionEntity r where r.apiKeyId = :apiKeyId)")
+	List<IdNamePairDto> findAllUserSecretIdByApiKeyId(@Param("apiKeyId") Long apiKeyId);
+
+	@Modifying
+	@Transactional
+	@Query("update SecretEntity s set s.value = :newValue where s.id = :id and s.value = :oldValue")
+	int updateValue(@Param("id") Long id, @Param("oldValue") String oldValue, @Param("newValue") String newValue);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM SecretEntity s where s.id = :id and s.userId = :userId")
+	int deleteByIdAndUserId(@Param("id") Long id, @Param(USER_ID) Long userId);
+
 	@Modifying
 	@Transactional
 	@Query("DELETE FROM SecretEntity s where s.userId in :userIds")
@@ -0,0 +1,12 @@
+package io.github.gms.functions.secret;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ *
+ * @param lastId ID of the last processed candidate, the next page starts after it
+ * @param hasMore True, if the page was full and further candidates may exist
+ * @param updated Number of rotated or disabled secrets
+ */
+public record SecretRotationResult(Long lastId, boolean hasMore, int updated) {
+}
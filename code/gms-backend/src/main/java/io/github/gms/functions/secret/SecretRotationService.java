@@ -1,52 +1,143 @@
 package io.github.gms.functions.secret;
 
 import io.github.gms.common.enums.EntityStatus;
+import io.github.gms.common.model.JobShard;
+import io.github.gms.common.model.KeystorePair;
 import io.github.gms.common.service.CryptoService;
 import io.github.gms.common.types.GmsException;
-import lombok.RequiredArgsConstructor;
+import io.github.gms.functions.keystore.KeystoreDataService;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import static io.github.gms.common.types.ErrorCode.GMS_002;
 
 /**
+ * Scheduled rotation processes the secrets whose next_rotation_at is due, page by page. The secrets of a page are grouped by keystore alias,
+ * so the key material is loaded only once per group, then decrypted and re-encrypted in parallel on the
+ * secretRotationExecutor. Changes are flushed when the transaction of the page is committed, which lets
+ * Hibernate send the updates in JDBC batches.
+ *
  * @author Peter Szrnka
  * @since 1.0
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SecretRotationService {
 
 	private final Clock clock;
 	private final SecretRepository secretRepository;
 	private final CryptoService cryptoService;
+	private final KeystoreDataService keystoreDataService;
+	private final TaskExecutor secretRotationExecutor;
+	private final int pageSize;
 
-	@Async("secretRotationExecutor")
-	public void rotateSecret(SecretEntity secretEntity) {
-		rotateSecretEntity(secretEntity);
+	public SecretRotationService(Clock clock,
+								 SecretRepository secretRepository,
+								 CryptoService cryptoService,
+								 KeystoreDataService keystoreDataService,
+								 @Qualifier("secretRotationExecutor") TaskExecutor secretRotationExecutor,
+								 @Value("${config.secretRotation.pageSize:500}") int pageSize) {
+		this.clock = clock;
+		this.secretRepository = secretRepository;
+		this.cryptoService = cryptoService;
+		this.keystoreDataService = keystoreDataService;
+		this.secretRotationExecutor = secretRotationExecutor;
+		this.pageSize = pageSize;
+	}
+
+	@Transactional
+	public SecretRotationResult rotateNextPage(ZonedDateTime now, Long lastId, JobShard shard) {
+		List<SecretEntity> candidates = secretRepository.findAllDueForRotation(now, lastId, shard.count(), shard.index(),
+				PageRequest.ofSize(pageSize));
+
+		if (candidates.isEmpty()) {
+			return new SecretRotationResult(lastId, false, 0);
+		}
+
+		List<SecretEntity> dueSecrets = new ArrayList<>(candidates.size());
+		candidates.forEach(secretEntity -> {
+			if (isDue(secretEntity, now)) {
+				dueSecrets.add(secretEntity);
+			} else {
+				// Rows migrated with next_rotation_at = last_rotated only need their due date to be corrected
+				secretEntity.setNextRotationAt(secretEntity.getRotationPeriod().next(secretEntity.getLastRotated()));
+			}
+		});
+
+		Map<Long, List<SecretEntity>> secretsByAlias = dueSecrets.stream()
+				.collect(Collectors.groupingBy(SecretEntity::getKeystoreAliasId));
+
+		List<CompletableFuture<Void>> tasks = new ArrayList<>(dueSecrets.size());
+		secretsByAlias.forEach((keystoreAliasId, secrets) -> {
+			KeystorePair keystorePair = getKeystoreData(keystoreAliasId, secrets.size());
+			secrets.forEach(secretEntity -> tasks.add(CompletableFuture.runAsync(
+					() -> rotateSecretEntity(secretEntity, keystorePair, now), secretRotationExecutor)));
+		});
+		CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+
+		secretRepository.saveAll(candidates);
+		return new SecretRotationResult(candidates.getLast().getId(), candidates.size() == pageSize, dueSecrets.size());
 	}
 
 	public void rotateSecretById(Long id) {
 		log.info("Rotate secret={}", id);
 		SecretEntity entity = secretRepository.findById(id).orElseThrow(() -> new GmsException("Secret not found!", GMS_002));
-		rotateSecretEntity(entity);
+		rotateSecretEntity(entity, getKeystoreData(entity.getKeystoreAliasId(), 1), ZonedDateTime.now(clock));
+		secretRepository.save(entity);
 	}
 
-	private void rotateSecretEntity(SecretEntity entity) {
+	private void rotateSecretEntity(SecretEntity entity, KeystorePair keystorePair, ZonedDateTime now) {
+		String originalValue = entity.getValue();
+
+		if (keystorePair == null) {
+			disable(entity, originalValue);
+			return;
+		}
+
 		try {
-			String decrypted = cryptoService.decrypt(entity);
+			String decrypted = cryptoService.decrypt(entity, keystorePair);
 			entity.setValue(decrypted);
-			cryptoService.encrypt(entity);
-			entity.setLastRotated(ZonedDateTime.now(clock));
+			cryptoService.encrypt(entity, keystorePair);
+			entity.setLastRotated(now);
+			entity.setNextRotationAt(entity.getRotationPeriod().next(now));
 		} catch (Exception e) {
-			entity.setStatus(EntityStatus.DISABLED);
+			disable(entity, originalValue);
 		}
+	}
 
-		secretRepository.save(entity);
+	private KeystorePair getKeystoreData(Long keystoreAliasId, int secretCount) {
+		try {
+			return keystoreDataService.getKeystoreData(keystoreAliasId);
+		} catch (Exception e) {
+			log.warn("Keystore alias={} cannot be loaded, {} secret(s) will be disabled", keystoreAliasId, secretCount, e);
+			return null;
+		}
+	}
+
+	private static void disable(SecretEntity entity, String originalValue) {
+		// A failed encryption must not leave the decrypted value in the entity
+		entity.setValue(originalValue);
+		entity.setStatus(EntityStatus.DISABLED);
+	}
+
+	private static boolean isDue(SecretEntity secretEntity, ZonedDateTime now) {
+		if (secretEntity.getLastRotated() == null) {
+			return true;
+		}
+
+		return !secretEntity.getRotationPeriod().next(secretEntity.getLastRotated()).isAfter(now);
 	}
 }
@@ -3,6 +3,7 @@ package io.github.gms.functions.secret;
 import io.github.gms.common.abstraction.AbstractCrudService;
 import io.github.gms.common.abstraction.BatchDeletionService;
 import io.github.gms.common.dto.SaveEntityResponseDto;
+import io.github.gms.common.model.KeysetPageRequest;
 import io.github.gms.common.service.CountService;
 import io.github.gms.functions.secret.dto.SaveSecretRequestDto;
 import io.github.gms.functions.secret.dto.SecretDto;
@@ -16,4 +17,6 @@ public interface SecretService
 	extends AbstractCrudService<SaveSecretRequestDto, SaveEntityResponseDto, SecretDto, SecretListDto>, CountService, BatchDeletionService {
 	
 	String getSecretValue(Long id);
+
+	SecretListDto list(KeysetPageRequest request);
 }
@@ -1,11 +1,17 @@
 package io.github.gms.functions.secret;
 
+import io.github.gms.common.config.cache.ApiCacheKeyGenerator;
 import io.github.gms.common.dto.LongValueDto;
 import io.github.gms.common.dto.SaveEntityResponseDto;
+import io.github.gms.common.enums.ApiCacheTag;
 import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.SecretType;
+import io.github.gms.common.enums.UserCounterType;
+import io.github.gms.common.model.KeysetPageRequest;
+import io.github.gms.common.service.ApiCacheInvalidationService;
 import io.github.gms.common.service.CryptoService;
 import io.github.gms.common.types.GmsException;
+import io.github.gms.functions.home.UserCounterService;
 import io.github.gms.functions.iprestriction.IpRestrictionDto;
 import io.github.gms.functions.iprestriction.IpRestrictionService;
 import io.github.gms.functions.keystore.KeystoreAliasEntity;
@@ -13,18 +19,20 @@ import io.github.gms.functions.keystore.KeystoreAliasRepository;
 import io.github.gms.functions.keystore.KeystoreRepository;
 import io.github.gms.functions.secret.dto.SaveSecretRequestDto;
 import io.github.gms.functions.secret.dto.SecretDto;
+import io.github.gms.functions.secret.dto.SecretListItem;
 import io.github.gms.functions.secret.dto.SecretListDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -37,8 +45,9 @@ import static io.github.gms.common.types.ErrorCode.GMS_008;
 import static io.github.gms.common.types.ErrorCode.GMS_015;
 import static io.github.gms.common.types.ErrorCode.GMS_020;
 import static io.github.gms.common.types.ErrorCode.GMS_021;
-import static io.github.gms.common.util.Constants.CACHE_API;
 import static io.github.gms.common.util.Constants.CACHE_IP_RESTRICTION;
+import static io.github.gms.common.util.KeysetPagingUtils.TOTAL_NOT_COUNTED;
+import static io.github.gms.common.util.KeysetPagingUtils.toCursor;
 import static io.github.gms.common.util.MdcUtils.getUserId;
 import static java.util.stream.Collectors.toSet;
 
@@ -49,7 +58,6 @@ import static java.util.stream.Collectors.toSet;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@CacheConfig(cacheNames = { CACHE_API })
 public class SecretServiceImpl implements SecretService {
 
 	static final String WRONG_ENTITY = "Wrong entity!";
@@ -63,12 +71,15 @@ public class SecretServiceImpl implements SecretService {
 	private final SecretConverter converter;
 	private final ApiKeyRestrictionRepository apiKeyRestrictionRepository;
 	private final IpRestrictionService ipRestrictionService;
+	private final ApiCacheInvalidationService apiCacheInvalidationService;
+	private final UserCounterService userCounterService;
 
 	@Override
 	@Transactional
-	@CacheEvict(cacheNames = { CACHE_API, CACHE_IP_RESTRICTION }, allEntries = true)
+	@CacheEvict(cacheNames = { CACHE_IP_RESTRICTION }, allEntries = true)
 	public SaveEntityResponseDto save(SaveSecretRequestDto dto) {
 		SecretEntity entity;
+		Set<String> cacheKeys = new HashSet<>();
 		dto.setUserId(getUserId());
 
 		validateKeystore(dto);
@@ -79,17 +90,29 @@ public class SecretServiceImpl implements SecretService {
 		} else {
 			entity = repository.findById(dto.getId())
 					.orElseThrow(() -> new GmsException("Secret not found!", GMS_002));
+			cacheKeys.add(ApiCacheKeyGenerator.key(entity));
 			entity = converter.toEntity(entity, dto);
 		}
 		
 		if (dto.getId() == null || StringUtils.hasText(dto.getValue())) {
 			cryptoService.encrypt(entity);
+		} else if (cryptoService.isFormatChangeRequired(entity)) {
+			// The return mode has been changed without a new value, so the stored value has to follow it
+			cryptoService.reEncrypt(entity);
 		}
 
 		entity = repository.save(entity);
 
 		updateApiRestrictions(entity, dto.getApiKeyRestrictions());
 		updateIpRestrictions(entity, dto.getIpRestrictions());
+
+		if (dto.getId() == null) {
+			userCounterService.increment(entity.getUserId(), UserCounterType.SECRET);
+		}
+
+		cacheKeys.add(ApiCacheKeyGenerator.key(entity));
+		apiCacheInvalidationService.evict(cacheKeys);
+		apiCacheInvalidationService.evictPrincipals(ApiCacheTag.SECRET, entity.getId());
 		return new SaveEntityResponseDto(entity.getId());
 	}
 
@@ -113,23 +136,44 @@ public class SecretServiceImpl implements SecretService {
 
 	@Override
 	public SecretListDto list(Pageable pageable) {
-		Page<SecretEntity> resultList = repository.findAllByUserId(getUserId(), pageable);
-		return converter.toDtoList(resultList);
+		Page<SecretDto> resultList = repository.findAllDtoByUserId(getUserId(), pageable);
+		return SecretListDto.builder().resultList(resultList.toList()).totalElements(resultList.getTotalElements()).build();
+	}
+
+	@Override
+	public SecretListDto list(KeysetPageRequest request) {
+		Long userId = getUserId();
+		Window<SecretListItem> window = repository.findAllByUserId(userId, request.position(), request.sort(), request.limit());
+		SecretListDto response = converter.toListItemDtoList(window.getContent(),
+				request.withCount() ? repository.countByUserId(userId) : TOTAL_NOT_COUNTED);
+		response.setNextCursor(toCursor(window, request.sort()));
+		return response;
 	}
 
 	@Override
 	public void delete(Long id) {
-		repository.deleteById(id);
+		SecretEntity entity = repository.findByIdAndUserId(id, getUserId())
+				.orElseThrow(() -> new GmsException(WRONG_ENTITY, GMS_002));
+		Set<String> cacheKeys = apiCacheInvalidationService.getCacheKeys(ApiCacheTag.SECRET, id);
+		Set<String> principalCacheKeys = apiCacheInvalidationService.getPrincipalCacheKeys(ApiCacheTag.SECRET, id);
+
+		if (repository.deleteByIdAndUserId(id, entity.getUserId()) > 0) {
+			userCounterService.decrement(entity.getUserId(), UserCounterType.SECRET);
+		}
+
+		apiCacheInvalidationService.evict(cacheKeys);
+		apiCacheInvalidationService.evictPrincipals(principalCacheKeys);
 	}
 
 	@Override
-	@CacheEvict(cacheNames = { CACHE_API }, allEntries = true)
 	public void toggleStatus(Long id, boolean enabled) {
 		Optional<SecretEntity> entityOptionalResult = repository.findByIdAndUserId(id, getUserId());
 
 		SecretEntity entity = entityOptionalResult.orElseThrow(() -> new GmsException(WRONG_ENTITY, GMS_002));
 		entity.setStatus(enabled ? EntityStatus.ACTIVE : EntityStatus.DISABLED);
 		repository.save(entity);
+		apiCacheInvalidationService.evict(Set.of(ApiCacheKeyGenerator.key(entity)));
+		apiCacheInvalidationService.evictPrincipals(ApiCacheTag.SECRET, entity.getId());
 	}
 
 	@Override
@@ -0,0 +1,24 @@
+package io.github.gms.functions.secret.dto;
+
+import io.github.gms.common.types.Sensitive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Set;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+public class GetSecretsRequestDto implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = -2383504316513478521L;
+	@Sensitive
+	private String apiKey;
+	private Set<String> secretIds;
+}
@@ -7,6 +7,7 @@ import io.github.gms.common.enums.RotationPeriod;
 import io.github.gms.common.enums.SecretType;
 import io.github.gms.functions.iprestriction.IpRestrictionDto;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -21,6 +22,7 @@ import static io.github.gms.common.util.Constants.DATE_FORMAT;
  * @since 1.0
  */
 @Data
+@NoArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class SecretDto implements Serializable {
 
@@ -45,4 +47,24 @@ public class SecretDto implements Serializable {
 	private boolean rotationEnabled;
 	private Set<Long> apiKeyRestrictions;
 	private List<IpRestrictionDto> ipRestrictions;
+
+	/**
+	 * Used by the list queries, which do not load the secret value.
+	 */
+	public SecretDto(Long id, Long userId, Long keystoreAliasId, String secretId, EntityStatus status, SecretType type,
+					 ZonedDateTime creationDate, ZonedDateTime lastUpdated, ZonedDateTime lastRotated,
+					 RotationPeriod rotationPeriod, boolean returnDecrypted, boolean rotationEnabled) {
+		this.id = id;
+		this.userId = userId;
+		this.keystoreAliasId = keystoreAliasId;
+		this.secretId = secretId;
+		this.status = status;
+		this.type = type;
+		this.creationDate = creationDate;
+		this.lastUpdated = lastUpdated;
+		this.lastRotated = lastRotated;
+		this.rotationPeriod = rotationPeriod;
+		this.returnDecrypted = returnDecrypted;
+		this.rotationEnabled = rotationEnabled;
+	}
 }
\ No newline at end of file
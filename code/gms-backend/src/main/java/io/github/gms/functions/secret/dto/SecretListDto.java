@@ -24,4 +24,5 @@ public class SecretListDto implements Serializable {
 
 	private List<SecretDto> resultList;
 	private long totalElements;
+	private String nextCursor;
 }
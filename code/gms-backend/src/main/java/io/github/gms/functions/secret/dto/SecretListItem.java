@@ -0,0 +1,40 @@
+package io.github.gms.functions.secret.dto;
+
+import io.github.gms.common.enums.EntityStatus;
+import io.github.gms.common.enums.RotationPeriod;
+import io.github.gms.common.enums.SecretType;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Closed projection of the secret list, so the secret value is not loaded.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+public interface SecretListItem {
+
+	Long getId();
+
+	Long getUserId();
+
+	Long getKeystoreAliasId();
+
+	String getSecretId();
+
+	EntityStatus getStatus();
+
+	SecretType getType();
+
+	ZonedDateTime getCreationDate();
+
+	ZonedDateTime getLastUpdated();
+
+	ZonedDateTime getLastRotated();
+
+	RotationPeriod getRotationPeriod();
+
+	boolean isReturnDecrypted();
+
+	boolean isRotationEnabled();
+}
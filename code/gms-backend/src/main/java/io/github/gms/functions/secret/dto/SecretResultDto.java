@@ -0,0 +1,32 @@
+package io.github.gms.functions.secret.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.github.gms.common.enums.SecretResultStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SecretResultDto implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 3307187563151306512L;
+
+	private SecretResultStatus status;
+	private Map<String, String> value;
+	private String errorCode;
+	private String message;
+}
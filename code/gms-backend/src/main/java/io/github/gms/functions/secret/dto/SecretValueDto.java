@@ -12,4 +12,5 @@ public class SecretValueDto {
     private Long keystoreId;
     private Long keystoreAliasId;
     private String value;
+    private boolean returnDecrypted;
 }
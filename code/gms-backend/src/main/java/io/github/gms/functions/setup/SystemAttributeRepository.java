@@ -1,8 +1,11 @@
 package io.github.gms.functions.setup;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -15,4 +18,12 @@ public interface SystemAttributeRepository extends JpaRepository<SystemAttribute
 
     @Query("SELECT sa FROM SystemAttributeEntity sa WHERE sa.name = 'SYSTEM_STATUS'")
     Optional<SystemAttributeEntity> getSystemStatus();
+
+    @Query("SELECT max(sa.value) FROM SystemAttributeEntity sa WHERE sa.name = 'SYSTEM_PROPERTY_VERSION'")
+    Optional<String> getSystemPropertyVersion();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE SystemAttributeEntity sa SET sa.value = :version WHERE sa.name = 'SYSTEM_PROPERTY_VERSION'")
+    int updateSystemPropertyVersion(@Param("version") String version);
 }
@@ -1,33 +1,48 @@
 package io.github.gms.functions.systemproperty;
 
 import io.github.gms.common.enums.SystemProperty;
+import io.github.gms.common.model.SystemPropertyChangeEvent;
 import io.github.gms.common.types.ErrorCode;
 import io.github.gms.common.types.GmsException;
+import io.github.gms.functions.setup.SystemAttributeEntity;
+import io.github.gms.functions.setup.SystemAttributeRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
-
-import static io.github.gms.common.util.Constants.CACHE_SYSTEM_PROPERTY;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
+ * System properties are read from an immutable in-memory snapshot, so the getters never touch the database.
+ * The snapshot is replaced after every change. Every change also stores a new version stamp, and the other
+ * nodes reload their snapshot when they notice that the stamp has changed.
+ *
  * @author Peter Szrnka
  * @since 1.0
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@CacheConfig(cacheNames = CACHE_SYSTEM_PROPERTY)
 public class SystemPropertyService {
 
+	static final String VERSION_ATTRIBUTE = "SYSTEM_PROPERTY_VERSION";
+
 	private final SystemPropertyConverter converter;
 	private final SystemPropertyRepository repository;
+	private final SystemAttributeRepository systemAttributeRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final AtomicReference<SystemPropertySnapshot> snapshot = new AtomicReference<>();
+	private final Lock reloadLock = new ReentrantLock();
 
-	@CacheEvict(allEntries = true)
 	public void save(SystemPropertyDto dto) {
 		SystemProperty systemProperty = getSystemPropertyByName(dto.getKey());
 		SystemPropertyEntity entity = repository.findByKey(systemProperty);
@@ -37,11 +52,13 @@ public class SystemPropertyService {
 		}
 
 		repository.save(converter.toEntity(entity, dto));
+		onChange(systemProperty);
 	}
 
-	@CacheEvict(allEntries = true)
 	public void delete(String key) {
-		repository.deleteByKey(getSystemPropertyByName(key));
+		SystemProperty systemProperty = getSystemPropertyByName(key);
+		repository.deleteByKey(systemProperty);
+		onChange(systemProperty);
 	}
 
 	public SystemPropertyListDto list(Pageable pageable) {
@@ -53,14 +70,12 @@ public class SystemPropertyService {
 		}
 	}
 
-	@Cacheable
 	public String get(SystemProperty property) {
-		return repository.getValueByKey(property).orElse(property.getDefaultValue());
+		return getSnapshot().get(property);
 	}
 
-	@Cacheable
 	public Long getLong(SystemProperty property) {
-		return Long.parseLong(get(property));
+		return getSnapshot().getLong(property);
 	}
 
 	private SystemProperty getSystemPropertyByName(String key) {
@@ -68,11 +83,11 @@ public class SystemPropertyService {
 	}
 
 	public boolean getBoolean(SystemProperty key) {
-		return Boolean.parseBoolean(get(key));
+		return getSnapshot().getBoolean(key);
 	}
 
 	public Integer getInteger(SystemProperty key) {
-		return Integer.parseInt(get(key));
+		return getSnapshot().getInteger(key);
 	}
 
 	public void updateSystemProperty(SystemPropertyDto systemPropertyDto) {
@@ -84,5 +99,57 @@ public class SystemPropertyService {
 		}
 
 		repository.save(converter.toEntity(entity, systemPropertyDto));
+		onChange(systemProperty);
+	}
+
+	/**
+	 * Reloads the snapshot if the properties have been changed by another node.
+	 */
+	@Scheduled(fixedDelayString = "${config.systemProperty.refreshMillis:5000}")
+	public void refresh() {
+		SystemPropertySnapshot current = snapshot.get();
+
+		if (current == null || Objects.equals(current.getVersion(), getVersion())) {
+			return;
+		}
+
+		reload();
+		log.info("System properties have been reloaded");
+	}
+
+	private SystemPropertySnapshot getSnapshot() {
+		SystemPropertySnapshot current = snapshot.get();
+		return current != null ? current : reload();
+	}
+
+	private SystemPropertySnapshot reload() {
+		reloadLock.lock();
+
+		try {
+			// The version is read first, so a change committed during the reload is picked up by the next refresh
+			SystemPropertySnapshot loaded = SystemPropertySnapshot.of(getVersion(), repository.findAll());
+			snapshot.set(loaded);
+			return loaded;
+		} finally {
+			reloadLock.unlock();
+		}
+	}
+
+	private String getVersion() {
+		return systemAttributeRepository.getSystemPropertyVersion().orElse(null);
+	}
+
+	private void onChange(SystemProperty systemProperty) {
+		String version = UUID.randomUUID().toString();
+
+		if (systemAttributeRepository.updateSystemPropertyVersion(version) == 0) {
+			SystemAttributeEntity attribute = new SystemAttributeEntity();
+			attribute.setName(VERSION_ATTRIBUTE);
+			attribute.setValue(version);
+			systemAttributeRepository.save(attribute);
+		}
+
+		reload();
+		applicationEventPublisher.publishEvent(new SystemPropertyChangeEvent(this, systemProperty));
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package io.github.gms.functions.systemproperty;
+
+import io.github.gms.common.enums.SystemProperty;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of every system property at a given version. Stored values override the defaults, and the
+ * numeric values are parsed only once, when the snapshot is created.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+public final class SystemPropertySnapshot {
+
+	@Getter
+	private final String version;
+	private final Map<SystemProperty, String> values;
+	private final Map<SystemProperty, Long> longValues;
+
+	private SystemPropertySnapshot(String version, Map<SystemProperty, String> values, Map<SystemProperty, Long> longValues) {
+		this.version = version;
+		this.values = Collections.unmodifiableMap(values);
+		this.longValues = Collections.unmodifiableMap(longValues);
+	}
+
+	public static SystemPropertySnapshot of(String version, List<SystemPropertyEntity> entities) {
+		Map<SystemProperty, String> values = new EnumMap<>(SystemProperty.class);
+
+		for (SystemProperty property : SystemProperty.values()) {
+			values.put(property, property.getDefaultValue());
+		}
+
+		entities.stream()
+				.filter(entity -> entity.getKey() != null && entity.getValue() != null)
+				.forEach(entity -> values.put(entity.getKey(), entity.getValue()));
+
+		Map<SystemProperty, Long> longValues = new EnumMap<>(SystemProperty.class);
+		values.forEach((property, value) -> {
+			try {
+				longValues.put(property, Long.parseLong(value));
+			} catch (NumberFormatException e) {
+				// Not a numeric property, the typed getters parse the raw value and fail the same way as before
+			}
+		});
+
+		return new SystemPropertySnapshot(version, values, longValues);
+	}
+
+	public String get(SystemProperty property) {
+		return values.get(property);
+	}
+
+	public boolean getBoolean(SystemProperty property) {
+		return Boolean.parseBoolean(values.get(property));
+	}
+
+	public Long getLong(SystemProperty property) {
+		Long value = longValues.get(property);
+		return value != null ? value : Long.parseLong(values.get(property));
+	}
+
+	public Integer getInteger(SystemProperty property) {
+		Long value = longValues.get(property);
+		return value != null ? Math.toIntExact(value) : Integer.parseInt(values.get(property));
+	}
+}
@@ -2,13 +2,16 @@ package io.github.gms.functions.user;
 
 import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.SystemProperty;
+import io.github.gms.common.model.UserChangeEvent;
 import io.github.gms.functions.systemproperty.SystemPropertyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
+import java.util.Set;
 
 import static io.github.gms.common.util.Constants.CONFIG_AUTH_TYPE_NOT_KEYCLOAK_SSO;
 
@@ -24,6 +27,7 @@ public class UserLoginAttemptManagerServiceImpl implements UserLoginAttemptManag
 
     private final UserRepository repository;
     private final SystemPropertyService systemPropertyService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
     public void updateLoginAttempt(String username) {
@@ -40,12 +44,17 @@ public class UserLoginAttemptManagerServiceImpl implements UserLoginAttemptManag
 
         Integer attemptsLimit = systemPropertyService.getInteger(SystemProperty.FAILED_ATTEMPTS_LIMIT);
         Integer failedAttempts = user.getFailedAttempts() + 1;
-        if (Objects.equals(attemptsLimit, failedAttempts)) {
+        boolean blocked = Objects.equals(attemptsLimit, failedAttempts);
+        if (blocked) {
             user.setStatus(EntityStatus.BLOCKED);
         }
 
         user.setFailedAttempts(failedAttempts);
         repository.save(user);
+
+        if (blocked) {
+            applicationEventPublisher.publishEvent(new UserChangeEvent(this, Set.of(user.getId())));
+        }
     }
 
     @Override
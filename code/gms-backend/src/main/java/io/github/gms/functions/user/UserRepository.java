@@ -1,5 +1,6 @@
 package io.github.gms.functions.user;
 
+import io.github.gms.common.dto.IdNamePairDto;
 import io.github.gms.common.enums.EntityStatus;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.Cacheable;
@@ -11,8 +12,10 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static io.github.gms.common.util.Constants.CACHE_USER;
 import static io.github.gms.common.util.Constants.USER_ID;
@@ -42,6 +45,21 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 	@Query("SELECT u.username from UserEntity u where u.id = :userId")
 	String getUsernameById(@Param(USER_ID) Long userId);
 
+	@Query("SELECT new io.github.gms.common.dto.IdNamePairDto(u.id, u.username) from UserEntity u where u.id in :userIds")
+	List<IdNamePairDto> findAllUsernamesByIds(@Param("userIds") Set<Long> userIds);
+
+	/**
+	 * Resolves the usernames of a whole result page with a single query. Unknown ids are missing from the result.
+	 */
+	default Map<Long, String> getUsernamesByIds(Set<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return Map.of();
+		}
+
+		return findAllUsernamesByIds(userIds).stream()
+				.collect(Collectors.toMap(IdNamePairDto::getId, IdNamePairDto::getName));
+	}
+
 	@Query("SELECT u.id from UserEntity u where u.username = :username")
 	Optional<Long> getIdByUsername(@Param("username") String username);
 
@@ -7,6 +7,9 @@ import io.github.gms.common.dto.UserInfoDto;
 import io.github.gms.common.service.CountService;
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.util.Map;
+import java.util.Set;
+
 /**
  * @author Peter Szrnka
  * @since 1.0
@@ -19,6 +22,8 @@ public interface UserService extends AbstractCrudService<SaveUserRequestDto, Sav
 	
 	String getUsernameById(Long id);
 
+	Map<Long, String> getUsernamesByIds(Set<Long> ids);
+
 	void changePassword(ChangePasswordRequestDto dto);
 
     byte[] getMfaQrCode() throws QrGenerationException;
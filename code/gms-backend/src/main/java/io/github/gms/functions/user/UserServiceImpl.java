@@ -9,8 +9,11 @@ import dev.samstevens.totp.secret.SecretGenerator;
 import io.github.gms.common.dto.LongValueDto;
 import io.github.gms.common.dto.SaveEntityResponseDto;
 import io.github.gms.common.dto.UserInfoDto;
+import io.github.gms.common.enums.ApiCacheTag;
 import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.MdcParameter;
+import io.github.gms.common.model.UserChangeEvent;
+import io.github.gms.common.service.ApiCacheInvalidationService;
 import io.github.gms.common.service.JwtClaimService;
 import io.github.gms.common.types.ErrorCode;
 import io.github.gms.common.types.GmsException;
@@ -24,6 +27,7 @@ import org.slf4j.MDC;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -31,6 +35,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.util.WebUtils;
 
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -38,7 +44,6 @@ import static io.github.gms.common.types.ErrorCode.GMS_003;
 import static io.github.gms.common.types.ErrorCode.GMS_004;
 import static io.github.gms.common.types.ErrorCode.GMS_005;
 import static io.github.gms.common.util.Constants.ACCESS_JWT_TOKEN;
-import static io.github.gms.common.util.Constants.CACHE_API;
 import static io.github.gms.common.util.Constants.CACHE_USER;
 
 /**
@@ -58,6 +63,8 @@ public class UserServiceImpl implements UserService {
 	private final PasswordEncoder passwordEncoder;
 	private final JwtClaimService jwtClaimService;
 	private final SecretGenerator secretGenerator;
+	private final ApiCacheInvalidationService apiCacheInvalidationService;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	
 	@Override
 	@Transactional
@@ -67,10 +74,19 @@ public class UserServiceImpl implements UserService {
 	}
 
 	@Override
-	@CacheEvict(cacheNames = { CACHE_USER, CACHE_API }, allEntries = true)
+	@Transactional
+	@CacheEvict(cacheNames = { CACHE_USER }, allEntries = true)
 	public SaveEntityResponseDto save(SaveUserRequestDto dto) {
 		boolean isAdmin = Boolean.parseBoolean(MDC.get(MdcParameter.IS_ADMIN.getDisplayName()));
-		return saveUser(dto, isAdmin, true);
+		SaveEntityResponseDto response = saveUser(dto, isAdmin, true);
+
+		if (dto.getId() != null) {
+			apiCacheInvalidationService.evict(ApiCacheTag.USER, response.getEntityId());
+			apiCacheInvalidationService.evictPrincipals(ApiCacheTag.USER, response.getEntityId());
+			publishUserChangeEvent(response.getEntityId());
+		}
+
+		return response;
 	}
 
 	@Override
@@ -85,18 +101,26 @@ public class UserServiceImpl implements UserService {
 	}
 
 	@Override
-	@CacheEvict(cacheNames = { CACHE_USER, CACHE_API }, allEntries = true)
+	@Transactional
+	@CacheEvict(cacheNames = { CACHE_USER }, allEntries = true)
 	public void delete(Long id) {
 		validateAndReturnUser(id);
 		repository.deleteById(id);
+		apiCacheInvalidationService.evict(ApiCacheTag.USER, id);
+		apiCacheInvalidationService.evictPrincipals(ApiCacheTag.USER, id);
+		publishUserChangeEvent(id);
 	}
 	
 	@Override
-	@CacheEvict(cacheNames = { CACHE_USER, CACHE_API }, allEntries = true)
+	@Transactional
+	@CacheEvict(cacheNames = { CACHE_USER }, allEntries = true)
 	public void toggleStatus(Long id, boolean enabled) {
 		UserEntity entity = validateAndReturnUser(id);
 		entity.setStatus(enabled ? EntityStatus.ACTIVE : EntityStatus.DISABLED);
 		repository.save(entity);
+		apiCacheInvalidationService.evict(ApiCacheTag.USER, id);
+		apiCacheInvalidationService.evictPrincipals(ApiCacheTag.USER, id);
+		publishUserChangeEvent(id);
 	}
 
 	@Override
@@ -110,12 +134,18 @@ public class UserServiceImpl implements UserService {
 		return getById(id).getUsername();
 	}
 
+	@Override
+	public Map<Long, String> getUsernamesByIds(Set<Long> ids) {
+		return repository.getUsernamesByIds(ids);
+	}
+
 	@Override
 	public void changePassword(ChangePasswordRequestDto dto) {
 		UserEntity user = validateAndReturnUser(MdcUtils.getUserId());
 		validateCredentials(user, dto);
 		user.setCredential(passwordEncoder.encode(dto.getNewCredential()));
 		repository.save(user);
+		publishUserChangeEvent(user.getId());
 	}
 
 	@Override
@@ -139,6 +169,7 @@ public class UserServiceImpl implements UserService {
 		UserEntity entity = validateAndReturnUser(MdcUtils.getUserId());
 		entity.setMfaEnabled(enabled);
 		repository.save(entity);
+		publishUserChangeEvent(entity.getId());
 	}
 
 	@Override
@@ -205,6 +236,10 @@ public class UserServiceImpl implements UserService {
 		});
 	}
 	
+	private void publishUserChangeEvent(Long userId) {
+		applicationEventPublisher.publishEvent(new UserChangeEvent(this, Set.of(userId)));
+	}
+
 	private void validateCredentials(UserEntity entity, ChangePasswordRequestDto dto) {
 		if (!passwordEncoder.matches(dto.getOldCredential(), entity.getCredential())) {
 			throw new GmsException("Old credential is not valid!", GMS_004);
@@ -2,6 +2,7 @@ package io.github.gms.job;
 
 import io.github.gms.common.abstraction.AbstractLimitBasedJob;
 import io.github.gms.common.enums.SystemProperty;
+import io.github.gms.common.model.JobShard;
 import io.github.gms.functions.event.EventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +10,8 @@ import org.springframework.data.util.Pair;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.ZonedDateTime;
+
 import static io.github.gms.common.enums.SystemProperty.EVENT_MAINTENANCE_JOB_ENABLED;
 import static io.github.gms.common.enums.SystemProperty.EVENT_MAINTENANCE_RUNNER_CONTAINER_ID;
 
@@ -34,8 +37,16 @@ public class EventMaintenanceJob extends AbstractLimitBasedJob {
         return Pair.of(EVENT_MAINTENANCE_JOB_ENABLED, EVENT_MAINTENANCE_RUNNER_CONTAINER_ID);
     }
 
+    @Override
+    protected boolean shardingSupported() {
+        return true;
+    }
+
     private void businessLogic() {
-        int result = eventRepository.deleteAllEventDateOlderThan(processConfig(SystemProperty.JOB_OLD_EVENT_LIMIT));
+        JobShard shard = currentShard();
+        ZonedDateTime eventDate = processConfig(SystemProperty.JOB_OLD_EVENT_LIMIT);
+        long result = deleteInChunks((lastId, pageable) -> eventRepository.findAllExpiredIds(eventDate, lastId,
+                shard.count(), shard.index(), pageable), eventRepository);
 
         if (result > 0) {
             log.info("{} event(s) deleted", result);
@@ -2,13 +2,12 @@ package io.github.gms.job;
 
 import io.github.gms.common.abstraction.AbstractLimitBasedJob;
 import io.github.gms.common.enums.SystemProperty;
-import io.github.gms.functions.maintenance.job.JobEntity;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.util.Pair;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.time.ZonedDateTime;
 
 import static io.github.gms.common.enums.SystemProperty.JOB_MAINTENANCE_JOB_ENABLED;
 import static io.github.gms.common.enums.SystemProperty.JOB_MAINTENANCE_RUNNER_CONTAINER_ID;
@@ -24,14 +23,13 @@ public class JobMaintenanceJob extends AbstractLimitBasedJob {
             return;
         }
 
-        List<JobEntity> jobs = jobRepository.findAllOld(processConfig(SystemProperty.OLD_JOB_ENTRY_LIMIT));
+        ZonedDateTime endTime = processConfig(SystemProperty.OLD_JOB_ENTRY_LIMIT);
+        long result = deleteInChunks((lastId, pageable) -> jobRepository.findAllExpiredIds(endTime, lastId, pageable),
+                jobRepository);
 
-        if (jobs.isEmpty()) {
-            return;
+        if (result > 0) {
+            log.info("{} old job log(s) deleted", result);
         }
-
-        jobRepository.deleteAll(jobs);
-        log.info("{} old job log(s) deleted", jobs.size());
     }
 
     @Override
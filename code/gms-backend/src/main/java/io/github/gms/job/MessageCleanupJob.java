@@ -9,6 +9,8 @@ import org.springframework.data.util.Pair;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.ZonedDateTime;
+
 import static io.github.gms.common.enums.SystemProperty.MESSAGE_CLEANUP_JOB_ENABLED;
 import static io.github.gms.common.enums.SystemProperty.MESSAGE_CLEANUP_RUNNER_CONTAINER_ID;
 
@@ -35,7 +37,9 @@ public class MessageCleanupJob extends AbstractLimitBasedJob {
 	}
 
 	private void execute() {
-		int result = messageRepository.deleteAllEventDateOlderThan(processConfig(SystemProperty.JOB_OLD_MESSAGE_LIMIT));
+		ZonedDateTime creationDate = processConfig(SystemProperty.JOB_OLD_MESSAGE_LIMIT);
+		long result = deleteInChunks((lastId, pageable) -> messageRepository.findAllExpiredIds(creationDate, lastId, pageable),
+				messageRepository);
 
 		if (result > 0) {
 			log.info("{} message(s) deleted", result);
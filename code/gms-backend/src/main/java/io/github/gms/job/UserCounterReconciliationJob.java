@@ -0,0 +1,41 @@
+package io.github.gms.job;
+
+import io.github.gms.common.abstraction.AbstractJob;
+import io.github.gms.common.enums.SystemProperty;
+import io.github.gms.functions.home.UserCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.util.Pair;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCounterReconciliationJob extends AbstractJob {
+
+    private final UserCounterService service;
+
+    @Override
+    @Scheduled(cron = "0 20 * * * ?")
+    public void run() {
+        execute(this::businessLogic);
+    }
+
+    @Override
+    protected Pair<SystemProperty, SystemProperty> systemPropertyConfigs() {
+        return Pair.of(SystemProperty.USER_COUNTER_RECONCILIATION_JOB_ENABLED, SystemProperty.USER_COUNTER_RECONCILIATION_RUNNER_CONTAINER_ID);
+    }
+
+    private void businessLogic() {
+        int reconciledCount = service.reconcile();
+
+        if (reconciledCount > 0) {
+            log.info("Counters of {} user(s) reconciled", reconciledCount);
+        }
+    }
+}
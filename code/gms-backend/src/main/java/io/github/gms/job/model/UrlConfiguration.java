@@ -21,6 +21,7 @@ public enum UrlConfiguration {
     SECRET_ROTATION(UrlConstants.SECRET_ROTATION, SecretRotationJob.class),
     USER_ANONYMIZATION(UrlConstants.USER_ANONYMIZATION, UserAnonymizationJob.class),
     USER_DELETION(UrlConstants.USER_DELETION, UserDeletionJob.class),
+    USER_COUNTER_RECONCILIATION(UrlConstants.USER_COUNTER_RECONCILIATION, UserCounterReconciliationJob.class),
     LDAP_USER_SYNC(UrlConstants.LDAP_USER_SYNC, LdapUserSyncJob.class);
 
     private final String url;
@@ -12,5 +12,6 @@ public interface UrlConstants {
     String SECRET_ROTATION = "secret_rotation";
     String USER_ANONYMIZATION = "user_anonymization";
     String USER_DELETION = "user_deletion";
+    String USER_COUNTER_RECONCILIATION = "user_counter_reconciliation";
     String LDAP_USER_SYNC = "ldap_user_sync";
 }
@@ -0,0 +1,3 @@
+ALTER TABLE gms_api_key ADD COLUMN value_hash VARCHAR(64) DEFAULT NULL;
+
+CREATE INDEX idx_gms_api_key_hash ON gms_api_key(value_hash);
@@ -0,0 +1,3 @@
+ALTER TABLE gms_job ADD COLUMN processed_count BIGINT DEFAULT NULL;
+
+CREATE INDEX idx_gms_job_end_time ON gms_job(end_time);
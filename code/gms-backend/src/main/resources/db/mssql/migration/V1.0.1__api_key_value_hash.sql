@@ -0,0 +1,3 @@
+ALTER TABLE gms_api_key ADD value_hash VARCHAR(64) NULL DEFAULT NULL;
+
+CREATE INDEX idx_gms_api_key_hash ON gms_api_key(value_hash);
@@ -0,0 +1,3 @@
+ALTER TABLE gms_job ADD processed_count BIGINT NULL DEFAULT NULL;
+
+CREATE INDEX idx_gms_job_end_time ON gms_job(end_time);
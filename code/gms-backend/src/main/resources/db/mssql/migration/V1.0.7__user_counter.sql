@@ -0,0 +1,7 @@
+CREATE TABLE gms_user_counter (
+    user_id BIGINT NOT NULL PRIMARY KEY,
+    api_key_count BIGINT NOT NULL DEFAULT 0,
+    keystore_count BIGINT NOT NULL DEFAULT 0,
+    secret_count BIGINT NOT NULL DEFAULT 0,
+    last_updated datetime NOT NULL
+);
@@ -0,0 +1,6 @@
+ALTER TABLE gms_secret ADD COLUMN next_rotation_at TIMESTAMP NULL DEFAULT NULL;
+
+UPDATE gms_secret SET next_rotation_at = last_rotated;
+
+DROP INDEX idx_gms_secret_rotation ON gms_secret;
+CREATE INDEX idx_gms_secret_next_rot ON gms_secret(status, rotation_enabled, next_rotation_at);
@@ -0,0 +1,17 @@
+CREATE TABLE gms_job_lease (
+    job_name VARCHAR(255) NOT NULL COLLATE 'utf8mb4_general_ci',
+    owner_id VARCHAR(255) NOT NULL COLLATE 'utf8mb4_general_ci',
+    expires_at TIMESTAMP NOT NULL DEFAULT current_timestamp(),
+    PRIMARY KEY (job_name) USING BTREE
+)
+COLLATE='utf8mb4_general_ci' ENGINE=InnoDB;
+
+CREATE TABLE gms_job_node (
+    node_id VARCHAR(255) NOT NULL COLLATE 'utf8mb4_general_ci',
+    last_heartbeat TIMESTAMP NOT NULL DEFAULT current_timestamp(),
+    PRIMARY KEY (node_id) USING BTREE
+)
+COLLATE='utf8mb4_general_ci' ENGINE=InnoDB;
+
+CREATE INDEX idx_gms_job_lease_owner ON gms_job_lease(owner_id);
+CREATE INDEX idx_gms_job_node_hb ON gms_job_node(last_heartbeat);
@@ -0,0 +1 @@
+INSERT INTO gms_system_attribute (name, value) VALUES ('SYSTEM_PROPERTY_VERSION', '0');
@@ -0,0 +1,9 @@
+CREATE TABLE gms_user_counter (
+    user_id BIGINT NOT NULL,
+    api_key_count BIGINT NOT NULL DEFAULT 0,
+    keystore_count BIGINT NOT NULL DEFAULT 0,
+    secret_count BIGINT NOT NULL DEFAULT 0,
+    last_updated TIMESTAMP NOT NULL DEFAULT current_timestamp(),
+    PRIMARY KEY (user_id) USING BTREE
+)
+COLLATE='utf8mb4_general_ci' ENGINE=InnoDB;
@@ -0,0 +1,13 @@
+CREATE TABLE gms_job_lease (
+    job_name VARCHAR2(255) PRIMARY KEY,
+    owner_id VARCHAR2(255) NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE gms_job_node (
+    node_id VARCHAR2(255) PRIMARY KEY,
+    last_heartbeat TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_gms_job_lease_owner ON gms_job_lease(owner_id);
+CREATE INDEX idx_gms_job_node_hb ON gms_job_node(last_heartbeat);
@@ -0,0 +1,7 @@
+CREATE TABLE gms_user_counter (
+    user_id NUMBER PRIMARY KEY,
+    api_key_count NUMBER DEFAULT 0 NOT NULL,
+    keystore_count NUMBER DEFAULT 0 NOT NULL,
+    secret_count NUMBER DEFAULT 0 NOT NULL,
+    last_updated TIMESTAMP NOT NULL
+);
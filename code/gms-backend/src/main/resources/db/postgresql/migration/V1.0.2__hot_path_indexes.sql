@@ -0,0 +1,8 @@
+CREATE INDEX idx_gms_secret_usr_sid_st ON gms_secret(user_id, secret_id, status);
+CREATE INDEX idx_gms_secret_rotation ON gms_secret(status, rotation_enabled, last_rotated);
+CREATE INDEX idx_gms_ip_restr_secret ON gms_ip_restriction(secret_id);
+CREATE INDEX idx_gms_api_kr_usr_secret ON gms_api_key_restriction(user_id, secret_id);
+CREATE INDEX idx_gms_event_date ON gms_event(event_date);
+CREATE INDEX idx_gms_message_usr_opened ON gms_message(user_id, opened);
+CREATE INDEX idx_gms_message_date ON gms_message(creation_date);
+CREATE INDEX idx_gms_ks_alias_keystore ON gms_keystore_alias(keystore_id);
@@ -7,6 +7,7 @@ import io.github.gms.auth.service.TokenGeneratorService;
 import io.github.gms.common.enums.JwtConfigType;
 import io.github.gms.common.enums.SystemProperty;
 import io.github.gms.common.service.JwtService;
+import io.github.gms.common.service.LocalCacheInvalidationService;
 import io.github.gms.functions.systemproperty.SystemPropertyService;
 import io.github.gms.util.TestUtils;
 import io.jsonwebtoken.Claims;
@@ -14,11 +15,17 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetails;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.Map;
@@ -52,7 +59,9 @@ class AuthorizationServiceImplTest extends AbstractLoggingUnitTest {
 		jwtService = mock(JwtService.class);
 		userAuthService = mock(UserAuthService.class);
 		systemPropertyService = mock(SystemPropertyService.class);
-		service = new AuthorizationServiceImpl(jwtService, tokenGeneratorService, systemPropertyService, userAuthService);
+		service = new AuthorizationServiceImpl(jwtService, tokenGeneratorService, systemPropertyService,
+				new UserDetailsCacheService(userAuthService, new LocalCacheInvalidationService(mock(ObjectProvider.class)), 30L),
+				Clock.systemDefaultZone(), false, 0.5d);
 
 		addAppender(AuthorizationServiceImpl.class);
 	}
@@ -184,4 +193,51 @@ class AuthorizationServiceImplTest extends AbstractLoggingUnitTest {
 
 		verify(tokenGeneratorService).getAuthenticationDetails(any(GmsUserDetails.class));
 	}
+
+	@ParameterizedTest
+	@MethodSource("slidingRefreshData")
+	void authorize_whenSlidingRefreshEnabled_thenRefreshTokensOnlyAfterThreshold(Date issuedAt, boolean refreshExpected) {
+		// arrange
+		Instant now = Instant.parse("2024-01-01T10:10:00Z");
+		service = new AuthorizationServiceImpl(jwtService, tokenGeneratorService, systemPropertyService,
+				new UserDetailsCacheService(userAuthService, new LocalCacheInvalidationService(mock(ObjectProvider.class)), 30L),
+				Clock.fixed(now, ZoneId.systemDefault()), true, 0.5d);
+		HttpServletRequest req = mock(HttpServletRequest.class);
+		Claims claims = mock(Claims.class);
+		UserDetails userDetails = TestUtils.createGmsUser();
+
+		when(req.getCookies()).thenReturn(new Cookie[] { new Cookie(ACCESS_JWT_TOKEN, "valid_token")});
+		when(jwtService.parseJwt(anyString(), anyString())).thenReturn(claims);
+		when(claims.getExpiration()).thenReturn(Date.from(Instant.parse("2024-01-01T10:15:00Z")));
+		when(claims.getIssuedAt()).thenReturn(issuedAt);
+		when(userAuthService.loadUserByUsername(anyString())).thenReturn(userDetails);
+		when(claims.get(anyString(), any())).thenReturn(userDetails.getUsername());
+		when(systemPropertyService.get(SystemProperty.ACCESS_JWT_ALGORITHM)).thenReturn("HS512");
+		lenient().when(tokenGeneratorService.getAuthenticationDetails(any(GmsUserDetails.class))).thenReturn(Map.of(
+				JwtConfigType.ACCESS_JWT, "ACCESS_JWT",
+				JwtConfigType.REFRESH_JWT, "REFRESH_JWT"
+		));
+
+		// act
+		AuthorizationResponse response = service.authorize(req);
+
+		// assert
+		assertEquals(HttpStatus.OK, response.getResponseStatus());
+		assertNotNull(response.getAuthentication());
+		assertEquals(refreshExpected, response.getJwtPair() != null);
+		verify(tokenGeneratorService, times(refreshExpected ? 1 : 0)).getAuthenticationDetails(any(GmsUserDetails.class));
+	}
+
+	private static Object[][] slidingRefreshData() {
+		return new Object[][] {
+				// 10 of 15 minutes elapsed
+				{ Date.from(Instant.parse("2024-01-01T10:00:00Z")), true },
+				// 2 of 7 minutes elapsed
+				{ Date.from(Instant.parse("2024-01-01T10:08:00Z")), false },
+				// exactly half of the lifetime elapsed
+				{ Date.from(Instant.parse("2024-01-01T10:05:00Z")), true },
+				// no issue date, tokens are always refreshed
+				{ null, true }
+		};
+	}
 }
@@ -0,0 +1,205 @@
+package io.github.gms.auth;
+
+import io.github.gms.abstraction.AbstractLoggingUnitTest;
+import io.github.gms.auth.model.GmsUserDetails;
+import io.github.gms.common.model.UserChangeEvent;
+import io.github.gms.common.service.LocalCacheInvalidationService;
+import io.github.gms.util.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static io.github.gms.common.util.Constants.CACHE_INVALIDATION_CHANNEL;
+import static io.github.gms.common.util.Constants.CACHE_USER_DETAILS;
+import static io.github.gms.util.LogAssertionUtils.assertLogContains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test of {@link UserDetailsCacheService}
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class UserDetailsCacheServiceTest extends AbstractLoggingUnitTest {
+
+	private static final String USERNAME = "username1";
+
+	private UserAuthService userAuthService;
+	private ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+	private LocalCacheInvalidationService localCacheInvalidationService;
+	private UserDetailsCacheService service;
+
+	@Override
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		super.setup();
+		userAuthService = mock(UserAuthService.class);
+		redisTemplateProvider = mock(ObjectProvider.class);
+		localCacheInvalidationService = new LocalCacheInvalidationService(redisTemplateProvider);
+		service = new UserDetailsCacheService(userAuthService, localCacheInvalidationService, 30L);
+		addAppender(UserDetailsCacheService.class);
+	}
+
+	@Test
+	void loadUserByUsername_whenCalledMultipleTimes_thenLoadUserOnlyOnce() {
+		// arrange
+		GmsUserDetails userDetails = TestUtils.createGmsUser();
+		when(userAuthService.loadUserByUsername(USERNAME)).thenReturn(userDetails);
+
+		// act
+		service.loadUserByUsername(USERNAME);
+		GmsUserDetails response = service.loadUserByUsername(USERNAME);
+
+		// assert
+		assertEquals(userDetails, response);
+		verify(userAuthService).loadUserByUsername(USERNAME);
+	}
+
+	@Test
+	void loadUserByUsername_whenUserNotFound_thenThrowException() {
+		// arrange
+		when(userAuthService.loadUserByUsername(USERNAME)).thenThrow(new UsernameNotFoundException("User not found!"));
+
+		// act
+		UsernameNotFoundException exception = assertThrows(UsernameNotFoundException.class,
+				() -> service.loadUserByUsername(USERNAME));
+
+		// assert
+		assertEquals("User not found!", exception.getMessage());
+	}
+
+	@Test
+	void loadUserByUsername_whenCacheIsDisabled_thenAlwaysLoadUser() {
+		// arrange
+		service = new UserDetailsCacheService(userAuthService, localCacheInvalidationService, 0L);
+		when(userAuthService.loadUserByUsername(USERNAME)).thenReturn(TestUtils.createGmsUser());
+
+		// act
+		service.loadUserByUsername(USERNAME);
+		service.loadUserByUsername(USERNAME);
+
+		// assert
+		verify(userAuthService, times(2)).loadUserByUsername(USERNAME);
+	}
+
+	@Test
+	void onUserChange_whenUserChanged_thenEvictOnlyAffectedUser() {
+		// arrange
+		GmsUserDetails user1 = TestUtils.createGmsUser();
+		GmsUserDetails user2 = TestUtils.createGmsUser();
+		user2.setUserId(2L);
+		when(userAuthService.loadUserByUsername(USERNAME)).thenReturn(user1);
+		when(userAuthService.loadUserByUsername("username2")).thenReturn(user2);
+		service.loadUserByUsername(USERNAME);
+		service.loadUserByUsername("username2");
+
+		// act
+		service.onUserChange(new UserChangeEvent(this, Set.of(user1.getUserId())));
+
+		// assert
+		service.loadUserByUsername(USERNAME);
+		service.loadUserByUsername("username2");
+		verify(userAuthService, times(2)).loadUserByUsername(USERNAME);
+		verify(userAuthService).loadUserByUsername("username2");
+		assertLogContains(logAppender, "User details cache entries have been evicted for user(s)=[1]");
+	}
+
+	@Test
+	void onUserChange_whenAllUsersChanged_thenClearCache() {
+		// arrange
+		when(userAuthService.loadUserByUsername(USERNAME)).thenReturn(TestUtils.createGmsUser());
+		service.loadUserByUsername(USERNAME);
+
+		// act
+		service.onUserChange(new UserChangeEvent(this, Set.of()));
+
+		// assert
+		service.loadUserByUsername(USERNAME);
+		verify(userAuthService, times(2)).loadUserByUsername(USERNAME);
+		assertLogContains(logAppender, "User details cache has been cleared");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void onUserChange_whenRedisIsEnabled_thenPublishEviction() {
+		// arrange
+		RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+		when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+
+		// act
+		service.onUserChange(new UserChangeEvent(this, Set.of(1L)));
+
+		// assert
+		verify(redisTemplate).convertAndSend(eq(CACHE_INVALIDATION_CHANNEL),
+				argThat(message -> ((String) message).endsWith("|" + CACHE_USER_DETAILS + "|1")));
+	}
+
+	@Test
+	void onMessage_whenOtherNodeEvictedUsers_thenEvictOnlyAffectedUsers() {
+		// arrange
+		GmsUserDetails user1 = TestUtils.createGmsUser();
+		GmsUserDetails user2 = TestUtils.createGmsUser();
+		user2.setUserId(2L);
+		when(userAuthService.loadUserByUsername(USERNAME)).thenReturn(user1);
+		when(userAuthService.loadUserByUsername("username2")).thenReturn(user2);
+		service.loadUserByUsername(USERNAME);
+		service.loadUserByUsername("username2");
+
+		// act
+		localCacheInvalidationService.onMessage(new DefaultMessage(new byte[0],
+				("other-node|" + CACHE_USER_DETAILS + "|1,3").getBytes(StandardCharsets.UTF_8)), null);
+
+		// assert
+		service.loadUserByUsername(USERNAME);
+		service.loadUserByUsername("username2");
+		verify(userAuthService, times(2)).loadUserByUsername(USERNAME);
+		verify(userAuthService).loadUserByUsername("username2");
+	}
+
+	@Test
+	void onMessage_whenOtherNodeClearedCache_thenReloadUser() {
+		// arrange
+		when(userAuthService.loadUserByUsername(USERNAME)).thenReturn(TestUtils.createGmsUser());
+		service.loadUserByUsername(USERNAME);
+
+		// act
+		localCacheInvalidationService.onMessage(new DefaultMessage(new byte[0],
+				("other-node|" + CACHE_USER_DETAILS).getBytes(StandardCharsets.UTF_8)), null);
+
+		// assert
+		service.loadUserByUsername(USERNAME);
+		verify(userAuthService, times(2)).loadUserByUsername(USERNAME);
+		assertLogContains(logAppender, "User details cache has been cleared");
+	}
+
+	@Test
+	void loadUserByUsername_whenUserChangedDuringLoading_thenDoNotKeepLoadedUser() {
+		// arrange
+		GmsUserDetails userDetails = TestUtils.createGmsUser();
+		when(userAuthService.loadUserByUsername(USERNAME)).thenAnswer(invocation -> {
+			service.onUserChange(new UserChangeEvent(this, Set.of(userDetails.getUserId())));
+			return userDetails;
+		});
+
+		// act
+		service.loadUserByUsername(USERNAME);
+		service.loadUserByUsername(USERNAME);
+
+		// assert
+		verify(userAuthService, times(2)).loadUserByUsername(USERNAME);
+	}
+}
@@ -2,6 +2,8 @@ package io.github.gms.auth.ldap;
 
 import io.github.gms.abstraction.AbstractLoggingUnitTest;
 import io.github.gms.auth.model.GmsUserDetails;
+import io.github.gms.common.model.UserChangeEvent;
+import io.github.gms.common.service.ApiCacheInvalidationService;
 import io.github.gms.functions.user.UserEntity;
 import io.github.gms.functions.user.UserRepository;
 import io.github.gms.util.TestUtils;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.util.Pair;
 import org.springframework.ldap.core.AttributesMapper;
 import org.springframework.ldap.core.LdapTemplate;
@@ -34,6 +37,8 @@ class LdapSyncServiceTest extends AbstractLoggingUnitTest {
 	private LdapTemplate ldapTemplate;
 	private UserRepository repository;
 	private LdapUserConverter converter;
+	private ApiCacheInvalidationService apiCacheInvalidationService;
+	private ApplicationEventPublisher applicationEventPublisher;
     private LdapSyncService service;
 
 	@Override
@@ -44,7 +49,9 @@ class LdapSyncServiceTest extends AbstractLoggingUnitTest {
 		ldapTemplate = mock(LdapTemplate.class);
 		repository = mock(UserRepository.class);
 		converter = mock(LdapUserConverter.class);
-		service = new LdapSyncService(ldapTemplate, repository, converter);
+		apiCacheInvalidationService = mock(ApiCacheInvalidationService.class);
+		applicationEventPublisher = mock(ApplicationEventPublisher.class);
+		service = new LdapSyncService(ldapTemplate, repository, converter, apiCacheInvalidationService, applicationEventPublisher);
 		service.setAuthType("db");
 		addAppender(LdapSyncService.class);
 	}
@@ -100,6 +107,8 @@ class LdapSyncServiceTest extends AbstractLoggingUnitTest {
 			verify(converter).toEntity(any(GmsUserDetails.class), any(UserEntity.class));
 		}
 		verify(repository).markUserAsDeleted("nonExistingUser");
+		verify(repository).findByUsername("nonExistingUser");
+		verify(applicationEventPublisher).publishEvent(any(UserChangeEvent.class));
 	}
 
 	@Test
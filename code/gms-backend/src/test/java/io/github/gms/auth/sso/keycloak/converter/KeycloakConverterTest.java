@@ -9,6 +9,8 @@ import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.UserRole;
 import io.github.gms.functions.user.UserEntity;
 import io.github.gms.util.TestUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.impl.DefaultClaims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -20,6 +22,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static io.github.gms.common.enums.UserRole.ROLE_USER;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,6 +69,38 @@ class KeycloakConverterTest {
         assertThat(userDetails.getAuthorities().stream().findFirst().get().getAuthority()).isEqualTo("ROLE_USER");
     }
 
+    @Test
+    void toIntrospectResponse_whenClaimsProvided_thenReturnResponse() {
+        // arrange
+        Claims claims = new DefaultClaims(Map.of(
+                "preferred_username", "user1",
+                "name", "My Name",
+                "email", "email@email",
+                "realm_access", Map.of("roles", List.of("offline_access", "ROLE_USER"))));
+
+        // act
+        IntrospectResponse response = converter.toIntrospectResponse(claims);
+
+        // assert
+        assertEquals("user1", response.getUsername());
+        assertEquals("My Name", response.getName());
+        assertEquals("email@email", response.getEmail());
+        assertEquals("true", response.getActive());
+        assertEquals(List.of("offline_access", "ROLE_USER"), response.getRealmAccess().getRoles());
+        assertEquals(ROLE_USER, converter.toUserDetails(response).getAuthorities().stream()
+                .map(authority -> UserRole.getByName(authority.getAuthority())).findFirst().orElse(null));
+    }
+
+    @Test
+    void toIntrospectResponse_whenRealmAccessIsMissing_thenReturnEmptyRoles() {
+        // act
+        IntrospectResponse response = converter.toIntrospectResponse(new DefaultClaims(Map.of("preferred_username", "user1")));
+
+        // assert
+        assertEquals("user1", response.getUsername());
+        assertTrue(response.getRealmAccess().getRoles().isEmpty());
+    }
+
     @Test
     void toUserInfoDto_whenInputProvided_thenReturnUserInfoDto() {
         // act
@@ -2,22 +2,43 @@ package io.github.gms.auth.sso.keycloak.service;
 
 import io.github.gms.auth.sso.keycloak.config.KeycloakSettings;
 import io.github.gms.auth.sso.keycloak.model.IntrospectResponse;
+import io.github.gms.common.service.LocalCacheInvalidationService;
 import io.github.gms.util.TestUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.MultiValueMap;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.gms.common.util.Constants.CACHE_SSO_SESSION;
 import static io.github.gms.common.util.Constants.CLIENT_ID;
 import static io.github.gms.common.util.Constants.CLIENT_SECRET;
 import static io.github.gms.common.util.Constants.REFRESH_TOKEN;
 import static io.github.gms.common.util.Constants.TOKEN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,15 +48,26 @@ import static org.mockito.Mockito.when;
  */
 class KeycloakIntrospectServiceTest {
 
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
     private KeycloakOAuthService oAuthService;
     private KeycloakSettings keycloakSettings;
+    private Clock clock;
+    private MeterRegistry meterRegistry;
+    private LocalCacheInvalidationService localCacheInvalidationService;
     private KeycloakIntrospectService service;
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     public void setup() {
         oAuthService = mock(KeycloakOAuthService.class);
         keycloakSettings = mock(KeycloakSettings.class);
-        service = new KeycloakIntrospectService(oAuthService, keycloakSettings);
+        clock = mock(Clock.class);
+        lenient().when(clock.instant()).thenReturn(NOW);
+        meterRegistry = new SimpleMeterRegistry();
+        localCacheInvalidationService = new LocalCacheInvalidationService(mock(ObjectProvider.class));
+        service = new KeycloakIntrospectService(oAuthService, keycloakSettings, clock, meterRegistry,
+                localCacheInvalidationService, 300L, 100L);
     }
 
     @Test
@@ -69,5 +101,224 @@ class KeycloakIntrospectServiceTest {
         assertEquals("clientSecret", captured.get(CLIENT_SECRET).getFirst());
         assertEquals("accessToken", captured.get(TOKEN).getFirst());
         assertEquals("refreshToken", captured.get(REFRESH_TOKEN).getFirst());
+        assertEquals(1, meterRegistry.counter("gms.sso.session.cache", "result", "miss").count());
+        assertEquals(1, meterRegistry.timer("gms.sso.session.cache.load").count());
+    }
+
+    @Test
+    void getUserDetails_whenSessionCached_thenReturnCachedResponse() {
+        // arrange
+        mockIntrospection(ResponseEntity.ok(activeSession(NOW.plusSeconds(60))));
+
+        // act
+        service.getUserDetails("accessToken", "refreshToken");
+        ResponseEntity<IntrospectResponse> response = service.getUserDetails("accessToken", "refreshToken");
+
+        // assert
+        assertEquals("user1", response.getBody().getUsername());
+        verify(oAuthService).callPostEndpoint(any(), any(), eq(IntrospectResponse.class));
+        assertEquals(1, meterRegistry.counter("gms.sso.session.cache", "result", "hit").count());
+        assertEquals(1, meterRegistry.get("gms.sso.session.cache.size").gauge().value());
+    }
+
+    @Test
+    void getUserDetails_whenAccessTokenExpired_thenIntrospectAgain() {
+        // arrange
+        mockIntrospection(ResponseEntity.ok(activeSession(NOW.plusSeconds(60))));
+        service.getUserDetails("accessToken", "refreshToken");
+        when(clock.instant()).thenReturn(NOW.plusSeconds(60));
+
+        // act
+        service.getUserDetails("accessToken", "refreshToken");
+
+        // assert
+        verify(oAuthService, times(2)).callPostEndpoint(any(), any(), eq(IntrospectResponse.class));
+    }
+
+    @Test
+    void getUserDetails_whenExpirationIsBeyondMaxTtl_thenUseMaxTtl() {
+        // arrange
+        mockIntrospection(ResponseEntity.ok(activeSession(NOW.plusSeconds(3600))));
+        service.getUserDetails("accessToken", "refreshToken");
+        when(clock.instant()).thenReturn(NOW.plusSeconds(300));
+
+        // act
+        service.getUserDetails("accessToken", "refreshToken");
+
+        // assert
+        verify(oAuthService, times(2)).callPostEndpoint(any(), any(), eq(IntrospectResponse.class));
+    }
+
+    @Test
+    void getUserDetails_whenSessionInactive_thenDoNotCache() {
+        // arrange
+        mockIntrospection(ResponseEntity.ok(IntrospectResponse.builder().active("false").build()));
+
+        // act
+        service.getUserDetails("accessToken", "refreshToken");
+        service.getUserDetails("accessToken", "refreshToken");
+
+        // assert
+        verify(oAuthService, times(2)).callPostEndpoint(any(), any(), eq(IntrospectResponse.class));
+    }
+
+    @Test
+    void getUserDetails_whenIntrospectionFailed_thenDoNotCache() {
+        // arrange
+        mockIntrospection(ResponseEntity.badRequest().build());
+
+        // act
+        service.getUserDetails("accessToken", "refreshToken");
+        service.getUserDetails("accessToken", "refreshToken");
+
+        // assert
+        verify(oAuthService, times(2)).callPostEndpoint(any(), any(), eq(IntrospectResponse.class));
+    }
+
+    @Test
+    void evict_whenSessionCached_thenIntrospectAgain() {
+        // arrange
+        mockIntrospection(ResponseEntity.ok(activeSession(NOW.plusSeconds(60))));
+        service.getUserDetails("accessToken", "refreshToken");
+
+        // act
+        service.evict("accessToken", "refreshToken");
+
+        // assert
+        service.getUserDetails("accessToken", "refreshToken");
+        verify(oAuthService, times(2)).callPostEndpoint(any(), any(), eq(IntrospectResponse.class));
+    }
+
+    @Test
+    void evict_whenOtherNodeEvictedSession_thenIntrospectAgain() {
+        // arrange
+        mockIntrospection(ResponseEntity.ok(activeSession(NOW.plusSeconds(60))));
+        service.getUserDetails("accessToken", "refreshToken");
+
+        // act
+        localCacheInvalidationService.onMessage(new DefaultMessage(new byte[0],
+                ("other-node|" + CACHE_SSO_SESSION).getBytes(StandardCharsets.UTF_8)), null);
+
+        // assert
+        service.getUserDetails("accessToken", "refreshToken");
+        verify(oAuthService, times(2)).callPostEndpoint(any(), any(), eq(IntrospectResponse.class));
+    }
+
+    @Test
+    void evict_whenSessionEvictedDuringIntrospection_thenDoNotCacheResponse() {
+        // arrange
+        when(oAuthService.callPostEndpoint(any(), any(), eq(IntrospectResponse.class))).thenAnswer(invocation -> {
+            service.evict("accessToken", "refreshToken");
+            return ResponseEntity.ok(activeSession(NOW.plusSeconds(60)));
+        });
+
+        // act
+        service.getUserDetails("accessToken", "refreshToken");
+        service.getUserDetails("accessToken", "refreshToken");
+
+        // assert
+        verify(oAuthService, times(2)).callPostEndpoint(any(), any(), eq(IntrospectResponse.class));
+    }
+
+    @Test
+    void evict_whenSessionEvictedDuringIntrospection_thenDoNotJoinInFlightLoad() throws Exception {
+        // arrange
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(oAuthService.callPostEndpoint(any(), any(), eq(IntrospectResponse.class))).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                loadStarted.countDown();
+                releaseLoad.await(5, TimeUnit.SECONDS);
+            }
+
+            return ResponseEntity.ok(activeSession(NOW.plusSeconds(60)));
+        });
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<ResponseEntity<IntrospectResponse>> staleLoad =
+                    executorService.submit(() -> service.getUserDetails("accessToken", "refreshToken"));
+            loadStarted.await(5, TimeUnit.SECONDS);
+
+            // act
+            service.evict("accessToken", "refreshToken");
+            ResponseEntity<IntrospectResponse> response = service.getUserDetails("accessToken", "refreshToken");
+
+            // assert
+            assertNotNull(response.getBody());
+            assertEquals(0, meterRegistry.counter("gms.sso.session.cache", "result", "coalesced").count());
+            releaseLoad.countDown();
+            assertNotNull(staleLoad.get(5, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        verify(oAuthService, times(2)).callPostEndpoint(any(), any(), eq(IntrospectResponse.class));
+    }
+
+    @Test
+    void getUserDetails_whenCalledConcurrently_thenCallKeycloakOnce() throws Exception {
+        // arrange
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        when(oAuthService.callPostEndpoint(any(), any(), eq(IntrospectResponse.class))).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            releaseLoad.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok(activeSession(NOW.plusSeconds(60)));
+        });
+        int threads = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<ResponseEntity<IntrospectResponse>>> results = new ArrayList<>();
+            results.add(executorService.submit(() -> service.getUserDetails("accessToken", "refreshToken")));
+            loadStarted.await(5, TimeUnit.SECONDS);
+
+            for (int i = 1; i < threads; i++) {
+                results.add(executorService.submit(() -> service.getUserDetails("accessToken", "refreshToken")));
+            }
+
+            // act
+            while (meterRegistry.counter("gms.sso.session.cache", "result", "coalesced").count() < threads - 1) {
+                Thread.onSpinWait();
+            }
+            releaseLoad.countDown();
+
+            // assert
+            for (Future<ResponseEntity<IntrospectResponse>> result : results) {
+                assertEquals("user1", result.get(5, TimeUnit.SECONDS).getBody().getUsername());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        verify(oAuthService).callPostEndpoint(any(), any(), eq(IntrospectResponse.class));
+    }
+
+    @Test
+    void getUserDetails_whenIntrospectionThrowsException_thenRethrow() {
+        // arrange
+        when(oAuthService.callPostEndpoint(any(), any(), eq(IntrospectResponse.class)))
+                .thenThrow(new IllegalStateException("Keycloak is not available"));
+
+        // act
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> service.getUserDetails("accessToken", "refreshToken"));
+
+        // assert
+        assertEquals("Keycloak is not available", exception.getMessage());
+    }
+
+    private void mockIntrospection(ResponseEntity<IntrospectResponse> response) {
+        when(oAuthService.callPostEndpoint(any(), any(), eq(IntrospectResponse.class))).thenReturn(response);
+    }
+
+    private static IntrospectResponse activeSession(Instant expiration) {
+        return IntrospectResponse.builder()
+                .username("user1")
+                .active("true")
+                .expiration(expiration.getEpochSecond())
+                .build();
     }
 }
@@ -0,0 +1,179 @@
+package io.github.gms.auth.sso.keycloak.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.gms.abstraction.AbstractLoggingUnitTest;
+import io.github.gms.auth.sso.keycloak.config.KeycloakSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.github.gms.util.LogAssertionUtils.assertLogContains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test of {@link KeycloakJwksService} with a local stub JWKS server.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class KeycloakJwksServiceTest extends AbstractLoggingUnitTest {
+
+    private static final String JWKS_PATH = "/realms/gms/protocol/openid-connect/certs";
+
+    private HttpServer server;
+    private final AtomicReference<String> jwksResponse = new AtomicReference<>("{\"keys\":[]}");
+    private final AtomicInteger requestCounter = new AtomicInteger();
+    private KeycloakSettings keycloakSettings;
+    private Clock clock;
+    private KeycloakJwksService service;
+
+    @Override
+    @BeforeEach
+    public void setup() {
+        super.setup();
+        server = createServer();
+        server.start();
+
+        keycloakSettings = mock(KeycloakSettings.class);
+        when(keycloakSettings.isLocalVerificationEnabled()).thenReturn(true);
+        lenient().when(keycloakSettings.getJwksUrl()).thenReturn("http://localhost:" + server.getAddress().getPort() + JWKS_PATH);
+        clock = mock(Clock.class);
+        lenient().when(clock.millis()).thenReturn(100000L);
+        service = new KeycloakJwksService(new KeycloakOAuthService(new RestTemplate()), keycloakSettings, clock);
+        addAppender(KeycloakJwksService.class);
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() {
+        super.tearDown();
+        server.stop(0);
+    }
+
+    @Test
+    void refresh_whenLocalVerificationDisabled_thenSkipRefresh() {
+        // arrange
+        when(keycloakSettings.isLocalVerificationEnabled()).thenReturn(false);
+
+        // act
+        service.refresh();
+
+        // assert
+        assertEquals(0, requestCounter.get());
+    }
+
+    @Test
+    void refresh_whenServerFails_thenKeepPreviousKeys() throws Exception {
+        // arrange
+        KeyPair keyPair = generateKeyPair();
+        jwksResponse.set(toJwks("key1", keyPair));
+        service.refresh();
+        jwksResponse.set("invalid");
+
+        // act
+        service.refresh();
+
+        // assert
+        assertEquals(keyPair.getPublic(), service.getPublicKey("key1"));
+        assertLogContains(logAppender, "JWKS could not be refreshed");
+    }
+
+    @Test
+    void getPublicKey_whenKeysLoaded_thenReturnKeyFromMemory() throws Exception {
+        // arrange
+        KeyPair keyPair = generateKeyPair();
+        jwksResponse.set(toJwks("key1", keyPair));
+        service.refresh();
+
+        // act
+        service.getPublicKey("key1");
+        service.getPublicKey("key1");
+
+        // assert
+        assertEquals(keyPair.getPublic(), service.getPublicKey("key1"));
+        assertEquals(1, requestCounter.get());
+        assertLogContains(logAppender, "1 signing key(s) have been loaded from the JWKS endpoint");
+    }
+
+    @Test
+    void getPublicKey_whenKeyIsUnknown_thenRefreshKeysOnDemand() throws Exception {
+        // arrange
+        service.refresh();
+        KeyPair keyPair = generateKeyPair();
+        jwksResponse.set(toJwks("rotatedKey", keyPair));
+        when(clock.millis()).thenReturn(120000L);
+
+        // act
+        var response = service.getPublicKey("rotatedKey");
+
+        // assert
+        assertEquals(keyPair.getPublic(), response);
+        assertEquals(2, requestCounter.get());
+    }
+
+    @Test
+    void getPublicKey_whenRefreshedRecently_thenDoNotCallServerAgain() {
+        // arrange
+        service.refresh();
+
+        // act
+        var response1 = service.getPublicKey("unknown1");
+        var response2 = service.getPublicKey("unknown2");
+
+        // assert
+        assertNull(response1);
+        assertNull(response2);
+        assertEquals(1, requestCounter.get());
+    }
+
+    private HttpServer createServer() {
+        try {
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            httpServer.createContext(JWKS_PATH, exchange -> {
+                requestCounter.incrementAndGet();
+                byte[] body = jwksResponse.get().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            });
+            return httpServer;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static String toJwks(String keyId, KeyPair keyPair) {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "{\"keys\":[" +
+                "{\"kid\":\"encKey\",\"kty\":\"RSA\",\"use\":\"enc\",\"n\":\"AQAB\",\"e\":\"AQAB\"}," +
+                "{\"kid\":\"" + keyId + "\",\"kty\":\"RSA\",\"use\":\"sig\",\"alg\":\"RS256\"," +
+                "\"n\":\"" + encoder.encodeToString(publicKey.getModulus().toByteArray()) + "\"," +
+                "\"e\":\"" + encoder.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}]}";
+    }
+}
@@ -34,6 +34,7 @@ class KeycloakLoginServiceTest {
     private KeycloakOAuthService oAuthService;
     private HttpServletRequest httpServletRequest;
     private KeycloakSettings keycloakSettings;
+    private KeycloakIntrospectService keycloakIntrospectService;
     private KeycloakLoginService service;
 
     @BeforeEach
@@ -41,8 +42,9 @@ class KeycloakLoginServiceTest {
         oAuthService = mock(KeycloakOAuthService.class);
         httpServletRequest = mock(HttpServletRequest.class);
         keycloakSettings = mock(KeycloakSettings.class);
+        keycloakIntrospectService = mock(KeycloakIntrospectService.class);
 
-        service = new KeycloakLoginService(oAuthService, httpServletRequest, keycloakSettings);
+        service = new KeycloakLoginService(oAuthService, httpServletRequest, keycloakSettings, keycloakIntrospectService);
     }
 
     @Test
@@ -105,6 +107,7 @@ class KeycloakLoginServiceTest {
         assertEquals("clientSecret", captured.get(CLIENT_SECRET).getFirst());
         assertEquals("access", captured.get(TOKEN).getFirst());
         assertEquals("refresh", captured.get(REFRESH_TOKEN).getFirst());
+        verify(keycloakIntrospectService).evict("access", "refresh");
     }
 
     @ParameterizedTest
@@ -124,6 +127,7 @@ class KeycloakLoginServiceTest {
         verify(keycloakSettings, never()).getClientSecret();
         verify(keycloakSettings, never()).getLogoutUrl();
         verify(oAuthService, never()).callPostEndpoint(eq(TestUtils.LOCALHOST_8080), any(MultiValueMap.class), eq(Void.class));
+        verify(keycloakIntrospectService, never()).evict(any(), any());
     }
 
     private static Object[] emptyInputData() {
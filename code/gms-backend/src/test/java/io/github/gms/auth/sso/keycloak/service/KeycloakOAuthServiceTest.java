@@ -62,4 +62,17 @@ public class KeycloakOAuthServiceTest extends AbstractUnitTest {
         verify(restTemplate).postForEntity(eq(URL), argument.capture(), eq(String.class));
         assertEquals(MediaType.APPLICATION_FORM_URLENCODED, argument.getValue().getHeaders().getContentType());
     }
+
+    @Test
+    void callGetEndpoint_whenInputProvided_thenReturnResponse() {
+        // arrange
+        when(restTemplate.getForObject(URL, String.class)).thenReturn("ok");
+
+        // act
+        String response = service.callGetEndpoint(URL, String.class);
+
+        // assert
+        assertEquals("ok", response);
+        verify(restTemplate).getForObject(URL, String.class);
+    }
 }
@@ -0,0 +1,203 @@
+package io.github.gms.auth.sso.keycloak.service;
+
+import io.github.gms.abstraction.AbstractLoggingUnitTest;
+import io.github.gms.auth.sso.keycloak.config.KeycloakSettings;
+import io.github.gms.auth.sso.keycloak.converter.KeycloakConverter;
+import io.github.gms.auth.sso.keycloak.model.IntrospectResponse;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.github.gms.util.LogAssertionUtils.assertLogContains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test of {@link KeycloakTokenVerifierService}
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class KeycloakTokenVerifierServiceTest extends AbstractLoggingUnitTest {
+
+    private static final String ISSUER = "http://localhost:8080/realms/gms";
+    private static final String KEY_ID = "key1";
+    private static final String CLIENT_ID = "gms-client";
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private static KeyPair keyPair;
+
+    private KeycloakSettings keycloakSettings;
+    private KeycloakJwksService keycloakJwksService;
+    private KeycloakConverter converter;
+    private KeycloakTokenVerifierService service;
+
+    @BeforeAll
+    static void generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+    }
+
+    @Override
+    @BeforeEach
+    public void setup() {
+        super.setup();
+        keycloakSettings = mock(KeycloakSettings.class);
+        when(keycloakSettings.getIssuer()).thenReturn(ISSUER);
+        when(keycloakSettings.isLocalVerificationEnabled()).thenReturn(true);
+        lenient().when(keycloakSettings.getClientId()).thenReturn(CLIENT_ID);
+        keycloakJwksService = mock(KeycloakJwksService.class);
+        converter = mock(KeycloakConverter.class);
+        service = new KeycloakTokenVerifierService(keycloakSettings, keycloakJwksService, converter,
+                Clock.fixed(NOW, ZoneId.systemDefault()));
+        addAppender(KeycloakTokenVerifierService.class);
+    }
+
+    @Test
+    void verify_whenLocalVerificationDisabled_thenReturnEmpty() {
+        // arrange
+        when(keycloakSettings.isLocalVerificationEnabled()).thenReturn(false);
+
+        // act
+        Optional<IntrospectResponse> response = service.verify(createToken(KEY_ID, ISSUER, NOW.plusSeconds(300)));
+
+        // assert
+        assertTrue(response.isEmpty());
+        verify(keycloakJwksService, never()).getPublicKey(any());
+    }
+
+    @Test
+    void verify_whenTokenIsValid_thenReturnResponse() {
+        // arrange
+        IntrospectResponse mockResponse = IntrospectResponse.builder().username("user1").build();
+        when(keycloakJwksService.getPublicKey(KEY_ID)).thenReturn(keyPair.getPublic());
+        when(converter.toIntrospectResponse(any(Claims.class))).thenReturn(mockResponse);
+
+        // act
+        Optional<IntrospectResponse> response = service.verify(createToken(KEY_ID, ISSUER, NOW.plusSeconds(300)));
+
+        // assert
+        assertTrue(response.isPresent());
+        assertEquals(mockResponse, response.get());
+    }
+
+    @Test
+    void verify_whenTokenHasExpired_thenReturnEmpty() {
+        // arrange
+        when(keycloakJwksService.getPublicKey(KEY_ID)).thenReturn(keyPair.getPublic());
+
+        // act
+        Optional<IntrospectResponse> response = service.verify(createToken(KEY_ID, ISSUER, NOW.minusSeconds(1)));
+
+        // assert
+        assertTrue(response.isEmpty());
+        assertLogContains(logAppender, "Access token could not be verified locally");
+        verify(converter, never()).toIntrospectResponse(any());
+    }
+
+    @Test
+    void verify_whenIssuerIsDifferent_thenReturnEmpty() {
+        // arrange
+        when(keycloakJwksService.getPublicKey(KEY_ID)).thenReturn(keyPair.getPublic());
+
+        // act
+        Optional<IntrospectResponse> response = service.verify(createToken(KEY_ID, "http://other/realms/gms", NOW.plusSeconds(300)));
+
+        // assert
+        assertTrue(response.isEmpty());
+        verify(converter, never()).toIntrospectResponse(any());
+    }
+
+    @Test
+    void verify_whenSigningKeyIsUnknown_thenReturnEmpty() {
+        // act
+        Optional<IntrospectResponse> response = service.verify(createToken("unknownKey", ISSUER, NOW.plusSeconds(300)));
+
+        // assert
+        assertTrue(response.isEmpty());
+        assertLogContains(logAppender, "Unknown signing key: unknownKey");
+    }
+
+    @Test
+    void verify_whenAudienceContainsClient_thenReturnResponse() {
+        // arrange
+        IntrospectResponse mockResponse = IntrospectResponse.builder().username("user1").build();
+        when(keycloakJwksService.getPublicKey(KEY_ID)).thenReturn(keyPair.getPublic());
+        when(converter.toIntrospectResponse(any(Claims.class))).thenReturn(mockResponse);
+
+        // act
+        Optional<IntrospectResponse> response = service.verify(createToken(Map.of("typ", "Bearer", "azp", "other-client",
+                "aud", List.of("account", CLIENT_ID))));
+
+        // assert
+        assertTrue(response.isPresent());
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidClaims")
+    void verify_whenTokenIsNotAnAccessTokenOfClient_thenReturnEmpty(Map<String, Object> claims) {
+        // arrange
+        when(keycloakJwksService.getPublicKey(KEY_ID)).thenReturn(keyPair.getPublic());
+
+        // act
+        Optional<IntrospectResponse> response = service.verify(createToken(claims));
+
+        // assert
+        assertTrue(response.isEmpty());
+        assertLogContains(logAppender, "Token is not an access token of the client, falling back to introspection");
+        verify(converter, never()).toIntrospectResponse(any());
+    }
+
+    private static Object[][] invalidClaims() {
+        return new Object[][] {
+                { Map.of("azp", CLIENT_ID) },
+                { Map.of("typ", "ID", "azp", CLIENT_ID) },
+                { Map.of("typ", "Refresh", "azp", CLIENT_ID) },
+                { Map.of("typ", "Bearer", "azp", "other-client") },
+                { Map.of("typ", "Bearer", "azp", "other-client", "aud", List.of("account")) },
+                { Map.of("typ", "Bearer") }
+        };
+    }
+
+    private static String createToken(String keyId, String issuer, Instant expiration) {
+        return createToken(keyId, issuer, expiration, Map.of("typ", "Bearer", "azp", CLIENT_ID));
+    }
+
+    private static String createToken(Map<String, Object> tokenClaims) {
+        return createToken(KEY_ID, ISSUER, NOW.plusSeconds(300), tokenClaims);
+    }
+
+    private static String createToken(String keyId, String issuer, Instant expiration, Map<String, Object> tokenClaims) {
+        return Jwts.builder()
+                .setHeaderParam("kid", keyId)
+                .setIssuer(issuer)
+                .setIssuedAt(Date.from(NOW.minusSeconds(60)))
+                .setExpiration(Date.from(expiration))
+                .addClaims(Map.of("preferred_username", "user1", "realm_access", Map.of("roles", List.of("ROLE_USER"))))
+                .addClaims(tokenClaims)
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+}
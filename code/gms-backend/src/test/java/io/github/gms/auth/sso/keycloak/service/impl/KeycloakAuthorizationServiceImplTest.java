@@ -6,6 +6,7 @@ import io.github.gms.auth.sso.keycloak.Input;
 import io.github.gms.auth.sso.keycloak.converter.KeycloakConverter;
 import io.github.gms.auth.sso.keycloak.model.IntrospectResponse;
 import io.github.gms.auth.sso.keycloak.service.KeycloakIntrospectService;
+import io.github.gms.auth.sso.keycloak.service.KeycloakTokenVerifierService;
 import io.github.gms.functions.user.UserRepository;
 import io.github.gms.util.TestUtils;
 import jakarta.servlet.http.Cookie;
@@ -34,6 +35,7 @@ class KeycloakAuthorizationServiceImplTest {
 
     private KeycloakConverter converter;
     private KeycloakIntrospectService keycloakIntrospectService;
+    private KeycloakTokenVerifierService keycloakTokenVerifierService;
     private UserRepository userRepository;
     private KeycloakAuthorizationServiceImpl service;
 
@@ -41,8 +43,11 @@ class KeycloakAuthorizationServiceImplTest {
     public void setup() {
         converter = mock(KeycloakConverter.class);
         keycloakIntrospectService = mock(KeycloakIntrospectService.class);
+        keycloakTokenVerifierService = mock(KeycloakTokenVerifierService.class);
+        when(keycloakTokenVerifierService.verify(anyString())).thenReturn(Optional.empty());
         userRepository = mock(UserRepository.class);
-        service = new KeycloakAuthorizationServiceImpl(converter, keycloakIntrospectService, userRepository);
+        service = new KeycloakAuthorizationServiceImpl(converter, keycloakIntrospectService, keycloakTokenVerifierService,
+                userRepository);
     }
 
     @ParameterizedTest
@@ -153,6 +158,30 @@ class KeycloakAuthorizationServiceImplTest {
         verify(converter).toUserDetails(mockIntrospectResponse);
     }
 
+    @Test
+    void authorize_whenTokenVerifiedLocally_thenSkipIntrospection() {
+        // arrange
+        HttpServletRequest httpServletRequest = mock(HttpServletRequest.class);
+        when(httpServletRequest.getCookies()).thenReturn(new Cookie[]{
+                new Cookie(ACCESS_JWT_TOKEN, "access"),
+                new Cookie(REFRESH_JWT_TOKEN, "refresh")
+        });
+        IntrospectResponse mockIntrospectResponse = IntrospectResponse.builder().build();
+        when(keycloakTokenVerifierService.verify("access")).thenReturn(Optional.of(mockIntrospectResponse));
+        GmsUserDetails mockUser = TestUtils.createGmsAdminUser();
+        when(converter.toUserDetails(mockIntrospectResponse)).thenReturn(mockUser);
+        when(userRepository.findByUsername(anyString())).thenReturn(Optional.of(TestUtils.createAdminUser()));
+
+        // act
+        AuthorizationResponse response = service.authorize(httpServletRequest);
+
+        // assert
+        assertNotNull(response);
+        assertNotNull(response.getAuthentication());
+        assertEquals(HttpStatus.OK, response.getResponseStatus());
+        verify(keycloakIntrospectService, never()).getUserDetails(anyString(), anyString());
+    }
+
     private static Object[] emptyInputData() {
         return new Object[]{
                 new Input(new Cookie[]{}),
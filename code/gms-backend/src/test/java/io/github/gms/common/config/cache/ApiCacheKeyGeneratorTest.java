@@ -0,0 +1,54 @@
+package io.github.gms.common.config.cache;
+
+import io.github.gms.functions.api.SecretValueProviderService;
+import io.github.gms.functions.secret.SecretEntity;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Unit test of {@link ApiCacheKeyGenerator}
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class ApiCacheKeyGeneratorTest {
+
+	private final ApiCacheKeyGenerator generator = new ApiCacheKeyGenerator();
+
+	@Test
+	void generate_whenSecretIdAndUserIdProvided_thenReturnKey() throws Exception {
+		// arrange
+		Method method = SecretValueProviderService.class.getMethod("getSecretValue", String.class, Long.class);
+
+		// act
+		Object response = generator.generate(new Object(), method, "secret1", 1L);
+
+		// assert
+		assertEquals("1:secret1", response);
+	}
+
+	@Test
+	void generate_whenSecretEntityProvided_thenReturnSameKey() throws Exception {
+		// arrange
+		Method method = SecretValueProviderService.class.getMethod("getSecretValue", SecretEntity.class);
+		SecretEntity entity = new SecretEntity();
+		entity.setUserId(1L);
+		entity.setSecretId("secret1");
+
+		// act
+		Object response = generator.generate(new Object(), method, entity);
+
+		// assert
+		assertEquals("1:secret1", response);
+	}
+
+	@Test
+	void key_whenSameSecretIdBelongsToDifferentUsers_thenReturnDifferentKeys() {
+		// act & assert
+		assertNotEquals(ApiCacheKeyGenerator.key(1L, "secret1"), ApiCacheKeyGenerator.key(2L, "secret1"));
+	}
+}
@@ -0,0 +1,198 @@
+package io.github.gms.common.config.cache;
+
+import io.github.gms.abstraction.AbstractLoggingUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static io.github.gms.common.util.Constants.CACHE_API;
+import static io.github.gms.common.util.Constants.CACHE_USER;
+import static io.github.gms.util.LogAssertionUtils.assertLogContains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test of {@link TwoTierCacheManager}. The shared {@link ConcurrentMapCacheManager} stands in for Redis
+ * as the L2 cache, and the published messages are delivered to every node like Redis pub/sub would do.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class TwoTierCacheManagerTest extends AbstractLoggingUnitTest {
+
+	private static final String KEY = "secret1";
+
+	private ConcurrentMapCacheManager remoteCacheManager;
+	private List<TwoTierCacheManager> nodes;
+	private TwoTierCacheManager node1;
+	private TwoTierCacheManager node2;
+
+	@Override
+	@BeforeEach
+	public void setup() {
+		super.setup();
+		remoteCacheManager = new ConcurrentMapCacheManager(CACHE_API, CACHE_USER);
+		nodes = new CopyOnWriteArrayList<>();
+		node1 = createNode();
+		node2 = createNode();
+		addAppender(TwoTierCacheManager.class);
+	}
+
+	@Test
+	void getCache_whenRemoteCacheDoesNotExist_thenReturnNull() {
+		// act
+		Cache response = node1.getCache("unknown");
+
+		// assert
+		assertNull(response);
+	}
+
+	@Test
+	void getCache_whenCalledTwice_thenReturnSameInstance() {
+		// act
+		Cache response = node1.getCache(CACHE_API);
+
+		// assert
+		assertInstanceOf(TwoTierCache.class, response);
+		assertSame(response, node1.getCache(CACHE_API));
+		assertEquals(remoteCacheManager.getCacheNames(), node1.getCacheNames());
+		assertEquals(CACHE_API, response.getName());
+		assertSame(remoteCacheManager.getCache(CACHE_API).getNativeCache(), response.getNativeCache());
+	}
+
+	@Test
+	void get_whenValueHasBeenRead_thenServeItFromLocalCache() {
+		// arrange
+		remoteCacheManager.getCache(CACHE_API).put(KEY, "value1");
+		assertEquals("value1", node1.getCache(CACHE_API).get(KEY, String.class));
+		remoteCacheManager.getCache(CACHE_API).put(KEY, "value2");
+
+		// act
+		Cache.ValueWrapper response = node1.getCache(CACHE_API).get(KEY);
+
+		// assert
+		assertEquals("value1", response.get());
+		assertEquals("value2", node2.getCache(CACHE_API).get(KEY, String.class));
+	}
+
+	@Test
+	void get_whenValueIsMissing_thenReturnNull() {
+		// act
+		Cache.ValueWrapper response = node1.getCache(CACHE_API).get(KEY);
+
+		// assert
+		assertNull(response);
+		assertNull(node1.getCache(CACHE_API).get(KEY, String.class));
+	}
+
+	@Test
+	void get_whenTypeDoesNotMatch_thenThrowIllegalStateException() {
+		// arrange
+		Cache cache = node1.getCache(CACHE_API);
+		cache.put(KEY, "value1");
+
+		// act
+		IllegalStateException exception = assertThrows(IllegalStateException.class, () -> cache.get(KEY, Long.class));
+
+		// assert
+		assertTrue(exception.getMessage().startsWith("Cached value is not of required type"));
+	}
+
+	@Test
+	void get_whenValueLoaderProvided_thenLoadOnlyOnce() {
+		// arrange
+		Cache cache = node1.getCache(CACHE_API);
+		cache.get(KEY, () -> "loaded");
+
+		// act
+		String response = cache.get(KEY, () -> "loadedAgain");
+
+		// assert
+		assertEquals("loaded", response);
+		assertEquals("loaded", remoteCacheManager.getCache(CACHE_API).get(KEY, String.class));
+	}
+
+	@Test
+	void evict_whenCalledOnOneNode_thenInvalidateLocalCacheOfEveryNode() {
+		// arrange
+		node1.getCache(CACHE_API).put(KEY, "value1");
+		node2.getCache(CACHE_API).get(KEY);
+		node2.getCache(CACHE_USER).put(KEY, "user1");
+
+		// act
+		node1.getCache(CACHE_API).evict(KEY);
+
+		// assert
+		assertNull(remoteCacheManager.getCache(CACHE_API).get(KEY));
+		assertNull(node1.getCache(CACHE_API).get(KEY));
+		assertNull(node2.getCache(CACHE_API).get(KEY));
+		assertEquals("user1", node2.getCache(CACHE_USER).get(KEY, String.class));
+	}
+
+	@Test
+	void clear_whenCalledOnOneNode_thenInvalidateLocalCacheOfEveryNode() {
+		// arrange
+		node1.getCache(CACHE_API).put(KEY, "value1");
+		node2.getCache(CACHE_API).get(KEY);
+
+		// act
+		node1.getCache(CACHE_API).clear();
+
+		// assert
+		assertNull(node1.getCache(CACHE_API).get(KEY));
+		assertNull(node2.getCache(CACHE_API).get(KEY));
+	}
+
+	@Test
+	void onMessage_whenMessageIsInvalid_thenSkip() {
+		// arrange
+		node1.getCache(CACHE_API).put(KEY, "value1");
+		remoteCacheManager.getCache(CACHE_API).evict(KEY);
+
+		// act
+		node1.onMessage(message("invalid"), null);
+		node1.onMessage(message("otherNode|unknownCache|" + KEY), null);
+
+		// assert
+		assertEquals("value1", node1.getCache(CACHE_API).get(KEY, String.class));
+	}
+
+	@Test
+	void evict_whenPublishFails_thenLogWarning() {
+		// arrange
+		TwoTierCacheManager node = new TwoTierCacheManager(remoteCacheManager, message -> {
+			throw new IllegalStateException("Redis is unavailable");
+		}, 10, Duration.ofSeconds(30));
+		node.getCache(CACHE_API).put(KEY, "value1");
+
+		// act
+		node.getCache(CACHE_API).evict(KEY);
+
+		// assert
+		assertNull(node.getCache(CACHE_API).get(KEY));
+		assertLogContains(logAppender, "Cache invalidation message could not be published: Redis is unavailable");
+	}
+
+	private TwoTierCacheManager createNode() {
+		Consumer<String> broker = message -> nodes.forEach(node -> node.onMessage(message(message), null));
+		TwoTierCacheManager node = new TwoTierCacheManager(remoteCacheManager, broker, 10, Duration.ofSeconds(30));
+		nodes.add(node);
+		return node;
+	}
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage(new byte[0], body.getBytes(StandardCharsets.UTF_8));
+	}
+}
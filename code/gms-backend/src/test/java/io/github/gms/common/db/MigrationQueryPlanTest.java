@@ -0,0 +1,97 @@
+package io.github.gms.common.db;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the migration scripts on the embedded H2 database and checks that the hot-path finder queries
+ * are executed with the indexes created by the migration scripts.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class MigrationQueryPlanTest {
+
+	private static final String URL = "jdbc:h2:mem:queryplan;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;NON_KEYWORDS=VALUE";
+	private static final String USERNAME = "sa";
+	private static final String PASSWORD = "";
+
+	private static Connection connection;
+
+	@BeforeAll
+	static void setupDatabase() throws Exception {
+		Flyway.configure()
+				.dataSource(URL, USERNAME, PASSWORD)
+				.locations("classpath:db/postgresql/migration")
+				.load()
+				.migrate();
+		connection = DriverManager.getConnection(URL, USERNAME, PASSWORD);
+	}
+
+	@AfterAll
+	static void tearDownDatabase() throws Exception {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP ALL OBJECTS");
+		}
+
+		connection.close();
+	}
+
+	@ParameterizedTest
+	@MethodSource("inputData")
+	void explain_whenHotPathQueryExecuted_thenUseIndex(String query, String expectedIndex) throws Exception {
+		// act
+		String plan = explain(query);
+
+		// assert
+		assertTrue(plan.contains(expectedIndex), "Index " + expectedIndex + " is not used: " + plan);
+	}
+
+	private static String explain(String query) throws Exception {
+		try (Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery("EXPLAIN " + query)) {
+			StringBuilder plan = new StringBuilder();
+
+			while (resultSet.next()) {
+				plan.append(resultSet.getString(1));
+			}
+
+			return plan.toString().toLowerCase();
+		}
+	}
+
+	private static Object[][] inputData() {
+		return new Object[][] {
+				// ApiKeyRepository.findAllByValueHashAndStatus
+				{ "select * from gms_api_key where value_hash = 'hash' and status = 'ACTIVE'", "idx_gms_api_key_hash" },
+				// SecretRepository.findByUserIdAndSecretIdAndStatus
+				{ "select * from gms_secret where user_id = 1 and secret_id = 'secret1' and status = 'ACTIVE'", "idx_gms_secret_usr_sid_st" },
+				// SecretRepository.findAllDueForRotation
+				{ "select * from gms_secret where id > 0 and next_rotation_at <= current_timestamp and rotation_enabled = 1 and status = 'ACTIVE' order by id limit 500", "idx_gms_secret_next_rot" },
+				// IpRestrictionRepository.findAllBySecretId
+				{ "select * from gms_ip_restriction where secret_id = 1", "idx_gms_ip_restr_secret" },
+				// ApiKeyRestrictionRepository.findAllByUserIdAndSecretId
+				{ "select * from gms_api_key_restriction where user_id = 1 and secret_id = 1", "idx_gms_api_kr_usr_secret" },
+				// EventRepository.findAllExpiredIds
+				{ "select id from gms_event where event_date < current_timestamp and id > 0 and mod(id, 1) = 0 order by id limit 1000", "idx_gms_event_date" },
+				// MessageRepository.countAllUnreadByUserId
+				{ "select count(*) from gms_message where opened = 0 and user_id = 1", "idx_gms_message_usr_opened" },
+				// MessageRepository.findAllExpiredIds
+				{ "select id from gms_message where creation_date < current_timestamp and id > 0 order by id limit 1000", "idx_gms_message_date" },
+				// JobRepository.findAllExpiredIds
+				{ "select id from gms_job where end_time < current_timestamp and id > 0 order by id limit 1000", "idx_gms_job_end_time" },
+				// KeystoreAliasRepository.findAllByKeystoreId
+				{ "select * from gms_keystore_alias where keystore_id = 1", "idx_gms_ks_alias_keystore" }
+		};
+	}
+}
@@ -67,4 +67,26 @@ class EncryptedFieldConverterTest extends AbstractUnitTest {
 		// assert
 		assertEquals(ORIGINAL_VALUE, decryptedValue);
 	}
+
+	@Test
+	void convert_whenCalledRepeatedly_thenReuseCipherState() {
+		// arrange
+		converter = new EncryptedFieldConverter(VALID_SECRET, ENCRYPTION_IV);
+
+		// act & assert
+		for (int i = 0; i < 3; i++) {
+			assertEquals(ENCRYPTED_VALUE, converter.convertToDatabaseColumn(ORIGINAL_VALUE));
+			assertEquals(ORIGINAL_VALUE, converter.convertToEntityAttribute(ENCRYPTED_VALUE));
+		}
+	}
+
+	@Test
+	void convertToEntityAttribute_whenValueIsTampered_thenThrowIllegalStateExceptionAndRecover() {
+		// arrange
+		converter = new EncryptedFieldConverter(VALID_SECRET, ENCRYPTION_IV);
+
+		// act & assert
+		assertThrows(IllegalStateException.class, () -> converter.convertToEntityAttribute("kEEgTrpbKdiJegJFrAcwBnTujN2t"));
+		assertEquals(ORIGINAL_VALUE, converter.convertToEntityAttribute(ENCRYPTED_VALUE));
+	}
 }
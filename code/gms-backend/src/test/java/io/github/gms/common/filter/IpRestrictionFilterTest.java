@@ -15,7 +15,6 @@ import org.springframework.http.HttpStatus;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 /**
@@ -60,7 +59,7 @@ class IpRestrictionFilterTest extends AbstractUnitTest {
     void doFilterInternal_whenAddressIsBlocked_thenReturnForbidden() {
         // arrange
         when(ipRestrictionService.checkGlobalIpRestrictions()).thenReturn(new IpRestrictionPatterns(List.of()));
-        when(validator.isIpAddressBlocked(anyList())).thenReturn(true);
+        when(validator.isIpAddressBlocked(any(IpRestrictionPatterns.class))).thenReturn(true);
 
         // act
         HttpServletRequest request = mock(HttpServletRequest.class);
@@ -71,7 +70,7 @@ class IpRestrictionFilterTest extends AbstractUnitTest {
         filter.doFilterInternal(request, response, filterChain);
 
         // assert
-        verify(validator).isIpAddressBlocked(anyList());
+        verify(validator).isIpAddressBlocked(any(IpRestrictionPatterns.class));
         verify(response).sendError(HttpStatus.FORBIDDEN.value(), "You are not allowed to get this secret from your IP address!");
         verify(filterChain, never()).doFilter(any(), any());
     }
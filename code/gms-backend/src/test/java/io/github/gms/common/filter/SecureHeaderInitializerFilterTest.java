@@ -156,6 +156,32 @@ class SecureHeaderInitializerFilterTest extends AbstractUnitTest {
 		}
 	}
 
+	@Test
+	@SneakyThrows
+	void doFilterInternal_whenJwtPairIsMissing_thenSkipCookies() {
+		// arrange
+		HttpServletRequest request = mock(HttpServletRequest.class);
+		HttpServletResponse response = mock(HttpServletResponse.class);
+		FilterChain filterChain = mock(FilterChain.class);
+		Authentication mockAuthentication = mock(Authentication.class);
+		when(mockAuthentication.getPrincipal()).thenReturn(TestUtils.createGmsUser());
+		when(mockAuthentication.getAuthorities()).thenReturn(Set.of());
+		when(request.getRequestURI()).thenReturn("/secure/apikey/list");
+		when(authorizationService.authorize(any(HttpServletRequest.class))).thenReturn(AuthorizationResponse.builder()
+				.responseStatus(HttpStatus.OK)
+				.authentication(mockAuthentication)
+				.build());
+
+		// act
+		filter.doFilterInternal(request, response, filterChain);
+
+		// assert
+		assertEquals(mockAuthentication, SecurityContextHolder.getContext().getAuthentication());
+		verify(response, never()).addHeader(eq(Constants.SET_COOKIE), any());
+		verify(systemPropertyService, never()).getLong(any(SystemProperty.class));
+		verify(filterChain).doFilter(any(), any());
+	}
+
 	private static Object[] testData() {
 		return new Object[][] {
 			{ UserRole.ROLE_USER, false },
@@ -0,0 +1,118 @@
+package io.github.gms.common.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test of {@link IpRestrictionMatcher}
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class IpRestrictionMatcherTest {
+
+	@ParameterizedTest
+	@MethodSource("inputData")
+	void isBlocked_whenRulesProvided_thenReturnExpectedResult(List<IpRestrictionPattern> patterns, String ipAddress,
+															   boolean expected) {
+		// arrange
+		IpRestrictionMatcher matcher = IpRestrictionMatcher.compile(patterns);
+
+		// act
+		boolean response = matcher.isBlocked(ipAddress);
+
+		// assert
+		assertEquals(expected, response);
+	}
+
+	@Test
+	void isBlocked_whenPatternsDeserialized_thenCompileMatcherAgain() throws Exception {
+		// arrange
+		IpRestrictionPatterns patterns = new IpRestrictionPatterns(List.of(deny("10.0.0.0/8")));
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+			objectOutputStream.writeObject(patterns);
+		}
+
+		IpRestrictionPatterns deserialized;
+		try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+			deserialized = (IpRestrictionPatterns) objectInputStream.readObject();
+		}
+
+		// act & assert
+		assertEquals(patterns, deserialized);
+		assertTrue(deserialized.isBlocked("10.20.30.40"));
+		assertFalse(deserialized.isBlocked("11.20.30.40"));
+	}
+
+	@Test
+	void isBlocked_whenItemsReplaced_thenUseNewRules() {
+		// arrange
+		IpRestrictionPatterns patterns = new IpRestrictionPatterns(List.of(deny("10.0.0.0/8")));
+		assertTrue(patterns.isBlocked("10.0.0.1"));
+
+		// act
+		patterns.setItems(List.of(deny("192.168.0.0/16")));
+
+		// assert
+		assertFalse(patterns.isBlocked("10.0.0.1"));
+		assertTrue(patterns.isBlocked("192.168.1.1"));
+	}
+
+	private static Object[][] inputData() {
+		return new Object[][] {
+				{ List.of(), "10.0.0.1", false },
+				// single address rules
+				{ List.of(allow("10.0.0.1")), "10.0.0.1", false },
+				{ List.of(allow("10.0.0.1")), "10.0.0.2", true },
+				{ List.of(deny("::1")), "0:0:0:0:0:0:0:1", true },
+				// CIDR ranges
+				{ List.of(allow("10.0.0.0/8")), "10.255.0.1", false },
+				{ List.of(allow("10.0.0.0/8")), "11.0.0.1", true },
+				{ List.of(allow("10.1.2.3/8")), "10.9.9.9", false },
+				{ List.of(allow("0.0.0.0/0")), "172.16.0.1", false },
+				{ List.of(allow("0.0.0.0/0")), "2001:db8::1", true },
+				{ List.of(deny("0.0.0.0/0")), "172.16.0.1", true },
+				{ List.of(deny("172.16.0.0/12")), "172.31.255.255", true },
+				{ List.of(deny("172.16.0.0/12")), "172.32.0.0", false },
+				{ List.of(allow("2001:db8::/32")), "2001:db8:ffff::1", false },
+				{ List.of(allow("2001:db8::/32")), "2001:db9::1", true },
+				// every allow rule has to match, and any deny rule blocks
+				{ List.of(allow("10.0.0.0/8"), allow("10.1.0.0/16")), "10.1.0.1", false },
+				{ List.of(allow("10.0.0.0/8"), allow("10.1.0.0/16")), "10.2.0.1", true },
+				{ List.of(allow("10.0.0.0/8"), deny("10.1.0.0/16")), "10.1.0.1", true },
+				{ List.of(allow("10.0.0.0/8"), deny("10.1.0.0/16")), "10.2.0.1", false },
+				// regular expressions and mixed rules
+				{ List.of(allow("(192.168.0.)[0-9]{1,3}")), "192.168.0.2", false },
+				{ List.of(allow("(192.168.0.)[0-9]{1,3}"), deny("192.168.0.0/30")), "192.168.0.2", true },
+				{ List.of(allow("(192.168.0.)[0-9]{1,3}"), deny("192.168.0.0/30")), "192.168.0.4", false },
+				{ List.of(deny(".*")), "10.0.0.1", true },
+				// invalid prefix lengths are handled as regular expressions
+				{ List.of(deny("10.0.0.0/33")), "10.0.0.1", false },
+				{ List.of(allow("10.0.0.0/x")), "10.0.0.1", true },
+				// client addresses that cannot be parsed do not match any range
+				{ List.of(allow("10.0.0.0/8")), "unknown", true },
+				{ List.of(deny("10.0.0.0/8")), "unknown", false }
+		};
+	}
+
+	private static IpRestrictionPattern allow(String ipPattern) {
+		return new IpRestrictionPattern(ipPattern, true);
+	}
+
+	private static IpRestrictionPattern deny(String ipPattern) {
+		return new IpRestrictionPattern(ipPattern, false);
+	}
+}
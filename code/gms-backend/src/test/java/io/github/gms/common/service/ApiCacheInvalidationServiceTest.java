@@ -0,0 +1,216 @@
+package io.github.gms.common.service;
+
+import io.github.gms.abstraction.AbstractLoggingUnitTest;
+import io.github.gms.common.config.cache.ApiCacheKeyGenerator;
+import io.github.gms.common.config.cache.ApiKeyPrincipalKeyGenerator;
+import io.github.gms.common.dto.IdNamePairDto;
+import io.github.gms.common.enums.ApiCacheTag;
+import io.github.gms.functions.apikey.ApiKeyEntity;
+import io.github.gms.functions.apikey.ApiKeyRepository;
+import io.github.gms.functions.secret.SecretEntity;
+import io.github.gms.functions.secret.SecretRepository;
+import io.github.gms.util.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.github.gms.common.util.Constants.CACHE_API;
+import static io.github.gms.common.util.Constants.CACHE_API_KEY_PRINCIPAL;
+import static io.github.gms.util.LogAssertionUtils.assertLogContains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test of {@link ApiCacheInvalidationService}
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class ApiCacheInvalidationServiceTest extends AbstractLoggingUnitTest {
+
+	private ObjectProvider<CacheManager> cacheManagerProvider;
+	private SecretRepository secretRepository;
+	private ApiKeyRepository apiKeyRepository;
+	private CacheManager cacheManager;
+	private ApiCacheInvalidationService service;
+
+	@Override
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		super.setup();
+		cacheManagerProvider = mock(ObjectProvider.class);
+		secretRepository = mock(SecretRepository.class);
+		apiKeyRepository = mock(ApiKeyRepository.class);
+		cacheManager = new ConcurrentMapCacheManager(CACHE_API, CACHE_API_KEY_PRINCIPAL);
+		service = new ApiCacheInvalidationService(cacheManagerProvider, secretRepository, apiKeyRepository);
+		addAppender(ApiCacheInvalidationService.class);
+	}
+
+	@Test
+	void getCacheKeys_whenSecretTagProvided_thenReturnUserIdAndSecretId() {
+		// arrange
+		SecretEntity entity = TestUtils.createSecretEntity();
+		when(secretRepository.findById(1L)).thenReturn(Optional.of(entity));
+
+		// act
+		Set<String> response = service.getCacheKeys(ApiCacheTag.SECRET, 1L);
+
+		// assert
+		assertEquals(Set.of(entity.getUserId() + ":" + entity.getSecretId()), response);
+		verify(secretRepository).findById(1L);
+	}
+
+	@Test
+	void getCacheKeys_whenSecretNotFound_thenReturnEmptySet() {
+		// arrange
+		when(secretRepository.findById(1L)).thenReturn(Optional.empty());
+
+		// act
+		Set<String> response = service.getCacheKeys(ApiCacheTag.SECRET, 1L);
+
+		// assert
+		assertTrue(response.isEmpty());
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = ApiCacheTag.class, names = { "USER", "KEYSTORE", "KEYSTORE_ALIAS", "API_KEY" })
+	void getCacheKeys_whenTagProvided_thenQuerySecretIds(ApiCacheTag tag) {
+		// arrange
+		List<IdNamePairDto> userSecretIds = List.of(new IdNamePairDto(1L, "secret-" + tag.name()),
+				new IdNamePairDto(2L, "secret-" + tag.name()));
+		switch (tag) {
+			case USER -> when(secretRepository.findAllUserSecretIdByUserId(1L)).thenReturn(userSecretIds);
+			case KEYSTORE -> when(secretRepository.findAllUserSecretIdByKeystoreId(1L)).thenReturn(userSecretIds);
+			case KEYSTORE_ALIAS -> when(secretRepository.findAllUserSecretIdByKeystoreAliasId(1L)).thenReturn(userSecretIds);
+			default -> when(secretRepository.findAllUserSecretIdByApiKeyId(1L)).thenReturn(userSecretIds);
+		}
+
+		// act
+		Set<String> response = service.getCacheKeys(tag, 1L);
+
+		// assert
+		assertEquals(Set.of("1:secret-" + tag.name(), "2:secret-" + tag.name()), response);
+	}
+
+	@Test
+	void evict_whenTagProvided_thenEvictOnlyAffectedEntries() {
+		// arrange
+		Cache cache = cacheManager.getCache(CACHE_API);
+		assertNotNull(cache);
+		cache.put(ApiCacheKeyGenerator.key(1L, "secret1"), "value1");
+		cache.put(ApiCacheKeyGenerator.key(1L, "secret2"), "value2");
+		cache.put(ApiCacheKeyGenerator.key(1L, "secret3"), "value3");
+		cache.put(ApiCacheKeyGenerator.key(2L, "secret1"), "value4");
+		when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+		when(secretRepository.findAllUserSecretIdByKeystoreId(1L))
+				.thenReturn(List.of(new IdNamePairDto(1L, "secret1"), new IdNamePairDto(1L, "secret2")));
+
+		// act
+		service.evict(ApiCacheTag.KEYSTORE, 1L);
+
+		// assert
+		assertNull(cache.get(ApiCacheKeyGenerator.key(1L, "secret1")));
+		assertNull(cache.get(ApiCacheKeyGenerator.key(1L, "secret2")));
+		assertNotNull(cache.get(ApiCacheKeyGenerator.key(1L, "secret3")));
+		assertNotNull(cache.get(ApiCacheKeyGenerator.key(2L, "secret1")));
+		assertLogContains(logAppender, "2 entries have been evicted from the API cache");
+	}
+
+	@Test
+	void evict_whenCacheManagerIsNotAvailable_thenSkip() {
+		// arrange
+		when(cacheManagerProvider.getIfAvailable()).thenReturn(null);
+
+		// act
+		service.evict(Set.of("secret1"));
+
+		// assert
+		verify(cacheManagerProvider).getIfAvailable();
+		verify(secretRepository, never()).findAllUserSecretIdByUserId(any());
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = ApiCacheTag.class)
+	void getPrincipalCacheKeys_whenTagProvided_thenReturnHashedApiKeys(ApiCacheTag tag) {
+		// arrange
+		SecretEntity secretEntity = TestUtils.createSecretEntity();
+		ApiKeyEntity apiKeyEntity = TestUtils.createApiKey();
+		switch (tag) {
+			case SECRET -> {
+				when(secretRepository.findById(1L)).thenReturn(Optional.of(secretEntity));
+				when(apiKeyRepository.findAllValueByUserId(secretEntity.getUserId())).thenReturn(Set.of("apikey1"));
+			}
+			case USER -> when(apiKeyRepository.findAllValueByUserId(1L)).thenReturn(Set.of("apikey1"));
+			case API_KEY -> {
+				apiKeyEntity.setValue("apikey1");
+				when(apiKeyRepository.findById(1L)).thenReturn(Optional.of(apiKeyEntity));
+			}
+			default -> {
+			}
+		}
+
+		// act
+		Set<String> response = service.getPrincipalCacheKeys(tag, 1L);
+
+		// assert
+		if (tag == ApiCacheTag.KEYSTORE || tag == ApiCacheTag.KEYSTORE_ALIAS) {
+			assertTrue(response.isEmpty());
+			verifyNoInteractions(apiKeyRepository);
+		} else {
+			assertEquals(Set.of(ApiKeyPrincipalKeyGenerator.hash("apikey1")), response);
+		}
+	}
+
+	@Test
+	void evictPrincipals_whenUserIdsProvided_thenEvictOnlyAffectedEntries() {
+		// arrange
+		Cache cache = cacheManager.getCache(CACHE_API_KEY_PRINCIPAL);
+		assertNotNull(cache);
+		cache.put(ApiKeyPrincipalKeyGenerator.hash("apikey1"), "principal1");
+		cache.put(ApiKeyPrincipalKeyGenerator.hash("apikey2"), "principal2");
+		when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+		when(apiKeyRepository.findAllValueByUserIdIn(Set.of(1L))).thenReturn(Set.of("apikey1"));
+
+		// act
+		service.evictPrincipals(service.getPrincipalCacheKeys(Set.of(1L)));
+
+		// assert
+		assertNull(cache.get(ApiKeyPrincipalKeyGenerator.hash("apikey1")));
+		assertNotNull(cache.get(ApiKeyPrincipalKeyGenerator.hash("apikey2")));
+		assertLogContains(logAppender, "1 entries have been evicted from the API key principal cache");
+	}
+
+	@Test
+	void evictPrincipals_whenTagProvided_thenEvictOnlyAffectedEntries() {
+		// arrange
+		Cache cache = cacheManager.getCache(CACHE_API_KEY_PRINCIPAL);
+		assertNotNull(cache);
+		cache.put(ApiKeyPrincipalKeyGenerator.hash("apikey1"), "principal1");
+		when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+		when(apiKeyRepository.findAllValueByUserId(1L)).thenReturn(Set.of("apikey1"));
+
+		// act
+		service.evictPrincipals(ApiCacheTag.USER, 1L);
+
+		// assert
+		assertNull(cache.get(ApiKeyPrincipalKeyGenerator.hash("apikey1")));
+	}
+}
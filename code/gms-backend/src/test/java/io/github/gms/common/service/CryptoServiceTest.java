@@ -13,15 +13,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 
+import javax.crypto.IllegalBlockSizeException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.KeyStore;
+import java.security.PrivateKey;
 
 import static io.github.gms.util.LogAssertionUtils.assertLogContains;
 import static io.github.gms.util.TestConstants.TEST;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -38,7 +42,7 @@ class CryptoServiceTest extends AbstractLoggingUnitTest {
 	public void setup() {
 		super.setup();
 		keystoreDataService = mock(KeystoreDataService.class);
-		service = new CryptoService(keystoreDataService);
+		service = new CryptoService(keystoreDataService, false, 60L);
 		addAppender(CryptoService.class);
 	}
 	
@@ -109,6 +113,7 @@ class CryptoServiceTest extends AbstractLoggingUnitTest {
 		// arrange
 		KeystorePair mockPair = new KeystorePair(TestUtils.createKeystoreAliasEntity(), createKeyStore());
 		when(keystoreDataService.getKeystoreData(any(SecretEntity.class))).thenReturn(mockPair);
+		when(keystoreDataService.getPrivateKey(mockPair)).thenReturn((PrivateKey) mockPair.getKeystore().getKey(TEST, TEST.toCharArray()));
 		
 		// act
 		SecretEntity entity = TestUtils.createSecretEntity();
@@ -139,6 +144,7 @@ class CryptoServiceTest extends AbstractLoggingUnitTest {
 		// arrange
 		KeystorePair mockPair = new KeystorePair(TestUtils.createKeystoreAliasEntity(), createKeyStore());
 		when(keystoreDataService.getKeystoreData(any(SecretEntity.class))).thenReturn(mockPair);
+		mockKeyHandles(mockPair);
 		
 		// act
 		SecretEntity entity = TestUtils.createSecretEntity();
@@ -149,6 +155,127 @@ class CryptoServiceTest extends AbstractLoggingUnitTest {
 	    assertEquals(TEST, decrypted);
 	}
 
+	@Test
+	@SneakyThrows
+	void encrypt_whenEnvelopeEnabled_thenEncryptWithDataKey() {
+		// arrange
+		service = new CryptoService(keystoreDataService, true, 60L);
+		KeystorePair mockPair = new KeystorePair(TestUtils.createKeystoreAliasEntity(), createKeyStore());
+		when(keystoreDataService.getKeystoreData(any(SecretEntity.class))).thenReturn(mockPair);
+		mockKeyHandles(mockPair);
+		SecretEntity entity = TestUtils.createSecretEntity();
+		entity.setReturnDecrypted(true);
+		entity.setValue("a".repeat(3000));
+
+		// act
+		service.encrypt(entity);
+
+		// assert
+		assertTrue(entity.getValue().startsWith(CryptoService.ENVELOPE_PREFIX));
+		assertFalse(service.isReEncryptionRequired(entity));
+		assertEquals("a".repeat(3000), service.decrypt(entity));
+		assertEquals("a".repeat(3000), service.decrypt(entity));
+		// the unwrapped data key is reused by the second decryption
+		verify(keystoreDataService, times(1)).getPrivateKey(mockPair);
+	}
+
+	@Test
+	@SneakyThrows
+	void encrypt_whenSecretIsReturnedEncrypted_thenKeepLegacyFormat() {
+		// arrange
+		service = new CryptoService(keystoreDataService, true, 60L);
+		KeystorePair mockPair = new KeystorePair(TestUtils.createKeystoreAliasEntity(), createKeyStore());
+		when(keystoreDataService.getKeystoreData(any(SecretEntity.class))).thenReturn(mockPair);
+		mockKeyHandles(mockPair);
+		SecretEntity entity = TestUtils.createSecretEntity();
+		entity.setReturnDecrypted(false);
+
+		// act
+		service.encrypt(entity);
+
+		// assert
+		assertFalse(entity.getValue().startsWith(CryptoService.ENVELOPE_PREFIX));
+		assertFalse(service.isReEncryptionRequired(entity));
+		assertEquals(TEST, service.decrypt(entity));
+	}
+
+	@Test
+	@SneakyThrows
+	void decrypt_whenEnvelopeIsInvalid_thenThrowGmsException() {
+		// arrange
+		KeystorePair mockPair = new KeystorePair(TestUtils.createKeystoreAliasEntity(), createKeyStore());
+		when(keystoreDataService.getKeystoreData(any(SecretEntity.class))).thenReturn(mockPair);
+		SecretEntity entity = TestUtils.createSecretEntity();
+		entity.setValue(CryptoService.ENVELOPE_PREFIX + "invalid");
+
+		// act & assert
+		TestUtils.assertGmsException(() -> service.decrypt(entity), "java.security.GeneralSecurityException: Invalid envelope format!");
+		assertLogContains(logAppender, "Decrypt failed!");
+	}
+
+	@Test
+	void isReEncryptionRequired_whenLegacyValueAndEnvelopeEnabled_thenReturnTrue() {
+		// arrange
+		SecretEntity entity = TestUtils.createSecretEntity();
+		entity.setReturnDecrypted(true);
+
+		// act & assert
+		assertFalse(service.isReEncryptionRequired(entity));
+		assertTrue(new CryptoService(keystoreDataService, true, 60L).isReEncryptionRequired(entity));
+	}
+
+	@Test
+	@SneakyThrows
+	void reEncrypt_whenSecretIsReturnedEncryptedFromNowOn_thenStoreLegacyFormat() {
+		// arrange
+		service = new CryptoService(keystoreDataService, true, 60L);
+		KeystorePair mockPair = new KeystorePair(TestUtils.createKeystoreAliasEntity(), createKeyStore());
+		when(keystoreDataService.getKeystoreData(any(SecretEntity.class))).thenReturn(mockPair);
+		mockKeyHandles(mockPair);
+		SecretEntity entity = TestUtils.createSecretEntity();
+		entity.setReturnDecrypted(true);
+		service.encrypt(entity);
+		entity.setReturnDecrypted(false);
+		assertTrue(service.isFormatChangeRequired(entity));
+
+		// act
+		service.reEncrypt(entity);
+
+		// assert
+		assertFalse(entity.getValue().startsWith(CryptoService.ENVELOPE_PREFIX));
+		assertFalse(service.isFormatChangeRequired(entity));
+		assertEquals(TEST, service.decrypt(entity));
+	}
+
+	@Test
+	void isFormatChangeRequired_whenEnvelopeValueIsReturnedDecrypted_thenReturnFalse() {
+		// arrange
+		SecretEntity entity = TestUtils.createSecretEntity();
+		entity.setReturnDecrypted(true);
+		entity.setValue(CryptoService.ENVELOPE_PREFIX + "value");
+
+		// act & assert
+		assertFalse(service.isFormatChangeRequired(entity));
+		assertFalse(new CryptoService(keystoreDataService, true, 60L).isFormatChangeRequired(entity));
+	}
+
+	@Test
+	@SneakyThrows
+	void encrypt_whenValueIsLongerThanRsaLimitAndEnvelopeIsUsed_thenEncrypt() {
+		// arrange
+		service = new CryptoService(keystoreDataService, true, 60L);
+		KeyStore keystore = createKeyStore();
+		KeystorePair mockPair = new KeystorePair(TestUtils.createKeystoreAliasEntity(), keystore);
+		when(keystoreDataService.getPublicKey(mockPair)).thenReturn(keystore.getCertificate(TEST).getPublicKey());
+
+		// act
+		String response = service.encrypt("a".repeat(3000), true, mockPair);
+
+		// assert
+		assertTrue(response.startsWith(CryptoService.ENVELOPE_PREFIX));
+		assertThrows(IllegalBlockSizeException.class, () -> service.encrypt("a".repeat(3000), false, mockPair));
+	}
+
 	private static MockMultipartFile getMockMultipartFile(byte[] content) throws IOException {
 		ClassLoader classloader = Thread.currentThread().getContextClassLoader();
 		try (InputStream jksFileStream = classloader.getResourceAsStream("test.jks")) {
@@ -170,6 +297,12 @@ class CryptoServiceTest extends AbstractLoggingUnitTest {
 		}
 	}
 
+	private void mockKeyHandles(KeystorePair keystorePair) throws Exception {
+		KeyStore keystore = keystorePair.getKeystore();
+		when(keystoreDataService.getPrivateKey(keystorePair)).thenReturn((PrivateKey) keystore.getKey(TEST, TEST.toCharArray()));
+		when(keystoreDataService.getPublicKey(keystorePair)).thenReturn(keystore.getCertificate(TEST).getPublicKey());
+	}
+
 	private static KeyStore createKeyStore() throws Exception {
 		ClassLoader classloader = Thread.currentThread().getContextClassLoader();
 		InputStream jksFileStream = classloader.getResourceAsStream("test.jks");
@@ -1,9 +1,11 @@
 package io.github.gms.common.service;
 
-import io.github.gms.abstraction.AbstractUnitTest;
+import io.github.gms.abstraction.AbstractLoggingUnitTest;
 import io.github.gms.common.enums.JwtConfigType;
 import io.github.gms.common.enums.MdcParameter;
+import io.github.gms.common.enums.SystemProperty;
 import io.github.gms.common.model.GenerateJwtRequest;
+import io.github.gms.common.model.SystemPropertyChangeEvent;
 import io.github.gms.util.DemoData;
 import io.github.gms.util.TestUtils;
 import io.jsonwebtoken.Claims;
@@ -23,6 +25,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import static io.github.gms.util.LogAssertionUtils.assertLogContains;
+import static io.github.gms.util.LogAssertionUtils.assertLogMissing;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -30,16 +34,19 @@ import static org.mockito.Mockito.*;
  * @author Peter Szrnka
  * @since 1.0
  */
-class JwtServiceTest extends AbstractUnitTest {
+class JwtServiceTest extends AbstractLoggingUnitTest {
 
 	private static final String SECRET = "YXNkZjEyMzQ1Njc4OTBhc2RmMTIzNDU2Nzg5MGFzZGYxMjM0NTY3ODkwYXNkZjEyMzQ1Njc4OTA=";
 	private Clock clock;
 	private JwtService service;
 	
+	@Override
 	@BeforeEach
-	void setup() {
+	public void setup() {
+		super.setup();
 		clock = mock(Clock.class);
 		service = new JwtService(clock, SECRET);
+		addAppender(JwtService.class);
 	}
 
 	@Test
@@ -105,4 +112,47 @@ class JwtServiceTest extends AbstractUnitTest {
 		assertEquals(DemoData.USERNAME1, response.get(MdcParameter.USER_NAME.getDisplayName()));
 		assertTrue(response.get("roles", List.class).contains("ROLE_ADMIN"));
 	}
+
+	@Test
+	void parseJwt_whenCalledRepeatedly_thenBuildParserOnce() {
+		// arrange
+		when(clock.instant()).thenReturn(Instant.now().plusSeconds(900L));
+		String generatedToken = service.generateJwt(TestUtils.createJwtAdminRequest());
+
+		try (MockedStatic<Jwts> mockedJwts = mockStatic(Jwts.class, CALLS_REAL_METHODS)) {
+			// act
+			service.parseJwt(generatedToken, "HS512");
+			service.parseJwt(generatedToken, "HS512");
+
+			// assert
+			mockedJwts.verify(Jwts::parserBuilder, never());
+		}
+	}
+
+	@Test
+	void onSystemPropertyChange_whenAlgorithmChanged_thenReloadSigningKeys() {
+		// arrange
+		when(clock.instant()).thenReturn(Instant.now().plusSeconds(900L));
+		String generatedToken = service.generateJwt(TestUtils.createJwtAdminRequest());
+
+		try (MockedStatic<Jwts> mockedJwts = mockStatic(Jwts.class, CALLS_REAL_METHODS)) {
+			// act
+			service.onSystemPropertyChange(new SystemPropertyChangeEvent(this, SystemProperty.ACCESS_JWT_ALGORITHM));
+			Claims response = service.parseJwt(generatedToken, "HS512");
+
+			// assert
+			assertEquals(DemoData.USERNAME1, response.get(MdcParameter.USER_NAME.getDisplayName()));
+			mockedJwts.verify(Jwts::parserBuilder);
+			assertLogContains(logAppender, "JWT signing keys have been reloaded");
+		}
+	}
+
+	@Test
+	void onSystemPropertyChange_whenOtherPropertyChanged_thenKeepSigningKeys() {
+		// act
+		service.onSystemPropertyChange(new SystemPropertyChangeEvent(this, SystemProperty.ACCESS_JWT_EXPIRATION_TIME_SECONDS));
+
+		// assert
+		assertLogMissing(logAppender, "JWT signing keys have been reloaded");
+	}
 }
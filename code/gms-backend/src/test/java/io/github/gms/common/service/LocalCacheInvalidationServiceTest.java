@@ -0,0 +1,116 @@
+package io.github.gms.common.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.gms.common.util.Constants.CACHE_INVALIDATION_CHANNEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test of {@link LocalCacheInvalidationService}
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class LocalCacheInvalidationServiceTest {
+
+	private static final String CACHE_NAME = "localCache";
+
+	private ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+	private RedisTemplate<String, Object> redisTemplate;
+	private LocalCacheInvalidationService service;
+	private List<String> evictedKeys;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setup() {
+		redisTemplateProvider = mock(ObjectProvider.class);
+		redisTemplate = mock(RedisTemplate.class);
+		service = new LocalCacheInvalidationService(redisTemplateProvider);
+		evictedKeys = new ArrayList<>();
+		service.register(CACHE_NAME, evictedKeys::add);
+	}
+
+	@Test
+	void evict_whenRedisIsNotAvailable_thenEvictLocally() {
+		// act
+		service.evict(CACHE_NAME, "key1");
+
+		// assert
+		assertEquals(List.of("key1"), evictedKeys);
+	}
+
+	@Test
+	void evict_whenRedisIsAvailable_thenPublishEviction() {
+		// arrange
+		when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+
+		// act
+		service.evict(CACHE_NAME, "key1");
+
+		// assert
+		assertEquals(List.of("key1"), evictedKeys);
+		ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(redisTemplate).convertAndSend(eq(CACHE_INVALIDATION_CHANNEL), captor.capture());
+		String message = (String) captor.getValue();
+		assertTrue(message.endsWith("|" + CACHE_NAME + "|key1"));
+
+		// the own message is ignored when it is received back
+		service.onMessage(message(message), null);
+		assertEquals(List.of("key1"), evictedKeys);
+	}
+
+	@Test
+	void evict_whenPublishFails_thenKeepLocalEviction() {
+		// arrange
+		when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+		doThrow(new IllegalStateException("Connection refused")).when(redisTemplate).convertAndSend(anyString(), any(Object.class));
+
+		// act
+		service.evict(CACHE_NAME, "key1");
+
+		// assert
+		assertEquals(List.of("key1"), evictedKeys);
+	}
+
+	@Test
+	void onMessage_whenOtherNodePublished_thenEvictLocally() {
+		// act
+		service.onMessage(message("other-node|" + CACHE_NAME + "|key1"), null);
+		service.onMessage(message("other-node|" + CACHE_NAME), null);
+
+		// assert
+		assertEquals(2, evictedKeys.size());
+		assertEquals("key1", evictedKeys.getFirst());
+	}
+
+	@Test
+	void onMessage_whenCacheIsUnknownOrMessageIsInvalid_thenSkip() {
+		// act
+		service.onMessage(message("other-node|apiCache|key1"), null);
+		service.onMessage(message("invalid"), null);
+
+		// assert
+		assertTrue(evictedKeys.isEmpty());
+	}
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage(new byte[0], body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,191 @@
+package io.github.gms.common.util;
+
+import io.github.gms.abstraction.AbstractUnitTest;
+import io.github.gms.common.model.KeysetPageRequest;
+import io.github.gms.common.types.GmsException;
+import io.github.gms.functions.event.EventEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class KeysetPagingUtilsTest extends AbstractUnitTest {
+
+    private static final ZonedDateTime EVENT_DATE = ZonedDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+    private static final Set<String> KEYSET_PROPERTIES = Set.of("eventDate", "userId");
+    private static final Sort SORT = Sort.by(Sort.Direction.DESC, "eventDate", "id");
+
+    @Test
+    void test_whenConstructorCalled_thenSuccessfullyInstantiated() {
+        assertPrivateConstructor(KeysetPagingUtils.class);
+    }
+
+    @Test
+    void createKeysetPageRequest_whenCursorIsEmpty_thenReturnFirstPage() {
+        // act
+        KeysetPageRequest response = KeysetPagingUtils.createKeysetPageRequest("DESC", "eventDate", 10, "", true, EventEntity.class, KEYSET_PROPERTIES);
+
+        // assert
+        assertEquals(Sort.by(Sort.Direction.DESC, "eventDate", "id"), response.sort());
+        assertEquals(10, response.size());
+        assertEquals(10, response.limit().max());
+        assertTrue(response.position().isInitial());
+        assertTrue(response.withCount());
+    }
+
+    @Test
+    void createKeysetPageRequest_whenSortedById_thenDoNotDuplicateId() {
+        // act
+        KeysetPageRequest response = KeysetPagingUtils.createKeysetPageRequest("ASC", "id", 5, "", false, EventEntity.class, KEYSET_PROPERTIES);
+
+        // assert
+        assertEquals(Sort.by(Sort.Direction.ASC, "id"), response.sort());
+        assertFalse(response.withCount());
+    }
+
+    @Test
+    void toCursor_whenCursorIsDecoded_thenReturnSamePosition() {
+        // arrange
+        String cursor = KeysetPagingUtils.toCursor(createWindow(true), SORT);
+
+        // act
+        KeysetPageRequest response = KeysetPagingUtils.createKeysetPageRequest("DESC", "eventDate", 2, cursor, false, EventEntity.class, KEYSET_PROPERTIES);
+
+        // assert
+        KeysetScrollPosition position = response.position();
+        assertFalse(position.isInitial());
+        assertEquals(2L, position.getKeys().get("id"));
+        assertTrue(EVENT_DATE.isEqual((ZonedDateTime) position.getKeys().get("eventDate")));
+    }
+
+    @Test
+    void toCursor_whenLastPage_thenReturnNull() {
+        // act
+        String response = KeysetPagingUtils.toCursor(createWindow(false), SORT);
+
+        // assert
+        assertNull(response);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "not-a-cursor", "e30", "eyJpZCI6MX0", "eyJldmVudERhdGUiOiJ4IiwiaWQiOjF9" })
+    void createKeysetPageRequest_whenCursorIsInvalid_thenThrowException(String cursor) {
+        // act
+        GmsException exception = assertThrows(GmsException.class,
+                () -> KeysetPagingUtils.createKeysetPageRequest("DESC", "eventDate", 10, cursor, false, EventEntity.class, KEYSET_PROPERTIES));
+
+        // assert
+        assertEquals("Invalid cursor!", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"direction\":\"DESC\",\"keys\":{\"eventDate\":\"x\",\"id\":1}}",
+            "{\"direction\":\"DESC\",\"keys\":{\"eventDate\":null,\"id\":1}}",
+            "{\"direction\":\"DESC\",\"keys\":{\"eventDate\":\"2024-01-02T03:04:05Z\"}}",
+            "{\"keys\":{\"eventDate\":\"2024-01-02T03:04:05Z\",\"id\":1}}"
+    })
+    void createKeysetPageRequest_whenCursorKeysAreInvalid_thenThrowException(String json) {
+        // arrange
+        String cursor = encode(json);
+
+        // act
+        GmsException exception = assertThrows(GmsException.class,
+                () -> KeysetPagingUtils.createKeysetPageRequest("DESC", "eventDate", 10, cursor, false, EventEntity.class, KEYSET_PROPERTIES));
+
+        // assert
+        assertEquals("Invalid cursor!", exception.getMessage());
+    }
+
+    @Test
+    void createKeysetPageRequest_whenCursorWasIssuedForAnotherOrder_thenThrowException() {
+        // arrange
+        String cursor = KeysetPagingUtils.toCursor(createWindow(true), SORT);
+
+        // act
+        GmsException exception = assertThrows(GmsException.class,
+                () -> KeysetPagingUtils.createKeysetPageRequest("DESC", "userId", 10, cursor, false, EventEntity.class, KEYSET_PROPERTIES));
+
+        // assert
+        assertEquals("Invalid cursor!", exception.getMessage());
+    }
+
+    @Test
+    void createKeysetPageRequest_whenCursorWasIssuedForAnotherDirection_thenThrowException() {
+        // arrange
+        String cursor = KeysetPagingUtils.toCursor(createWindow(true), SORT);
+
+        // act
+        GmsException exception = assertThrows(GmsException.class,
+                () -> KeysetPagingUtils.createKeysetPageRequest("ASC", "eventDate", 10, cursor, false, EventEntity.class, KEYSET_PROPERTIES));
+
+        // assert
+        assertEquals("Invalid cursor!", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "operation", "target", "unknown" })
+    void createKeysetPageRequest_whenPropertyIsNotKeysetProperty_thenThrowException(String property) {
+        // act
+        GmsException exception = assertThrows(GmsException.class,
+                () -> KeysetPagingUtils.createKeysetPageRequest("DESC", property, 10, "", false, EventEntity.class, KEYSET_PROPERTIES));
+
+        // assert
+        assertEquals("Sort property is not supported with cursor!", exception.getMessage());
+    }
+
+    @Test
+    void createKeysetPageRequest_whenPropertyIsUnknown_thenThrowException() {
+        // arrange
+        String cursor = encode("{\"direction\":\"DESC\",\"keys\":{\"unknown\":1,\"id\":1}}");
+
+        // act
+        GmsException exception = assertThrows(GmsException.class,
+                () -> KeysetPagingUtils.createKeysetPageRequest("DESC", "unknown", 10, cursor, false, EventEntity.class, Set.of("unknown")));
+
+        // assert
+        assertEquals("Invalid cursor!", exception.getMessage());
+    }
+
+    @Test
+    void toPage_whenWindowProvided_thenReturnPageWithTotal() {
+        // act
+        Page<String> response = KeysetPagingUtils.toPage(createWindow(true), KeysetPagingUtils.TOTAL_NOT_COUNTED);
+
+        // assert
+        assertEquals(List.of("first", "second"), response.getContent());
+        assertEquals(-1L, response.getTotalElements());
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Window<String> createWindow(boolean hasNext) {
+        return Window.from(List.of("first", "second"), index -> {
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("eventDate", EVENT_DATE);
+            keys.put("id", index + 1L);
+            return ScrollPosition.forward(keys);
+        }, hasNext);
+    }
+}
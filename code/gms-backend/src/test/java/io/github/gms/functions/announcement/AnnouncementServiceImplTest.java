@@ -20,7 +20,9 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.github.gms.common.util.Constants.ENTITY_NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.*;
@@ -124,7 +126,7 @@ class AnnouncementServiceImplTest extends AbstractUnitTest {
 		AnnouncementEntity entity = TestUtils.createAnnouncementEntity(1L);
 		entity.setAnnouncementDate(ZonedDateTime.now(clock));
 		when(repository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(Lists.newArrayList(entity)));
-		when(userService.getUsernameById(anyLong())).thenReturn("myuser");
+		when(userService.getUsernamesByIds(Set.of(entity.getAuthorId()))).thenReturn(Map.of(entity.getAuthorId(), "myuser"));
 		Pageable pageable = ConverterUtils.createPageable("ASC", "id", 0, 10);
 
 		// act
@@ -141,7 +143,8 @@ class AnnouncementServiceImplTest extends AbstractUnitTest {
 		assertEquals(1L, response.getTotalElements());
 
 		verify(repository).findAll(any(Pageable.class));
-		verify(userService).getUsernameById(anyLong());
+		verify(userService).getUsernamesByIds(Set.of(entity.getAuthorId()));
+		verify(userService, never()).getUsernameById(anyLong());
 	}
 
 	@Test
@@ -162,11 +165,14 @@ class AnnouncementServiceImplTest extends AbstractUnitTest {
 		// arrange
 		when(repository.findById(anyLong())).thenReturn(Optional.of(TestUtils.createAnnouncementEntity(1L)));
 
+		when(userService.getUsernameById(anyLong())).thenReturn("myuser");
+
 		// act
 		AnnouncementDto response = service.getById(1L);
 
 		// assert
 		assertNotNull(response);
+		assertEquals("myuser", response.getAuthor());
 		verify(repository).findById(anyLong());
 	}
 
@@ -1,16 +1,30 @@
 package io.github.gms.functions.api;
 
+import io.github.gms.common.enums.SecretResultStatus;
 import io.github.gms.functions.secret.dto.GetSecretRequestDto;
+import io.github.gms.functions.secret.dto.GetSecretsRequestDto;
+import io.github.gms.functions.secret.dto.SecretResultDto;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,4 +46,48 @@ class ApiControllerTest {
         assertNotNull(response);
         assertEquals("x", response.get("value"));
     }
+
+    @Test
+    void getSecrets_whenInputIsValid_thenReturnData() {
+        // arrange
+        Map<String, SecretResultDto> mockResponse = Map.of("secret-id-1",
+                SecretResultDto.builder().status(SecretResultStatus.OK).value(Map.of("value", "x")).build());
+        when(service.getSecrets(any(GetSecretsRequestDto.class))).thenReturn(mockResponse);
+        ApiController controller = new ApiController(service);
+
+        // act
+        Map<String, SecretResultDto> response = controller.getSecrets("api-key", List.of("secret-id-1", "secret-id-1"));
+
+        // assert
+        assertNotNull(response);
+        assertEquals("x", response.get("secret-id-1").getValue().get("value"));
+        ArgumentCaptor<GetSecretsRequestDto> captor = ArgumentCaptor.forClass(GetSecretsRequestDto.class);
+        verify(service).getSecrets(captor.capture());
+        assertEquals("api-key", captor.getValue().getApiKey());
+        assertEquals(Set.of("secret-id-1"), captor.getValue().getSecretIds());
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidSecretIds")
+    void getSecrets_whenSecretIdsAreMissing_thenThrowBadRequest(List<String> secretIds) {
+        // arrange
+        ApiController controller = new ApiController(service);
+
+        // act
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> controller.getSecrets("api-key", secretIds));
+
+        // assert
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals("At least one secret id has to be provided!", exception.getReason());
+        verify(service, never()).getSecrets(any(GetSecretsRequestDto.class));
+    }
+
+    private static Object[][] invalidSecretIds() {
+        return new Object[][] {
+                { null },
+                { List.of() },
+                { Arrays.asList("secret-id-1", null) }
+        };
+    }
 }
@@ -4,7 +4,10 @@ import io.github.gms.abstraction.AbstractIntegrationTest;
 import io.github.gms.abstraction.GmsControllerIntegrationTest;
 import io.github.gms.common.TestedClass;
 import io.github.gms.common.TestedMethod;
+import io.github.gms.functions.apikey.ApiKeyEntity;
+import io.github.gms.functions.keystore.KeystoreAliasEntity;
 import io.github.gms.functions.keystore.KeystoreAliasRepository;
+import io.github.gms.functions.secret.SecretEntity;
 import io.github.gms.util.DemoData;
 import io.github.gms.util.TestUtils;
 import org.junit.jupiter.api.Tag;
@@ -14,11 +17,13 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.Map;
 
 import static io.github.gms.util.TestConstants.TAG_INTEGRATION_TEST;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Peter Szrnka
@@ -35,18 +40,19 @@ class ApiIntegrationTest extends AbstractIntegrationTest implements GmsControlle
 	@TestedMethod("getSecret")
 	void getSecret_whenInputIsValid_thenReturnData() {
 		// arrange
-		apiKeyRepository.save(TestUtils.createApiKey(DemoData.API_KEY_3_ID, DemoData.API_KEY_CREDENTIAL3));
-		keystoreAliasRepository.save(TestUtils.createKeystoreAliasEntity(DemoData.KEYSTORE_ALIAS3_ID, DemoData.KEYSTORE_ID));
-		secretRepository.save(
-				TestUtils.createSecretEntity(DemoData.SECRET_ENTITY3_ID, DemoData.KEYSTORE_ALIAS3_ID, DemoData.SECRET_ID3));
+		ApiKeyEntity apiKey = apiKeyRepository.save(TestUtils.createApiKey(DemoData.API_KEY_3_ID, DemoData.API_KEY_CREDENTIAL3));
+		KeystoreAliasEntity alias = keystoreAliasRepository.save(
+				TestUtils.createKeystoreAliasEntity(DemoData.KEYSTORE_ALIAS3_ID, DemoData.KEYSTORE_ID));
+		SecretEntity secret = secretRepository.save(
+				TestUtils.createSecretEntity(DemoData.SECRET_ENTITY3_ID, alias.getId(), DemoData.SECRET_ID3));
 		
 		// act
 		HttpEntity<Void> requestEntity = new HttpEntity<>(TestUtils.getApiHttpHeaders(DemoData.API_KEY_CREDENTIAL3));
 		ResponseEntity<Map> response = executeHttpGet("/api/secret/" + DemoData.SECRET_ID3, requestEntity, Map.class);
 
-		secretRepository.deleteById(DemoData.SECRET_ENTITY3_ID);
-		apiKeyRepository.deleteById(DemoData.API_KEY_3_ID);
-		keystoreAliasRepository.deleteById(DemoData.KEYSTORE_ALIAS3_ID);
+		secretRepository.deleteById(secret.getId());
+		apiKeyRepository.deleteById(apiKey.getId());
+		keystoreAliasRepository.deleteById(alias.getId());
 
 		// Assert
 		assertNotNull(response);
@@ -55,6 +61,54 @@ class ApiIntegrationTest extends AbstractIntegrationTest implements GmsControlle
 		assertEquals(DemoData.ENCRYPTED_VALUE, response.getBody().get("value"));
 	}
 
+	@Test
+	@TestedMethod("getSecrets")
+	void getSecrets_whenInputIsValid_thenReturnData() {
+		// arrange
+		ApiKeyEntity apiKey = apiKeyRepository.save(TestUtils.createApiKey(DemoData.API_KEY_3_ID, DemoData.API_KEY_CREDENTIAL3));
+		KeystoreAliasEntity alias = keystoreAliasRepository.save(
+				TestUtils.createKeystoreAliasEntity(DemoData.KEYSTORE_ALIAS3_ID, DemoData.KEYSTORE_ID));
+		SecretEntity secret = secretRepository.save(
+				TestUtils.createSecretEntity(DemoData.SECRET_ENTITY3_ID, alias.getId(), DemoData.SECRET_ID3));
+
+		// act
+		HttpEntity<List<String>> requestEntity = new HttpEntity<>(List.of(DemoData.SECRET_ID3, "fake-key"),
+				TestUtils.getApiHttpHeaders(DemoData.API_KEY_CREDENTIAL3));
+		ResponseEntity<Map> response = executeHttpPost("/api/secrets", requestEntity, Map.class);
+
+		secretRepository.deleteById(secret.getId());
+		apiKeyRepository.deleteById(apiKey.getId());
+		keystoreAliasRepository.deleteById(alias.getId());
+
+		// Assert
+		assertNotNull(response);
+		assertNotNull(response.getBody());
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		Map<String, Object> secretResult = (Map<String, Object>) response.getBody().get(DemoData.SECRET_ID3);
+		assertEquals("OK", secretResult.get("status"));
+		assertEquals(DemoData.ENCRYPTED_VALUE, ((Map<String, String>) secretResult.get("value")).get("value"));
+		Map<String, Object> missingResult = (Map<String, Object>) response.getBody().get("fake-key");
+		assertEquals("NOT_FOUND", missingResult.get("status"));
+		assertEquals("GMS-022", missingResult.get("errorCode"));
+	}
+
+	@Test
+	void getSecrets_whenBodyIsNull_thenReturnBadRequest() {
+		// arrange
+		ApiKeyEntity apiKey = apiKeyRepository.save(TestUtils.createApiKey(DemoData.API_KEY_3_ID, DemoData.API_KEY_CREDENTIAL3));
+
+		// act
+		HttpEntity<String> requestEntity = new HttpEntity<>("null", TestUtils.getApiHttpHeaders(DemoData.API_KEY_CREDENTIAL3));
+		ResponseEntity<String> response = executeHttpPost("/api/secrets", requestEntity, String.class);
+
+		apiKeyRepository.deleteById(apiKey.getId());
+
+		// Assert
+		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+		assertNotNull(response.getBody());
+		assertTrue(response.getBody().contains("At least one secret id has to be provided!"));
+	}
+
 	@Test
 	void getSecret_whenHeaderIsMissing_thenReturnBadRequest() {
 		// act
@@ -68,13 +122,13 @@ class ApiIntegrationTest extends AbstractIntegrationTest implements GmsControlle
 	@Test
 	void getSecret_whenApiKeyIsInvalid_thenReturnInternalServerError() {
 		// arrange
-		apiKeyRepository.save(TestUtils.createApiKey(DemoData.API_KEY_3_ID, DemoData.API_KEY_CREDENTIAL3));
+		ApiKeyEntity apiKey = apiKeyRepository.save(TestUtils.createApiKey(DemoData.API_KEY_3_ID, DemoData.API_KEY_CREDENTIAL3));
 
 		// act
 		HttpEntity<Void> requestEntity = new HttpEntity<>(TestUtils.getApiHttpHeaders(DemoData.API_KEY_CREDENTIAL3));
 		ResponseEntity<String> response = executeHttpGet("/api/secret/fake-key", requestEntity, String.class);
 
-		apiKeyRepository.deleteById(DemoData.API_KEY_3_ID);
+		apiKeyRepository.deleteById(apiKey.getId());
 		// Assert
 		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
 	}
@@ -0,0 +1,154 @@
+package io.github.gms.functions.api;
+
+import io.github.gms.abstraction.AbstractLoggingUnitTest;
+import io.github.gms.common.dto.IdNamePairDto;
+import io.github.gms.common.enums.EntityStatus;
+import io.github.gms.common.model.ApiKeyPrincipal;
+import io.github.gms.common.types.GmsException;
+import io.github.gms.functions.apikey.ApiKeyEntity;
+import io.github.gms.functions.apikey.ApiKeyHashService;
+import io.github.gms.functions.apikey.ApiKeyRepository;
+import io.github.gms.functions.secret.ApiKeyRestrictionEntity;
+import io.github.gms.functions.secret.ApiKeyRestrictionRepository;
+import io.github.gms.functions.secret.SecretRepository;
+import io.github.gms.functions.user.UserEntity;
+import io.github.gms.functions.user.UserRepository;
+import io.github.gms.util.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.github.gms.util.LogAssertionUtils.assertLogContains;
+import static io.github.gms.util.TestConstants.CRYPTO_SECRET;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test of {@link ApiKeyPrincipalService}
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class ApiKeyPrincipalServiceTest extends AbstractLoggingUnitTest {
+
+    private static final String API_KEY = "12345678";
+    private static final String HASH_SECRET = "hashSecret";
+    private static final String API_KEY_HASH = new ApiKeyHashService(HASH_SECRET, CRYPTO_SECRET).hash(API_KEY);
+
+    private ApiKeyRepository apiKeyRepository;
+    private UserRepository userRepository;
+    private SecretRepository secretRepository;
+    private ApiKeyRestrictionRepository apiKeyRestrictionRepository;
+    private ApiKeyPrincipalService service;
+
+    @Override
+    @BeforeEach
+    public void setup() {
+        super.setup();
+        apiKeyRepository = mock(ApiKeyRepository.class);
+        userRepository = mock(UserRepository.class);
+        secretRepository = mock(SecretRepository.class);
+        apiKeyRestrictionRepository = mock(ApiKeyRestrictionRepository.class);
+        service = new ApiKeyPrincipalService(apiKeyRepository, userRepository, secretRepository, apiKeyRestrictionRepository,
+                new ApiKeyHashService(HASH_SECRET, CRYPTO_SECRET));
+        addAppender(ApiKeyPrincipalService.class);
+    }
+
+    @Test
+    void getPrincipal_whenApiKeyMissing_thenThrowGmsException() {
+        // arrange
+        when(apiKeyRepository.findAllByValueHashAndStatus(API_KEY_HASH, EntityStatus.ACTIVE)).thenReturn(List.of());
+
+        // act
+        GmsException exception = assertThrows(GmsException.class, () -> service.getPrincipal(API_KEY));
+
+        // assert
+        assertEquals("Wrong API key!", exception.getMessage());
+        assertLogContains(logAppender, "API key not found");
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void getPrincipal_whenApiKeyIsAmbiguous_thenThrowGmsException() {
+        // arrange
+        ApiKeyEntity otherApiKeyEntity = createApiKeyEntity();
+        otherApiKeyEntity.setId(2L);
+        otherApiKeyEntity.setUserId(2L);
+        when(apiKeyRepository.findAllByValueHashAndStatus(API_KEY_HASH, EntityStatus.ACTIVE))
+                .thenReturn(List.of(createApiKeyEntity(), otherApiKeyEntity));
+
+        // act
+        GmsException exception = assertThrows(GmsException.class, () -> service.getPrincipal(API_KEY));
+
+        // assert
+        assertEquals("Wrong API key!", exception.getMessage());
+        assertLogContains(logAppender, "API key is assigned to 2 users");
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void getPrincipal_whenUserMissing_thenThrowGmsException() {
+        // arrange
+        when(apiKeyRepository.findAllByValueHashAndStatus(API_KEY_HASH, EntityStatus.ACTIVE)).thenReturn(List.of(createApiKeyEntity()));
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // act
+        GmsException exception = assertThrows(GmsException.class, () -> service.getPrincipal(API_KEY));
+
+        // assert
+        assertEquals("User not found!", exception.getMessage());
+        assertLogContains(logAppender, "User not found");
+        verify(secretRepository, never()).findAllActiveSecretIdByUserId(anyLong());
+    }
+
+    @Test
+    void getPrincipal_whenInputIsValid_thenReturnPrincipal() {
+        // arrange
+        UserEntity userEntity = new UserEntity();
+        userEntity.setId(1L);
+        userEntity.setStatus(EntityStatus.ACTIVE);
+        when(apiKeyRepository.findAllByValueHashAndStatus(API_KEY_HASH, EntityStatus.ACTIVE)).thenReturn(List.of(createApiKeyEntity()));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(userEntity));
+        when(secretRepository.findAllActiveSecretIdByUserId(1L)).thenReturn(List.of(
+                new IdNamePairDto(1L, "secret1"),
+                new IdNamePairDto(2L, "secret2"),
+                new IdNamePairDto(3L, "secret3")));
+        when(apiKeyRestrictionRepository.findAllByUserId(1L)).thenReturn(List.of(
+                createRestriction(2L, 1L),
+                createRestriction(2L, 5L),
+                createRestriction(3L, 5L)));
+
+        // act
+        ApiKeyPrincipal response = service.getPrincipal(API_KEY);
+
+        // assert
+        assertEquals(1L, response.getApiKeyId());
+        assertEquals(1L, response.getUserId());
+        assertEquals(EntityStatus.ACTIVE, response.getUserStatus());
+        assertEquals(Map.of("secret1", 1L, "secret2", 2L, "secret3", 3L), response.getSecrets());
+        assertEquals(Set.of(3L), response.getRestrictedSecretIds());
+    }
+
+    private static ApiKeyRestrictionEntity createRestriction(Long secretId, Long apiKeyId) {
+        ApiKeyRestrictionEntity entity = TestUtils.createApiKeyRestrictionEntity(apiKeyId);
+        entity.setSecretId(secretId);
+        return entity;
+    }
+
+    private static ApiKeyEntity createApiKeyEntity() {
+        ApiKeyEntity apiKeyEntity = new ApiKeyEntity();
+        apiKeyEntity.setId(1L);
+        apiKeyEntity.setUserId(1L);
+        apiKeyEntity.setValue(API_KEY);
+        return apiKeyEntity;
+    }
+}
@@ -1,18 +1,34 @@
 package io.github.gms.functions.api;
 
 import io.github.gms.abstraction.AbstractLoggingUnitTest;
+import io.github.gms.common.enums.SecretResultStatus;
+import io.github.gms.common.model.ApiKeyPrincipal;
+import io.github.gms.common.model.PreparedSecret;
+import io.github.gms.common.types.ErrorCode;
+import io.github.gms.common.types.GmsException;
 import io.github.gms.functions.secret.dto.GetSecretRequestDto;
 import io.github.gms.functions.secret.SecretEntity;
+import io.github.gms.functions.secret.dto.GetSecretsRequestDto;
+import io.github.gms.functions.secret.dto.SecretResultDto;
 import io.github.gms.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.github.gms.common.util.Constants.VALUE;
 import static io.github.gms.util.LogAssertionUtils.assertLogContains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -42,10 +58,10 @@ class ApiServiceTest extends AbstractLoggingUnitTest {
     @Test
     void getSecret_whenInputIsValid_thenReturnOk() {
         // arrange
-        SecretEntity mockEntity = TestUtils.createSecretEntity();
+        ApiKeyPrincipal principal = ApiKeyPrincipal.builder().apiKeyId(1L).userId(1L).build();
         Map<String, String> mockResponse = Map.of(VALUE, "my-value");
-        when(secretPreparationService.getSecretEntity(dto)).thenReturn(mockEntity);
-        when(secretValueProviderService.getSecretValue(mockEntity)).thenReturn(mockResponse);
+        when(secretPreparationService.validateSecretRequest(dto)).thenReturn(principal);
+        when(secretValueProviderService.getSecretValue("123456", 1L)).thenReturn(mockResponse);
 
         // act
         Map<String, String> response = service.getSecret(dto);
@@ -54,7 +70,58 @@ class ApiServiceTest extends AbstractLoggingUnitTest {
         assertNotNull(response);
         assertEquals("my-value", response.get(VALUE));
 		assertLogContains(logAppender, "Searching for secret=");
-		verify(secretPreparationService).getSecretEntity(dto);
-		verify(secretValueProviderService).getSecretValue(mockEntity);
+		verify(secretPreparationService).validateSecretRequest(dto);
+		verify(secretValueProviderService).getSecretValue("123456", 1L);
+    }
+
+    @Test
+    void getSecrets_whenTooManySecretsRequested_thenThrowGmsException() {
+        // arrange
+        Set<String> secretIds = IntStream.rangeClosed(1, 101).mapToObj(i -> "secret" + i).collect(Collectors.toSet());
+        GetSecretsRequestDto batchDto = new GetSecretsRequestDto("12345678", secretIds);
+
+        // act
+        GmsException exception = assertThrows(GmsException.class, () -> service.getSecrets(batchDto));
+
+        // assert
+        assertEquals(ErrorCode.GMS_028, exception.getErrorCode());
+        verify(secretPreparationService, never()).getSecretEntities(batchDto);
+    }
+
+    @Test
+    void getSecrets_whenInputIsValid_thenReturnResultPerSecret() {
+        // arrange
+        GetSecretsRequestDto batchDto = new GetSecretsRequestDto("12345678",
+                new LinkedHashSet<>(List.of("secret1", "secret2", "secret3")));
+        SecretEntity okEntity = TestUtils.createSecretEntity();
+        SecretEntity failingEntity = TestUtils.createSecretEntity();
+        failingEntity.setId(2L);
+        Map<String, PreparedSecret> preparedSecrets = new LinkedHashMap<>();
+        preparedSecrets.put("secret1", PreparedSecret.of(okEntity));
+        preparedSecrets.put("secret2", PreparedSecret.failed(SecretResultStatus.NOT_FOUND,
+                new GmsException("Secret is not available!", ErrorCode.GMS_022)));
+        preparedSecrets.put("secret3", PreparedSecret.of(failingEntity));
+        when(secretPreparationService.getSecretEntities(batchDto)).thenReturn(preparedSecrets);
+        when(secretValueProviderService.getSecretValue(okEntity)).thenReturn(Map.of(VALUE, "my-value"));
+        when(secretValueProviderService.getSecretValue(failingEntity))
+                .thenThrow(new GmsException("Invalid keystore!", ErrorCode.GMS_002));
+
+        // act
+        Map<String, SecretResultDto> response = service.getSecrets(batchDto);
+
+        // assert
+        assertEquals(List.of("secret1", "secret2", "secret3"), List.copyOf(response.keySet()));
+        assertEquals(SecretResultStatus.OK, response.get("secret1").getStatus());
+        assertEquals("my-value", response.get("secret1").getValue().get(VALUE));
+        assertEquals(SecretResultStatus.NOT_FOUND, response.get("secret2").getStatus());
+        assertEquals("GMS-022", response.get("secret2").getErrorCode());
+        assertNull(response.get("secret2").getValue());
+        assertEquals(SecretResultStatus.FAILED, response.get("secret3").getStatus());
+        assertEquals("GMS-002", response.get("secret3").getErrorCode());
+        assertEquals("Invalid keystore!", response.get("secret3").getMessage());
+        assertLogContains(logAppender, "Searching for secrets=");
+        assertLogContains(logAppender, "Secret value cannot be retrieved: Invalid keystore!");
+        verify(secretPreparationService).getSecretEntities(batchDto);
+        verify(secretValueProviderService, times(2)).getSecretValue(any(SecretEntity.class));
     }
 }
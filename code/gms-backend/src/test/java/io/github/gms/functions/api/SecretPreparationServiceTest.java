@@ -2,27 +2,28 @@ package io.github.gms.functions.api;
 
 import io.github.gms.abstraction.AbstractLoggingUnitTest;
 import io.github.gms.common.enums.EntityStatus;
+import io.github.gms.common.enums.SecretResultStatus;
 import io.github.gms.common.enums.SecretType;
+import io.github.gms.common.model.ApiKeyPrincipal;
 import io.github.gms.common.model.IpRestrictionPattern;
 import io.github.gms.common.model.IpRestrictionPatterns;
+import io.github.gms.common.model.PreparedSecret;
+import io.github.gms.common.types.ErrorCode;
 import io.github.gms.common.types.GmsException;
-import io.github.gms.functions.apikey.ApiKeyEntity;
-import io.github.gms.functions.apikey.ApiKeyRepository;
 import io.github.gms.functions.iprestriction.IpRestrictionService;
 import io.github.gms.functions.iprestriction.IpRestrictionValidator;
-import io.github.gms.functions.secret.ApiKeyRestrictionRepository;
 import io.github.gms.functions.secret.dto.GetSecretRequestDto;
+import io.github.gms.functions.secret.dto.GetSecretsRequestDto;
 import io.github.gms.functions.secret.SecretEntity;
 import io.github.gms.functions.secret.SecretRepository;
-import io.github.gms.functions.user.UserEntity;
-import io.github.gms.functions.user.UserRepository;
-import io.github.gms.util.TestUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 import static io.github.gms.util.LogAssertionUtils.assertLogContains;
 import static io.github.gms.util.TestUtils.createMockSecret;
@@ -40,11 +41,11 @@ import static org.mockito.Mockito.*;
 class SecretPreparationServiceTest extends AbstractLoggingUnitTest {
 
     private static final GetSecretRequestDto dto = new GetSecretRequestDto("12345678", "123456");
+    private static final GetSecretsRequestDto batchDto = new GetSecretsRequestDto("12345678",
+            new LinkedHashSet<>(List.of("secret1", "secret2", "secret3")));
 
     private SecretRepository secretRepository;
-    private ApiKeyRepository apiKeyRepository;
-    private UserRepository userRepository;
-    private ApiKeyRestrictionRepository apiKeyRestrictionRepository;
+    private ApiKeyPrincipalService apiKeyPrincipalService;
     private IpRestrictionService ipRestrictionService;
     private IpRestrictionValidator ipRestrictionValidator;
 
@@ -55,179 +56,175 @@ class SecretPreparationServiceTest extends AbstractLoggingUnitTest {
     public void setup() {
         super.setup();
         secretRepository = mock(SecretRepository.class);
-        apiKeyRepository = mock(ApiKeyRepository.class);
-        userRepository = mock(UserRepository.class);
-        apiKeyRestrictionRepository = mock(ApiKeyRestrictionRepository.class);
+        apiKeyPrincipalService = mock(ApiKeyPrincipalService.class);
         ipRestrictionService = mock(IpRestrictionService.class);
         ipRestrictionValidator = mock(IpRestrictionValidator.class);
-        service = new SecretPreparationService(secretRepository, apiKeyRepository, userRepository, apiKeyRestrictionRepository,
-                ipRestrictionService, ipRestrictionValidator);
+        service = new SecretPreparationService(secretRepository, apiKeyPrincipalService, ipRestrictionService,
+                ipRestrictionValidator);
         addAppender(SecretPreparationService.class);
     }
 
     @Test
-    void getSecretEntity_whenApiKeyMissing_thenReturnGmsException() {
+    void validateSecretRequest_whenApiKeyMissing_thenReturnGmsException() {
         // arrange
-        when(apiKeyRepository.findByValueAndStatus(anyString(), any(EntityStatus.class))).thenReturn(null);
+        when(apiKeyPrincipalService.getPrincipal("12345678")).thenThrow(new GmsException("Wrong API key!", ErrorCode.GMS_016));
 
         // assert
-        GmsException exception = Assertions.assertThrows(GmsException.class, () -> service.getSecretEntity(dto));
+        GmsException exception = Assertions.assertThrows(GmsException.class, () -> service.validateSecretRequest(dto));
         assertEquals("Wrong API key!", exception.getMessage());
 
-        assertLogContains(logAppender, "API key not found");
-        verify(apiKeyRepository).findByValueAndStatus(anyString(), any(EntityStatus.class));
-        verify(userRepository, never()).findById(anyLong());
+        verify(apiKeyPrincipalService).getPrincipal("12345678");
         verify(ipRestrictionService, never()).checkIpRestrictionsBySecret(anyLong());
     }
 
     @Test
-    void getSecretEntity_whenUserMissing_thenReturnGmsException() {
+    void validateSecretRequest_whenSecretMissing_thenReturnGmsException() {
         // arrange
-        when(apiKeyRepository.findByValueAndStatus(anyString(), any(EntityStatus.class))).thenReturn(createApiKeyEntity());
+        when(apiKeyPrincipalService.getPrincipal("12345678")).thenReturn(createPrincipal(Map.of(), Set.of()));
 
         // assert
-        GmsException exception = Assertions.assertThrows(GmsException.class, () -> service.getSecretEntity(dto));
-        assertEquals("User not found!", exception.getMessage());
-
-        assertLogContains(logAppender, "User not found");
-        verify(apiKeyRepository).findByValueAndStatus(anyString(), any(EntityStatus.class));
-        verify(userRepository).findById(anyLong());
-        verify(ipRestrictionService, never()).checkIpRestrictionsBySecret(anyLong());
-    }
-
-    @Test
-    void getSecretEntity_whenSecretMissing_thenReturnGmsException() {
-        // arrange
-        when(apiKeyRepository.findByValueAndStatus(anyString(), any(EntityStatus.class))).thenReturn(createApiKeyEntity());
-        when(userRepository.findById(anyLong())).thenReturn(createMockUser());
-        when(secretRepository.findByUserIdAndSecretIdAndStatus(anyLong(), anyString(), eq(EntityStatus.ACTIVE))).thenReturn(Optional.empty());
-
-        // assert
-        GmsException exception = Assertions.assertThrows(GmsException.class, () -> service.getSecretEntity(dto));
+        GmsException exception = Assertions.assertThrows(GmsException.class, () -> service.validateSecretRequest(dto));
         assertEquals("Secret is not available!", exception.getMessage());
 
         assertLogContains(logAppender, "Secret not found");
-        verify(apiKeyRepository).findByValueAndStatus(anyString(), any(EntityStatus.class));
-        verify(userRepository).findById(anyLong());
-        verify(secretRepository).findByUserIdAndSecretIdAndStatus(anyLong(), anyString(), eq(EntityStatus.ACTIVE));
+        verify(apiKeyPrincipalService).getPrincipal("12345678");
         verify(ipRestrictionService, never()).checkIpRestrictionsBySecret(anyLong());
+        verifyNoInteractions(secretRepository);
     }
 
     @Test
-    void getSecretEntity_whenIpRestrictionConfigured_thenReturnGmsException() {
+    void validateSecretRequest_whenIpRestrictionConfigured_thenReturnGmsException() {
         // arrange
-        when(apiKeyRepository.findByValueAndStatus(anyString(), any(EntityStatus.class))).thenReturn(createApiKeyEntity());
-        when(userRepository.findById(anyLong())).thenReturn(createMockUser());
-        when(secretRepository.findByUserIdAndSecretIdAndStatus(anyLong(), anyString(), eq(EntityStatus.ACTIVE))).thenReturn((Optional.of(createMockSecret("encrypted", false, SecretType.SIMPLE_CREDENTIAL))));
-        when(ipRestrictionService.checkIpRestrictionsBySecret(anyLong())).thenReturn(
+        when(apiKeyPrincipalService.getPrincipal("12345678")).thenReturn(createPrincipal(Map.of("123456", 2L), Set.of()));
+        when(ipRestrictionService.checkIpRestrictionsBySecret(2L)).thenReturn(
                 new IpRestrictionPatterns(List.of(IpRestrictionPattern.builder().allow(false).ipPattern(".*").build())));
-        when(ipRestrictionValidator.isIpAddressBlocked(anyList())).thenReturn(true);
+        when(ipRestrictionValidator.isIpAddressBlocked(any(IpRestrictionPatterns.class))).thenReturn(true);
 
         // assert
-        GmsException exception = Assertions.assertThrows(GmsException.class, () -> service.getSecretEntity(dto));
+        GmsException exception = Assertions.assertThrows(GmsException.class, () -> service.validateSecretRequest(dto));
         assertEquals("You are not allowed to get this secret from your IP address!", exception.getMessage());
 
-        verify(apiKeyRepository).findByValueAndStatus(anyString(), any(EntityStatus.class));
-        verify(userRepository).findById(anyLong());
-        verify(secretRepository).findByUserIdAndSecretIdAndStatus(anyLong(), anyString(), eq(EntityStatus.ACTIVE));
-        verify(ipRestrictionService).checkIpRestrictionsBySecret(anyLong());
-        verify(ipRestrictionValidator).isIpAddressBlocked(anyList());
+        verify(apiKeyPrincipalService).getPrincipal("12345678");
+        verify(ipRestrictionService).checkIpRestrictionsBySecret(2L);
+        verify(ipRestrictionValidator).isIpAddressBlocked(any(IpRestrictionPatterns.class));
     }
 
     @Test
-    void sgetSecretEntity_whenApiKeyRestrictionConfigured_thenReturnGmsException() {
+    void validateSecretRequest_whenApiKeyRestrictionConfigured_thenReturnGmsException() {
         // arrange
-        when(apiKeyRepository.findByValueAndStatus(anyString(), any(EntityStatus.class))).thenReturn(createApiKeyEntity());
-        when(userRepository.findById(anyLong())).thenReturn(createMockUser());
-        when(secretRepository.findByUserIdAndSecretIdAndStatus(anyLong(), anyString(), eq(EntityStatus.ACTIVE))).thenReturn((Optional.of(createMockSecret("encrypted", false, SecretType.SIMPLE_CREDENTIAL))));
-        when(apiKeyRestrictionRepository.findAllByUserIdAndSecretId(anyLong(), anyLong())).thenReturn(List.of(
-                TestUtils.createApiKeyRestrictionEntity(2L),
-                TestUtils.createApiKeyRestrictionEntity(3L)
-        ));
-        when(ipRestrictionService.checkIpRestrictionsBySecret(anyLong())).thenReturn(
+        when(apiKeyPrincipalService.getPrincipal("12345678")).thenReturn(createPrincipal(Map.of("123456", 2L), Set.of(2L)));
+        when(ipRestrictionService.checkIpRestrictionsBySecret(2L)).thenReturn(
                 new IpRestrictionPatterns(List.of(IpRestrictionPattern.builder().allow(false).ipPattern(".*").build())));
-        when(ipRestrictionValidator.isIpAddressBlocked(anyList())).thenReturn(false);
-
+        when(ipRestrictionValidator.isIpAddressBlocked(any(IpRestrictionPatterns.class))).thenReturn(false);
 
         // assert
-        GmsException exception = Assertions.assertThrows(GmsException.class, () -> service.getSecretEntity(dto));
+        GmsException exception = Assertions.assertThrows(GmsException.class, () -> service.validateSecretRequest(dto));
         assertEquals("You are not allowed to use this API key for this secret!", exception.getMessage());
 
         assertLogContains(logAppender, "You are not allowed to use this API key for this secret!");
-        verify(apiKeyRepository).findByValueAndStatus(anyString(), any(EntityStatus.class));
-        verify(userRepository).findById(anyLong());
-        verify(secretRepository).findByUserIdAndSecretIdAndStatus(anyLong(), anyString(), eq(EntityStatus.ACTIVE));
-        verify(apiKeyRestrictionRepository).findAllByUserIdAndSecretId(anyLong(), anyLong());
-        verify(ipRestrictionService).checkIpRestrictionsBySecret(anyLong());
-        verify(ipRestrictionValidator).isIpAddressBlocked(anyList());
+        verify(apiKeyPrincipalService).getPrincipal("12345678");
+        verify(ipRestrictionService).checkIpRestrictionsBySecret(2L);
+        verify(ipRestrictionValidator).isIpAddressBlocked(any(IpRestrictionPatterns.class));
     }
 
     @Test
-    void getSecretEntity_whenApiKeyRestrictionsConfigured_thenSucceed() {
+    void validateSecretRequest_whenRequestIsAllowed_thenReturnPrincipalWithoutDatabaseQuery() {
         // arrange
-        SecretEntity mockSecretEntity = createMockSecret("encrypted", false, SecretType.SIMPLE_CREDENTIAL);
-        when(apiKeyRepository.findByValueAndStatus(anyString(), any(EntityStatus.class))).thenReturn(createApiKeyEntity());
-        when(userRepository.findById(anyLong())).thenReturn(createMockUser());
-        when(secretRepository.findByUserIdAndSecretIdAndStatus(anyLong(), anyString(), eq(EntityStatus.ACTIVE))).thenReturn((Optional.of(mockSecretEntity)));
-        when(apiKeyRestrictionRepository.findAllByUserIdAndSecretId(anyLong(), anyLong())).thenReturn(List.of(
-                TestUtils.createApiKeyRestrictionEntity(1L),
-                TestUtils.createApiKeyRestrictionEntity(2L),
-                TestUtils.createApiKeyRestrictionEntity(3L)
-        ));
-        when(ipRestrictionService.checkIpRestrictionsBySecret(anyLong())).thenReturn(
+        ApiKeyPrincipal principal = createPrincipal(Map.of("123456", 2L), Set.of(3L));
+        when(apiKeyPrincipalService.getPrincipal("12345678")).thenReturn(principal);
+        when(ipRestrictionService.checkIpRestrictionsBySecret(2L)).thenReturn(
                 new IpRestrictionPatterns(List.of(IpRestrictionPattern.builder().allow(false).ipPattern(".*").build())));
-        when(ipRestrictionValidator.isIpAddressBlocked(anyList())).thenReturn(false);
+        when(ipRestrictionValidator.isIpAddressBlocked(any(IpRestrictionPatterns.class))).thenReturn(false);
 
         // act
-        SecretEntity response = service.getSecretEntity(dto);
+        ApiKeyPrincipal response = service.validateSecretRequest(dto);
 
         // assert
         assertNotNull(response);
-        assertEquals(mockSecretEntity, response);
-        verify(apiKeyRepository).findByValueAndStatus(anyString(), any(EntityStatus.class));
-        verify(userRepository).findById(anyLong());
-        verify(secretRepository).findByUserIdAndSecretIdAndStatus(anyLong(), anyString(), eq(EntityStatus.ACTIVE));
-        verify(apiKeyRestrictionRepository).findAllByUserIdAndSecretId(anyLong(), anyLong());
-        verify(ipRestrictionService).checkIpRestrictionsBySecret(anyLong());
-        verify(ipRestrictionValidator).isIpAddressBlocked(anyList());
+        assertEquals(principal, response);
+        verify(apiKeyPrincipalService).getPrincipal("12345678");
+        verify(ipRestrictionService).checkIpRestrictionsBySecret(2L);
+        verify(ipRestrictionValidator).isIpAddressBlocked(any(IpRestrictionPatterns.class));
+        verifyNoInteractions(secretRepository);
     }
 
     @Test
-    void getSecretEntity_whenApiKeyRestrictionsMissing_thenSucceed() {
+    void getSecretEntities_whenApiKeyMissing_thenReturnGmsException() {
         // arrange
-        SecretEntity mockSecretEntity = createMockSecret("encrypted", false, SecretType.SIMPLE_CREDENTIAL);
-        when(apiKeyRepository.findByValueAndStatus(anyString(), any(EntityStatus.class))).thenReturn(createApiKeyEntity());
-        when(userRepository.findById(anyLong())).thenReturn(createMockUser());
-        when(secretRepository.findByUserIdAndSecretIdAndStatus(anyLong(), anyString(), eq(EntityStatus.ACTIVE))).thenReturn((Optional.of(mockSecretEntity)));
-        when(apiKeyRestrictionRepository.findAllByUserIdAndSecretId(anyLong(), anyLong())).thenReturn(List.of());
-        when(ipRestrictionService.checkIpRestrictionsBySecret(anyLong())).thenReturn(
-                new IpRestrictionPatterns(List.of(IpRestrictionPattern.builder().allow(false).ipPattern(".*").build())));
-        when(ipRestrictionValidator.isIpAddressBlocked(anyList())).thenReturn(false);
+        when(apiKeyPrincipalService.getPrincipal("12345678")).thenThrow(new GmsException("Wrong API key!", ErrorCode.GMS_016));
+
+        // assert
+        GmsException exception = Assertions.assertThrows(GmsException.class, () -> service.getSecretEntities(batchDto));
+        assertEquals("Wrong API key!", exception.getMessage());
+
+        verify(secretRepository, never()).findAllByUserIdAndSecretIdInAndStatus(anyLong(), anySet(), any(EntityStatus.class));
+    }
+
+    @Test
+    void getSecretEntities_whenNoSecretFound_thenReturnNotFoundResults() {
+        // arrange
+        when(apiKeyPrincipalService.getPrincipal("12345678")).thenReturn(createPrincipal(Map.of(), Set.of()));
+        when(secretRepository.findAllByUserIdAndSecretIdInAndStatus(1L, batchDto.getSecretIds(), EntityStatus.ACTIVE)).thenReturn(List.of());
 
         // act
-        SecretEntity response = service.getSecretEntity(dto);
+        Map<String, PreparedSecret> response = service.getSecretEntities(batchDto);
 
-        //assert
-        assertNotNull(response);
-        assertEquals(mockSecretEntity, response);
-        verify(apiKeyRepository).findByValueAndStatus(anyString(), any(EntityStatus.class));
-        verify(userRepository).findById(anyLong());
-        verify(secretRepository).findByUserIdAndSecretIdAndStatus(anyLong(), anyString(), eq(EntityStatus.ACTIVE));
-        verify(apiKeyRestrictionRepository).findAllByUserIdAndSecretId(anyLong(), anyLong());
-        verify(ipRestrictionService).checkIpRestrictionsBySecret(anyLong());
-        verify(ipRestrictionValidator).isIpAddressBlocked(anyList());
+        // assert
+        assertEquals(List.of("secret1", "secret2", "secret3"), List.copyOf(response.keySet()));
+        response.values().forEach(preparedSecret -> {
+            assertEquals(SecretResultStatus.NOT_FOUND, preparedSecret.getStatus());
+            assertEquals(ErrorCode.GMS_022, preparedSecret.getError().getErrorCode());
+        });
+        assertLogContains(logAppender, "Secret not found");
+        verify(ipRestrictionService, never()).checkIpRestrictionsBySecrets(anySet());
     }
 
-    private static Optional<UserEntity> createMockUser() {
-        return Optional.of(new UserEntity());
+    @Test
+    void getSecretEntities_whenInputIsValid_thenReturnResultsInRequestOrder() {
+        // arrange
+        SecretEntity secret1 = createBatchSecret(1L, "secret1");
+        SecretEntity secret2 = createBatchSecret(2L, "secret2");
+        SecretEntity secret3 = createBatchSecret(3L, "secret3");
+        IpRestrictionPatterns blockedPatterns = new IpRestrictionPatterns(List.of(IpRestrictionPattern.builder().allow(false).ipPattern(".*").build()));
+
+        when(apiKeyPrincipalService.getPrincipal("12345678")).thenReturn(createPrincipal(Map.of(), Set.of(3L)));
+        when(secretRepository.findAllByUserIdAndSecretIdInAndStatus(1L, batchDto.getSecretIds(), EntityStatus.ACTIVE))
+                .thenReturn(List.of(secret3, secret2, secret1));
+        when(ipRestrictionService.checkIpRestrictionsBySecrets(Set.of(1L, 2L, 3L))).thenReturn(Map.of(2L, blockedPatterns));
+        when(ipRestrictionValidator.isIpAddressBlocked(blockedPatterns)).thenReturn(true);
+
+        // act
+        Map<String, PreparedSecret> response = service.getSecretEntities(batchDto);
+
+        // assert
+        assertEquals(List.of("secret1", "secret2", "secret3"), List.copyOf(response.keySet()));
+        assertEquals(SecretResultStatus.OK, response.get("secret1").getStatus());
+        assertEquals(secret1, response.get("secret1").getEntity());
+        assertEquals(SecretResultStatus.FORBIDDEN, response.get("secret2").getStatus());
+        assertEquals(ErrorCode.GMS_023, response.get("secret2").getError().getErrorCode());
+        assertEquals(SecretResultStatus.FORBIDDEN, response.get("secret3").getStatus());
+        assertEquals(ErrorCode.GMS_017, response.get("secret3").getError().getErrorCode());
+        assertLogContains(logAppender, "You are not allowed to use this API key for this secret!");
+        verify(apiKeyPrincipalService).getPrincipal("12345678");
+        verify(secretRepository).findAllByUserIdAndSecretIdInAndStatus(1L, batchDto.getSecretIds(), EntityStatus.ACTIVE);
+        verify(ipRestrictionService).checkIpRestrictionsBySecrets(Set.of(1L, 2L, 3L));
+        verify(ipRestrictionValidator).isIpAddressBlocked(blockedPatterns);
     }
 
-    private static ApiKeyEntity createApiKeyEntity() {
-        ApiKeyEntity mockApiKey = new ApiKeyEntity();
-        mockApiKey.setId(1L);
-        mockApiKey.setUserId(1L);
-        mockApiKey.setValue("apikey");
+    private static SecretEntity createBatchSecret(Long id, String secretId) {
+        SecretEntity entity = createMockSecret("encrypted", false, SecretType.SIMPLE_CREDENTIAL);
+        entity.setId(id);
+        entity.setSecretId(secretId);
+        return entity;
+    }
 
-        return mockApiKey;
+    private static ApiKeyPrincipal createPrincipal(Map<String, Long> secrets, Set<Long> restrictedSecretIds) {
+        return ApiKeyPrincipal.builder()
+                .apiKeyId(1L)
+                .userId(1L)
+                .userStatus(EntityStatus.ACTIVE)
+                .secrets(secrets)
+                .restrictedSecretIds(restrictedSecretIds)
+                .build();
     }
 }
@@ -1,9 +1,13 @@
 package io.github.gms.functions.api;
 
 import io.github.gms.abstraction.AbstractLoggingUnitTest;
+import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.SecretType;
 import io.github.gms.common.service.CryptoService;
+import io.github.gms.common.types.ErrorCode;
+import io.github.gms.common.types.GmsException;
 import io.github.gms.functions.secret.SecretEntity;
+import io.github.gms.functions.secret.SecretRepository;
 import io.github.gms.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,11 +15,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Map;
+import java.util.Optional;
 
 import static io.github.gms.common.util.Constants.VALUE;
 import static io.github.gms.util.LogAssertionUtils.assertLogContains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -27,6 +33,7 @@ class SecretValueProviderServiceTest extends AbstractLoggingUnitTest {
 
     private KeystoreValidatorService keystoreValidatorService;
     private CryptoService cryptoService;
+    private SecretRepository secretRepository;
     private SecretValueProviderService service;
 
     @Override
@@ -35,7 +42,8 @@ class SecretValueProviderServiceTest extends AbstractLoggingUnitTest {
         super.setup();
         keystoreValidatorService = mock(KeystoreValidatorService.class);
         cryptoService = mock(CryptoService.class);
-        service = new SecretValueProviderService(keystoreValidatorService, cryptoService);
+        secretRepository = mock(SecretRepository.class);
+        service = new SecretValueProviderService(keystoreValidatorService, cryptoService, secretRepository);
 
         addAppender(SecretValueProviderService.class);
     }
@@ -59,6 +67,39 @@ class SecretValueProviderServiceTest extends AbstractLoggingUnitTest {
         verify(cryptoService, never()).decrypt(mockSecret);
     }
 
+    @Test
+    void getSecretValue_whenSecretIdProvided_thenLoadEntity() {
+        // arrange
+        SecretEntity mockSecret = TestUtils.createSecretEntity();
+        mockSecret.setValue("encrypted");
+        mockSecret.setType(SecretType.SIMPLE_CREDENTIAL);
+        when(secretRepository.findByUserIdAndSecretIdAndStatus(1L, "secret", EntityStatus.ACTIVE))
+                .thenReturn(Optional.of(mockSecret));
+
+        // act
+        Map<String, String> response = service.getSecretValue("secret", 1L);
+
+        // assert
+        assertEquals("encrypted", response.get(VALUE));
+        verify(secretRepository).findByUserIdAndSecretIdAndStatus(1L, "secret", EntityStatus.ACTIVE);
+        verify(keystoreValidatorService).validateSecretKeystore(mockSecret);
+    }
+
+    @Test
+    void getSecretValue_whenSecretIsNotAvailable_thenThrowGmsException() {
+        // arrange
+        when(secretRepository.findByUserIdAndSecretIdAndStatus(1L, "secret", EntityStatus.ACTIVE))
+                .thenReturn(Optional.empty());
+
+        // act
+        GmsException exception = assertThrows(GmsException.class, () -> service.getSecretValue("secret", 1L));
+
+        // assert
+        assertEquals(ErrorCode.GMS_022, exception.getErrorCode());
+        assertLogContains(logAppender, "Secret not found");
+        verify(keystoreValidatorService, never()).validateSecretKeystore(any(SecretEntity.class));
+    }
+
     @ParameterizedTest
     @MethodSource("inputData")
     void getSecretValue_whenDataIsValid_thenReturnEncrypted(boolean returnDecrypted, SecretType type, String expectedValue) {
@@ -93,6 +134,78 @@ class SecretValueProviderServiceTest extends AbstractLoggingUnitTest {
         verify(cryptoService, returnDecrypted ? times(1) : never()).decrypt(any(SecretEntity.class));
     }
 
+    @Test
+    void getSecretValue_whenLegacyValueRead_thenMigrateToEnvelope() {
+        // arrange
+        SecretEntity mockSecret = TestUtils.createSecretEntity();
+        mockSecret.setValue("encrypted");
+        mockSecret.setType(SecretType.SIMPLE_CREDENTIAL);
+        mockSecret.setReturnDecrypted(true);
+        when(cryptoService.decrypt(mockSecret)).thenReturn("decrypted");
+        when(cryptoService.isReEncryptionRequired(mockSecret)).thenReturn(true);
+        doAnswer(invocation -> {
+            invocation.<SecretEntity>getArgument(0).setValue("env1:migrated");
+            return null;
+        }).when(cryptoService).encrypt(mockSecret);
+        when(secretRepository.updateValue(1L, "encrypted", "env1:migrated")).thenReturn(1);
+
+        // act
+        Map<String, String> response = service.getSecretValue(mockSecret);
+
+        // assert
+        assertEquals("decrypted", response.get(VALUE));
+        assertEquals("encrypted", mockSecret.getValue());
+        verify(secretRepository).updateValue(1L, "encrypted", "env1:migrated");
+        verify(secretRepository, never()).save(any(SecretEntity.class));
+        assertLogContains(logAppender, "Secret value of entity=1 migrated to envelope encryption");
+    }
+
+    @Test
+    void getSecretValue_whenValueChangedConcurrently_thenSkipMigration() {
+        // arrange
+        SecretEntity mockSecret = TestUtils.createSecretEntity();
+        mockSecret.setValue("encrypted");
+        mockSecret.setType(SecretType.SIMPLE_CREDENTIAL);
+        mockSecret.setReturnDecrypted(true);
+        when(cryptoService.decrypt(mockSecret)).thenReturn("decrypted");
+        when(cryptoService.isReEncryptionRequired(mockSecret)).thenReturn(true);
+        doAnswer(invocation -> {
+            invocation.<SecretEntity>getArgument(0).setValue("env1:migrated");
+            return null;
+        }).when(cryptoService).encrypt(mockSecret);
+        when(secretRepository.updateValue(1L, "encrypted", "env1:migrated")).thenReturn(0);
+
+        // act
+        Map<String, String> response = service.getSecretValue(mockSecret);
+
+        // assert
+        assertEquals("decrypted", response.get(VALUE));
+        assertEquals("encrypted", mockSecret.getValue());
+        verify(secretRepository, never()).save(any(SecretEntity.class));
+        assertLogContains(logAppender, "Secret value of entity=1 has been changed in the meantime, migration skipped");
+    }
+
+    @Test
+    void getSecretValue_whenMigrationFails_thenKeepLegacyValue() {
+        // arrange
+        SecretEntity mockSecret = TestUtils.createSecretEntity();
+        mockSecret.setValue("encrypted");
+        mockSecret.setType(SecretType.SIMPLE_CREDENTIAL);
+        mockSecret.setReturnDecrypted(true);
+        when(cryptoService.decrypt(mockSecret)).thenReturn("decrypted");
+        when(cryptoService.isReEncryptionRequired(mockSecret)).thenReturn(true);
+        doThrow(new GmsException("Encrypt failed", ErrorCode.GMS_001)).when(cryptoService).encrypt(mockSecret);
+
+        // act
+        Map<String, String> response = service.getSecretValue(mockSecret);
+
+        // assert
+        assertEquals("decrypted", response.get(VALUE));
+        assertEquals("encrypted", mockSecret.getValue());
+        verify(secretRepository, never()).updateValue(anyLong(), anyString(), anyString());
+        assertLogContains(logAppender, "Secret value of entity=1 could not be migrated: Encrypt failed");
+    }
+
     private static Object[][] inputData() {
         return new Object[][] {
                 { true, SecretType.SIMPLE_CREDENTIAL, "decrypted" },
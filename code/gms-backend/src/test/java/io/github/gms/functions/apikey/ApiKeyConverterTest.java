@@ -74,7 +74,7 @@ class ApiKeyConverterTest extends AbstractUnitTest {
 
 		// assert
 		assertNotNull(entity);
-		assertEquals("ApiKeyEntity(id=3, userId=6, name=api-key-name, value=12345678, description=description2, status=ACTIVE, creationDate=null)", entity.toString());
+		assertEquals("ApiKeyEntity(id=3, userId=6, name=api-key-name, value=12345678, valueHash=null, description=description2, status=ACTIVE, creationDate=null)", entity.toString());
 	}
 
 	@Test
@@ -0,0 +1,71 @@
+package io.github.gms.functions.apikey;
+
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static io.github.gms.util.TestConstants.CRYPTO_SECRET;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit test of {@link ApiKeyHashService} and {@link ApiKeyValueHashListener}
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class ApiKeyHashServiceTest {
+
+	private final ApiKeyHashService service = new ApiKeyHashService("hashSecret", CRYPTO_SECRET);
+
+	@Test
+	void hash_whenValueIsNull_thenReturnNull() {
+		// act & assert
+		assertNull(service.hash(null));
+	}
+
+	@Test
+	void hash_whenValueProvided_thenReturnKeyedHash() {
+		// act
+		String response = service.hash("apiKey");
+
+		// assert
+		assertEquals(64, response.length());
+		assertEquals(response, service.hash("apiKey"));
+		assertNotEquals(response, service.hash("apiKey2"));
+		assertNotEquals(response, new ApiKeyHashService("otherSecret", CRYPTO_SECRET).hash("apiKey"));
+	}
+
+	@Test
+	void hash_whenHashSecretIsMissing_thenUseKeyDerivedFromCryptoSecret() {
+		// arrange
+		ApiKeyHashService derivedService = new ApiKeyHashService("", CRYPTO_SECRET);
+
+		// act
+		String response = derivedService.hash("apiKey");
+
+		// assert
+		assertEquals(64, response.length());
+		assertEquals(response, new ApiKeyHashService(null, CRYPTO_SECRET).hash("apiKey"));
+		assertNotEquals(response, Hashing.hmacSha256(Base64.getDecoder().decode(CRYPTO_SECRET))
+				.hashString("apiKey", StandardCharsets.UTF_8).toString());
+		assertNotEquals(response, new ApiKeyHashService("", "b3RoZXJTZWNyZXQ=").hash("apiKey"));
+	}
+
+	@Test
+	void updateValueHash_whenEntitySaved_thenSetValueHash() {
+		// arrange
+		ApiKeyValueHashListener listener = new ApiKeyValueHashListener(service);
+		ApiKeyEntity entity = new ApiKeyEntity();
+		entity.setValue("apiKey");
+
+		// act
+		listener.updateValueHash(entity);
+
+		// assert
+		assertEquals(service.hash("apiKey"), entity.getValueHash());
+	}
+}
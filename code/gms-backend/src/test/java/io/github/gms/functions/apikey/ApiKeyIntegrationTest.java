@@ -76,6 +76,7 @@ class ApiKeyIntegrationTest extends AbstractClientControllerIntegrationTest {
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody());
 		assertFalse(response.getBody().getResultList().isEmpty());
+		assertTrue(response.getBody().getResultList().stream().allMatch(apiKey -> apiKey.getValue() == null));
 	}
 	
 	@Test
@@ -96,14 +97,31 @@ class ApiKeyIntegrationTest extends AbstractClientControllerIntegrationTest {
 	@Test
 	@TestedMethod("delete")
 	void delete_whenInputIsValid_thenReturnOk() {
+		// arrange
+		ApiKeyEntity newEntity = apiKeyRepository.save(TestUtils.createApiKey(DemoData.API_KEY_3_ID, DemoData.API_KEY_CREDENTIAL3));
+
 		// act
 		HttpEntity<Void> requestEntity = new HttpEntity<>(TestUtils.getHttpHeaders(jwt));
-		ResponseEntity<String> response = executeHttpDelete("/" + DemoData.API_KEY_2_ID, requestEntity,
+		ResponseEntity<String> response = executeHttpDelete("/" + newEntity.getId(), requestEntity,
 				String.class);
 
 		// Assert
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNull(response.getBody());
+		assertTrue(apiKeyRepository.findById(newEntity.getId()).isEmpty());
+	}
+
+	@Test
+	@TestedMethod("delete")
+	void delete_whenApiKeyBelongsToOtherUser_thenReturnError() {
+		// act
+		HttpEntity<Void> requestEntity = new HttpEntity<>(TestUtils.getHttpHeaders(jwt));
+		ResponseEntity<String> response = executeHttpDelete("/" + DemoData.API_KEY_2_ID, requestEntity,
+				String.class);
+
+		// Assert
+		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+		assertTrue(apiKeyRepository.findById(DemoData.API_KEY_2_ID).isPresent());
 	}
 
 	@Transactional
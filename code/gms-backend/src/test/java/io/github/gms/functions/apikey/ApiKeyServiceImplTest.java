@@ -5,10 +5,14 @@ import io.github.gms.common.dto.IdNamePairDto;
 import io.github.gms.common.dto.IdNamePairListDto;
 import io.github.gms.common.dto.LongValueDto;
 import io.github.gms.common.dto.SaveEntityResponseDto;
+import io.github.gms.common.enums.ApiCacheTag;
 import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.MdcParameter;
+import io.github.gms.common.enums.UserCounterType;
+import io.github.gms.common.service.ApiCacheInvalidationService;
 import io.github.gms.common.types.GmsException;
 import io.github.gms.common.util.ConverterUtils;
+import io.github.gms.functions.home.UserCounterService;
 import io.github.gms.util.TestUtils;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +30,7 @@ import java.util.Set;
 
 import static io.github.gms.common.util.Constants.ENTITY_NOT_FOUND;
 import static io.github.gms.util.LogAssertionUtils.assertLogContains;
+import static io.github.gms.util.TestConstants.CRYPTO_SECRET;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -36,9 +41,13 @@ import static org.mockito.Mockito.*;
  */
 class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 
+	private static final String HASH_SECRET = "hashSecret";
+
 	private ApiKeyServiceImpl service;
 	private ApiKeyRepository repository;
 	private ApiKeyConverter converter;
+	private ApiCacheInvalidationService apiCacheInvalidationService;
+	private UserCounterService userCounterService;
 
 	@Override
 	@BeforeEach
@@ -46,7 +55,10 @@ class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 		super.setup();
 		repository = mock(ApiKeyRepository.class);
 		converter = mock(ApiKeyConverter.class);
-		service = new ApiKeyServiceImpl(repository, converter);
+		apiCacheInvalidationService = mock(ApiCacheInvalidationService.class);
+		userCounterService = mock(UserCounterService.class);
+		service = new ApiKeyServiceImpl(repository, converter, apiCacheInvalidationService, new ApiKeyHashService(HASH_SECRET, CRYPTO_SECRET),
+				userCounterService);
 		addAppender(ApiKeyServiceImpl.class);
 	}
 
@@ -58,8 +70,8 @@ class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 		mockEntity.setId(1L);
 		when(converter.toNewEntity(any(SaveApiKeyRequestDto.class))).thenReturn(mockEntity);
 		when(repository.save(any(ApiKeyEntity.class))).thenReturn(mockEntity);
-		when(repository.countAllApiKeysByName(anyLong(), anyString())).thenReturn(0L);
-		when(repository.countAllApiKeysByValue(anyLong(), anyString())).thenReturn(0L);
+		when(repository.countOtherApiKeysByName(anyLong(), anyString(), any())).thenReturn(0L);
+		when(repository.countOtherApiKeysByValueHash(anyString(), any())).thenReturn(0L);
 
 		// act
 		SaveEntityResponseDto response = service.save(TestUtils.createNewSaveApiKeyRequestDto());
@@ -71,9 +83,10 @@ class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 
 		assertEquals(2L, requestCaptor.getValue().getUserId());
 
-		verify(repository).countAllApiKeysByName(anyLong(), anyString());
-		verify(repository).countAllApiKeysByValue(anyLong(), anyString());
+		verify(repository).countOtherApiKeysByName(anyLong(), anyString(), any());
+		verify(repository).countOtherApiKeysByValueHash(anyString(), any());
 		verify(repository).save(any(ApiKeyEntity.class));
+		verify(userCounterService).increment(2L, UserCounterType.API_KEY);
 
 		MDC.remove(MdcParameter.USER_ID.getDisplayName());
 	}
@@ -87,8 +100,8 @@ class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 		when(repository.findByIdAndUserId(anyLong(), anyLong())).thenReturn(Optional.of(TestUtils.createApiKey()));
 		when(converter.toEntity(any(ApiKeyEntity.class), any(SaveApiKeyRequestDto.class))).thenReturn(mockEntity);
 		when(repository.save(any(ApiKeyEntity.class))).thenReturn(mockEntity);
-		when(repository.countAllApiKeysByName(anyLong(), anyString())).thenReturn(0L);
-		when(repository.countAllApiKeysByValue(anyLong(), anyString())).thenReturn(0L);
+		when(repository.countOtherApiKeysByName(anyLong(), anyString(), any())).thenReturn(0L);
+		when(repository.countOtherApiKeysByValueHash(anyString(), any())).thenReturn(0L);
 
 		// act
 		SaveEntityResponseDto response = service.save(TestUtils.createSaveApiKeyRequestDto());
@@ -98,6 +111,8 @@ class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 		verify(converter).toEntity(any(ApiKeyEntity.class), any(SaveApiKeyRequestDto.class));
 		verify(repository).findByIdAndUserId(anyLong(), anyLong());
 		verify(repository).save(any(ApiKeyEntity.class));
+		verify(apiCacheInvalidationService).evict(ApiCacheTag.API_KEY, 1L);
+		verify(userCounterService, never()).increment(anyLong(), any(UserCounterType.class));
 	}
 	
 	@Test
@@ -105,7 +120,7 @@ class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 		// arrange
 		ApiKeyEntity mockEntity = new ApiKeyEntity();
 		mockEntity.setId(1L);
-		when(repository.countAllApiKeysByName(anyLong(), anyString())).thenReturn(1L);
+		when(repository.countOtherApiKeysByName(anyLong(), anyString(), any())).thenReturn(1L);
 
 		// act
 		SaveApiKeyRequestDto input = TestUtils.createNewSaveApiKeyRequestDto();
@@ -115,7 +130,7 @@ class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 		assertEquals("API key name must be unique!", exception.getMessage());
 		verify(converter, never()).toNewEntity(any(SaveApiKeyRequestDto.class));
 		verify(repository, never()).save(any(ApiKeyEntity.class));
-		verify(repository).countAllApiKeysByName(anyLong(), anyString());
+		verify(repository).countOtherApiKeysByName(anyLong(), anyString(), any());
 	}
 	
 	@Test
@@ -123,7 +138,7 @@ class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 		// arrange
 		ApiKeyEntity mockEntity = new ApiKeyEntity();
 		mockEntity.setId(1L);
-		when(repository.countAllApiKeysByValue(anyLong(), anyString())).thenReturn(1L);
+		when(repository.countOtherApiKeysByValueHash(anyString(), any())).thenReturn(1L);
 
 		// act
 		SaveApiKeyRequestDto input = TestUtils.createNewSaveApiKeyRequestDto();
@@ -133,7 +148,28 @@ class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 		assertEquals("API key value must be unique!", exception.getMessage());
 		verify(converter, never()).toNewEntity(any(SaveApiKeyRequestDto.class));
 		verify(repository, never()).save(any(ApiKeyEntity.class));
-		verify(repository).countAllApiKeysByValue(anyLong(), anyString());
+		verify(repository).countOtherApiKeysByValueHash(anyString(), any());
+	}
+
+	@Test
+	void save_WhenUpdatedValueBelongsToAnotherKey_thenThrowGmsException() {
+		// arrange
+		MDC.put(MdcParameter.USER_ID.getDisplayName(), "2");
+		SaveApiKeyRequestDto input = TestUtils.createSaveApiKeyRequestDto();
+		String valueHash = new ApiKeyHashService(HASH_SECRET, CRYPTO_SECRET).hash(input.getValue());
+		when(repository.countOtherApiKeysByName(2L, input.getName(), input.getId())).thenReturn(0L);
+		when(repository.countOtherApiKeysByValueHash(valueHash, input.getId())).thenReturn(1L);
+
+		// act
+		GmsException exception = assertThrows(GmsException.class, () -> service.save(input));
+
+		// assert
+		assertEquals("API key value must be unique!", exception.getMessage());
+		verify(repository).countOtherApiKeysByValueHash(valueHash, input.getId());
+		verify(converter, never()).toEntity(any(ApiKeyEntity.class), any(SaveApiKeyRequestDto.class));
+		verify(repository, never()).save(any(ApiKeyEntity.class));
+
+		MDC.remove(MdcParameter.USER_ID.getDisplayName());
 	}
 
 	@Test
@@ -168,7 +204,7 @@ class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 	@Test
 	void list_whenDaoReturnsError_thenReturnEmptyList() {
 		// arrange
-		when(repository.findAllByUserId(anyLong(), any(Pageable.class))).thenThrow(new RuntimeException("Unexpected error!"));
+		when(repository.findAllDtoByUserId(anyLong(), any(Pageable.class))).thenThrow(new RuntimeException("Unexpected error!"));
 		Pageable pageable = ConverterUtils.createPageable("ASC", "id", 0, 10);
 
 		// act
@@ -178,16 +214,15 @@ class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 		assertNotNull(response);
 		assertEquals(0, response.getResultList().size());
 		assertEquals(0L, response.getTotalElements());
-		verify(repository).findAllByUserId(anyLong(), any(Pageable.class));
+		verify(repository).findAllDtoByUserId(anyLong(), any(Pageable.class));
 		verify(converter, never()).toDtoList(any());
 	}
 
 	@Test
 	void list_whenEntitiesFound_thenReturnResultList() {
 		// arrange
-		Page<ApiKeyEntity> mockList = new PageImpl<>(Lists.newArrayList(new ApiKeyEntity()));
-		when(repository.findAllByUserId(anyLong(), any(Pageable.class))).thenReturn(mockList);
-		when(converter.toDtoList(any())).thenReturn(ApiKeyListDto.builder().resultList(Lists.newArrayList(new ApiKeyDto())).build());
+		Page<ApiKeyDto> mockList = new PageImpl<>(Lists.newArrayList(new ApiKeyDto()));
+		when(repository.findAllDtoByUserId(anyLong(), any(Pageable.class))).thenReturn(mockList);
 		Pageable pageable = ConverterUtils.createPageable("ASC", "id", 0, 10);
 
 		// act
@@ -196,17 +231,65 @@ class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 		// assert
 		assertNotNull(response);
 		assertEquals(1, response.getResultList().size());
-		verify(repository).findAllByUserId(anyLong(), any(Pageable.class));
-		verify(converter).toDtoList(any());
+		verify(repository).findAllDtoByUserId(anyLong(), any(Pageable.class));
+		verify(converter, never()).toDtoList(any());
 	}
 	
 	@Test
 	void delete_whenEntityExists_thenRemoveData() {
+		// arrange
+		MDC.put(MdcParameter.USER_ID.getDisplayName(), "2");
+		ApiKeyEntity entity = TestUtils.createApiKey();
+		entity.setUserId(2L);
+		when(repository.findByIdAndUserId(1L, 2L)).thenReturn(Optional.of(entity));
+		when(repository.deleteByIdAndUserId(1L, 2L)).thenReturn(1);
+		when(apiCacheInvalidationService.getCacheKeys(ApiCacheTag.API_KEY, 1L)).thenReturn(Set.of("secret1"));
+		when(apiCacheInvalidationService.getPrincipalCacheKeys(ApiCacheTag.API_KEY, 1L)).thenReturn(Set.of("hash1"));
+
 		// act
 		service.delete(1L);
 
 		// assert
-		verify(repository).deleteById(1L);
+		verify(repository).deleteByIdAndUserId(1L, 2L);
+		verify(apiCacheInvalidationService).getCacheKeys(ApiCacheTag.API_KEY, 1L);
+		verify(apiCacheInvalidationService).evict(Set.of("secret1"));
+		verify(apiCacheInvalidationService).evictPrincipals(Set.of("hash1"));
+		verify(userCounterService).decrement(2L, UserCounterType.API_KEY);
+
+		MDC.remove(MdcParameter.USER_ID.getDisplayName());
+	}
+
+	@Test
+	void delete_whenEntityBelongsToOtherUser_thenThrowGmsException() {
+		// arrange
+		MDC.put(MdcParameter.USER_ID.getDisplayName(), "2");
+		when(repository.findByIdAndUserId(1L, 2L)).thenReturn(Optional.empty());
+
+		// act
+		GmsException exception = assertThrows(GmsException.class, () -> service.delete(1L));
+
+		// assert
+		assertEquals(ENTITY_NOT_FOUND, exception.getMessage());
+		verify(repository, never()).deleteByIdAndUserId(anyLong(), anyLong());
+		verify(userCounterService, never()).decrement(anyLong(), any(UserCounterType.class));
+
+		MDC.remove(MdcParameter.USER_ID.getDisplayName());
+	}
+
+	@Test
+	void delete_whenEntityDeletedConcurrently_thenDoNotDecrementCounter() {
+		// arrange
+		MDC.put(MdcParameter.USER_ID.getDisplayName(), "2");
+		when(repository.findByIdAndUserId(1L, 2L)).thenReturn(Optional.of(TestUtils.createApiKey()));
+		when(repository.deleteByIdAndUserId(eq(1L), anyLong())).thenReturn(0);
+
+		// act
+		service.delete(1L);
+
+		// assert
+		verify(userCounterService, never()).decrement(anyLong(), any(UserCounterType.class));
+
+		MDC.remove(MdcParameter.USER_ID.getDisplayName());
 	}
 	
 	@Test
@@ -239,6 +322,8 @@ class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 		verify(repository).save(argumentCaptor.capture());
 
 		assertEquals(enabled, argumentCaptor.getValue().getStatus() == EntityStatus.ACTIVE);
+		verify(apiCacheInvalidationService).evict(ApiCacheTag.API_KEY, 1L);
+		verify(apiCacheInvalidationService).evictPrincipals(ApiCacheTag.API_KEY, 1L);
 	}
 	
 	@Test	
@@ -275,12 +360,14 @@ class ApiKeyServiceImplTest extends AbstractLoggingUnitTest {
 	void batchDeleteByUserIds_whenInputProvided_thenProceed() {
 		// arrange
 		Set<Long> userIds = Set.of(1L, 2L);
+		when(apiCacheInvalidationService.getPrincipalCacheKeys(userIds)).thenReturn(Set.of("hash1"));
 
 		// act
 		service.batchDeleteByUserIds(userIds);
 
 		// assert
 		verify(repository).deleteAllByUserId(userIds);
+		verify(apiCacheInvalidationService).evictPrincipals(Set.of("hash1"));
 		assertLogContains(logAppender, "All API keys have been removed for the requested users");
 	}
 }
@@ -0,0 +1,82 @@
+package io.github.gms.functions.apikey;
+
+import io.github.gms.abstraction.AbstractLoggingUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.github.gms.util.LogAssertionUtils.assertLogContains;
+import static io.github.gms.util.TestConstants.CRYPTO_SECRET;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test of {@link ApiKeyValueHashMigrationService}
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class ApiKeyValueHashMigrationServiceTest extends AbstractLoggingUnitTest {
+
+	private ApiKeyRepository repository;
+	private ApiKeyHashService apiKeyHashService;
+	private ApiKeyValueHashMigrationService service;
+
+	@Override
+	@BeforeEach
+	public void setup() {
+		super.setup();
+		repository = mock(ApiKeyRepository.class);
+		apiKeyHashService = new ApiKeyHashService("hashSecret", CRYPTO_SECRET);
+		service = new ApiKeyValueHashMigrationService(repository, apiKeyHashService);
+		addAppender(ApiKeyValueHashMigrationService.class);
+	}
+
+	@Test
+	void migrate_whenNothingToMigrate_thenSkip() {
+		// arrange
+		when(repository.findAllByValueHashIsNull()).thenReturn(List.of());
+
+		// act
+		service.migrate();
+
+		// assert
+		verify(repository, never()).save(any(ApiKeyEntity.class));
+	}
+
+	@Test
+	void migrate_whenHashIsMissing_thenUpdateEntities() {
+		// arrange
+		ApiKeyEntity entity1 = createApiKey(1L, "apiKey1");
+		ApiKeyEntity entity2 = createApiKey(2L, "apiKey2");
+		when(repository.findAllByValueHashIsNull()).thenReturn(List.of(entity1, entity2));
+		when(repository.save(any(ApiKeyEntity.class))).thenAnswer(invocation -> {
+			ApiKeyEntity entity = invocation.getArgument(0);
+			if (entity.getId() == 2L) {
+				throw new IllegalStateException("Duplicate value");
+			}
+			return entity;
+		});
+
+		// act
+		service.migrate();
+
+		// assert
+		assertEquals(apiKeyHashService.hash("apiKey1"), entity1.getValueHash());
+		verify(repository).save(entity1);
+		assertLogContains(logAppender, "Value hash of API key=2 could not be updated: Duplicate value");
+		assertLogContains(logAppender, "Value hash has been updated for 1 API key(s)");
+	}
+
+	private static ApiKeyEntity createApiKey(Long id, String value) {
+		ApiKeyEntity entity = new ApiKeyEntity();
+		entity.setId(id);
+		entity.setValue(value);
+		return entity;
+	}
+}
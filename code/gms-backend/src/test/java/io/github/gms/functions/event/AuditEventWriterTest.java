@@ -0,0 +1,215 @@
+package io.github.gms.functions.event;
+
+import io.github.gms.abstraction.AbstractLoggingUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static io.github.gms.util.LogAssertionUtils.assertLogContains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test of {@link AuditEventWriter}
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class AuditEventWriterTest extends AbstractLoggingUnitTest {
+
+	private static final long VERIFY_TIMEOUT_MILLIS = 2000L;
+
+	private EventRepository repository;
+	private SimpleMeterRegistry meterRegistry;
+	private AuditEventWriter writer;
+
+	@Override
+	@BeforeEach
+	public void setup() {
+		super.setup();
+		repository = mock(EventRepository.class);
+		meterRegistry = new SimpleMeterRegistry();
+		addAppender(AuditEventWriter.class);
+	}
+
+	@Override
+	@AfterEach
+	public void tearDown() {
+		if (writer != null) {
+			writer.stop();
+		}
+
+		super.tearDown();
+	}
+
+	@Test
+	void enqueue_whenBatchIsFull_thenSaveBatch() {
+		// arrange
+		writer = createWriter(10, 2, 10000L);
+		writer.start();
+		EventEntity first = createEvent(1L);
+		EventEntity second = createEvent(2L);
+
+		// act
+		writer.enqueue(first);
+		writer.enqueue(second);
+
+		// assert
+		verify(repository, timeout(VERIFY_TIMEOUT_MILLIS)).saveAll(List.of(first, second));
+		verify(repository, never()).save(first);
+	}
+
+	@Test
+	void enqueue_whenFlushIntervalElapsed_thenSavePartialBatch() {
+		// arrange
+		writer = createWriter(10, 100, 20L);
+		writer.start();
+		EventEntity event = createEvent(1L);
+
+		// act
+		writer.enqueue(event);
+
+		// assert
+		verify(repository, timeout(VERIFY_TIMEOUT_MILLIS)).saveAll(List.of(event));
+		assertEquals(0.0d, meterRegistry.get("gms.audit.queue.size").gauge().value());
+	}
+
+	@Test
+	void enqueue_whenWriterIsNotRunning_thenSaveEventDirectly() {
+		// arrange
+		writer = createWriter(10, 100, 20L);
+		EventEntity event = createEvent(1L);
+
+		// act
+		writer.enqueue(event);
+
+		// assert
+		verify(repository).save(event);
+		verify(repository, never()).saveAll(anyList());
+	}
+
+	@Test
+	void enqueue_whenQueueIsFull_thenSaveEventDirectly() throws InterruptedException {
+		// arrange
+		CountDownLatch writerBlocked = new CountDownLatch(1);
+		CountDownLatch releaseWriter = new CountDownLatch(1);
+		EventEntity first = createEvent(1L);
+		when(repository.saveAll(List.of(first))).thenAnswer(invocation -> {
+			writerBlocked.countDown();
+			releaseWriter.await();
+			return List.of(first);
+		});
+		writer = createWriter(1, 1, 20L);
+		writer.start();
+		writer.enqueue(first);
+		writerBlocked.await();
+		EventEntity queued = createEvent(2L);
+		EventEntity overflow = createEvent(3L);
+
+		// act
+		writer.enqueue(queued);
+		writer.enqueue(overflow);
+
+		// assert
+		verify(repository).save(overflow);
+		releaseWriter.countDown();
+		verify(repository, timeout(VERIFY_TIMEOUT_MILLIS)).saveAll(List.of(queued));
+	}
+
+	@Test
+	void stop_whenEventsPending_thenSaveThem() {
+		// arrange
+		writer = createWriter(10, 100, 50L);
+		writer.start();
+		EventEntity event = createEvent(1L);
+		writer.enqueue(event);
+
+		// act
+		writer.stop();
+
+		// assert
+		verify(repository).saveAll(List.of(event));
+		assertLogContains(logAppender, "Audit event writer has been stopped");
+		writer = null;
+	}
+
+	@Test
+	void enqueue_whenWriterIsClosed_thenSaveEventDirectly() {
+		// arrange
+		writer = createWriter(10, 100, 20L);
+		writer.start();
+		writer.stop();
+		EventEntity event = createEvent(1L);
+
+		// act
+		writer.enqueue(event);
+
+		// assert
+		verify(repository).save(event);
+		verify(repository, never()).saveAll(anyList());
+		assertEquals(0.0d, meterRegistry.get("gms.audit.queue.size").gauge().value());
+		writer = null;
+	}
+
+	@Test
+	void save_whenBatchFails_thenSaveEventsOneByOne() {
+		// arrange
+		EventEntity first = createEvent(1L);
+		EventEntity second = createEvent(2L);
+		when(repository.saveAll(List.of(first, second))).thenThrow(new QueryTimeoutException("timeout"));
+		writer = createWriter(10, 2, 10000L);
+		writer.start();
+
+		// act
+		writer.enqueue(first);
+		writer.enqueue(second);
+
+		// assert
+		verify(repository, timeout(VERIFY_TIMEOUT_MILLIS)).save(first);
+		verify(repository, timeout(VERIFY_TIMEOUT_MILLIS)).save(second);
+		writer.stop();
+		assertLogContains(logAppender, "Batch of 2 audit event(s) could not be saved, saving them one by one: timeout");
+		writer = null;
+	}
+
+	@Test
+	void save_whenDatabaseFails_thenLogError() {
+		// arrange
+		EventEntity first = createEvent(1L);
+		EventEntity second = createEvent(2L);
+		when(repository.saveAll(List.of(first, second))).thenThrow(new QueryTimeoutException("timeout"));
+		when(repository.save(first)).thenThrow(new QueryTimeoutException("timeout"));
+		writer = createWriter(10, 2, 10000L);
+		writer.start();
+
+		// act
+		writer.enqueue(first);
+		writer.enqueue(second);
+
+		// assert
+		verify(repository, timeout(VERIFY_TIMEOUT_MILLIS)).save(second);
+		writer.stop();
+		assertLogContains(logAppender, "1 audit event(s) could not be saved: timeout");
+		writer = null;
+	}
+
+	private AuditEventWriter createWriter(int queueCapacity, int batchSize, long flushIntervalMillis) {
+		return new AuditEventWriter(repository, meterRegistry, queueCapacity, batchSize, flushIntervalMillis, 10L);
+	}
+
+	private static EventEntity createEvent(Long userId) {
+		EventEntity entity = new EventEntity();
+		entity.setUserId(userId);
+		return entity;
+	}
+}
@@ -1,15 +1,20 @@
 package io.github.gms.functions.event;
 
 import io.github.gms.abstraction.AbstractClientControllerTest;
+import io.github.gms.common.model.KeysetPageRequest;
 import io.github.gms.common.util.ConverterUtils;
 import io.github.gms.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,7 +44,9 @@ class EventControllerTest extends AbstractClientControllerTest<EventService, Eve
                 "DESC",
                 "id",
                 0,
-                10
+                10,
+                null,
+                false
         );
 
         // assert
@@ -48,6 +55,30 @@ class EventControllerTest extends AbstractClientControllerTest<EventService, Eve
         verify(service).list(pageable);
     }
 
+    @Test
+    void list_whenCursorProvided_thenReturnKeysetPage() {
+        // arrange
+        EventListDto dtoList = TestUtils.createEventListDto();
+        KeysetPageRequest request = new KeysetPageRequest(Sort.by(Sort.Direction.DESC, "id"), 10, ScrollPosition.keyset(), true);
+        when(service.list(request)).thenReturn(dtoList);
+
+        // act
+        EventListDto response = controller.list(
+                "DESC",
+                "id",
+                0,
+                10,
+                "",
+                true
+        );
+
+        // assert
+        assertNotNull(response);
+        assertEquals(dtoList, response);
+        verify(service).list(request);
+        verify(service, never()).list(any(Pageable.class));
+    }
+
     @Test
     void listByUserId_whenInputProvided_thenReturnOk() {
         // arrange
@@ -61,7 +92,9 @@ class EventControllerTest extends AbstractClientControllerTest<EventService, Eve
                 "DESC",
                 "id",
                 0,
-                10);
+                10,
+                null,
+                false);
 
         // assert
         assertNotNull(response);
@@ -22,6 +22,8 @@ import static io.github.gms.util.TestConstants.TAG_INTEGRATION_TEST;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Peter Szrnka
@@ -71,6 +73,43 @@ class EventIntegrationTest extends AbstractIntegrationTest implements GmsControl
 		assertEquals(EventTarget.API_KEY, responseList.getResultList().getFirst().getTarget());
 	}
 	
+	@Test
+	@TestedMethod(LIST)
+	void list_whenCursorProvided_thenReturnNextPages() {
+		eventRepository.deleteAll();
+
+		// arrange
+		ZonedDateTime now = ZonedDateTime.now();
+		for (long i = 1; i <= 3; i++) {
+			EventEntity eventEntity = new EventEntity();
+			eventEntity.setUserId(2L);
+			eventEntity.setOperation(EventOperation.GET_BY_ID);
+			eventEntity.setTarget(EventTarget.API_KEY);
+			eventEntity.setEventDate(now.minusHours(i));
+			eventRepository.save(eventEntity);
+		}
+		HttpEntity<Void> requestEntity = new HttpEntity<>(TestUtils.getHttpHeaders(jwt));
+		String listPath = path + "/list?size=2&direction=DESC&property=eventDate&cursor=";
+
+		// act
+		ResponseEntity<EventListDto> firstPage = executeHttpGet(listPath + "&withCount=true", requestEntity, EventListDto.class);
+		ResponseEntity<EventListDto> secondPage = executeHttpGet(listPath + firstPage.getBody().getNextCursor(), requestEntity, EventListDto.class);
+
+		// assert
+		assertEquals(HttpStatus.OK, firstPage.getStatusCode());
+		assertEquals(2, firstPage.getBody().getResultList().size());
+		assertEquals(3L, firstPage.getBody().getTotalElements());
+		assertNotNull(firstPage.getBody().getNextCursor());
+
+		assertEquals(HttpStatus.OK, secondPage.getStatusCode());
+		EventListDto lastPage = secondPage.getBody();
+		assertEquals(1, lastPage.getResultList().size());
+		assertEquals(-1L, lastPage.getTotalElements());
+		assertNull(lastPage.getNextCursor());
+		assertTrue(lastPage.getResultList().getFirst().getEventDate()
+				.isBefore(firstPage.getBody().getResultList().getLast().getEventDate()));
+	}
+
 	@Test
 	@TestedMethod("listByUserId")
 	void listByUserId_whenInputIsValid_thenReturnOk() {
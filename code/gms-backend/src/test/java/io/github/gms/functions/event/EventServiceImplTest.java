@@ -4,9 +4,11 @@ import io.github.gms.abstraction.AbstractUnitTest;
 import io.github.gms.common.enums.EventOperation;
 import io.github.gms.common.enums.EventTarget;
 import io.github.gms.common.enums.MdcParameter;
+import io.github.gms.common.model.KeysetPageRequest;
 import io.github.gms.common.model.UserEvent;
 import io.github.gms.common.util.ConverterUtils;
 import io.github.gms.functions.user.UserRepository;
+import io.github.gms.util.DemoData;
 import io.github.gms.util.TestUtils;
 import org.assertj.core.util.Lists;
 import org.jboss.logging.MDC;
@@ -16,18 +18,26 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -42,6 +52,7 @@ class EventServiceImplTest extends AbstractUnitTest {
 	private EventRepository repository;
 	private UserRepository userRepository;
 	private EventConverter converter;
+	private AuditEventWriter auditEventWriter;
 	private EventServiceImpl service;
 
 	@BeforeEach
@@ -50,7 +61,8 @@ class EventServiceImplTest extends AbstractUnitTest {
 		repository = mock(EventRepository.class);
 		userRepository = mock(UserRepository.class);
 		converter = mock(EventConverter.class);
-		service = new EventServiceImpl(clock, repository, userRepository, converter);
+		auditEventWriter = mock(AuditEventWriter.class);
+		service = new EventServiceImpl(clock, repository, userRepository, converter, auditEventWriter);
 	}
 	
 	@Test
@@ -65,7 +77,7 @@ class EventServiceImplTest extends AbstractUnitTest {
 		
 		// assert
 		ArgumentCaptor<EventEntity> eventCaptor = ArgumentCaptor.forClass(EventEntity.class);
-		verify(repository).save(eventCaptor.capture());
+		verify(auditEventWriter).enqueue(eventCaptor.capture());
 		
 		EventEntity capturedEvent = eventCaptor.getValue();
 		assertEquals(1L, capturedEvent.getUserId());
@@ -102,7 +114,7 @@ class EventServiceImplTest extends AbstractUnitTest {
 		when(repository.findAll(any(Pageable.class))).thenReturn(mockList);
 		when(converter.toDto(eq(event1), anyString())).thenReturn(mockEvent1);
 		when(converter.toDto(eq(secondEventEntity), anyString())).thenReturn(mockEvent2);
-		when(userRepository.getUsernameById(anyLong())).thenReturn("user1");
+		when(userRepository.getUsernamesByIds(Set.of(DemoData.USER_1_ID))).thenReturn(Map.of(DemoData.USER_1_ID, "user1"));
 		Pageable pageable = ConverterUtils.createPageable("ASC", "id", 0, 10);
 
 		// act
@@ -113,13 +125,84 @@ class EventServiceImplTest extends AbstractUnitTest {
 		assertEquals(2, response.getResultList().size());
 		assertEquals(2L, response.getTotalElements());
 		verify(repository).findAll(any(Pageable.class));
-		verify(converter, times(2)).toDto(any(EventEntity.class), anyString());
-		verify(userRepository).getUsernameById(anyLong());
+		verify(converter).toDto(event1, "user1");
+		verify(converter).toDto(secondEventEntity, "setup");
+		verify(userRepository).getUsernamesByIds(Set.of(DemoData.USER_1_ID));
+		verify(userRepository, never()).getUsernameById(anyLong());
 
 		assertEquals("user1", response.getResultList().get(0).getUsername());
 		assertEquals("user2", response.getResultList().get(1).getUsername());
 	}
 	
+	@Test
+	void list_whenEventsBelongToSeveralUsers_thenResolveUsernamesWithOneQuery() {
+		// arrange
+		EventEntity event1 = TestUtils.createEventEntity();
+		EventEntity event2 = TestUtils.createEventEntity();
+		event2.setUserId(2L);
+		EventEntity event3 = TestUtils.createEventEntity();
+		event3.setUserId(3L);
+		when(repository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(Lists.newArrayList(event1, event2, event3)));
+		when(userRepository.getUsernamesByIds(Set.of(DemoData.USER_1_ID, 2L, 3L)))
+				.thenReturn(Map.of(DemoData.USER_1_ID, "user1", 2L, "user2"));
+		when(converter.toDto(any(EventEntity.class), any())).thenReturn(new EventDto());
+		Pageable pageable = ConverterUtils.createPageable("ASC", "id", 0, 10);
+
+		// act
+		EventListDto response = service.list(pageable);
+
+		// assert
+		assertEquals(3, response.getResultList().size());
+		verify(userRepository).getUsernamesByIds(Set.of(DemoData.USER_1_ID, 2L, 3L));
+		verify(converter).toDto(event1, "user1");
+		verify(converter).toDto(event2, "user2");
+		verify(converter).toDto(event3, null);
+		verify(userRepository, never()).getUsernameById(anyLong());
+	}
+
+	@Test
+	void list_whenKeysetPageRequested_thenReturnPageWithCursor() {
+		// arrange
+		EventEntity event = TestUtils.createEventEntity();
+		KeysetPageRequest request = new KeysetPageRequest(Sort.by(Sort.Direction.DESC, "eventDate", "id"), 1, ScrollPosition.keyset(), true);
+		Window<EventEntity> window = Window.from(List.of(event),
+				index -> ScrollPosition.forward(Map.of("eventDate", event.getEventDate(), "id", event.getId())), true);
+		when(repository.findAllBy(request.position(), request.sort(), request.limit())).thenReturn(window);
+		when(repository.count()).thenReturn(5L);
+		when(userRepository.getUsernamesByIds(Set.of(DemoData.USER_1_ID))).thenReturn(Map.of(DemoData.USER_1_ID, "user1"));
+		when(converter.toDto(event, "user1")).thenReturn(new EventDto());
+
+		// act
+		EventListDto response = service.list(request);
+
+		// assert
+		assertEquals(1, response.getResultList().size());
+		assertEquals(5L, response.getTotalElements());
+		assertNotNull(response.getNextCursor());
+		verify(repository, never()).findAll(any(Pageable.class));
+	}
+
+	@Test
+	void listByUser_whenKeysetPageRequested_thenReturnLastPageWithoutCount() {
+		// arrange
+		KeysetPageRequest request = new KeysetPageRequest(Sort.by(Sort.Direction.ASC, "id"), 10, ScrollPosition.keyset(), false);
+		Window<EventEntity> window = Window.from(List.of(TestUtils.createEventEntity()), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+		when(repository.findAllByUserId(1L, request.position(), request.sort(), request.limit())).thenReturn(window);
+		when(userRepository.getUsernameById(1L)).thenReturn("user1");
+		when(converter.toDtoList(any(), eq("user1"))).thenReturn(EventListDto.builder()
+				.resultList(Lists.newArrayList(new EventDto()))
+				.totalElements(-1L).build());
+
+		// act
+		EventListDto response = service.listByUser(1L, request);
+
+		// assert
+		assertEquals(1, response.getResultList().size());
+		assertEquals(-1L, response.getTotalElements());
+		assertNull(response.getNextCursor());
+		verify(repository, never()).countByUserId(anyLong());
+	}
+
 	@Test
 	void listByUser_whenInputProvided_thenReturnOk() {
 		// arrange
@@ -1,9 +1,11 @@
 package io.github.gms.functions.home;
 
 import io.github.gms.abstraction.AbstractIntegrationTest;
+import io.github.gms.util.DemoData;
 import io.github.gms.util.TestUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import static io.github.gms.util.TestConstants.TAG_INTEGRATION_TEST;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Peter Szrnka
@@ -19,6 +22,11 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 @Tag(TAG_INTEGRATION_TEST)
 class HomeIntegrationTest extends AbstractIntegrationTest {
 
+    @Autowired
+    private UserCounterRepository userCounterRepository;
+    @Autowired
+    private UserCounterService userCounterService;
+
     @Test
     void getHomeData_whenUserIsAdmin_thenReturnData() {
         // arrange
@@ -47,5 +55,29 @@ class HomeIntegrationTest extends AbstractIntegrationTest {
         // assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
+        assertEquals(apiKeyRepository.countByUserId(DemoData.USER_1_ID), response.getBody().getApiKeyCount());
+        assertEquals(keystoreRepository.countByUserId(DemoData.USER_1_ID), response.getBody().getKeystoreCount());
+        assertEquals(secretRepository.countByUserId(DemoData.USER_1_ID), response.getBody().getSecretCount());
+        assertTrue(userCounterRepository.existsById(DemoData.USER_1_ID));
+    }
+
+    @Test
+    void reconcile_whenCountersAreOutdated_thenRecalculateThem() {
+        // arrange
+        UserCounterEntity counters = userCounterService.getCounters(DemoData.USER_1_ID);
+        counters.setApiKeyCount(100L);
+        counters.setKeystoreCount(100L);
+        counters.setSecretCount(100L);
+        userCounterRepository.save(counters);
+
+        // act
+        int response = userCounterService.reconcile();
+
+        // assert
+        assertTrue(response > 0);
+        UserCounterEntity reconciled = userCounterRepository.findById(DemoData.USER_1_ID).orElseThrow();
+        assertEquals(apiKeyRepository.countByUserId(DemoData.USER_1_ID), reconciled.getApiKeyCount());
+        assertEquals(keystoreRepository.countByUserId(DemoData.USER_1_ID), reconciled.getKeystoreCount());
+        assertEquals(secretRepository.countByUserId(DemoData.USER_1_ID), reconciled.getSecretCount());
     }
 }
@@ -6,12 +6,9 @@ import io.github.gms.common.enums.MdcParameter;
 import io.github.gms.functions.announcement.AnnouncementDto;
 import io.github.gms.functions.announcement.AnnouncementListDto;
 import io.github.gms.functions.announcement.AnnouncementService;
-import io.github.gms.functions.apikey.ApiKeyService;
 import io.github.gms.functions.event.EventDto;
 import io.github.gms.functions.event.EventListDto;
 import io.github.gms.functions.event.EventService;
-import io.github.gms.functions.keystore.KeystoreService;
-import io.github.gms.functions.secret.SecretService;
 import io.github.gms.functions.user.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,23 +30,19 @@ import static org.mockito.Mockito.*;
 class HomeServiceTest extends AbstractUnitTest {
 
     private AnnouncementService announcementService;
-    private ApiKeyService apiKeyService;
     private EventService eventService;
-    private KeystoreService keystoreService;
-    private SecretService secretService;
     private UserService userService;
+    private UserCounterService userCounterService;
 
     private HomeService service;
 
     @BeforeEach
     public void setup() {
         announcementService = mock(AnnouncementService.class);
-        apiKeyService = mock(ApiKeyService.class);
         eventService = mock(EventService.class);
-        keystoreService = mock(KeystoreService.class);
-        secretService = mock(SecretService.class);
         userService = mock(UserService.class);
-        service = new HomeService(announcementService, apiKeyService, eventService, keystoreService, secretService, userService);
+        userCounterService = mock(UserCounterService.class);
+        service = new HomeService(announcementService, eventService, userService, userCounterService);
     }
 
     @Test
@@ -72,6 +65,7 @@ class HomeServiceTest extends AbstractUnitTest {
 
         verify(announcementService).count();
         verify(userService).count();
+        verify(userCounterService, never()).getCounters(any());
         ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
         verify(eventService).list(captor.capture());
         Pageable captured = captor.getValue();
@@ -82,9 +76,13 @@ class HomeServiceTest extends AbstractUnitTest {
     void getHomeData_whenUserIsAUser_thenReturnUserData() {
         // arrange
         MDC.put(MdcParameter.IS_ADMIN.getDisplayName(), "false");
-        when(apiKeyService.count()).thenReturn(new LongValueDto(4L));
-        when(keystoreService.count()).thenReturn(new LongValueDto(2L));
-        when(secretService.count()).thenReturn(new LongValueDto(3L));
+        MDC.put(MdcParameter.USER_ID.getDisplayName(), "1");
+        UserCounterEntity counters = new UserCounterEntity();
+        counters.setUserId(1L);
+        counters.setApiKeyCount(4L);
+        counters.setKeystoreCount(2L);
+        counters.setSecretCount(3L);
+        when(userCounterService.getCounters(1L)).thenReturn(counters);
         when(announcementService.list(any(Pageable.class))).thenReturn(AnnouncementListDto.builder().totalElements(1)
                 .resultList(List.of(new AnnouncementDto())).build());
 
@@ -98,9 +96,7 @@ class HomeServiceTest extends AbstractUnitTest {
         assertEquals(2L, response.getKeystoreCount());
         assertEquals(3L, response.getSecretCount());
 
-        verify(apiKeyService).count();
-        verify(keystoreService).count();
-        verify(secretService).count();
+        verify(userCounterService).getCounters(1L);
 
         ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
         verify(announcementService).list(captor.capture());
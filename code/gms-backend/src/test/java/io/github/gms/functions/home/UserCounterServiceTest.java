@@ -0,0 +1,163 @@
+package io.github.gms.functions.home;
+
+import io.github.gms.abstraction.AbstractLoggingUnitTest;
+import io.github.gms.common.enums.UserCounterType;
+import io.github.gms.functions.apikey.ApiKeyRepository;
+import io.github.gms.functions.keystore.KeystoreRepository;
+import io.github.gms.functions.secret.SecretRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.github.gms.util.LogAssertionUtils.assertLogContains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class UserCounterServiceTest extends AbstractLoggingUnitTest {
+
+    private static final ZonedDateTime NOW = ZonedDateTime.parse("2023-06-29T00:00:00Z");
+
+    private UserCounterRepository repository;
+    private ApiKeyRepository apiKeyRepository;
+    private KeystoreRepository keystoreRepository;
+    private SecretRepository secretRepository;
+    private UserCounterService service;
+
+    @Override
+    @BeforeEach
+    public void setup() {
+        super.setup();
+        repository = mock(UserCounterRepository.class);
+        apiKeyRepository = mock(ApiKeyRepository.class);
+        keystoreRepository = mock(KeystoreRepository.class);
+        secretRepository = mock(SecretRepository.class);
+        Clock clock = Clock.fixed(Instant.parse("2023-06-29T00:00:00Z"), ZoneOffset.UTC);
+        service = new UserCounterService(repository, apiKeyRepository, keystoreRepository, secretRepository, clock);
+        addAppender(UserCounterService.class);
+    }
+
+    @Test
+    void getCounters_whenRowExists_thenReturnIt() {
+        // arrange
+        UserCounterEntity entity = new UserCounterEntity();
+        when(repository.findById(1L)).thenReturn(Optional.of(entity));
+
+        // act
+        UserCounterEntity response = service.getCounters(1L);
+
+        // assert
+        assertSame(entity, response);
+        verify(apiKeyRepository, never()).countByUserId(anyLong());
+        verify(keystoreRepository, never()).countByUserId(anyLong());
+        verify(secretRepository, never()).countByUserId(anyLong());
+        verify(repository, never()).insert(anyLong(), anyLong(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void getCounters_whenRowIsMissing_thenCreateItWithRealCounts() {
+        // arrange
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+        when(apiKeyRepository.countByUserId(1L)).thenReturn(4L);
+        when(keystoreRepository.countByUserId(1L)).thenReturn(2L);
+        when(secretRepository.countByUserId(1L)).thenReturn(3L);
+
+        // act
+        UserCounterEntity response = service.getCounters(1L);
+
+        // assert
+        assertEquals(1L, response.getUserId());
+        assertEquals(4L, response.getApiKeyCount());
+        assertEquals(2L, response.getKeystoreCount());
+        assertEquals(3L, response.getSecretCount());
+        assertEquals(NOW, response.getLastUpdated());
+        verify(repository).insert(1L, 4L, 2L, 3L, NOW);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void getCounters_whenRowIsCreatedConcurrently_thenReturnStoredRow() {
+        // arrange
+        UserCounterEntity stored = new UserCounterEntity();
+        stored.setUserId(1L);
+        stored.setApiKeyCount(5L);
+        when(repository.findById(1L)).thenReturn(Optional.empty(), Optional.of(stored));
+        when(apiKeyRepository.countByUserId(1L)).thenReturn(4L);
+        when(keystoreRepository.countByUserId(1L)).thenReturn(2L);
+        when(secretRepository.countByUserId(1L)).thenReturn(3L);
+        when(repository.insert(1L, 4L, 2L, 3L, NOW)).thenThrow(new DataIntegrityViolationException("Duplicate key"));
+
+        // act
+        UserCounterEntity response = service.getCounters(1L);
+
+        // assert
+        assertSame(stored, response);
+        verify(repository, times(2)).findById(1L);
+        verify(repository, never()).save(any());
+        assertLogContains(logAppender, "Counters of user=1 have been created by a concurrent request");
+    }
+
+    @Test
+    void increment_whenCalled_thenUpdateMatchingCounter() {
+        // act
+        service.increment(1L, UserCounterType.API_KEY);
+        service.increment(1L, UserCounterType.KEYSTORE);
+        service.increment(1L, UserCounterType.SECRET);
+
+        // assert
+        verify(repository).addApiKeyCount(1L, 1L, NOW);
+        verify(repository).addKeystoreCount(1L, 1L, NOW);
+        verify(repository).addSecretCount(1L, 1L, NOW);
+    }
+
+    @Test
+    void decrement_whenCalled_thenUpdateMatchingCounter() {
+        // act
+        service.decrement(1L, UserCounterType.API_KEY);
+        service.decrement(1L, UserCounterType.KEYSTORE);
+        service.decrement(1L, UserCounterType.SECRET);
+
+        // assert
+        verify(repository).addApiKeyCount(1L, -1L, NOW);
+        verify(repository).addKeystoreCount(1L, -1L, NOW);
+        verify(repository).addSecretCount(1L, -1L, NOW);
+    }
+
+    @Test
+    void reconcile_whenCalled_thenRecalculateAllRows() {
+        // arrange
+        when(repository.reconcileAll(any(ZonedDateTime.class))).thenReturn(3);
+
+        // act
+        int response = service.reconcile();
+
+        // assert
+        assertEquals(3, response);
+        ArgumentCaptor<ZonedDateTime> captor = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(repository).reconcileAll(captor.capture());
+        assertEquals(NOW, captor.getValue());
+    }
+
+    @Test
+    void batchDeleteByUserIds_whenCalled_thenDeleteRows() {
+        // act
+        service.batchDeleteByUserIds(Set.of(1L, 2L));
+
+        // assert
+        verify(repository).deleteAllByUserId(Set.of(1L, 2L));
+    }
+}
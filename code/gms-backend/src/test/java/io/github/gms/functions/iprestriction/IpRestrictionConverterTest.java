@@ -20,6 +20,7 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -129,6 +130,27 @@ class IpRestrictionConverterTest extends AbstractUnitTest {
         }
     }
 
+    @Test
+    void toModelMap_whenInputProvided_thenGroupBySecretId() {
+        // arrange
+        IpRestrictionEntity entity1 = TestUtils.createIpRestriction();
+        IpRestrictionEntity entity2 = TestUtils.createIpRestriction();
+        entity2.setId(2L);
+        entity2.setIpPattern("127.0.0.1");
+        IpRestrictionEntity entity3 = TestUtils.createIpRestriction();
+        entity3.setId(3L);
+        entity3.setSecretId(2L);
+
+        // act
+        Map<Long, IpRestrictionPatterns> response = converter.toModelMap(List.of(entity1, entity2, entity3));
+
+        // assert
+        assertEquals(2, response.size());
+        assertEquals(2, response.get(1L).getItems().size());
+        assertEquals("127.0.0.1", response.get(1L).getItems().get(1).getIpPattern());
+        assertEquals(1, response.get(2L).getItems().size());
+    }
+
     @Test
     void toDtoList_whenInputListProvided_thenConvertToDtoList() {
         // arrange
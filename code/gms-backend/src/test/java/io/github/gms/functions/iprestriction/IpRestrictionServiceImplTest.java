@@ -19,6 +19,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -246,6 +247,23 @@ class IpRestrictionServiceImplTest extends AbstractLoggingUnitTest {
         verify(converter).toModel(anyList());
     }
 
+    @Test
+    void checkIpRestrictionsBySecrets_whenInputProvided_thenReturnOk() {
+        // arrange
+        List<IpRestrictionEntity> mockEntities = List.of(TestUtils.createIpRestriction());
+        when(repository.findAllBySecretIdIn(Set.of(1L, 2L))).thenReturn(mockEntities);
+        when(converter.toModelMap(mockEntities)).thenReturn(Map.of(1L, new IpRestrictionPatterns(List.of())));
+
+        // act
+        Map<Long, IpRestrictionPatterns> response = service.checkIpRestrictionsBySecrets(Set.of(1L, 2L));
+
+        // assert
+        assertNotNull(response);
+        assertEquals(1, response.size());
+        verify(repository).findAllBySecretIdIn(Set.of(1L, 2L));
+        verify(converter).toModelMap(mockEntities);
+    }
+
     @Test
     void checkGlobalIpRestrictions_whenInputProvided_thenReturnOk() {
         // arrange
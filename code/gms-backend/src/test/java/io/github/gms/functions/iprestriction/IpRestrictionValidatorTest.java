@@ -2,6 +2,7 @@ package io.github.gms.functions.iprestriction;
 
 import io.github.gms.abstraction.AbstractLoggingUnitTest;
 import io.github.gms.common.model.IpRestrictionPattern;
+import io.github.gms.common.model.IpRestrictionPatterns;
 import io.github.gms.common.util.HttpUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,7 +43,7 @@ class IpRestrictionValidatorTest extends AbstractLoggingUnitTest {
     void isIpAddressBlocked_wheIpRestrictionsBySecretWithoutRulesProvided_thenProceed(String ipAddress) {
         try (MockedStatic<HttpUtils> httpUtilsMockedStatic = mockStatic(HttpUtils.class)) {
             // arrange
-            List<IpRestrictionPattern> input = List.of();
+            IpRestrictionPatterns input = new IpRestrictionPatterns(List.of());
             httpUtilsMockedStatic.when(() -> HttpUtils.getClientIpAddress(eq(httpServletRequest)))
                     .thenReturn(ipAddress);
 
@@ -61,7 +62,7 @@ class IpRestrictionValidatorTest extends AbstractLoggingUnitTest {
     void isIpAddressBlocked_whenIpIsRestricted_thenFail(boolean allow, String ipPattern, String ipAddress) {
         try (MockedStatic<HttpUtils> httpUtilsMockedStatic = mockStatic(HttpUtils.class)) {
             // arrange
-            List<IpRestrictionPattern> input = List.of(IpRestrictionPattern.builder().ipPattern(ipPattern).allow(allow).build());
+            IpRestrictionPatterns input = new IpRestrictionPatterns(List.of(IpRestrictionPattern.builder().ipPattern(ipPattern).allow(allow).build()));
             httpUtilsMockedStatic.when(() -> HttpUtils.getClientIpAddress(eq(httpServletRequest)))
                     .thenReturn(ipAddress);
 
@@ -80,7 +81,7 @@ class IpRestrictionValidatorTest extends AbstractLoggingUnitTest {
     void isIpAddressBlocked_whenIpIsNotRestricted_thenProceed(boolean allow, String ipPattern, String ipAddress) {
         try (MockedStatic<HttpUtils> httpUtilsMockedStatic = mockStatic(HttpUtils.class)) {
             // arrange
-            List<IpRestrictionPattern> input = List.of(IpRestrictionPattern.builder().ipPattern(ipPattern).allow(allow).build());
+            IpRestrictionPatterns input = new IpRestrictionPatterns(List.of(IpRestrictionPattern.builder().ipPattern(ipPattern).allow(allow).build()));
             httpUtilsMockedStatic.when(() -> HttpUtils.getClientIpAddress(eq(httpServletRequest)))
                     .thenReturn(ipAddress);
 
@@ -98,6 +99,9 @@ class IpRestrictionValidatorTest extends AbstractLoggingUnitTest {
         return new Object[][]{
                 {true, "(192.168.0.)[0-9]{1,3}", "127.0.0.1"},
                 {false, "(192.168.0.)[0-9]{1,3}", "192.168.0.2"},
+                {true, "10.0.0.0/8", "192.168.0.2"},
+                {false, "10.0.0.0/8", "10.1.2.3"},
+                {false, "2001:db8::/32", "2001:db8:0:0:0:0:0:1"}
         };
     }
 
@@ -105,7 +109,9 @@ class IpRestrictionValidatorTest extends AbstractLoggingUnitTest {
         return new Object[][]{
                 {false, "(192.168.0.)[0-9]{1,3}", "127.0.0.1"},
                 {true, "(192.168.0.)[0-9]{1,3}", "192.168.0.2"},
-                {false, "(192.168.0.)[0-9]{1,3}", "0:0:0:0:0:0:0:1"}
+                {false, "(192.168.0.)[0-9]{1,3}", "0:0:0:0:0:0:0:1"},
+                {true, "10.0.0.0/8", "10.1.2.3"},
+                {false, "2001:db8::/32", "2001:db9:0:0:0:0:0:1"}
         };
     }
 }
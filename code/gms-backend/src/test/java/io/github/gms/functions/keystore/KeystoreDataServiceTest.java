@@ -4,6 +4,7 @@ import io.github.gms.abstraction.AbstractLoggingUnitTest;
 import io.github.gms.common.enums.MdcParameter;
 import io.github.gms.common.model.KeystorePair;
 import io.github.gms.common.service.FileService;
+import io.github.gms.common.service.LocalCacheInvalidationService;
 import io.github.gms.common.types.GmsException;
 import io.github.gms.functions.secret.SecretEntity;
 import io.github.gms.util.TestUtils;
@@ -12,14 +13,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.MockedStatic;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
 import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.util.Optional;
 
+import static io.github.gms.common.util.Constants.CACHE_KEYSTORE_REGISTRY;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -34,9 +44,11 @@ class KeystoreDataServiceTest extends AbstractLoggingUnitTest {
 	private KeystoreAliasRepository keystoreAliasRepository;
 	private KeystoreDataService service;
 	private FileService fileService;
+	private LocalCacheInvalidationService localCacheInvalidationService;
 
 	@Override
 	@BeforeEach
+	@SuppressWarnings("unchecked")
 	public void setup() {
 		super.setup();
 
@@ -44,7 +56,9 @@ class KeystoreDataServiceTest extends AbstractLoggingUnitTest {
 		keystoreRepository = mock(KeystoreRepository.class);
 		keystoreAliasRepository = mock(KeystoreAliasRepository.class);
 		fileService = mock(FileService.class);
-		service = new KeystoreDataService(keystoreRepository, keystoreAliasRepository, fileService, "src/test/resources/");
+		localCacheInvalidationService = new LocalCacheInvalidationService(mock(ObjectProvider.class));
+		service = new KeystoreDataService(keystoreRepository, keystoreAliasRepository, fileService,
+				localCacheInvalidationService, "src/test/resources/", 10L, 3600L);
 	}
 	
 	@Test
@@ -101,4 +115,142 @@ class KeystoreDataServiceTest extends AbstractLoggingUnitTest {
 			keyStoreMockedStatic.verify(() -> KeyStore.getInstance(anyString()));
 		}
 	}
+
+	@Test
+	void getKeystoreData_whenCalledTwice_thenLoadKeystoreOnlyOnce() throws Exception {
+		try (MockedStatic<KeyStore> keyStoreMockedStatic = mockStatic(KeyStore.class)) {
+			// arrange
+			SecretEntity entity = TestUtils.createSecretEntity();
+			when(keystoreAliasRepository.findById(anyLong())).thenReturn(Optional.of(TestUtils.createKeystoreAliasEntity()));
+			when(keystoreRepository.findById(anyLong())).thenReturn(Optional.of(TestUtils.createJKSKeystoreEntity()));
+			when(fileService.toByteArray(any(File.class))).thenReturn("data".getBytes());
+			KeyStore mockKeyStore = mock(KeyStore.class);
+			keyStoreMockedStatic.when(() -> KeyStore.getInstance(anyString())).thenReturn(mockKeyStore);
+
+			// act
+			KeystorePair response1 = service.getKeystoreData(entity);
+			KeystorePair response2 = service.getKeystoreData(entity);
+
+			// assert
+			assertSame(response1.getKeystore(), response2.getKeystore());
+			verify(keystoreAliasRepository, times(2)).findById(anyLong());
+			verify(keystoreRepository).findById(anyLong());
+			verify(fileService).toByteArray(any(File.class));
+			verify(mockKeyStore).load(any(), ArgumentMatchers.eq("test".toCharArray()));
+		}
+	}
+
+	@Test
+	void getKeystoreData_whenRegistryInvalidated_thenReloadKeystore() throws Exception {
+		try (MockedStatic<KeyStore> keyStoreMockedStatic = mockStatic(KeyStore.class)) {
+			// arrange
+			SecretEntity entity = TestUtils.createSecretEntity();
+			KeystoreAliasEntity aliasEntity = TestUtils.createKeystoreAliasEntity();
+			when(keystoreAliasRepository.findById(anyLong())).thenReturn(Optional.of(aliasEntity));
+			when(keystoreRepository.findById(anyLong())).thenReturn(Optional.of(TestUtils.createJKSKeystoreEntity()));
+			when(fileService.toByteArray(any(File.class))).thenReturn("data".getBytes());
+			KeyStore mockKeyStore = mock(KeyStore.class);
+			keyStoreMockedStatic.when(() -> KeyStore.getInstance(anyString())).thenReturn(mockKeyStore);
+			service.getKeystoreData(entity);
+
+			// act
+			service.invalidate(aliasEntity.getKeystoreId());
+			service.getKeystoreData(entity);
+
+			// assert
+			verify(keystoreRepository, times(2)).findById(anyLong());
+			verify(mockKeyStore, times(2)).load(any(), ArgumentMatchers.eq("test".toCharArray()));
+		}
+	}
+
+	@Test
+	void getPrivateKey_whenCalledTwice_thenRecoverKeyOnlyOnce() throws Exception {
+		// arrange
+		KeyStore mockKeyStore = mock(KeyStore.class);
+		PrivateKey mockPrivateKey = mock(PrivateKey.class);
+		PublicKey mockPublicKey = mock(PublicKey.class);
+		Certificate mockCertificate = mock(Certificate.class);
+		when(mockKeyStore.getKey("test", "test".toCharArray())).thenReturn(mockPrivateKey);
+		when(mockKeyStore.getCertificate("test")).thenReturn(mockCertificate);
+		when(mockCertificate.getPublicKey()).thenReturn(mockPublicKey);
+		KeystorePair keystorePair = new KeystorePair(TestUtils.createKeystoreAliasEntity(), mockKeyStore);
+
+		// act
+		PrivateKey privateKey = service.getPrivateKey(keystorePair);
+		PublicKey publicKey = service.getPublicKey(keystorePair);
+
+		// assert
+		assertSame(mockPrivateKey, privateKey);
+		assertSame(mockPublicKey, publicKey);
+		verify(mockKeyStore).getKey("test", "test".toCharArray());
+		verify(mockKeyStore).getCertificate("test");
+	}
+
+	@Test
+	void getPrivateKey_whenRegistryInvalidated_thenRecoverKeyAgain() throws Exception {
+		// arrange
+		KeyStore mockKeyStore = mock(KeyStore.class);
+		Certificate mockCertificate = mock(Certificate.class);
+		when(mockKeyStore.getKey("test", "test".toCharArray())).thenReturn(mock(PrivateKey.class));
+		when(mockKeyStore.getCertificate("test")).thenReturn(mockCertificate);
+		when(mockCertificate.getPublicKey()).thenReturn(mock(PublicKey.class));
+		KeystoreAliasEntity aliasEntity = TestUtils.createKeystoreAliasEntity();
+		KeystorePair keystorePair = new KeystorePair(aliasEntity, mockKeyStore);
+		service.getPrivateKey(keystorePair);
+
+		// act
+		service.invalidate(aliasEntity.getKeystoreId());
+		service.getPrivateKey(keystorePair);
+
+		// assert
+		verify(mockKeyStore, times(2)).getKey("test", "test".toCharArray());
+	}
+
+	@Test
+	void getPrivateKey_whenInvalidatedInTransaction_thenRecoverKeyAgainOnlyAfterCommit() throws Exception {
+		// arrange
+		KeyStore mockKeyStore = mock(KeyStore.class);
+		Certificate mockCertificate = mock(Certificate.class);
+		when(mockKeyStore.getKey("test", "test".toCharArray())).thenReturn(mock(PrivateKey.class));
+		when(mockKeyStore.getCertificate("test")).thenReturn(mockCertificate);
+		when(mockCertificate.getPublicKey()).thenReturn(mock(PublicKey.class));
+		KeystoreAliasEntity aliasEntity = TestUtils.createKeystoreAliasEntity();
+		KeystorePair keystorePair = new KeystorePair(aliasEntity, mockKeyStore);
+		service.getPrivateKey(keystorePair);
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+			// act
+			service.invalidate(aliasEntity.getKeystoreId());
+			service.getPrivateKey(keystorePair);
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+			service.getPrivateKey(keystorePair);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		// assert
+		verify(mockKeyStore, times(2)).getKey("test", "test".toCharArray());
+	}
+
+	@Test
+	void getPrivateKey_whenOtherNodeInvalidatedKeystore_thenRecoverKeyAgain() throws Exception {
+		// arrange
+		KeyStore mockKeyStore = mock(KeyStore.class);
+		Certificate mockCertificate = mock(Certificate.class);
+		when(mockKeyStore.getKey("test", "test".toCharArray())).thenReturn(mock(PrivateKey.class));
+		when(mockKeyStore.getCertificate("test")).thenReturn(mockCertificate);
+		when(mockCertificate.getPublicKey()).thenReturn(mock(PublicKey.class));
+		KeystoreAliasEntity aliasEntity = TestUtils.createKeystoreAliasEntity();
+		KeystorePair keystorePair = new KeystorePair(aliasEntity, mockKeyStore);
+		service.getPrivateKey(keystorePair);
+
+		// act
+		localCacheInvalidationService.onMessage(new DefaultMessage(new byte[0],
+				("other-node|" + CACHE_KEYSTORE_REGISTRY + "|" + aliasEntity.getKeystoreId()).getBytes(StandardCharsets.UTF_8)), null);
+		service.getPrivateKey(keystorePair);
+
+		// assert
+		verify(mockKeyStore, times(2)).getKey("test", "test".toCharArray());
+	}
 }
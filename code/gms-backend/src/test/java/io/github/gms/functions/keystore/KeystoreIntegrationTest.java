@@ -121,6 +121,7 @@ class KeystoreIntegrationTest extends AbstractClientControllerIntegrationTest {
 
 		KeystoreListDto responseList = response.getBody();
 		assertEquals(2, responseList.getResultList().size());
+		assertTrue(responseList.getResultList().stream().allMatch(keystore -> keystore.getCredential() == null));
 	}
 
 	@ParameterizedTest
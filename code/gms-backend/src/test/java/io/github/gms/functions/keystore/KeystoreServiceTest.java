@@ -4,17 +4,21 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.gms.abstraction.AbstractLoggingUnitTest;
 import io.github.gms.common.dto.*;
+import io.github.gms.common.enums.ApiCacheTag;
 import io.github.gms.common.enums.AliasOperation;
 import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.KeyStoreValueType;
 import io.github.gms.common.enums.MdcParameter;
+import io.github.gms.common.enums.UserCounterType;
 import io.github.gms.common.model.EnabledAlgorithm;
 import io.github.gms.common.model.EntityChangeEvent;
 import io.github.gms.common.model.EntityChangeEvent.EntityChangeType;
+import io.github.gms.common.service.ApiCacheInvalidationService;
 import io.github.gms.common.service.CryptoService;
 import io.github.gms.common.service.FileService;
 import io.github.gms.common.types.GmsException;
 import io.github.gms.common.util.ConverterUtils;
+import io.github.gms.functions.home.UserCounterService;
 import io.github.gms.functions.secret.dto.GetSecureValueDto;
 import io.github.gms.util.DemoData;
 import io.github.gms.util.TestUtils;
@@ -66,6 +70,7 @@ class KeystoreServiceTest extends AbstractLoggingUnitTest {
 
     private KeystoreService service;
     private CryptoService cryptoService;
+    private KeystoreDataService keystoreDataService;
     private KeystoreRepository repository;
     private KeystoreAliasRepository aliasRepository;
     private KeystoreConverter converter;
@@ -73,6 +78,8 @@ class KeystoreServiceTest extends AbstractLoggingUnitTest {
     private ApplicationEventPublisher applicationEventPublisher;
     private KeystoreFileService keystoreFileService;
     private FileService fileService;
+    private ApiCacheInvalidationService apiCacheInvalidationService;
+    private UserCounterService userCounterService;
 
     @Override
     @BeforeEach
@@ -81,6 +88,7 @@ class KeystoreServiceTest extends AbstractLoggingUnitTest {
 
         // Init
         cryptoService = mock(CryptoService.class);
+        keystoreDataService = mock(KeystoreDataService.class);
         repository = mock(KeystoreRepository.class);
         aliasRepository = mock(KeystoreAliasRepository.class);
         converter = mock(KeystoreConverter.class);
@@ -88,8 +96,10 @@ class KeystoreServiceTest extends AbstractLoggingUnitTest {
         applicationEventPublisher = mock(ApplicationEventPublisher.class);
         keystoreFileService = mock(KeystoreFileService.class);
         fileService = mock(FileService.class);
-        service = new KeystoreService(cryptoService, repository, aliasRepository, converter, objectMapper,
-                applicationEventPublisher, keystoreFileService, fileService);
+        apiCacheInvalidationService = mock(ApiCacheInvalidationService.class);
+        userCounterService = mock(UserCounterService.class);
+        service = new KeystoreService(cryptoService, keystoreDataService, repository, aliasRepository, converter, objectMapper,
+                applicationEventPublisher, keystoreFileService, fileService, apiCacheInvalidationService, userCounterService);
 
         addAppender(KeystoreService.class);
 
@@ -278,6 +288,7 @@ class KeystoreServiceTest extends AbstractLoggingUnitTest {
         verify(cryptoService).validateKeyStoreFile(any(SaveKeystoreRequestDto.class), any(byte[].class));
         verify(repository).save(any());
         verify(objectMapper).readValue(eq(model), any(Class.class));
+        verify(userCounterService, never()).increment(anyLong(), any(UserCounterType.class));
     }
 
     @Test
@@ -342,6 +353,7 @@ class KeystoreServiceTest extends AbstractLoggingUnitTest {
         verify(cryptoService).validateKeyStoreFile(any(SaveKeystoreRequestDto.class), any(byte[].class));
         verify(repository).save(any());
         verify(objectMapper).readValue(eq(model), any(Class.class));
+        verify(userCounterService).increment(keystoreEntity.getUserId(), UserCounterType.KEYSTORE);
     }
 
 
@@ -483,6 +495,10 @@ class KeystoreServiceTest extends AbstractLoggingUnitTest {
         assertEquals(1L, (Long) capturedEvent.getMetadata().get("userId"));
         assertEquals(1L, (Long) capturedEvent.getMetadata().get("keystoreId"));
         assertEquals(EntityChangeType.KEYSTORE_DISABLED, capturedEvent.getType());
+        verify(keystoreDataService).invalidate(1L);
+        verify(apiCacheInvalidationService).getCacheKeys(ApiCacheTag.KEYSTORE, 1L);
+        verify(apiCacheInvalidationService).evict(anySet());
+        verify(userCounterService, never()).increment(anyLong(), any(UserCounterType.class));
     }
 
     @Test
@@ -623,7 +639,7 @@ class KeystoreServiceTest extends AbstractLoggingUnitTest {
     @Test
     void list_whenExceptionOccurred_thenReturnEmptyList() {
         // arrange
-        when(repository.findAllByUserId(anyLong(), any(Pageable.class)))
+        when(repository.findAllDtoByUserId(anyLong(), any(Pageable.class)))
                 .thenThrow(new RuntimeException("Unexpected error!"));
         Pageable pageable = ConverterUtils.createPageable("ASC", "id", 0, 10);
 
@@ -634,18 +650,15 @@ class KeystoreServiceTest extends AbstractLoggingUnitTest {
         assertNotNull(response);
         assertThat(response.getTotalElements()).isZero();
         assertEquals(0, response.getResultList().size());
-        verify(repository).findAllByUserId(anyLong(), any(Pageable.class));
+        verify(repository).findAllDtoByUserId(anyLong(), any(Pageable.class));
         verify(converter, never()).toDtoList(any());
     }
 
     @Test
     void list_whenCorrectInputProvided_thenReturnResults() {
         // arrange
-        Page<KeystoreEntity> mockList = new PageImpl<>(Lists.newArrayList(TestUtils.createKeystoreEntity()));
-        when(repository.findAllByUserId(anyLong(), any(Pageable.class))).thenReturn(mockList);
-        when(converter.toDtoList(any())).thenReturn(KeystoreListDto.builder()
-                .resultList(Lists.newArrayList(new KeystoreDto()))
-                .totalElements(1).build());
+        Page<KeystoreDto> mockList = new PageImpl<>(Lists.newArrayList(new KeystoreDto()));
+        when(repository.findAllDtoByUserId(anyLong(), any(Pageable.class))).thenReturn(mockList);
         Pageable pageable = ConverterUtils.createPageable("ASC", "id", 0, 10);
 
         // act
@@ -655,8 +668,8 @@ class KeystoreServiceTest extends AbstractLoggingUnitTest {
         assertNotNull(response);
         assertThat(response.getTotalElements()).isEqualTo(1L);
         assertEquals(1, response.getResultList().size());
-        verify(repository).findAllByUserId(anyLong(), any(Pageable.class));
-        verify(converter).toDtoList(any());
+        verify(repository).findAllDtoByUserId(anyLong(), any(Pageable.class));
+        verify(converter, never()).toDtoList(any());
     }
 
     @Test
@@ -696,7 +709,11 @@ class KeystoreServiceTest extends AbstractLoggingUnitTest {
         // assert
         verify(repository).findById(anyLong());
         verify(repository).deleteById(1L);
+        verify(userCounterService).decrement(1L, UserCounterType.KEYSTORE);
         verify(aliasRepository).deleteByKeystoreId(anyLong());
+        verify(keystoreDataService).invalidate(1L);
+        verify(apiCacheInvalidationService).getCacheKeys(ApiCacheTag.KEYSTORE, 1L);
+        verify(apiCacheInvalidationService).evict(anySet());
 
         ArgumentCaptor<EntityChangeEvent> entityDisabledEventCaptor = ArgumentCaptor.forClass(EntityChangeEvent.class);
         verify(applicationEventPublisher).publishEvent(entityDisabledEventCaptor.capture());
@@ -723,6 +740,8 @@ class KeystoreServiceTest extends AbstractLoggingUnitTest {
         KeystoreEntity capturedEntity = argumentCaptor.getValue();
         assertEquals(enabled ? EntityStatus.ACTIVE : EntityStatus.DISABLED, capturedEntity.getStatus());
         verify(repository).findById(anyLong());
+        verify(keystoreDataService).invalidate(1L);
+        verify(apiCacheInvalidationService).evict(ApiCacheTag.KEYSTORE, 1L);
 
         if (!enabled) {
             ArgumentCaptor<EntityChangeEvent> eventCaptor = ArgumentCaptor.forClass(EntityChangeEvent.class);
@@ -873,6 +892,8 @@ class KeystoreServiceTest extends AbstractLoggingUnitTest {
         verify(repository).findAllByUserId(userIds);
         verify(repository, times(2)).deleteById(anyLong());
         verify(aliasRepository, times(2)).deleteByKeystoreId(anyLong());
+        verify(keystoreDataService).invalidate(1L);
+        verify(keystoreDataService).invalidate(2L);
         assertLogContains(logAppender, "All keystore entities and files have been removed for the requested users");
     }
 
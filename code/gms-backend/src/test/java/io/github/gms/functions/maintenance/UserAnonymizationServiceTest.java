@@ -8,6 +8,7 @@ import io.github.gms.functions.maintenance.user.UserAnonymizationService;
 import io.github.gms.functions.user.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Set;
 
@@ -23,6 +24,7 @@ import static org.mockito.Mockito.*;
 class UserAnonymizationServiceTest extends AbstractLoggingUnitTest {
 
     private UserRepository userRepository;
+    private ApplicationEventPublisher applicationEventPublisher;
     private UserAnonymizationService service;
 
     @Override
@@ -30,7 +32,8 @@ class UserAnonymizationServiceTest extends AbstractLoggingUnitTest {
     public void setup() {
         super.setup();
         userRepository = mock(UserRepository.class);
-        service = new UserAnonymizationService(userRepository);
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        service = new UserAnonymizationService(userRepository, applicationEventPublisher);
         addAppender(UserMaintenanceService.class);
     }
 
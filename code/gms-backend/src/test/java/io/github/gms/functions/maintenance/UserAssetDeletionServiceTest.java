@@ -3,6 +3,7 @@ package io.github.gms.functions.maintenance;
 import io.github.gms.abstraction.AbstractUnitTest;
 import io.github.gms.functions.apikey.ApiKeyService;
 import io.github.gms.functions.event.EventService;
+import io.github.gms.functions.home.UserCounterService;
 import io.github.gms.functions.iprestriction.IpRestrictionService;
 import io.github.gms.functions.keystore.KeystoreService;
 import io.github.gms.functions.maintenance.user.UserAssetDeletionService;
@@ -30,6 +31,7 @@ class UserAssetDeletionServiceTest extends AbstractUnitTest {
     private SecretService secretService;
     private MessageService messageService;
     private EventService eventService;
+    private UserCounterService userCounterService;
     private UserAssetDeletionService service;
 
     @BeforeEach
@@ -41,6 +43,7 @@ class UserAssetDeletionServiceTest extends AbstractUnitTest {
         secretService = mock(SecretService.class);
         messageService = mock(MessageService.class);
         eventService = mock(EventService.class);
+        userCounterService = mock(UserCounterService.class);
         service = new UserAssetDeletionService(
                 apiKeyService,
                 apiKeyRestrictionRepository,
@@ -48,7 +51,8 @@ class UserAssetDeletionServiceTest extends AbstractUnitTest {
                 ipRestrictionService,
                 secretService,
                 messageService,
-                eventService);
+                eventService,
+                userCounterService);
     }
 
     @Test
@@ -67,5 +71,6 @@ class UserAssetDeletionServiceTest extends AbstractUnitTest {
         verify(secretService).batchDeleteByUserIds(mockUserIds);
         verify(messageService).batchDeleteByUserIds(mockUserIds);
         verify(eventService).batchDeleteByUserIds(mockUserIds);
+        verify(userCounterService).batchDeleteByUserIds(mockUserIds);
     }
 }
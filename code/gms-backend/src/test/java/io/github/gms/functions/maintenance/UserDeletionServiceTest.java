@@ -3,17 +3,20 @@ package io.github.gms.functions.maintenance;
 import io.github.gms.abstraction.AbstractLoggingUnitTest;
 import io.github.gms.common.abstraction.UserMaintenanceService;
 import io.github.gms.common.enums.EntityStatus;
+import io.github.gms.common.model.UserChangeEvent;
 import io.github.gms.functions.maintenance.model.BatchUserOperationDto;
 import io.github.gms.functions.maintenance.user.UserDeletionService;
 import io.github.gms.functions.user.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Set;
 
 import static io.github.gms.util.LogAssertionUtils.assertLogContains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -23,6 +26,7 @@ import static org.mockito.Mockito.*;
 class UserDeletionServiceTest extends AbstractLoggingUnitTest {
 
     private UserRepository userRepository;
+    private ApplicationEventPublisher applicationEventPublisher;
     private UserDeletionService service;
 
     @Override
@@ -30,7 +34,8 @@ class UserDeletionServiceTest extends AbstractLoggingUnitTest {
     public void setup() {
         super.setup();
         userRepository = mock(UserRepository.class);
-        service = new UserDeletionService(userRepository);
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        service = new UserDeletionService(userRepository, applicationEventPublisher);
         addAppender(UserMaintenanceService.class);
     }
 
@@ -44,6 +49,7 @@ class UserDeletionServiceTest extends AbstractLoggingUnitTest {
 
         // assert
         verify(userRepository).batchUpdateStatus(userIds, EntityStatus.DELETE_REQUESTED);
+        verify(applicationEventPublisher).publishEvent(any(UserChangeEvent.class));
         assertLogContains(logAppender, "Batch user deletion requested. requestId=requestID");
     }
 
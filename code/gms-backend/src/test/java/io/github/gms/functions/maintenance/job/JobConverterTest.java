@@ -38,6 +38,7 @@ class JobConverterTest extends AbstractUnitTest {
         assertEquals("job", entity.getName());
         assertEquals(JobStatus.COMPLETED, entity.getStatus());
         assertEquals(100L, entity.getDuration());
+        assertEquals(20L, entity.getProcessedCount());
         assertEquals("test", entity.getMessage());
     }
 }
@@ -0,0 +1,230 @@
+package io.github.gms.functions.maintenance.job;
+
+import io.github.gms.GmsApplication;
+import io.github.gms.common.enums.EventOperation;
+import io.github.gms.common.enums.EventTarget;
+import io.github.gms.common.model.JobShard;
+import io.github.gms.functions.event.EventEntity;
+import io.github.gms.functions.event.EventRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.github.gms.common.util.Constants.CONFIG_AUTH_TYPE_DB;
+import static io.github.gms.util.TestConstants.TAG_INTEGRATION_TEST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Starts several nodes of a multi-node deployment as separate application contexts sharing the same database.
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+@Tag(TAG_INTEGRATION_TEST)
+class JobLeaseServiceIntegrationTest {
+
+	private static final String JOB_NAME = "EventMaintenanceJob";
+	private static final String DATASOURCE_URL = "jdbc:h2:mem:jobleasedb;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;NON_KEYWORDS=value";
+	private static final Instant NOW = Instant.parse("2023-06-29T00:00:00Z");
+	private static final ZonedDateTime OLD_EVENT_DATE = ZonedDateTime.parse("2000-01-01T00:00:00Z");
+	private static final Clock CLOCK = mock(Clock.class);
+
+	private static List<ConfigurableApplicationContext> contexts;
+	private static EventRepository eventRepository;
+	private static JobLeaseRepository jobLeaseRepository;
+	private static JobNodeRepository jobNodeRepository;
+
+	private JobLeaseService node1;
+	private JobLeaseService node2;
+	private JobLeaseService node3;
+
+	@BeforeAll
+	static void startNodes() {
+		when(CLOCK.getZone()).thenReturn(ZoneOffset.UTC);
+		setTime(NOW);
+
+		// Only the first node manages the schema, the others join the existing database
+		contexts = List.of(startNode("node-1", "create-drop"), startNode("node-2", "none"), startNode("node-3", "none"));
+		eventRepository = contexts.getFirst().getBean(EventRepository.class);
+		jobLeaseRepository = contexts.getFirst().getBean(JobLeaseRepository.class);
+		jobNodeRepository = contexts.getFirst().getBean(JobNodeRepository.class);
+	}
+
+	@AfterAll
+	static void stopNodes() {
+		contexts.reversed().forEach(ConfigurableApplicationContext::close);
+	}
+
+	@BeforeEach
+	void setup() {
+		setTime(NOW);
+		node1 = contexts.get(0).getBean(JobLeaseService.class);
+		node2 = contexts.get(1).getBean(JobLeaseService.class);
+		node3 = contexts.get(2).getBean(JobLeaseService.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jobLeaseRepository.deleteAll();
+		jobNodeRepository.deleteAll();
+	}
+
+	@Test
+	void tryAcquire_whenNodesCompete_thenOnlyOneNodeRunsTheJob() {
+		// act
+		boolean first = node1.tryAcquire(JOB_NAME);
+		boolean second = node2.tryAcquire(JOB_NAME);
+		boolean third = node3.tryAcquire(JOB_NAME);
+
+		// assert
+		assertTrue(first);
+		assertFalse(second);
+		assertFalse(third);
+		assertTrue(node1.tryAcquire(JOB_NAME));
+	}
+
+	@Test
+	void tryAcquire_whenLeaderRenewsLease_thenKeepLeadership() {
+		// arrange
+		assertTrue(node1.tryAcquire(JOB_NAME));
+		setTime(NOW.plusSeconds(20));
+		node1.heartbeat();
+
+		// act
+		setTime(NOW.plusSeconds(40));
+		boolean response = node2.tryAcquire(JOB_NAME);
+
+		// assert
+		assertFalse(response);
+	}
+
+	@Test
+	void tryAcquire_whenLeaderStopsHeartbeat_thenAnotherNodeTakesOver() {
+		// arrange
+		assertTrue(node1.tryAcquire(JOB_NAME));
+
+		// act
+		setTime(NOW.plusSeconds(31));
+		boolean response = node2.tryAcquire(JOB_NAME);
+
+		// assert
+		assertTrue(response);
+		assertFalse(node1.tryAcquire(JOB_NAME));
+	}
+
+	@Test
+	void tryAcquire_whenLeaderReleasesLeases_thenAnotherNodeTakesOverImmediately() {
+		// arrange
+		assertTrue(node1.tryAcquire(JOB_NAME));
+
+		// act
+		node1.release();
+		boolean response = node2.tryAcquire(JOB_NAME);
+
+		// assert
+		assertTrue(response);
+	}
+
+	@Test
+	void getShard_whenNodesAlive_thenAssignDisjointShards() {
+		// arrange
+		List<Long> eventIds = IntStream.range(0, 9).mapToObj(i -> saveOldEvent()).toList();
+		node1.getShard();
+		node2.getShard();
+		node3.getShard();
+
+		// act
+		List<JobShard> shards = Stream.of(node1, node2, node3).map(JobLeaseService::getShard).toList();
+
+		// assert
+		assertEquals(List.of(new JobShard(0, 3), new JobShard(1, 3), new JobShard(2, 3)), shards);
+
+		List<Long> firstShard = eventRepository.findAllExpiredIds(OLD_EVENT_DATE.plusDays(1), 0L, 3, 0, Pageable.ofSize(100));
+		assertEquals(3, firstShard.size());
+		assertTrue(firstShard.stream().allMatch(id -> id % 3 == 0));
+
+		Set<Long> allShards = IntStream.range(0, 3)
+				.mapToObj(index -> eventRepository.findAllExpiredIds(OLD_EVENT_DATE.plusDays(1), 0L, 3, index, Pageable.ofSize(100)))
+				.flatMap(List::stream)
+				.collect(Collectors.toSet());
+		assertEquals(Set.copyOf(eventIds), allShards);
+
+		eventRepository.deleteAllByIdInBatch(allShards);
+		assertTrue(eventRepository.findAllById(eventIds).isEmpty());
+	}
+
+	@Test
+	void getShard_whenNodeStopsHeartbeat_thenRedistributeShards() {
+		// arrange
+		node1.getShard();
+		node2.getShard();
+		node3.getShard();
+
+		// act
+		setTime(NOW.plusSeconds(20));
+		node1.heartbeat();
+		node3.heartbeat();
+		setTime(NOW.plusSeconds(40));
+
+		// assert
+		assertEquals(new JobShard(0, 2), node1.getShard());
+		assertEquals(new JobShard(1, 2), node3.getShard());
+	}
+
+	private static ConfigurableApplicationContext startNode(String nodeId, String ddlAuto) {
+		return new SpringApplicationBuilder(GmsApplication.class, NodeClockConfig.class)
+				.profiles(CONFIG_AUTH_TYPE_DB)
+				// Command line arguments take precedence over the test application.properties
+				.run("--server.port=0",
+						"--spring.datasource.url=" + DATASOURCE_URL,
+						"--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+						"--config.job.lease.nodeId=" + nodeId,
+						// Heartbeats are sent by the test cases
+						"--config.job.lease.heartbeatMillis=3600000");
+	}
+
+	private static void setTime(Instant instant) {
+		when(CLOCK.instant()).thenReturn(instant);
+	}
+
+	private Long saveOldEvent() {
+		EventEntity entity = new EventEntity();
+		entity.setEventDate(OLD_EVENT_DATE);
+		entity.setOperation(EventOperation.GET_BY_ID);
+		entity.setTarget(EventTarget.KEYSTORE);
+		entity.setUserId(1L);
+		return eventRepository.save(entity).getId();
+	}
+
+	// Not annotated, so that it is registered only by the nodes of this test and not found by component scanning
+	static class NodeClockConfig {
+
+		@Bean
+		@Primary
+		Clock nodeClock() {
+			return CLOCK;
+		}
+	}
+}
@@ -0,0 +1,240 @@
+package io.github.gms.functions.maintenance.job;
+
+import io.github.gms.abstraction.AbstractLoggingUnitTest;
+import io.github.gms.common.model.JobShard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static io.github.gms.util.LogAssertionUtils.assertLogContains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test of {@link JobLeaseService}
+ *
+ * @author Peter Szrnka
+ * @since 1.0
+ */
+class JobLeaseServiceTest extends AbstractLoggingUnitTest {
+
+    private static final String JOB_NAME = "EventMaintenanceJob";
+    private static final String NODE_ID = "node-1";
+    private static final ZonedDateTime NOW = ZonedDateTime.parse("2023-06-29T00:00:00Z");
+
+    private JobLeaseRepository jobLeaseRepository;
+    private JobNodeRepository jobNodeRepository;
+    private JobLeaseService service;
+
+    @Override
+    @BeforeEach
+    public void setup() {
+        super.setup();
+        jobLeaseRepository = mock(JobLeaseRepository.class);
+        jobNodeRepository = mock(JobNodeRepository.class);
+        Clock clock = Clock.fixed(Instant.parse("2023-06-29T00:00:00Z"), ZoneOffset.UTC);
+        service = new JobLeaseService(jobLeaseRepository, jobNodeRepository, clock, 30L, NODE_ID);
+        addAppender(JobLeaseService.class);
+    }
+
+    @Test
+    void constructor_whenNodeIdMissing_thenGenerateNodeId() {
+        // act
+        JobLeaseService response = new JobLeaseService(jobLeaseRepository, jobNodeRepository, Clock.systemUTC(), 30L, "");
+
+        // assert
+        assertNotNull(response.getNodeId());
+        assertFalse(response.getNodeId().isEmpty());
+    }
+
+    @Test
+    void tryAcquire_whenLeaseIsHeldOrExpired_thenReturnTrue() {
+        // arrange
+        when(jobNodeRepository.heartbeat(NODE_ID, NOW)).thenReturn(1);
+        when(jobLeaseRepository.acquire(JOB_NAME, NODE_ID, NOW.plusSeconds(30), NOW)).thenReturn(1);
+
+        // act
+        boolean response = service.tryAcquire(JOB_NAME);
+
+        // assert
+        assertTrue(response);
+        verify(jobNodeRepository, never()).create(anyString(), any(ZonedDateTime.class));
+        verify(jobLeaseRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    void tryAcquire_whenLeaseIsHeldByAnotherNode_thenReturnFalse() {
+        // arrange
+        when(jobNodeRepository.heartbeat(NODE_ID, NOW)).thenReturn(0);
+        when(jobLeaseRepository.acquire(JOB_NAME, NODE_ID, NOW.plusSeconds(30), NOW)).thenReturn(0);
+        when(jobLeaseRepository.existsById(JOB_NAME)).thenReturn(true);
+
+        // act
+        boolean response = service.tryAcquire(JOB_NAME);
+
+        // assert
+        assertFalse(response);
+        verify(jobNodeRepository).create(NODE_ID, NOW);
+        verify(jobLeaseRepository, never()).create(anyString(), anyString(), any(ZonedDateTime.class));
+    }
+
+    @Test
+    void tryAcquire_whenLeaseIsMissing_thenCreateLease() {
+        // arrange
+        when(jobNodeRepository.heartbeat(NODE_ID, NOW)).thenReturn(1);
+        when(jobLeaseRepository.acquire(JOB_NAME, NODE_ID, NOW.plusSeconds(30), NOW)).thenReturn(0);
+        when(jobLeaseRepository.existsById(JOB_NAME)).thenReturn(false);
+        when(jobLeaseRepository.create(JOB_NAME, NODE_ID, NOW.plusSeconds(30))).thenReturn(1);
+
+        // act
+        boolean response = service.tryAcquire(JOB_NAME);
+
+        // assert
+        assertTrue(response);
+        verify(jobLeaseRepository).create(JOB_NAME, NODE_ID, NOW.plusSeconds(30));
+    }
+
+    @Test
+    void tryAcquire_whenLeaseCreatedConcurrently_thenReturnFalse() {
+        // arrange
+        when(jobNodeRepository.heartbeat(NODE_ID, NOW)).thenReturn(1);
+        when(jobLeaseRepository.acquire(JOB_NAME, NODE_ID, NOW.plusSeconds(30), NOW)).thenReturn(0);
+        when(jobLeaseRepository.existsById(JOB_NAME)).thenReturn(false);
+        when(jobLeaseRepository.create(JOB_NAME, NODE_ID, NOW.plusSeconds(30)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // act
+        boolean response = service.tryAcquire(JOB_NAME);
+
+        // assert
+        assertFalse(response);
+    }
+
+    @Test
+    void touchNode_whenNodeCreatedConcurrently_thenUpdateHeartbeat() {
+        // arrange
+        when(jobNodeRepository.heartbeat(NODE_ID, NOW)).thenReturn(0);
+        when(jobNodeRepository.create(NODE_ID, NOW)).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(jobNodeRepository.findAllAliveNodeIds(NOW.minusSeconds(30))).thenReturn(List.of(NODE_ID));
+
+        // act
+        JobShard response = service.getShard();
+
+        // assert
+        assertEquals(JobShard.SINGLE, response);
+        verify(jobNodeRepository, times(2)).heartbeat(NODE_ID, NOW);
+    }
+
+    @Test
+    void getShard_whenMultipleNodesAlive_thenReturnIndexOfCurrentNode() {
+        // arrange
+        when(jobNodeRepository.heartbeat(NODE_ID, NOW)).thenReturn(1);
+        when(jobNodeRepository.findAllAliveNodeIds(NOW.minusSeconds(30))).thenReturn(List.of("node-0", NODE_ID, "node-2"));
+
+        // act
+        JobShard response = service.getShard();
+
+        // assert
+        assertEquals(new JobShard(1, 3), response);
+    }
+
+    @Test
+    void getShard_whenCurrentNodeIsNotAlive_thenReturnSingleShard() {
+        // arrange
+        when(jobNodeRepository.heartbeat(NODE_ID, NOW)).thenReturn(1);
+        when(jobNodeRepository.findAllAliveNodeIds(NOW.minusSeconds(30))).thenReturn(List.of("node-0"));
+
+        // act
+        JobShard response = service.getShard();
+
+        // assert
+        assertEquals(JobShard.SINGLE, response);
+    }
+
+    @Test
+    void heartbeat_whenNodeIsNotRegistered_thenSkip() {
+        // act
+        service.heartbeat();
+
+        // assert
+        verify(jobNodeRepository, never()).heartbeat(anyString(), any(ZonedDateTime.class));
+        verify(jobLeaseRepository, never()).renewAll(anyString(), any(ZonedDateTime.class));
+    }
+
+    @Test
+    void heartbeat_whenNodeIsRegistered_thenRenewLeasesAndRemoveDeadNodes() {
+        // arrange
+        when(jobNodeRepository.heartbeat(NODE_ID, NOW)).thenReturn(1);
+        when(jobLeaseRepository.acquire(JOB_NAME, NODE_ID, NOW.plusSeconds(30), NOW)).thenReturn(1);
+        service.tryAcquire(JOB_NAME);
+
+        // act
+        service.heartbeat();
+
+        // assert
+        verify(jobNodeRepository, times(2)).heartbeat(NODE_ID, NOW);
+        verify(jobLeaseRepository).renewAll(NODE_ID, NOW.plusSeconds(30));
+        verify(jobNodeRepository).deleteAllDead(NOW.minusSeconds(300));
+    }
+
+    @Test
+    void release_whenNodeIsNotRegistered_thenSkip() {
+        // act
+        service.release();
+
+        // assert
+        verify(jobLeaseRepository, never()).releaseAll(anyString());
+        verify(jobNodeRepository, never()).deleteById(anyString());
+    }
+
+    @Test
+    void release_whenNodeIsRegistered_thenReleaseLeases() {
+        // arrange
+        when(jobNodeRepository.heartbeat(NODE_ID, NOW)).thenReturn(1);
+        when(jobLeaseRepository.acquire(JOB_NAME, NODE_ID, NOW.plusSeconds(30), NOW)).thenReturn(1);
+        service.tryAcquire(JOB_NAME);
+
+        // act
+        service.release();
+        service.heartbeat();
+
+        // assert
+        verify(jobLeaseRepository).releaseAll(NODE_ID);
+        verify(jobNodeRepository).deleteById(NODE_ID);
+        verify(jobLeaseRepository, never()).renewAll(anyString(), any(ZonedDateTime.class));
+        assertLogContains(logAppender, "Job leases of node=node-1 have been released");
+    }
+
+    @Test
+    void release_whenDatabaseIsUnavailable_thenLogWarning() {
+        // arrange
+        when(jobNodeRepository.heartbeat(NODE_ID, NOW)).thenReturn(1);
+        when(jobLeaseRepository.acquire(JOB_NAME, NODE_ID, NOW.plusSeconds(30), NOW)).thenReturn(1);
+        doThrow(new QueryTimeoutException("timeout")).when(jobLeaseRepository).releaseAll(NODE_ID);
+        service.tryAcquire(JOB_NAME);
+
+        // act
+        service.release();
+
+        // assert
+        verify(jobNodeRepository, never()).deleteById(anyString());
+        assertLogContains(logAppender, "Job leases of node=node-1 could not be released: timeout");
+    }
+}
@@ -1,11 +1,14 @@
 package io.github.gms.functions.maintenance.job;
 
 import io.github.gms.abstraction.AbstractUnitTest;
+import io.github.gms.common.model.KeysetPageRequest;
 import io.github.gms.common.util.ConverterUtils;
 import io.github.gms.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -39,7 +42,9 @@ class JobMaintenanceControllerTest extends AbstractUnitTest {
                 "DESC",
                 "id",
                 0,
-                10
+                10,
+                null,
+                false
         );
 
         // assert
@@ -47,4 +52,28 @@ class JobMaintenanceControllerTest extends AbstractUnitTest {
         assertEquals(dtoList, response);
         verify(service).list(pageable);
     }
+
+    @Test
+    void list_whenCursorProvided_thenReturnKeysetPage() {
+        // arrange
+        JobListDto dtoList = TestUtils.createJobListDto();
+        KeysetPageRequest request = new KeysetPageRequest(Sort.by(Sort.Direction.DESC, "id"), 10, ScrollPosition.keyset(), true);
+        when(service.list(request)).thenReturn(dtoList);
+
+        // act
+        JobListDto response = controller.list(
+                "DESC",
+                "id",
+                0,
+                10,
+                "",
+                true
+        );
+
+        // assert
+        assertNotNull(response);
+        assertEquals(dtoList, response);
+        verify(service).list(request);
+        verify(service, never()).list(any(Pageable.class));
+    }
 }
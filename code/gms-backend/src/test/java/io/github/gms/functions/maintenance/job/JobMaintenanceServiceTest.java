@@ -1,17 +1,23 @@
 package io.github.gms.functions.maintenance.job;
 
 import io.github.gms.abstraction.AbstractUnitTest;
+import io.github.gms.common.model.KeysetPageRequest;
 import io.github.gms.common.util.ConverterUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -49,4 +55,23 @@ class JobMaintenanceServiceTest extends AbstractUnitTest {
         verify(repository).findAll(any(Pageable.class));
         verify(converter).toDtoList(any());
     }
+
+    @Test
+    void list_whenKeysetPageRequested_thenReturnPageWithoutCount() {
+        // arrange
+        KeysetPageRequest request = new KeysetPageRequest(Sort.by(Sort.Direction.DESC, "id"), 10, ScrollPosition.keyset(), false);
+        Window<JobEntity> window = Window.from(List.of(new JobEntity()), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+        when(repository.findAllBy(request.position(), request.sort(), request.limit())).thenReturn(window);
+        when(converter.toDtoList(any())).thenReturn(JobListDto.builder().resultList(List.of(new JobDto())).totalElements(-1L).build());
+
+        // act
+        JobListDto response = service.list(request);
+
+        // assert
+        assertEquals(1, response.getResultList().size());
+        assertEquals(-1L, response.getTotalElements());
+        assertNull(response.getNextCursor());
+        verify(repository, never()).count();
+        verify(repository, never()).findAll(any(Pageable.class));
+    }
 }
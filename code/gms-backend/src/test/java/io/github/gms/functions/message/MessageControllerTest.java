@@ -2,12 +2,15 @@ package io.github.gms.functions.message;
 
 import io.github.gms.common.dto.IdListDto;
 import io.github.gms.common.dto.LongValueDto;
+import io.github.gms.common.model.KeysetPageRequest;
 import io.github.gms.common.util.ConverterUtils;
 import io.github.gms.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 
 import java.util.Set;
@@ -44,7 +47,9 @@ class MessageControllerTest {
                 "DESC",
                 "id",
                 0,
-                10
+                10,
+                null,
+                false
         );
 
         // assert
@@ -53,6 +58,30 @@ class MessageControllerTest {
         verify(service).list(pageable);
     }
 
+    @Test
+    void list_whenCursorProvided_thenReturnKeysetPage() {
+        // arrange
+        MessageListDto dtoList = TestUtils.createMessageListDto();
+        KeysetPageRequest request = new KeysetPageRequest(Sort.by(Sort.Direction.DESC, "id"), 10, ScrollPosition.keyset(), true);
+        when(service.list(request)).thenReturn(dtoList);
+
+        // act
+        MessageListDto response = controller.list(
+                "DESC",
+                "id",
+                0,
+                10,
+                "",
+                true
+        );
+
+        // assert
+        assertNotNull(response);
+        assertEquals(dtoList, response);
+        verify(service).list(request);
+        verify(service, never()).list(any(Pageable.class));
+    }
+
     @Test
     void unreadMessagesCount_whenInputProvided_thenReturnOk() {
         // arrange
@@ -4,6 +4,7 @@ import com.google.common.collect.Sets;
 import io.github.gms.abstraction.AbstractLoggingUnitTest;
 import io.github.gms.common.dto.IdListDto;
 import io.github.gms.common.dto.SaveEntityResponseDto;
+import io.github.gms.common.model.KeysetPageRequest;
 import io.github.gms.common.util.ConverterUtils;
 import io.github.gms.util.TestUtils;
 import org.assertj.core.util.Lists;
@@ -13,10 +14,15 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static io.github.gms.util.LogAssertionUtils.assertLogContains;
@@ -99,6 +105,30 @@ class MessageServiceImplTest extends AbstractLoggingUnitTest {
 		verify(repository).findAllByUserId(anyLong(), any(Pageable.class));
 		verify(converter).toDtoList(any());
 	}
+
+	@Test
+	void list_whenKeysetPageRequested_thenReturnPageWithCursor() {
+		// arrange
+		KeysetPageRequest request = new KeysetPageRequest(Sort.by(Sort.Direction.DESC, "id"), 1, ScrollPosition.keyset(), true);
+		Window<MessageEntity> window = Window.from(List.of(new MessageEntity()), index -> ScrollPosition.forward(Map.of("id", 5L)), true);
+		when(repository.findAllByUserId(anyLong(), eq(request.position()), eq(request.sort()), eq(request.limit()))).thenReturn(window);
+		when(repository.countByUserId(anyLong())).thenReturn(3L);
+		when(converter.toDtoList(any())).thenReturn(MessageListDto.builder()
+				.resultList(Lists.newArrayList(new MessageDto()))
+				.totalElements(3).build());
+
+		// act
+		MessageListDto response = service.list(request);
+
+		// assert
+		assertEquals(1, response.getResultList().size());
+		assertEquals(3L, response.getTotalElements());
+		assertNotNull(response.getNextCursor());
+		ArgumentCaptor<Page<MessageEntity>> pageCaptor = ArgumentCaptor.captor();
+		verify(converter).toDtoList(pageCaptor.capture());
+		assertEquals(3L, pageCaptor.getValue().getTotalElements());
+		verify(repository, never()).findAllByUserId(anyLong(), any(Pageable.class));
+	}
 	
 	@Test
 	void getUnreadMessagesCount_whenInputProvided_thenReturnOk() {
@@ -3,6 +3,7 @@ package io.github.gms.functions.secret;
 import io.github.gms.abstraction.AbstractClientControllerTest;
 import io.github.gms.common.dto.BooleanValueDto;
 import io.github.gms.common.dto.SaveEntityResponseDto;
+import io.github.gms.common.model.KeysetPageRequest;
 import io.github.gms.common.util.ConverterUtils;
 import io.github.gms.functions.secret.dto.SaveSecretRequestDto;
 import io.github.gms.functions.secret.dto.SecretDto;
@@ -13,6 +14,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 
 import static io.github.gms.util.TestConstants.TEST;
@@ -104,7 +107,9 @@ class SecretControllerTest extends AbstractClientControllerTest<SecretService, S
                 "DESC",
                 "id",
                 0,
-                10
+                10,
+                null,
+                false
         );
 
         // assert
@@ -113,6 +118,30 @@ class SecretControllerTest extends AbstractClientControllerTest<SecretService, S
         verify(service).list(pageable);
     }
 
+    @Test
+    void list_whenCursorProvided_thenReturnKeysetPage() {
+        // arrange
+        SecretListDto dtoList = TestUtils.createSecretListDto();
+        KeysetPageRequest request = new KeysetPageRequest(Sort.by(Sort.Direction.DESC, "id"), 10, ScrollPosition.keyset(), true);
+        when(service.list(request)).thenReturn(dtoList);
+
+        // act
+        SecretListDto response = controller.list(
+                "DESC",
+                "id",
+                0,
+                10,
+                "",
+                true
+        );
+
+        // assert
+        assertNotNull(response);
+        assertEquals(dtoList, response);
+        verify(service).list(request);
+        verify(service, never()).list(any(Pageable.class));
+    }
+
     @Test
     void getValue_whenInputProvided_thenReturnOk() {
         // arrange
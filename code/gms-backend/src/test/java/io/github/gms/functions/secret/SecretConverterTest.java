@@ -8,6 +8,7 @@ import io.github.gms.common.enums.SecretType;
 import io.github.gms.functions.secret.dto.SaveSecretRequestDto;
 import io.github.gms.functions.secret.dto.SecretDto;
 import io.github.gms.functions.secret.dto.SecretListDto;
+import io.github.gms.functions.secret.dto.SecretListItem;
 import io.github.gms.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -57,7 +59,7 @@ class SecretConverterTest extends AbstractUnitTest {
 
 		// assert
 		assertNotNull(entity);
-		assertEquals("SecretEntity(id=1, userId=null, keystoreAliasId=null, secretId=null, value=test, status=ACTIVE, type=null, creationDate=2023-06-29T00:00Z, lastUpdated=2023-06-29T00:00Z, lastRotated=2023-06-29T00:00Z, rotationPeriod=YEARLY, returnDecrypted=false, rotationEnabled=false)", entity.toString());
+		assertEquals("SecretEntity(id=1, userId=null, keystoreAliasId=null, secretId=null, value=test, status=ACTIVE, type=null, creationDate=2023-06-29T00:00Z, lastUpdated=2023-06-29T00:00Z, lastRotated=2023-06-29T00:00Z, nextRotationAt=2024-06-29T00:00Z, rotationPeriod=YEARLY, returnDecrypted=false, rotationEnabled=false)", entity.toString());
 	}
 
 	@Test
@@ -86,7 +88,7 @@ class SecretConverterTest extends AbstractUnitTest {
 
 		// assert
 		assertNotNull(entity);
-		assertEquals("SecretEntity(id=1, userId=1, keystoreAliasId=1, secretId=secret, value=value, status=DISABLED, type=SIMPLE_CREDENTIAL, creationDate=2023-06-29T00:00Z, lastUpdated=2023-06-29T00:00Z, lastRotated=2023-06-29T00:00Z, rotationPeriod=DAILY, returnDecrypted=true, rotationEnabled=true)", entity.toString());
+		assertEquals("SecretEntity(id=1, userId=1, keystoreAliasId=1, secretId=secret, value=value, status=DISABLED, type=SIMPLE_CREDENTIAL, creationDate=2023-06-29T00:00Z, lastUpdated=2023-06-29T00:00Z, lastRotated=2023-06-29T00:00Z, nextRotationAt=2023-06-30T00:00Z, rotationPeriod=DAILY, returnDecrypted=true, rotationEnabled=true)", entity.toString());
 	}
 
 	@Test
@@ -112,7 +114,7 @@ class SecretConverterTest extends AbstractUnitTest {
 
 		// assert
 		assertNotNull(entity);
-		assertEquals("SecretEntity(id=null, userId=1, keystoreAliasId=1, secretId=secret, value=value, status=ACTIVE, type=SIMPLE_CREDENTIAL, creationDate=2023-06-29T00:00Z, lastUpdated=2023-06-29T00:00Z, lastRotated=2023-06-29T00:00Z, rotationPeriod=DAILY, returnDecrypted=true, rotationEnabled=true)", entity.toString());
+		assertEquals("SecretEntity(id=null, userId=1, keystoreAliasId=1, secretId=secret, value=value, status=ACTIVE, type=SIMPLE_CREDENTIAL, creationDate=2023-06-29T00:00Z, lastUpdated=2023-06-29T00:00Z, lastRotated=2023-06-29T00:00Z, nextRotationAt=2023-06-30T00:00Z, rotationPeriod=DAILY, returnDecrypted=true, rotationEnabled=true)", entity.toString());
 	}
 
 	@Test
@@ -137,6 +139,33 @@ class SecretConverterTest extends AbstractUnitTest {
 		assertEquals("SecretDto(id=1, userId=1, keystoreId=null, keystoreAliasId=1, secretId=secret, status=ACTIVE, type=SIMPLE_CREDENTIAL, creationDate=2023-06-29T00:00Z, lastUpdated=null, lastRotated=2023-06-29T00:00Z, rotationPeriod=YEARLY, returnDecrypted=true, rotationEnabled=true, apiKeyRestrictions=null, ipRestrictions=null)",
 				resultList.getResultList().getFirst().toString());
 	}
+
+	@Test
+	void toListItemDtoList_whenCorrectInputProvided_thenReturnsDtoList() {
+		// arrange
+		ZonedDateTime now = ZonedDateTime.parse("2023-06-29T00:00:00Z");
+		SecretListItem item = mock(SecretListItem.class);
+		when(item.getId()).thenReturn(1L);
+		when(item.getUserId()).thenReturn(1L);
+		when(item.getKeystoreAliasId()).thenReturn(1L);
+		when(item.getSecretId()).thenReturn("secret");
+		when(item.getStatus()).thenReturn(EntityStatus.ACTIVE);
+		when(item.getType()).thenReturn(SecretType.SIMPLE_CREDENTIAL);
+		when(item.getCreationDate()).thenReturn(now);
+		when(item.getLastRotated()).thenReturn(now);
+		when(item.getRotationPeriod()).thenReturn(RotationPeriod.YEARLY);
+		when(item.isReturnDecrypted()).thenReturn(true);
+		when(item.isRotationEnabled()).thenReturn(true);
+
+		// act
+		SecretListDto resultList = converter.toListItemDtoList(List.of(item), -1L);
+
+		// assert
+		assertEquals(1, resultList.getResultList().size());
+		assertEquals(-1L, resultList.getTotalElements());
+		assertEquals("SecretDto(id=1, userId=1, keystoreId=null, keystoreAliasId=1, secretId=secret, status=ACTIVE, type=SIMPLE_CREDENTIAL, creationDate=2023-06-29T00:00Z, lastUpdated=null, lastRotated=2023-06-29T00:00Z, rotationPeriod=YEARLY, returnDecrypted=true, rotationEnabled=true, apiKeyRestrictions=null, ipRestrictions=null)",
+				resultList.getResultList().getFirst().toString());
+	}
 	
 	@Test
 	void toDto_whenCorrectInputProvided_thenReturnSecret() {
@@ -28,6 +28,8 @@ import org.springframework.util.FileCopyUtils;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import static io.github.gms.util.TestConstants.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -118,6 +120,28 @@ class SecretIntegrationTest extends AbstractClientControllerIntegrationTest {
 		assertEquals(1, responseList.getResultList().size());
 	}
 
+	@Test
+	@TestedMethod(LIST)
+	void list_whenCursorProvided_thenReturnAllSecretsPageByPage() {
+		// arrange
+		HttpEntity<Void> requestEntity = new HttpEntity<>(TestUtils.getHttpHeaders(jwt));
+		String listPath = "/list?size=1&direction=DESC&property=creationDate&cursor=";
+		List<SecretDto> results = new ArrayList<>();
+		String cursor = "";
+
+		// act
+		do {
+			ResponseEntity<SecretListDto> response = executeHttpGet(listPath + cursor, requestEntity, SecretListDto.class);
+			assertEquals(HttpStatus.OK, response.getStatusCode());
+			results.addAll(response.getBody().getResultList());
+			cursor = response.getBody().getNextCursor();
+		} while (cursor != null);
+
+		// assert
+		assertEquals(secretRepository.countByUserId(DemoData.USER_1_ID), results.size());
+		assertEquals(results.size(), results.stream().map(SecretDto::getId).distinct().count());
+	}
+
 	@Test
 	@TestedMethod(GET_VALUE)
 	void getValue_whenInputIsValid_thenReturnOk() {
@@ -3,6 +3,7 @@ package io.github.gms.functions.secret;
 import io.github.gms.abstraction.AbstractLoggingUnitTest;
 import io.github.gms.common.dto.BooleanValueDto;
 import io.github.gms.common.model.GetKeystore;
+import io.github.gms.common.model.KeystorePair;
 import io.github.gms.common.service.CryptoService;
 import io.github.gms.common.types.GmsException;
 import io.github.gms.functions.keystore.KeystoreAliasRepository;
@@ -16,12 +17,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import javax.crypto.BadPaddingException;
-import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.security.InvalidKeyException;
+import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
@@ -33,6 +31,9 @@ import static io.github.gms.util.LogAssertionUtils.assertLogContains;
 import static io.github.gms.util.TestUtils.createSecretValueDto;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -125,14 +126,13 @@ class SecretLengthValidatorServiceTest extends AbstractLoggingUnitTest {
 
     @Test
     void validateValueLength_whenEncryptionFailed_thenReturnFalse()
-            throws CertificateException, NoSuchAlgorithmException, IOException, KeyStoreException,
-            NoSuchPaddingException, IllegalBlockSizeException, BadPaddingException, InvalidKeyException {
+            throws CertificateException, IOException, GeneralSecurityException {
         // arrange
         SecretValueDto dto = createSecretValueDto(1L, 1L);
         when(keystoreRepository.findById(1L)).thenReturn(Optional.of(TestUtils.createKeystoreEntity()));
         when(keystoreAliasRepository.findById(1L)).thenReturn(Optional.of(TestUtils.createKeystoreAliasEntity()));
         when(keystoreDataService.getKeyStore(any(GetKeystore.class))).thenReturn(mock(KeyStore.class));
-        when(cryptoService.encrypt(any(), any())).thenThrow(new GmsException("Encryption failed", GMS_001));
+        when(cryptoService.encrypt(anyString(), anyBoolean(), any())).thenThrow(new GmsException("Encryption failed", GMS_001));
 
         // act
         BooleanValueDto response = secretLengthValidatorService.validateValueLength(dto);
@@ -143,19 +143,18 @@ class SecretLengthValidatorServiceTest extends AbstractLoggingUnitTest {
         verify(keystoreRepository).findById(1L);
         verify(keystoreAliasRepository).findById(1L);
         verify(keystoreDataService).getKeyStore(any(GetKeystore.class));
-        verify(cryptoService).encrypt(any(), any());
+        verify(cryptoService).encrypt(anyString(), anyBoolean(), any());
     }
 
     @Test
     void validateValueLength_whenEncryptionSucceeded_thenReturnTrue()
-            throws CertificateException, NoSuchAlgorithmException, IOException, KeyStoreException,
-            NoSuchPaddingException, IllegalBlockSizeException, BadPaddingException, InvalidKeyException {
+            throws CertificateException, IOException, GeneralSecurityException {
         // arrange
         SecretValueDto dto = createSecretValueDto(1L, 1L);
         when(keystoreRepository.findById(1L)).thenReturn(Optional.of(TestUtils.createKeystoreEntity()));
         when(keystoreAliasRepository.findById(1L)).thenReturn(Optional.of(TestUtils.createKeystoreAliasEntity()));
         when(keystoreDataService.getKeyStore(any(GetKeystore.class))).thenReturn(mock(KeyStore.class));
-        when(cryptoService.encrypt(any(), any())).thenReturn("encryptedValue");
+        when(cryptoService.encrypt(anyString(), anyBoolean(), any())).thenReturn("encryptedValue");
 
         // act
         BooleanValueDto response = secretLengthValidatorService.validateValueLength(dto);
@@ -168,6 +167,24 @@ class SecretLengthValidatorServiceTest extends AbstractLoggingUnitTest {
         verify(keystoreRepository).findById(1L);
         verify(keystoreAliasRepository).findById(1L);
         verify(keystoreDataService).getKeyStore(any(GetKeystore.class));
-        verify(cryptoService).encrypt(any(), any());
+        verify(cryptoService).encrypt(anyString(), anyBoolean(), any());
+    }
+
+    @Test
+    void validateValueLength_whenValueIsReturnedDecrypted_thenEncryptInStoredFormat() throws Exception {
+        // arrange
+        SecretValueDto dto = createSecretValueDto(1L, 1L);
+        dto.setReturnDecrypted(true);
+        when(keystoreRepository.findById(1L)).thenReturn(Optional.of(TestUtils.createKeystoreEntity()));
+        when(keystoreAliasRepository.findById(1L)).thenReturn(Optional.of(TestUtils.createKeystoreAliasEntity()));
+        when(keystoreDataService.getKeyStore(any(GetKeystore.class))).thenReturn(mock(KeyStore.class));
+        when(cryptoService.encrypt(anyString(), anyBoolean(), any())).thenReturn("env1:encryptedValue");
+
+        // act
+        BooleanValueDto response = secretLengthValidatorService.validateValueLength(dto);
+
+        // assert
+        assertTrue(response.getValue());
+        verify(cryptoService).encrypt(eq(dto.getValue()), eq(true), any(KeystorePair.class));
     }
 }
@@ -1,109 +1,234 @@
 package io.github.gms.functions.secret;
 
-import io.github.gms.abstraction.AbstractUnitTest;
+import io.github.gms.abstraction.AbstractLoggingUnitTest;
 import io.github.gms.common.enums.EntityStatus;
+import io.github.gms.common.enums.RotationPeriod;
+import io.github.gms.common.model.JobShard;
+import io.github.gms.common.model.KeystorePair;
 import io.github.gms.common.service.CryptoService;
+import io.github.gms.common.types.ErrorCode;
 import io.github.gms.common.types.GmsException;
+import io.github.gms.functions.keystore.KeystoreDataService;
 import io.github.gms.util.TestUtils;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
 
+import static io.github.gms.util.LogAssertionUtils.assertLogContains;
+import static io.github.gms.util.TestConstants.TEST;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Peter Szrnka
  * @since 1.0
  */
-class SecretRotationServiceTest extends AbstractUnitTest {
+class SecretRotationServiceTest extends AbstractLoggingUnitTest {
 
 	private static final String SECRET_VALUE = "12345678";
+	private static final Instant NOW = Instant.parse("2023-06-29T00:00:00Z");
+	private static final ZonedDateTime NOW_UTC = ZonedDateTime.ofInstant(NOW, ZoneOffset.UTC);
+	private static final int PAGE_SIZE = 4;
 
 	private Clock clock;
 	private SecretRepository secretRepository;
 	private CryptoService cryptoService;
+	private KeystoreDataService keystoreDataService;
 	private SecretRotationService service;
 
+	@Override
 	@BeforeEach
 	public void setup() {
+		super.setup();
 		clock = mock(Clock.class);
 		secretRepository = mock(SecretRepository.class);
 		cryptoService = mock(CryptoService.class);
-		service = new SecretRotationService(clock, secretRepository, cryptoService);
+		keystoreDataService = mock(KeystoreDataService.class);
+		service = createService(Runnable::run);
+		addAppender(SecretRotationService.class);
 	}
-	
+
 	@Test
-	void rotateSecret_whenDecryptThrowsException_thenRotateSkipped() {
+	void rotateNextPage_whenNoCandidatesFound_thenReturnEmptyResult() {
 		// arrange
-		SecretEntity mockSecret = new SecretEntity();
-		mockSecret.setValue("abcdefgh");
-		
-		when(cryptoService.decrypt(any(SecretEntity.class))).thenThrow(IllegalArgumentException.class);
+		when(secretRepository.findAllDueForRotation(eq(NOW_UTC), eq(10L), eq(1), eq(0), any(Pageable.class))).thenReturn(List.of());
 
 		// act
-		service.rotateSecret(mockSecret);
-		
+		SecretRotationResult response = service.rotateNextPage(NOW_UTC, 10L, JobShard.SINGLE);
+
 		// assert
-		ArgumentCaptor<SecretEntity> secretEntityCaptor = ArgumentCaptor.forClass(SecretEntity.class);
-		
-		verify(cryptoService).decrypt(secretEntityCaptor.capture());
-		SecretEntity capturedSecret = secretEntityCaptor.getValue();
-		assertEquals("abcdefgh", capturedSecret.getValue());
-		
-		verify(secretRepository).save(secretEntityCaptor.capture());
-		capturedSecret = secretEntityCaptor.getValue();
-		assertEquals(EntityStatus.DISABLED, capturedSecret.getStatus());
-		assertEquals("abcdefgh", capturedSecret.getValue());
-		
+		assertEquals(new SecretRotationResult(10L, false, 0), response);
+		verify(secretRepository, never()).saveAll(any());
 		verify(clock, never()).instant();
-		verify(clock, never()).getZone();
 	}
-	
+
 	@Test
-	void rotateSecret_whenInputProvided_thenRotateSecret() {
+	@SneakyThrows
+	void rotateNextPage_whenCandidatesFound_thenLoadKeystoreOncePerAliasAndRotateDueSecrets() {
 		// arrange
-		when(clock.instant()).thenReturn(Instant.parse("2023-06-29T00:00:00Z"));
-		when(clock.getZone()).thenReturn(ZoneOffset.UTC);
-		SecretEntity mockSecret = TestUtils.createSecretEntity();
-		
-		when(cryptoService.decrypt(any(SecretEntity.class))).thenReturn(SECRET_VALUE);
+		ZonedDateTime now = NOW_UTC;
+		SecretEntity secret1 = createSecret(1L, 1L, RotationPeriod.HOURLY, now.minusDays(1L));
+		SecretEntity secret2 = createSecret(2L, 2L, RotationPeriod.DAILY, now.minusDays(1L));
+		SecretEntity secret3 = createSecret(3L, 1L, RotationPeriod.MONTHLY, now.minusDays(1L));
+		SecretEntity secret4 = createSecret(4L, 1L, RotationPeriod.YEARLY, null);
+		when(secretRepository.findAllDueForRotation(eq(NOW_UTC), eq(0L), eq(1), eq(0), any(Pageable.class)))
+				.thenReturn(List.of(secret1, secret2, secret3, secret4));
+		KeystorePair keystorePair1 = new KeystorePair();
+		KeystorePair keystorePair2 = new KeystorePair();
+		when(keystoreDataService.getKeystoreData(1L)).thenReturn(keystorePair1);
+		when(keystoreDataService.getKeystoreData(2L)).thenReturn(keystorePair2);
+		when(cryptoService.decrypt(any(SecretEntity.class), any(KeystorePair.class))).thenReturn(SECRET_VALUE);
 
 		// act
-		service.rotateSecret(mockSecret);
+		SecretRotationResult response = service.rotateNextPage(NOW_UTC, 0L, JobShard.SINGLE);
 
 		// assert
-		ArgumentCaptor<SecretEntity> secretEntityCaptor = ArgumentCaptor.forClass(SecretEntity.class);
-		
-		verify(cryptoService).decrypt(secretEntityCaptor.capture());
-		SecretEntity capturedSecret = secretEntityCaptor.getValue();
-		assertEquals(SECRET_VALUE, capturedSecret.getValue());
-		
-		verify(cryptoService).encrypt(secretEntityCaptor.capture());
-		capturedSecret = secretEntityCaptor.getValue();
-		assertEquals(SECRET_VALUE, capturedSecret.getValue());
-		
-		verify(secretRepository).save(secretEntityCaptor.capture());
-		capturedSecret = secretEntityCaptor.getValue();
-		assertEquals(EntityStatus.ACTIVE, capturedSecret.getStatus());
-		assertEquals(SECRET_VALUE, capturedSecret.getValue());
-		assertEquals("2023-06-29T00:00Z", capturedSecret.getLastRotated().toString());
+		assertEquals(new SecretRotationResult(4L, true, 3), response);
+		verify(keystoreDataService).getKeystoreData(1L);
+		verify(keystoreDataService).getKeystoreData(2L);
+		verify(cryptoService).encrypt(secret1, keystorePair1);
+		verify(cryptoService).encrypt(secret2, keystorePair2);
+		verify(cryptoService).encrypt(secret4, keystorePair1);
+		verify(cryptoService, never()).decrypt(eq(secret3), any(KeystorePair.class));
+		verify(cryptoService, never()).decrypt(any(SecretEntity.class));
+
+		ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+		verify(secretRepository).findAllDueForRotation(eq(NOW_UTC), eq(0L), eq(1), eq(0), pageableCaptor.capture());
+		assertEquals(PAGE_SIZE, pageableCaptor.getValue().getPageSize());
+		verify(secretRepository).saveAll(List.of(secret1, secret2, secret3, secret4));
+		assertEquals(now, secret1.getLastRotated());
+		assertEquals(now.plusHours(1L), secret1.getNextRotationAt());
+		assertEquals(now, secret4.getLastRotated());
+		assertEquals(now.plusYears(1L), secret4.getNextRotationAt());
+		assertEquals(now.minusDays(1L), secret3.getLastRotated());
+		assertEquals(now.minusDays(1L).plusMonths(1L), secret3.getNextRotationAt());
 	}
-	
+
 	@Test
-	void rotateSecretById_whenSecretNotFound_thenThrowException() {
+	void rotateNextPage_whenMigratedSecretIsNotDue_thenOnlyCorrectNextRotation() {
 		// arrange
-		SecretEntity mockSecret = new SecretEntity();
-		mockSecret.setValue("abcdefgh");
+		ZonedDateTime now = NOW_UTC;
+		SecretEntity secret = createSecret(7L, 1L, RotationPeriod.YEARLY, now.minusDays(1L));
+		secret.setNextRotationAt(secret.getLastRotated());
+		when(secretRepository.findAllDueForRotation(eq(NOW_UTC), eq(0L), eq(1), eq(0), any(Pageable.class))).thenReturn(List.of(secret));
+
+		// act
+		SecretRotationResult response = service.rotateNextPage(NOW_UTC, 0L, JobShard.SINGLE);
+
+		// assert
+		assertEquals(new SecretRotationResult(7L, false, 0), response);
+		assertEquals(now.minusDays(1L).plusYears(1L), secret.getNextRotationAt());
+		verify(secretRepository).saveAll(List.of(secret));
+		verify(cryptoService, never()).decrypt(any(SecretEntity.class), any(KeystorePair.class));
+	}
+
+	@Test
+	@SneakyThrows
+	void rotateNextPage_whenKeystoreCannotBeLoaded_thenDisableSecretsOfAlias() {
+		// arrange
+		ZonedDateTime now = NOW_UTC;
+		SecretEntity secret1 = createSecret(1L, 1L, RotationPeriod.HOURLY, now.minusDays(1L));
+		SecretEntity secret2 = createSecret(2L, 1L, RotationPeriod.HOURLY, now.minusDays(1L));
+		when(secretRepository.findAllDueForRotation(eq(NOW_UTC), eq(0L), eq(1), eq(0), any(Pageable.class)))
+				.thenReturn(List.of(secret1, secret2));
+		when(keystoreDataService.getKeystoreData(1L)).thenThrow(new GmsException("Invalid keystore alias!", ErrorCode.GMS_008));
+
+		// act
+		SecretRotationResult response = service.rotateNextPage(NOW_UTC, 0L, JobShard.SINGLE);
+
+		// assert
+		assertEquals(new SecretRotationResult(2L, false, 2), response);
+		assertEquals(EntityStatus.DISABLED, secret1.getStatus());
+		assertEquals(EntityStatus.DISABLED, secret2.getStatus());
+		assertEquals(TEST, secret1.getValue());
+		verify(cryptoService, never()).decrypt(any(SecretEntity.class), any(KeystorePair.class));
+		assertLogContains(logAppender, "Keystore alias=1 cannot be loaded, 2 secret(s) will be disabled");
+	}
+
+	@Test
+	@SneakyThrows
+	void rotateNextPage_whenEncryptFails_thenDisableSecretAndKeepOriginalValue() {
+		// arrange
+		ZonedDateTime now = NOW_UTC;
+		SecretEntity secret = createSecret(1L, 1L, RotationPeriod.HOURLY, now.minusDays(1L));
+		when(secretRepository.findAllDueForRotation(eq(NOW_UTC), eq(0L), eq(1), eq(0), any(Pageable.class)))
+				.thenReturn(List.of(secret));
+		KeystorePair keystorePair = new KeystorePair();
+		when(keystoreDataService.getKeystoreData(1L)).thenReturn(keystorePair);
+		when(cryptoService.decrypt(secret, keystorePair)).thenReturn(SECRET_VALUE);
+		doThrow(new GmsException("Encrypt failed!", ErrorCode.GMS_001)).when(cryptoService).encrypt(secret, keystorePair);
+
+		// act
+		service.rotateNextPage(NOW_UTC, 0L, JobShard.SINGLE);
 
+		// assert
+		assertEquals(EntityStatus.DISABLED, secret.getStatus());
+		assertEquals(TEST, secret.getValue());
+		assertEquals(now.minusDays(1L), secret.getLastRotated());
+		verify(secretRepository).saveAll(List.of(secret));
+	}
+
+	@Test
+	@SneakyThrows
+	void rotateNextPage_whenWorkerPoolUsed_thenRotateAllSecrets() {
+		// arrange
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		service = createService(new ConcurrentTaskExecutor(executorService));
+		ZonedDateTime now = NOW_UTC;
+		List<SecretEntity> secrets = LongStream.rangeClosed(1L, PAGE_SIZE)
+				.mapToObj(id -> createSecret(id, id % 2, RotationPeriod.HOURLY, now.minusDays(1L)))
+				.toList();
+		when(secretRepository.findAllDueForRotation(eq(NOW_UTC), eq(0L), eq(1), eq(0), any(Pageable.class))).thenReturn(secrets);
+		when(keystoreDataService.getKeystoreData(anyLong())).thenReturn(new KeystorePair());
+		when(cryptoService.decrypt(any(SecretEntity.class), any(KeystorePair.class))).thenReturn(SECRET_VALUE);
+
+		try {
+			// act
+			SecretRotationResult response = service.rotateNextPage(NOW_UTC, 0L, JobShard.SINGLE);
+
+			// assert
+			assertEquals(PAGE_SIZE, response.updated());
+			assertTrue(response.hasMore());
+			secrets.forEach(secret -> {
+				assertEquals(EntityStatus.ACTIVE, secret.getStatus());
+				assertEquals(now, secret.getLastRotated());
+			});
+			verify(keystoreDataService, times(2)).getKeystoreData(anyLong());
+			verify(cryptoService, times(PAGE_SIZE)).encrypt(any(SecretEntity.class), any(KeystorePair.class));
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	void rotateSecretById_whenSecretNotFound_thenThrowException() {
+		// arrange
 		when(secretRepository.findById(anyLong())).thenReturn(Optional.empty());
 
 		// act
@@ -115,32 +240,74 @@ class SecretRotationServiceTest extends AbstractUnitTest {
 		verify(clock, never()).instant();
 		verify(clock, never()).getZone();
 	}
-	
+
 	@Test
-	void rotateSecretById_whenInputProvided_thenRotateSecret() {
+	@SneakyThrows
+	void rotateSecretById_whenDecryptThrowsException_thenRotateSkipped() {
 		// arrange
-		setupClock(clock);
-		SecretEntity mockSecret = new SecretEntity();
+		setupFixedClock();
+		SecretEntity mockSecret = TestUtils.createSecretEntity();
 		mockSecret.setValue("abcdefgh");
-		
-		when(cryptoService.decrypt(any(SecretEntity.class))).thenReturn(SECRET_VALUE);
-		when(secretRepository.findById(anyLong())).thenReturn(Optional.of(TestUtils.createSecretEntity()));
+		mockSecret.setLastRotated(null);
+		KeystorePair keystorePair = new KeystorePair();
+		when(secretRepository.findById(1L)).thenReturn(Optional.of(mockSecret));
+		when(keystoreDataService.getKeystoreData(mockSecret.getKeystoreAliasId())).thenReturn(keystorePair);
+		when(cryptoService.decrypt(mockSecret, keystorePair)).thenThrow(IllegalArgumentException.class);
 
 		// act
 		service.rotateSecretById(1L);
 
 		// assert
-		verify(secretRepository).findById(anyLong());
-		
 		ArgumentCaptor<SecretEntity> secretEntityCaptor = ArgumentCaptor.forClass(SecretEntity.class);
-		
-		verify(cryptoService).decrypt(secretEntityCaptor.capture());
+		verify(secretRepository).save(secretEntityCaptor.capture());
 		SecretEntity capturedSecret = secretEntityCaptor.getValue();
-		assertEquals(SECRET_VALUE, capturedSecret.getValue());
-		
+		assertEquals(EntityStatus.DISABLED, capturedSecret.getStatus());
+		assertEquals("abcdefgh", capturedSecret.getValue());
+		assertNull(capturedSecret.getLastRotated());
+		verify(cryptoService, never()).encrypt(any(SecretEntity.class), any(KeystorePair.class));
+	}
+
+	@Test
+	@SneakyThrows
+	void rotateSecretById_whenInputProvided_thenRotateSecret() {
+		// arrange
+		setupFixedClock();
+		SecretEntity mockSecret = TestUtils.createSecretEntity();
+		KeystorePair keystorePair = new KeystorePair();
+		when(secretRepository.findById(1L)).thenReturn(Optional.of(mockSecret));
+		when(keystoreDataService.getKeystoreData(mockSecret.getKeystoreAliasId())).thenReturn(keystorePair);
+		when(cryptoService.decrypt(mockSecret, keystorePair)).thenReturn(SECRET_VALUE);
+
+		// act
+		service.rotateSecretById(1L);
+
+		// assert
+		ArgumentCaptor<SecretEntity> secretEntityCaptor = ArgumentCaptor.forClass(SecretEntity.class);
+		verify(cryptoService).encrypt(secretEntityCaptor.capture(), eq(keystorePair));
+		assertEquals(SECRET_VALUE, secretEntityCaptor.getValue().getValue());
+
 		verify(secretRepository).save(secretEntityCaptor.capture());
-		capturedSecret = secretEntityCaptor.getValue();
+		SecretEntity capturedSecret = secretEntityCaptor.getValue();
 		assertEquals(EntityStatus.ACTIVE, capturedSecret.getStatus());
 		assertEquals(SECRET_VALUE, capturedSecret.getValue());
+		assertEquals("2023-06-29T00:00Z", capturedSecret.getLastRotated().toString());
+		assertEquals("2024-06-29T00:00Z", capturedSecret.getNextRotationAt().toString());
+		assertFalse(logAppender.list.isEmpty());
+	}
+
+	private SecretRotationService createService(TaskExecutor taskExecutor) {
+		return new SecretRotationService(clock, secretRepository, cryptoService, keystoreDataService, taskExecutor, PAGE_SIZE);
+	}
+
+	private void setupFixedClock() {
+		when(clock.instant()).thenReturn(NOW);
+		when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+	}
+
+	private static SecretEntity createSecret(Long id, Long keystoreAliasId, RotationPeriod rotationPeriod, ZonedDateTime lastRotated) {
+		SecretEntity entity = TestUtils.createSecretEntity(rotationPeriod, lastRotated);
+		entity.setId(id);
+		entity.setKeystoreAliasId(keystoreAliasId);
+		return entity;
 	}
 }
@@ -2,15 +2,21 @@ package io.github.gms.functions.secret;
 
 import com.google.common.collect.Sets;
 import io.github.gms.abstraction.AbstractLoggingUnitTest;
+import io.github.gms.common.config.cache.ApiCacheKeyGenerator;
 import io.github.gms.common.dto.LongValueDto;
 import io.github.gms.common.dto.SaveEntityResponseDto;
+import io.github.gms.common.enums.ApiCacheTag;
 import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.MdcParameter;
 import io.github.gms.common.enums.SecretType;
+import io.github.gms.common.enums.UserCounterType;
+import io.github.gms.common.model.KeysetPageRequest;
+import io.github.gms.common.service.ApiCacheInvalidationService;
 import io.github.gms.common.service.CryptoService;
 import io.github.gms.common.types.GmsException;
 import io.github.gms.common.util.ConverterUtils;
 import io.github.gms.common.util.MdcUtils;
+import io.github.gms.functions.home.UserCounterService;
 import io.github.gms.functions.iprestriction.IpRestrictionService;
 import io.github.gms.functions.keystore.KeystoreAliasEntity;
 import io.github.gms.functions.keystore.KeystoreAliasRepository;
@@ -18,6 +24,7 @@ import io.github.gms.functions.keystore.KeystoreEntity;
 import io.github.gms.functions.keystore.KeystoreRepository;
 import io.github.gms.functions.secret.dto.SaveSecretRequestDto;
 import io.github.gms.functions.secret.dto.SecretDto;
+import io.github.gms.functions.secret.dto.SecretListItem;
 import io.github.gms.functions.secret.dto.SecretListDto;
 import io.github.gms.util.DemoData;
 import io.github.gms.util.TestUtils;
@@ -34,12 +41,16 @@ import org.mockito.MockedStatic;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -63,6 +74,8 @@ class SecretServiceImplTest extends AbstractLoggingUnitTest {
 	private SecretConverter converter;
 	private ApiKeyRestrictionRepository apiKeyRestrictionRepository;
 	private IpRestrictionService ipRestrictionService;
+	private ApiCacheInvalidationService apiCacheInvalidationService;
+	private UserCounterService userCounterService;
 	private SecretServiceImpl service;
 
 	@Override
@@ -76,8 +89,10 @@ class SecretServiceImplTest extends AbstractLoggingUnitTest {
 		converter = mock(SecretConverter.class);
 		apiKeyRestrictionRepository = mock(ApiKeyRestrictionRepository.class);
 		ipRestrictionService = mock(IpRestrictionService.class);
+		apiCacheInvalidationService = mock(ApiCacheInvalidationService.class);
+		userCounterService = mock(UserCounterService.class);
 		service = new SecretServiceImpl(cryptoService, keystoreRepository, keystoreAliasRepository, repository,
-				converter, apiKeyRestrictionRepository, ipRestrictionService);
+				converter, apiKeyRestrictionRepository, ipRestrictionService, apiCacheInvalidationService, userCounterService);
 		addAppender(SecretServiceImpl.class);
 
 		MDC.put(MdcParameter.USER_ID.getDisplayName(), 1L);
@@ -242,7 +257,7 @@ class SecretServiceImplTest extends AbstractLoggingUnitTest {
 		verify(repository).save(argumentCaptor.capture());
 
 		SecretEntity capturedEntity = argumentCaptor.getValue();
-		assertEquals("SecretEntity(id=1, userId=1, keystoreAliasId=1, secretId=secret, value=test, status=ACTIVE, type=SIMPLE_CREDENTIAL, creationDate=2023-06-29T00:00Z, lastUpdated=null, lastRotated=2023-06-29T00:00Z, rotationPeriod=YEARLY, returnDecrypted=false, rotationEnabled=false)", capturedEntity.toString());
+		assertEquals("SecretEntity(id=1, userId=1, keystoreAliasId=1, secretId=secret, value=test, status=ACTIVE, type=SIMPLE_CREDENTIAL, creationDate=2023-06-29T00:00Z, lastUpdated=null, lastRotated=2023-06-29T00:00Z, nextRotationAt=null, rotationPeriod=YEARLY, returnDecrypted=false, rotationEnabled=false)", capturedEntity.toString());
 	}
 
 	@Test
@@ -301,6 +316,7 @@ class SecretServiceImplTest extends AbstractLoggingUnitTest {
 		verify(converter).toNewEntity(any(SaveSecretRequestDto.class));
 		verify(cryptoService).encrypt(mockEntity);
 		verify(keystoreAliasRepository).findById(anyLong());
+		verify(userCounterService).increment(mockEntity.getUserId(), UserCounterType.SECRET);
 	}
 
 	@Test
@@ -380,6 +396,55 @@ class SecretServiceImplTest extends AbstractLoggingUnitTest {
 		verify(converter).toEntity(any(SecretEntity.class), any(SaveSecretRequestDto.class));
 		verify(cryptoService).encrypt(mockEntity);
 		verify(keystoreAliasRepository).findById(anyLong());
+		verify(apiCacheInvalidationService).evict(Set.of(ApiCacheKeyGenerator.key(mockEntity)));
+		verify(userCounterService, never()).increment(anyLong(), any(UserCounterType.class));
+	}
+
+	@Test
+	void save_whenReturnModeChangedWithoutNewValue_thenReEncryptStoredValue() {
+		// arrange
+		SecretEntity mockEntity = TestUtils.createSecretEntity();
+		when(keystoreRepository.findByIdAndUserId(anyLong(), anyLong()))
+				.thenReturn(Optional.of(TestUtils.createKeystoreEntity()));
+		when(repository.findById(1L)).thenReturn(Optional.of(mockEntity));
+		when(converter.toEntity(any(SecretEntity.class), any(SaveSecretRequestDto.class))).thenReturn(mockEntity);
+		when(repository.save(any(SecretEntity.class))).thenReturn(mockEntity);
+		when(keystoreAliasRepository.findById(anyLong()))
+				.thenReturn(Optional.of(TestUtils.createKeystoreAliasEntity()));
+		when(cryptoService.isFormatChangeRequired(mockEntity)).thenReturn(true);
+		SaveSecretRequestDto dto = TestUtils.createSaveSecretRequestDto(1L);
+		dto.setValue(null);
+
+		// act
+		service.save(dto);
+
+		// assert
+		verify(cryptoService, never()).encrypt(mockEntity);
+		verify(cryptoService).reEncrypt(mockEntity);
+		verify(repository).save(mockEntity);
+	}
+
+	@Test
+	void save_whenNoNewValueAndFormatIsUpToDate_thenKeepStoredValue() {
+		// arrange
+		SecretEntity mockEntity = TestUtils.createSecretEntity();
+		when(keystoreRepository.findByIdAndUserId(anyLong(), anyLong()))
+				.thenReturn(Optional.of(TestUtils.createKeystoreEntity()));
+		when(repository.findById(1L)).thenReturn(Optional.of(mockEntity));
+		when(converter.toEntity(any(SecretEntity.class), any(SaveSecretRequestDto.class))).thenReturn(mockEntity);
+		when(repository.save(any(SecretEntity.class))).thenReturn(mockEntity);
+		when(keystoreAliasRepository.findById(anyLong()))
+				.thenReturn(Optional.of(TestUtils.createKeystoreAliasEntity()));
+		SaveSecretRequestDto dto = TestUtils.createSaveSecretRequestDto(1L);
+		dto.setValue(null);
+
+		// act
+		service.save(dto);
+
+		// assert
+		verify(cryptoService).isFormatChangeRequired(mockEntity);
+		verify(cryptoService, never()).encrypt(mockEntity);
+		verify(cryptoService, never()).reEncrypt(mockEntity);
 	}
 
 	@Test
@@ -514,11 +579,8 @@ class SecretServiceImplTest extends AbstractLoggingUnitTest {
 	@Test
 	void list_whenCorrectInputProvided_thenListAllByUserId() {
 		// arrange
-		Page<SecretEntity> mockList = new PageImpl<>(Lists.newArrayList(TestUtils.createSecretEntity()));
-		when(repository.findAllByUserId(anyLong(), any(Pageable.class))).thenReturn(mockList);
-		when(converter.toDtoList(any())).thenReturn(SecretListDto.builder()
-				.resultList(Lists.newArrayList(TestUtils.createSecretDto()))
-				.totalElements(1).build());
+		Page<SecretDto> mockList = new PageImpl<>(Lists.newArrayList(TestUtils.createSecretDto()));
+		when(repository.findAllDtoByUserId(anyLong(), any(Pageable.class))).thenReturn(mockList);
 		Pageable pageable = ConverterUtils.createPageable("ASC", "id", 0, 10);
 
 		// act
@@ -527,16 +589,75 @@ class SecretServiceImplTest extends AbstractLoggingUnitTest {
 		// assert
 		assertNotNull(response);
 		assertEquals(1, response.getResultList().size());
-		verify(converter).toDtoList(any());
+		assertEquals(1L, response.getTotalElements());
+		verify(repository).findAllDtoByUserId(anyLong(), any(Pageable.class));
+		verify(converter, never()).toDtoList(any());
+	}
+
+	@Test
+	void list_whenKeysetPageRequested_thenListByUserIdWithoutCount() {
+		// arrange
+		KeysetPageRequest request = new KeysetPageRequest(Sort.by(Sort.Direction.ASC, "id"), 10, ScrollPosition.keyset(), false);
+		List<SecretListItem> items = List.of(mock(SecretListItem.class));
+		Window<SecretListItem> window = Window.from(items, index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+		when(repository.findAllByUserId(1L, request.position(), request.sort(), request.limit())).thenReturn(window);
+		when(converter.toListItemDtoList(items, -1L)).thenReturn(SecretListDto.builder()
+				.resultList(Lists.newArrayList(TestUtils.createSecretDto()))
+				.totalElements(-1L).build());
+
+		// act
+		SecretListDto response = service.list(request);
+
+		// assert
+		assertEquals(1, response.getResultList().size());
+		assertNull(response.getNextCursor());
+		verify(repository).findAllByUserId(1L, request.position(), request.sort(), request.limit());
+		verify(repository, never()).countByUserId(anyLong());
 	}
 
 	@Test
 	void delete_whenCorrectInputProvided_thenDeleteById() {
+		// arrange
+		when(repository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(TestUtils.createSecretEntity()));
+		when(repository.deleteByIdAndUserId(1L, 1L)).thenReturn(1);
+		when(apiCacheInvalidationService.getCacheKeys(ApiCacheTag.SECRET, 1L)).thenReturn(Set.of("secret1"));
+		when(apiCacheInvalidationService.getPrincipalCacheKeys(ApiCacheTag.SECRET, 1L)).thenReturn(Set.of("hash1"));
+
+		// act
+		service.delete(1L);
+
+		// assert
+		verify(repository).deleteByIdAndUserId(1L, 1L);
+		verify(userCounterService).decrement(1L, UserCounterType.SECRET);
+		verify(apiCacheInvalidationService).evict(Set.of("secret1"));
+		verify(apiCacheInvalidationService).evictPrincipals(Set.of("hash1"));
+	}
+
+	@Test
+	void delete_whenEntityNotFound_thenThrowGmsException() {
+		// arrange
+		when(repository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.empty());
+
+		// act
+		GmsException exception = assertThrows(GmsException.class, () -> service.delete(1L));
+
+		// assert
+		assertEquals("Wrong entity!", exception.getMessage());
+		verify(repository, never()).deleteByIdAndUserId(anyLong(), anyLong());
+		verify(userCounterService, never()).decrement(anyLong(), any(UserCounterType.class));
+	}
+
+	@Test
+	void delete_whenEntityDeletedConcurrently_thenDoNotDecrementCounter() {
+		// arrange
+		when(repository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(TestUtils.createSecretEntity()));
+		when(repository.deleteByIdAndUserId(1L, 1L)).thenReturn(0);
+
 		// act
 		service.delete(1L);
 
 		// assert
-		verify(repository).deleteById(1L);
+		verify(userCounterService, never()).decrement(anyLong(), any(UserCounterType.class));
 	}
 
 	@ParameterizedTest
@@ -555,6 +676,7 @@ class SecretServiceImplTest extends AbstractLoggingUnitTest {
 		SecretEntity capturedEntity = entityCaptor.getValue();
 		assertEquals(enabled ? EntityStatus.ACTIVE : EntityStatus.DISABLED, capturedEntity.getStatus());
 		verify(repository).findByIdAndUserId(eq(1L), anyLong());
+		verify(apiCacheInvalidationService).evict(Set.of(ApiCacheKeyGenerator.key(capturedEntity)));
 	}
 
 	@Test
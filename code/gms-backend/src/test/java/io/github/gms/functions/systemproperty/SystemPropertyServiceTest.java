@@ -1,9 +1,12 @@
 package io.github.gms.functions.systemproperty;
 
-import io.github.gms.abstraction.AbstractUnitTest;
+import io.github.gms.abstraction.AbstractLoggingUnitTest;
 import io.github.gms.common.enums.SystemProperty;
+import io.github.gms.common.model.SystemPropertyChangeEvent;
 import io.github.gms.common.types.GmsException;
 import io.github.gms.common.util.ConverterUtils;
+import io.github.gms.functions.setup.SystemAttributeEntity;
+import io.github.gms.functions.setup.SystemAttributeRepository;
 import io.github.gms.util.TestUtils;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,32 +14,44 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
+import static io.github.gms.util.LogAssertionUtils.assertLogContains;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
  * @author Peter Szrnka
  * @since 1.0
  */
-class SystemPropertyServiceTest extends AbstractUnitTest {
+class SystemPropertyServiceTest extends AbstractLoggingUnitTest {
 
 	private SystemPropertyConverter converter;
 	private SystemPropertyRepository repository;
+	private SystemAttributeRepository systemAttributeRepository;
+	private ApplicationEventPublisher applicationEventPublisher;
 	private SystemPropertyService service;
 
+	@Override
 	@BeforeEach
 	public void setup() {
+		super.setup();
 		converter = mock(SystemPropertyConverter.class);
 		repository = mock(SystemPropertyRepository.class);
-		service = new SystemPropertyService(converter, repository);
+		systemAttributeRepository = mock(SystemAttributeRepository.class);
+		applicationEventPublisher = mock(ApplicationEventPublisher.class);
+		service = new SystemPropertyService(converter, repository, systemAttributeRepository, applicationEventPublisher);
+		addAppender(SystemPropertyService.class);
 	}
 
 	@Test
@@ -74,6 +89,12 @@ class SystemPropertyServiceTest extends AbstractUnitTest {
 		verify(repository).save(captor.capture());
 		SystemPropertyEntity captured = captor.getValue();
 		assertEquals("SystemPropertyEntity(id=null, key=ACCESS_JWT_EXPIRATION_TIME_SECONDS, value=900, lastModified=null)", captured.toString());
+		verify(systemAttributeRepository).updateSystemPropertyVersion(anyString());
+		verify(systemAttributeRepository).save(any(SystemAttributeEntity.class));
+		verify(repository).findAll();
+		ArgumentCaptor<SystemPropertyChangeEvent> eventCaptor = ArgumentCaptor.forClass(SystemPropertyChangeEvent.class);
+		verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+		assertEquals(SystemProperty.ACCESS_JWT_EXPIRATION_TIME_SECONDS, eventCaptor.getValue().getProperty());
 	}
 	
 	@Test
@@ -87,11 +108,23 @@ class SystemPropertyServiceTest extends AbstractUnitTest {
 	
 	@Test
 	void delete_whenInputProvided_thenDeleteSystemProperty() {
+		// arrange
+		when(systemAttributeRepository.updateSystemPropertyVersion(anyString())).thenReturn(1);
+		when(systemAttributeRepository.getSystemPropertyVersion()).thenReturn(Optional.of("2"));
+		when(repository.findAll()).thenReturn(List.of());
+
 		// act
 		service.delete(SystemProperty.ACCESS_JWT_ALGORITHM.name());
 
 		// assert
 		verify(repository).deleteByKey(SystemProperty.ACCESS_JWT_ALGORITHM);
+		verify(systemAttributeRepository).updateSystemPropertyVersion(anyString());
+		verify(systemAttributeRepository, never()).save(any(SystemAttributeEntity.class));
+		verify(repository).findAll();
+		assertEquals(SystemProperty.ACCESS_JWT_ALGORITHM.getDefaultValue(), service.get(SystemProperty.ACCESS_JWT_ALGORITHM));
+		ArgumentCaptor<SystemPropertyChangeEvent> eventCaptor = ArgumentCaptor.forClass(SystemPropertyChangeEvent.class);
+		verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+		assertEquals(SystemProperty.ACCESS_JWT_ALGORITHM, eventCaptor.getValue().getProperty());
 	}
 	
 	@Test
@@ -136,67 +169,136 @@ class SystemPropertyServiceTest extends AbstractUnitTest {
 	@Test
 	void getLong_whenValueIsNotProvided_thenReturnDefaultValue() {
 		// arrange
-		when(repository.getValueByKey(SystemProperty.ACCESS_JWT_EXPIRATION_TIME_SECONDS)).thenReturn(Optional.empty());
-		
+		mockSnapshot("1");
+
 		//act
 		Long response = service.getLong(SystemProperty.ACCESS_JWT_EXPIRATION_TIME_SECONDS);
-		
+
 		// assert
 		assertEquals(900L, response);
-		verify(repository).getValueByKey(SystemProperty.ACCESS_JWT_EXPIRATION_TIME_SECONDS);
+		verify(repository).findAll();
 	}
-	
+
 	@Test
 	void getLong_whenValueProvided_thenReturnValue() {
 		// arrange
-		when(repository.getValueByKey(SystemProperty.ACCESS_JWT_EXPIRATION_TIME_SECONDS)).thenReturn(Optional.of("3600"));
-		
+		mockSnapshot("1", TestUtils.createSystemPropertyEntity(SystemProperty.ACCESS_JWT_EXPIRATION_TIME_SECONDS, "3600"));
+
 		//act
 		Long response = service.getLong(SystemProperty.ACCESS_JWT_EXPIRATION_TIME_SECONDS);
-		
+
 		// assert
 		assertEquals(3600L, response);
-		verify(repository).getValueByKey(SystemProperty.ACCESS_JWT_EXPIRATION_TIME_SECONDS);
+		verify(repository).findAll();
 	}
 
 	@Test
 	void getInteger_whenValueProvided_thenReturnValue() {
 		// arrange
-		when(repository.getValueByKey(SystemProperty.FAILED_ATTEMPTS_LIMIT)).thenReturn(Optional.of("2"));
+		mockSnapshot("1", TestUtils.createSystemPropertyEntity(SystemProperty.FAILED_ATTEMPTS_LIMIT, "2"));
 
 		// act
 		Integer response = service.getInteger(SystemProperty.FAILED_ATTEMPTS_LIMIT);
 
 		// assert
 		assertEquals(2, response);
-		verify(repository).getValueByKey(SystemProperty.FAILED_ATTEMPTS_LIMIT);
+		verify(repository).findAll();
 	}
 
 	@Test
 	void getInteger_whenValueIsNotProvided_thenReturnDefaultValue() {
 		// arrange
-		when(repository.getValueByKey(SystemProperty.FAILED_ATTEMPTS_LIMIT)).thenReturn(Optional.empty());
+		mockSnapshot("1");
 
 		// act
 		Integer response = service.getInteger(SystemProperty.FAILED_ATTEMPTS_LIMIT);
 
 		// assert
 		assertEquals(3, response);
-		verify(repository).getValueByKey(SystemProperty.FAILED_ATTEMPTS_LIMIT);
+		verify(repository).findAll();
 	}
 
 	@ParameterizedTest
 	@ValueSource(booleans = { true, false })
 	void getBoolean_whenValueIsProvided_thenReturnBoolean(boolean value) {
 		// arrange
-		when(repository.getValueByKey(SystemProperty.ENABLE_GLOBAL_MFA)).thenReturn(Optional.of(String.valueOf(value)));
+		mockSnapshot("1", TestUtils.createSystemPropertyEntity(SystemProperty.ENABLE_GLOBAL_MFA, String.valueOf(value)));
 
 		//act
 		Boolean response = service.getBoolean(SystemProperty.ENABLE_GLOBAL_MFA);
 
 		// assert
 		assertEquals(value, response);
-		verify(repository).getValueByKey(SystemProperty.ENABLE_GLOBAL_MFA);
+		verify(repository).findAll();
+	}
+
+	@Test
+	void get_whenCalledMultipleTimes_thenLoadSnapshotOnlyOnce() {
+		// arrange
+		mockSnapshot("1", TestUtils.createSystemPropertyEntity(SystemProperty.FAILED_ATTEMPTS_LIMIT, "5"));
+
+		// act
+		Integer limit = service.getInteger(SystemProperty.FAILED_ATTEMPTS_LIMIT);
+		Long expiration = service.getLong(SystemProperty.ACCESS_JWT_EXPIRATION_TIME_SECONDS);
+		String algorithm = service.get(SystemProperty.ACCESS_JWT_ALGORITHM);
+
+		// assert
+		assertEquals(5, limit);
+		assertEquals(900L, expiration);
+		assertEquals(SystemProperty.ACCESS_JWT_ALGORITHM.getDefaultValue(), algorithm);
+		verify(repository, times(1)).findAll();
+		verify(systemAttributeRepository, times(1)).getSystemPropertyVersion();
+	}
+
+	@Test
+	void getLong_whenValueIsNotNumeric_thenThrowException() {
+		// arrange
+		mockSnapshot("1", TestUtils.createSystemPropertyEntity(SystemProperty.ACCESS_JWT_EXPIRATION_TIME_SECONDS, "abc"));
+
+		// act & assert
+		assertThrows(NumberFormatException.class, () -> service.getLong(SystemProperty.ACCESS_JWT_EXPIRATION_TIME_SECONDS));
+	}
+
+	@Test
+	void refresh_whenSnapshotIsNotLoaded_thenSkip() {
+		// act
+		service.refresh();
+
+		// assert
+		verify(systemAttributeRepository, never()).getSystemPropertyVersion();
+		verify(repository, never()).findAll();
+	}
+
+	@Test
+	void refresh_whenVersionIsUnchanged_thenKeepSnapshot() {
+		// arrange
+		mockSnapshot("1");
+		service.get(SystemProperty.ACCESS_JWT_ALGORITHM);
+
+		// act
+		service.refresh();
+
+		// assert
+		verify(repository, times(1)).findAll();
+		verify(systemAttributeRepository, times(2)).getSystemPropertyVersion();
+	}
+
+	@Test
+	void refresh_whenVersionChanged_thenReloadSnapshot() {
+		// arrange
+		when(systemAttributeRepository.getSystemPropertyVersion()).thenReturn(Optional.of("1"), Optional.of("2"));
+		when(repository.findAll()).thenReturn(
+				List.of(TestUtils.createSystemPropertyEntity(SystemProperty.FAILED_ATTEMPTS_LIMIT, "5")),
+				List.of(TestUtils.createSystemPropertyEntity(SystemProperty.FAILED_ATTEMPTS_LIMIT, "7")));
+		assertEquals(5, service.getInteger(SystemProperty.FAILED_ATTEMPTS_LIMIT));
+
+		// act
+		service.refresh();
+
+		// assert
+		assertEquals(7, service.getInteger(SystemProperty.FAILED_ATTEMPTS_LIMIT));
+		verify(repository, times(2)).findAll();
+		assertLogContains(logAppender, "System properties have been reloaded");
 	}
 
 	@Test
@@ -235,4 +337,9 @@ class SystemPropertyServiceTest extends AbstractUnitTest {
 		verify(converter, never()).toEntity(mockEntity, inputDto);
 		verify(repository, never()).save(mockEntity);
 	}
+
+	private void mockSnapshot(String version, SystemPropertyEntity... entities) {
+		when(systemAttributeRepository.getSystemPropertyVersion()).thenReturn(Optional.of(version));
+		when(repository.findAll()).thenReturn(List.of(entities));
+	}
 }
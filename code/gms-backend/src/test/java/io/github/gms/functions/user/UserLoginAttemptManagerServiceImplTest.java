@@ -3,6 +3,7 @@ package io.github.gms.functions.user;
 import io.github.gms.abstraction.AbstractLoggingUnitTest;
 import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.SystemProperty;
+import io.github.gms.common.model.UserChangeEvent;
 import io.github.gms.functions.systemproperty.SystemPropertyService;
 import io.github.gms.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -28,6 +30,7 @@ class UserLoginAttemptManagerServiceImplTest extends AbstractLoggingUnitTest {
 
     private UserRepository repository;
     private SystemPropertyService systemPropertyService;
+    private ApplicationEventPublisher applicationEventPublisher;
     private UserLoginAttemptManagerServiceImpl service;
 
     @Override
@@ -36,7 +39,8 @@ class UserLoginAttemptManagerServiceImplTest extends AbstractLoggingUnitTest {
         super.setup();
         repository = mock(UserRepository.class);
         systemPropertyService = mock(SystemPropertyService.class);
-        service = new UserLoginAttemptManagerServiceImpl(repository, systemPropertyService);
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        service = new UserLoginAttemptManagerServiceImpl(repository, systemPropertyService, applicationEventPublisher);
         addAppender(UserLoginAttemptManagerServiceImpl.class);
     }
 
@@ -102,6 +106,7 @@ class UserLoginAttemptManagerServiceImplTest extends AbstractLoggingUnitTest {
         ArgumentCaptor<UserEntity> userEntityArgumentCaptor = ArgumentCaptor.forClass(UserEntity.class);
         verify(repository).save(userEntityArgumentCaptor.capture());
         assertEquals(EntityStatus.BLOCKED, userEntityArgumentCaptor.getValue().getStatus());
+        verify(applicationEventPublisher).publishEvent(any(UserChangeEvent.class));
     }
 
     @Test
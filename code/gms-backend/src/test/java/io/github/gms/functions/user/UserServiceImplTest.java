@@ -5,8 +5,11 @@ import io.github.gms.abstraction.AbstractLoggingUnitTest;
 import io.github.gms.common.dto.LongValueDto;
 import io.github.gms.common.dto.SaveEntityResponseDto;
 import io.github.gms.common.dto.UserInfoDto;
+import io.github.gms.common.enums.ApiCacheTag;
 import io.github.gms.common.enums.EntityStatus;
 import io.github.gms.common.enums.MdcParameter;
+import io.github.gms.common.model.UserChangeEvent;
+import io.github.gms.common.service.ApiCacheInvalidationService;
 import io.github.gms.common.service.JwtClaimService;
 import io.github.gms.common.types.GmsException;
 import io.github.gms.common.util.ConverterUtils;
@@ -22,13 +25,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.github.gms.common.util.Constants.ACCESS_JWT_TOKEN;
 import static io.github.gms.util.LogAssertionUtils.assertLogContains;
@@ -48,6 +54,8 @@ class UserServiceImplTest extends AbstractLoggingUnitTest {
 	private PasswordEncoder passwordEncoder;
 	private JwtClaimService jwtClaimService;
 	private SecretGenerator secretGenerator;
+	private ApiCacheInvalidationService apiCacheInvalidationService;
+	private ApplicationEventPublisher applicationEventPublisher;
 
 	private UserServiceImpl service;
 
@@ -60,7 +68,10 @@ class UserServiceImplTest extends AbstractLoggingUnitTest {
 		passwordEncoder = mock(PasswordEncoder.class);
 		jwtClaimService = mock(JwtClaimService.class);
 		secretGenerator = mock(SecretGenerator.class);
-		service = new UserServiceImpl(repository, converter, passwordEncoder, jwtClaimService, secretGenerator);
+		apiCacheInvalidationService = mock(ApiCacheInvalidationService.class);
+		applicationEventPublisher = mock(ApplicationEventPublisher.class);
+		service = new UserServiceImpl(repository, converter, passwordEncoder, jwtClaimService, secretGenerator, apiCacheInvalidationService,
+				applicationEventPublisher);
 		addAppender(UserServiceImpl.class);
 	}
 
@@ -111,6 +122,8 @@ class UserServiceImplTest extends AbstractLoggingUnitTest {
 		assertEquals(1L, response.getEntityId());
 		verify(converter).toEntity(any(UserEntity.class), any(SaveUserRequestDto.class), eq(admin));
 		verify(repository).save(any(UserEntity.class));
+		verify(apiCacheInvalidationService).evict(ApiCacheTag.USER, 1L);
+		verify(apiCacheInvalidationService).evictPrincipals(ApiCacheTag.USER, 1L);
 		MDC.remove(MdcParameter.IS_ADMIN.getDisplayName());
 	}
 
@@ -196,6 +209,8 @@ class UserServiceImplTest extends AbstractLoggingUnitTest {
 		// assert
 		verify(repository).findById(1L);
 		verify(repository).deleteById(1L);
+		verify(apiCacheInvalidationService).evict(ApiCacheTag.USER, 1L);
+		verify(apiCacheInvalidationService).evictPrincipals(ApiCacheTag.USER, 1L);
 	}
 
 	@ParameterizedTest
@@ -213,6 +228,11 @@ class UserServiceImplTest extends AbstractLoggingUnitTest {
 		verify(repository).save(argumentCaptor.capture());
 
 		assertEquals(enabled, argumentCaptor.getValue().getStatus() == EntityStatus.ACTIVE);
+		verify(apiCacheInvalidationService).evict(ApiCacheTag.USER, 1L);
+		verify(apiCacheInvalidationService).evictPrincipals(ApiCacheTag.USER, 1L);
+		ArgumentCaptor<UserChangeEvent> eventCaptor = ArgumentCaptor.forClass(UserChangeEvent.class);
+		verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+		assertEquals(Set.of(1L), eventCaptor.getValue().getUserIds());
 	}
 
 	@Test
@@ -256,6 +276,19 @@ class UserServiceImplTest extends AbstractLoggingUnitTest {
 		verify(converter).toDto(any(UserEntity.class));
 	}
 
+	@Test
+	void getUsernamesByIds_whenCalled_thenReturnUsernames() {
+		// arrange
+		when(repository.getUsernamesByIds(Set.of(1L, 2L))).thenReturn(Map.of(1L, "user1", 2L, "user2"));
+
+		// act
+		Map<Long, String> response = service.getUsernamesByIds(Set.of(1L, 2L));
+
+		// assert
+		assertEquals(Map.of(1L, "user1", 2L, "user2"), response);
+		verify(repository).getUsernamesByIds(Set.of(1L, 2L));
+	}
+
 	@Test
 	void changePassword_whenPasswordDoesNotMatch_thenThrowException() {
 		// arrange
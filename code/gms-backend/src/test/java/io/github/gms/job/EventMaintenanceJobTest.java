@@ -1,11 +1,14 @@
 package io.github.gms.job;
 
 import io.github.gms.abstraction.AbstractLoggingUnitTest;
+import io.github.gms.common.abstraction.AbstractLimitBasedJob;
 import io.github.gms.common.enums.SystemProperty;
 import io.github.gms.common.enums.SystemStatus;
 import io.github.gms.common.enums.TimeUnit;
+import io.github.gms.common.model.JobShard;
 import io.github.gms.functions.event.EventRepository;
 import io.github.gms.functions.maintenance.job.JobEntity;
+import io.github.gms.functions.maintenance.job.JobLeaseService;
 import io.github.gms.functions.maintenance.job.JobRepository;
 import io.github.gms.functions.setup.SystemAttributeRepository;
 import io.github.gms.functions.system.SystemService;
@@ -16,14 +19,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.slf4j.MDC;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import static io.github.gms.util.LogAssertionUtils.assertLogContains;
 import static io.github.gms.util.TestUtils.createJobEntity;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,6 +48,7 @@ class EventMaintenanceJobTest extends AbstractLoggingUnitTest {
 	private SystemPropertyService systemPropertyService;
 	private JobRepository jobRepository;
 	private SystemAttributeRepository systemAttributeRepository;
+	private JobLeaseService jobLeaseService;
 	
 	@Override
 	@BeforeEach
@@ -54,12 +61,17 @@ class EventMaintenanceJobTest extends AbstractLoggingUnitTest {
 		systemPropertyService = mock(SystemPropertyService.class);
 		jobRepository = mock(JobRepository.class);
 		systemAttributeRepository = mock(SystemAttributeRepository.class);
+		jobLeaseService = mock(JobLeaseService.class);
 		job = new EventMaintenanceJob(eventRepository);
 		ReflectionTestUtils.setField(job, "systemService", systemService);
 		ReflectionTestUtils.setField(job, "systemPropertyService", systemPropertyService);
 		ReflectionTestUtils.setField(job, "clock", clock);
 		ReflectionTestUtils.setField(job, "jobRepository", jobRepository);
 		ReflectionTestUtils.setField(job, "systemAttributeRepository", systemAttributeRepository);
+		ReflectionTestUtils.setField(job, "jobLeaseService", jobLeaseService);
+		ReflectionTestUtils.setField(job, "chunkSize", 2);
+		ReflectionTestUtils.setField(job, "chunkPauseMillis", 1L);
+		ReflectionTestUtils.setField(job, "timeBudgetSeconds", 60L);
 		addAppender(EventMaintenanceJob.class);
 
 		MDC.clear();
@@ -116,8 +128,9 @@ class EventMaintenanceJobTest extends AbstractLoggingUnitTest {
 		when(systemPropertyService.getBoolean(SystemProperty.EVENT_MAINTENANCE_JOB_ENABLED)).thenReturn(true);
 		when(systemPropertyService.getBoolean(SystemProperty.ENABLE_MULTI_NODE)).thenReturn(true);
 		when(systemPropertyService.get(SystemProperty.EVENT_MAINTENANCE_RUNNER_CONTAINER_ID)).thenReturn(null);
+		when(jobLeaseService.tryAcquire("EventMaintenanceJob")).thenReturn(true);
 		when(systemPropertyService.get(SystemProperty.JOB_OLD_EVENT_LIMIT)).thenReturn("1;d");
-		when(eventRepository.deleteAllEventDateOlderThan(any(ZonedDateTime.class))).thenReturn(0);
+		when(eventRepository.findAllExpiredIds(any(ZonedDateTime.class), eq(0L), eq(1), eq(0), any(Pageable.class))).thenReturn(List.of());
 		when(clock.instant()).thenReturn(Instant.parse("2023-06-29T00:00:00Z"));
 		when(clock.getZone()).thenReturn(ZoneOffset.UTC);
 		when(jobRepository.save(any(JobEntity.class))).thenReturn(createJobEntity());
@@ -131,7 +144,7 @@ class EventMaintenanceJobTest extends AbstractLoggingUnitTest {
 		assertTrue(logAppender.list.isEmpty());
 
 		ArgumentCaptor<ZonedDateTime> dateCArgumentCaptor = ArgumentCaptor.forClass(ZonedDateTime.class);
-		verify(eventRepository).deleteAllEventDateOlderThan(dateCArgumentCaptor.capture());
+		verify(eventRepository).findAllExpiredIds(dateCArgumentCaptor.capture(), eq(0L), eq(1), eq(0), any(Pageable.class));
 		assertEquals("2023-06-28T00:00Z", dateCArgumentCaptor.getValue().toString());
 		verify(systemPropertyService).get(SystemProperty.EVENT_MAINTENANCE_RUNNER_CONTAINER_ID);
 		verify(systemPropertyService).get(SystemProperty.JOB_OLD_EVENT_LIMIT);
@@ -145,7 +158,7 @@ class EventMaintenanceJobTest extends AbstractLoggingUnitTest {
 		when(systemPropertyService.getBoolean(SystemProperty.EVENT_MAINTENANCE_JOB_ENABLED)).thenReturn(true);
 		when(systemPropertyService.getBoolean(SystemProperty.ENABLE_MULTI_NODE)).thenReturn(false);
 		when(systemPropertyService.get(SystemProperty.JOB_OLD_EVENT_LIMIT)).thenReturn("1;d");
-		when(eventRepository.deleteAllEventDateOlderThan(any(ZonedDateTime.class))).thenReturn(0);
+		when(eventRepository.findAllExpiredIds(any(ZonedDateTime.class), eq(0L), eq(1), eq(0), any(Pageable.class))).thenReturn(List.of());
 		when(clock.instant()).thenReturn(Instant.parse("2023-06-29T00:00:00Z"));
 		when(clock.getZone()).thenReturn(ZoneOffset.UTC);
 		when(jobRepository.save(any(JobEntity.class))).thenReturn(createJobEntity());
@@ -159,7 +172,7 @@ class EventMaintenanceJobTest extends AbstractLoggingUnitTest {
 		assertTrue(logAppender.list.isEmpty());
 
 		ArgumentCaptor<ZonedDateTime> dateCArgumentCaptor = ArgumentCaptor.forClass(ZonedDateTime.class);
-		verify(eventRepository).deleteAllEventDateOlderThan(dateCArgumentCaptor.capture());
+		verify(eventRepository).findAllExpiredIds(dateCArgumentCaptor.capture(), eq(0L), eq(1), eq(0), any(Pageable.class));
 		assertEquals("2023-06-28T00:00Z", dateCArgumentCaptor.getValue().toString());
 		verify(systemPropertyService, never()).get(SystemProperty.EVENT_MAINTENANCE_RUNNER_CONTAINER_ID);
 		verify(systemPropertyService).get(SystemProperty.JOB_OLD_EVENT_LIMIT);
@@ -179,7 +192,7 @@ class EventMaintenanceJobTest extends AbstractLoggingUnitTest {
 		when(clock.getZone()).thenReturn(ZoneOffset.UTC);
 		MockedStatic<TimeUnit> mockedTimeUnit = mockStatic(TimeUnit.class);
 		mockedTimeUnit.when(() -> TimeUnit.getByCode("d")).thenReturn(TimeUnit.DAY);
-		when(eventRepository.deleteAllEventDateOlderThan(any(ZonedDateTime.class))).thenReturn(1);
+		when(eventRepository.findAllExpiredIds(any(ZonedDateTime.class), eq(0L), eq(1), eq(0), any(Pageable.class))).thenReturn(List.of(1L));
 		when(jobRepository.save(any(JobEntity.class))).thenReturn(createJobEntity());
 		when(jobRepository.findById(anyLong())).thenReturn(java.util.Optional.of(createJobEntity()));
 		when(systemAttributeRepository.getSystemStatus()).thenReturn(Optional.of(TestUtils.createSystemAttributeEntity(SystemStatus.OK)));
@@ -190,18 +203,115 @@ class EventMaintenanceJobTest extends AbstractLoggingUnitTest {
 		// assert
 		assertFalse(logAppender.list.isEmpty());
 		assertEquals("1 event(s) deleted", logAppender.list.getFirst().getFormattedMessage());
-		verify(eventRepository).deleteAllEventDateOlderThan(any(ZonedDateTime.class));
+		verify(eventRepository).deleteAllByIdInBatch(List.of(1L));
 
 		ArgumentCaptor<String> codeArgumentCaptor = ArgumentCaptor.forClass(String.class);
 		mockedTimeUnit.verify(() -> TimeUnit.getByCode(codeArgumentCaptor.capture()));
 		assertEquals("d", codeArgumentCaptor.getValue());
 
 		ArgumentCaptor<ZonedDateTime> dateCArgumentCaptor = ArgumentCaptor.forClass(ZonedDateTime.class);
-		verify(eventRepository).deleteAllEventDateOlderThan(dateCArgumentCaptor.capture());
+		verify(eventRepository).findAllExpiredIds(dateCArgumentCaptor.capture(), eq(0L), eq(1), eq(0), any(Pageable.class));
 		assertEquals("2023-06-28T00:00Z", dateCArgumentCaptor.getValue().toString());
 		mockedTimeUnit.close();
 		verify(systemPropertyService).get(SystemProperty.JOB_OLD_EVENT_LIMIT);
 		verify(jobRepository, times(2)).save(any(JobEntity.class));
 		verify(jobRepository).findById(anyLong());
 	}
+
+	@Test
+	void run_whenShardingEnabled_thenDeleteOnlyShareOfCurrentNode() {
+		// arrange
+		when(systemPropertyService.getBoolean(SystemProperty.EVENT_MAINTENANCE_JOB_ENABLED)).thenReturn(true);
+		when(systemPropertyService.getBoolean(SystemProperty.ENABLE_MULTI_NODE)).thenReturn(true);
+		when(systemPropertyService.getBoolean(SystemProperty.ENABLE_JOB_SHARDING)).thenReturn(true);
+		when(systemPropertyService.get(SystemProperty.EVENT_MAINTENANCE_RUNNER_CONTAINER_ID)).thenReturn("");
+		when(systemPropertyService.get(SystemProperty.JOB_OLD_EVENT_LIMIT)).thenReturn("1;d");
+		when(jobLeaseService.getShard()).thenReturn(new JobShard(1, 3));
+		when(eventRepository.findAllExpiredIds(any(ZonedDateTime.class), eq(0L), eq(3), eq(1), any(Pageable.class))).thenReturn(List.of(4L, 7L));
+		when(clock.instant()).thenReturn(Instant.parse("2023-06-29T00:00:00Z"));
+		when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+		when(jobRepository.save(any(JobEntity.class))).thenReturn(createJobEntity());
+		when(jobRepository.findById(anyLong())).thenReturn(java.util.Optional.of(createJobEntity()));
+		when(systemAttributeRepository.getSystemStatus()).thenReturn(Optional.of(TestUtils.createSystemAttributeEntity(SystemStatus.OK)));
+
+		// act
+		job.run();
+
+		// assert
+		assertEquals("2 event(s) deleted", logAppender.list.getFirst().getFormattedMessage());
+		verify(eventRepository).findAllExpiredIds(any(ZonedDateTime.class), eq(0L), eq(3), eq(1), any(Pageable.class));
+		verify(eventRepository).findAllExpiredIds(any(ZonedDateTime.class), eq(7L), eq(3), eq(1), any(Pageable.class));
+		verify(jobLeaseService, never()).tryAcquire(anyString());
+		verify(systemService, never()).getContainerId();
+	}
+
+	@Test
+	void run_whenLeaseIsHeldByAnotherNode_thenSkipExecution() {
+		// arrange
+		when(systemPropertyService.getBoolean(SystemProperty.EVENT_MAINTENANCE_JOB_ENABLED)).thenReturn(true);
+		when(systemPropertyService.getBoolean(SystemProperty.ENABLE_MULTI_NODE)).thenReturn(true);
+		when(systemPropertyService.get(SystemProperty.EVENT_MAINTENANCE_RUNNER_CONTAINER_ID)).thenReturn(null);
+		when(jobLeaseService.tryAcquire("EventMaintenanceJob")).thenReturn(false);
+		when(systemAttributeRepository.getSystemStatus()).thenReturn(Optional.of(TestUtils.createSystemAttributeEntity(SystemStatus.OK)));
+
+		// act
+		job.run();
+
+		// assert
+		assertTrue(logAppender.list.isEmpty());
+		verify(eventRepository, never()).findAllExpiredIds(any(ZonedDateTime.class), anyLong(), anyInt(), anyInt(), any(Pageable.class));
+		verify(jobLeaseService, never()).getShard();
+	}
+
+	@Test
+	void run_whenMoreChunksAvailable_thenDeleteChunksAndReportProgress() {
+		// arrange
+		when(systemPropertyService.getBoolean(SystemProperty.EVENT_MAINTENANCE_JOB_ENABLED)).thenReturn(true);
+		when(systemPropertyService.get(SystemProperty.JOB_OLD_EVENT_LIMIT)).thenReturn("1;d");
+		when(eventRepository.findAllExpiredIds(any(ZonedDateTime.class), eq(0L), eq(1), eq(0), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+		when(eventRepository.findAllExpiredIds(any(ZonedDateTime.class), eq(2L), eq(1), eq(0), any(Pageable.class))).thenReturn(List.of(3L, 4L));
+		when(eventRepository.findAllExpiredIds(any(ZonedDateTime.class), eq(4L), eq(1), eq(0), any(Pageable.class))).thenReturn(List.of(5L));
+		when(clock.instant()).thenReturn(Instant.parse("2023-06-29T00:00:00Z"));
+		when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+		when(jobRepository.save(any(JobEntity.class))).thenReturn(createJobEntity());
+		when(jobRepository.findById(anyLong())).thenReturn(java.util.Optional.of(createJobEntity()));
+		when(systemAttributeRepository.getSystemStatus()).thenReturn(Optional.of(TestUtils.createSystemAttributeEntity(SystemStatus.OK)));
+
+		// act
+		job.run();
+
+		// assert
+		assertEquals("5 event(s) deleted", logAppender.list.getFirst().getFormattedMessage());
+		verify(eventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+		verify(eventRepository).deleteAllByIdInBatch(List.of(3L, 4L));
+		verify(eventRepository).deleteAllByIdInBatch(List.of(5L));
+		verify(jobRepository).updateProcessedCount(1L, 2L);
+		verify(jobRepository).updateProcessedCount(1L, 4L);
+		verify(jobRepository).updateProcessedCount(1L, 5L);
+	}
+
+	@Test
+	void run_whenTimeBudgetExhausted_thenLeaveRemainingEventsForNextRun() {
+		// arrange
+		addAppender(AbstractLimitBasedJob.class);
+		ReflectionTestUtils.setField(job, "timeBudgetSeconds", 0L);
+		when(systemPropertyService.getBoolean(SystemProperty.EVENT_MAINTENANCE_JOB_ENABLED)).thenReturn(true);
+		when(systemPropertyService.get(SystemProperty.JOB_OLD_EVENT_LIMIT)).thenReturn("1;d");
+		when(eventRepository.findAllExpiredIds(any(ZonedDateTime.class), eq(0L), eq(1), eq(0), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+		when(clock.instant()).thenReturn(Instant.parse("2023-06-29T00:00:00Z"));
+		when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+		when(jobRepository.save(any(JobEntity.class))).thenReturn(createJobEntity());
+		when(jobRepository.findById(anyLong())).thenReturn(java.util.Optional.of(createJobEntity()));
+		when(systemAttributeRepository.getSystemStatus()).thenReturn(Optional.of(TestUtils.createSystemAttributeEntity(SystemStatus.OK)));
+
+		// act
+		job.run();
+
+		// assert
+		assertLogContains(logAppender, "Time budget of 0 second(s) exhausted, the remaining records will be deleted by the next run");
+		assertLogContains(logAppender, "2 event(s) deleted");
+		verify(eventRepository).findAllExpiredIds(any(ZonedDateTime.class), anyLong(), anyInt(), anyInt(), any(Pageable.class));
+		verify(eventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+		verify(jobRepository).updateProcessedCount(1L, 2L);
+	}
 }
@@ -3,6 +3,7 @@ package io.github.gms.job;
 import io.github.gms.abstraction.AbstractLoggingUnitTest;
 import io.github.gms.common.enums.SystemProperty;
 import io.github.gms.common.enums.SystemStatus;
+import io.github.gms.functions.maintenance.job.JobLeaseService;
 import io.github.gms.functions.maintenance.job.JobRepository;
 import io.github.gms.functions.setup.SystemAttributeRepository;
 import io.github.gms.functions.system.SystemService;
@@ -11,6 +12,7 @@ import io.github.gms.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Clock;
@@ -36,6 +38,7 @@ class JobMaintenanceJobTest extends AbstractLoggingUnitTest {
     private SystemPropertyService systemPropertyService;
     private JobRepository jobRepository;
     private SystemAttributeRepository systemAttributeRepository;
+    private JobLeaseService jobLeaseService;
 
     @Override
     @BeforeEach
@@ -47,12 +50,16 @@ class JobMaintenanceJobTest extends AbstractLoggingUnitTest {
         systemPropertyService = mock(SystemPropertyService.class);
         jobRepository = mock(JobRepository.class);
         systemAttributeRepository = mock(SystemAttributeRepository.class);
+        jobLeaseService = mock(JobLeaseService.class);
         job = new JobMaintenanceJob();
         ReflectionTestUtils.setField(job, "systemService", systemService);
         ReflectionTestUtils.setField(job, "systemPropertyService", systemPropertyService);
         ReflectionTestUtils.setField(job, "clock", clock);
         ReflectionTestUtils.setField(job, "jobRepository", jobRepository);
         ReflectionTestUtils.setField(job, "systemAttributeRepository", systemAttributeRepository);
+        ReflectionTestUtils.setField(job, "jobLeaseService", jobLeaseService);
+        ReflectionTestUtils.setField(job, "chunkSize", 100);
+        ReflectionTestUtils.setField(job, "timeBudgetSeconds", 60L);
         addAppender(JobMaintenanceJob.class);
 
         MDC.clear();
@@ -109,9 +116,10 @@ class JobMaintenanceJobTest extends AbstractLoggingUnitTest {
         when(systemPropertyService.getBoolean(SystemProperty.JOB_MAINTENANCE_JOB_ENABLED)).thenReturn(true);
         when(systemPropertyService.getBoolean(SystemProperty.ENABLE_MULTI_NODE)).thenReturn(true);
         when(systemPropertyService.get(SystemProperty.JOB_MAINTENANCE_RUNNER_CONTAINER_ID)).thenReturn(null);
+        when(jobLeaseService.tryAcquire("JobMaintenanceJob")).thenReturn(true);
         when(systemPropertyService.get(SystemProperty.OLD_JOB_ENTRY_LIMIT)).thenReturn("1;d");
         when(systemAttributeRepository.getSystemStatus()).thenReturn(Optional.of(TestUtils.createSystemAttributeEntity(SystemStatus.OK)));
-        when(jobRepository.findAllOld(any(ZonedDateTime.class))).thenReturn(List.of());
+        when(jobRepository.findAllExpiredIds(any(ZonedDateTime.class), eq(0L), any(Pageable.class))).thenReturn(List.of());
         when(clock.instant()).thenReturn(Instant.parse("2023-06-29T00:00:00Z"));
         when(clock.getZone()).thenReturn(ZoneOffset.UTC);
 
@@ -120,7 +128,7 @@ class JobMaintenanceJobTest extends AbstractLoggingUnitTest {
 
         // assert
         assertTrue(logAppender.list.isEmpty());
-        verify(jobRepository).findAllOld(any(ZonedDateTime.class));
+        verify(jobRepository).findAllExpiredIds(any(ZonedDateTime.class), eq(0L), any(Pageable.class));
         verify(systemPropertyService).get(SystemProperty.JOB_MAINTENANCE_RUNNER_CONTAINER_ID);
         verify(systemPropertyService).get(SystemProperty.OLD_JOB_ENTRY_LIMIT);
     }
@@ -131,9 +139,10 @@ class JobMaintenanceJobTest extends AbstractLoggingUnitTest {
         when(systemPropertyService.getBoolean(SystemProperty.JOB_MAINTENANCE_JOB_ENABLED)).thenReturn(true);
         when(systemPropertyService.getBoolean(SystemProperty.ENABLE_MULTI_NODE)).thenReturn(true);
         when(systemPropertyService.get(SystemProperty.JOB_MAINTENANCE_RUNNER_CONTAINER_ID)).thenReturn(null);
+        when(jobLeaseService.tryAcquire("JobMaintenanceJob")).thenReturn(true);
         when(systemPropertyService.get(SystemProperty.OLD_JOB_ENTRY_LIMIT)).thenReturn("1;d");
         when(systemAttributeRepository.getSystemStatus()).thenReturn(Optional.of(TestUtils.createSystemAttributeEntity(SystemStatus.OK)));
-        when(jobRepository.findAllOld(any(ZonedDateTime.class))).thenReturn(List.of(TestUtils.createJobEntity()));
+        when(jobRepository.findAllExpiredIds(any(ZonedDateTime.class), eq(0L), any(Pageable.class))).thenReturn(List.of(1L));
         when(clock.instant()).thenReturn(Instant.parse("2023-06-29T00:00:00Z"));
         when(clock.getZone()).thenReturn(ZoneOffset.UTC);
 
@@ -142,8 +151,28 @@ class JobMaintenanceJobTest extends AbstractLoggingUnitTest {
 
         // assert
         assertLogContains(logAppender, "1 old job log(s) deleted");
-        verify(jobRepository).findAllOld(any(ZonedDateTime.class));
+        verify(jobRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(jobRepository, never()).updateProcessedCount(anyLong(), anyLong());
         verify(systemPropertyService).get(SystemProperty.JOB_MAINTENANCE_RUNNER_CONTAINER_ID);
         verify(systemPropertyService).get(SystemProperty.OLD_JOB_ENTRY_LIMIT);
     }
+
+    @Test
+    void run_whenLeaseIsHeldByAnotherNode_thenSkipExecution() {
+        // arrange
+        when(systemPropertyService.getBoolean(SystemProperty.JOB_MAINTENANCE_JOB_ENABLED)).thenReturn(true);
+        when(systemPropertyService.getBoolean(SystemProperty.ENABLE_MULTI_NODE)).thenReturn(true);
+        when(systemPropertyService.get(SystemProperty.JOB_MAINTENANCE_RUNNER_CONTAINER_ID)).thenReturn("");
+        when(systemAttributeRepository.getSystemStatus()).thenReturn(Optional.of(TestUtils.createSystemAttributeEntity(SystemStatus.OK)));
+        when(jobLeaseService.tryAcquire("JobMaintenanceJob")).thenReturn(false);
+
+        // act
+        job.run();
+
+        // assert
+        assertTrue(logAppender.list.isEmpty());
+        verify(jobLeaseService).tryAcquire("JobMaintenanceJob");
+        verify(systemService, never()).getContainerId();
+        verify(jobRepository, never()).findAllExpiredIds(any(ZonedDateTime.class), anyLong(), any(Pageable.class));
+    }
 }
@@ -49,6 +49,7 @@ class ManualJobExecutionControllerIntegrationTest extends AbstractIntegrationTes
             {UrlConstants.SECRET_ROTATION, HttpStatus.OK},
             {UrlConstants.USER_ANONYMIZATION, HttpStatus.OK},
             {UrlConstants.USER_DELETION, HttpStatus.OK},
+            {UrlConstants.USER_COUNTER_RECONCILIATION, HttpStatus.OK},
             {UrlConstants.LDAP_USER_SYNC, HttpStatus.NOT_FOUND},
             {"/invalid_job", HttpStatus.NOT_FOUND}
         };
@@ -37,7 +37,8 @@ class ManualJobExecutionControllerUserRoleSecurityTest extends AbstractUserRoleS
             UrlConstants.MESSAGE_CLEANUP,
             UrlConstants.SECRET_ROTATION,
             UrlConstants.USER_ANONYMIZATION,
-            UrlConstants.USER_DELETION
+            UrlConstants.USER_DELETION,
+            UrlConstants.USER_COUNTER_RECONCILIATION
     })
     void runJobByName_whenUserIsNull_thenReturnHttp403(String urlPath) {
         HttpEntity<Void> requestEntity = new HttpEntity<>(TestUtils.getHttpHeaders(jwt));
@@ -13,12 +13,14 @@ import io.github.gms.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static io.github.gms.util.TestUtils.createJobEntity;
@@ -57,6 +59,8 @@ class MessageCleanupJobTest extends AbstractLoggingUnitTest {
 		ReflectionTestUtils.setField(job, "clock", clock);
 		ReflectionTestUtils.setField(job, "jobRepository", jobRepository);
 		ReflectionTestUtils.setField(job, "systemAttributeRepository", systemAttributeRepository);
+		ReflectionTestUtils.setField(job, "chunkSize", 100);
+		ReflectionTestUtils.setField(job, "timeBudgetSeconds", 60L);
 
 		addAppender(MessageCleanupJob.class);
 
@@ -113,7 +117,7 @@ class MessageCleanupJobTest extends AbstractLoggingUnitTest {
 	void run_whenNoMessagesDeleted_thenSkipLogging() {
 		// arrange
 		setupClock(clock);
-		when(messageRepository.deleteAllEventDateOlderThan(any(ZonedDateTime.class))).thenReturn(0);
+		when(messageRepository.findAllExpiredIds(any(ZonedDateTime.class), eq(0L), any(Pageable.class))).thenReturn(List.of());
 		when(systemPropertyService.getBoolean(SystemProperty.MESSAGE_CLEANUP_JOB_ENABLED)).thenReturn(true);
 		when(systemPropertyService.get(SystemProperty.JOB_OLD_MESSAGE_LIMIT)).thenReturn("1;d");
 		when(systemPropertyService.getBoolean(SystemProperty.ENABLE_MULTI_NODE)).thenReturn(false);
@@ -128,7 +132,9 @@ class MessageCleanupJobTest extends AbstractLoggingUnitTest {
 		
 		// assert
 		assertTrue(logAppender.list.isEmpty());
-		verify(messageRepository).deleteAllEventDateOlderThan(any(ZonedDateTime.class));
+		verify(messageRepository).findAllExpiredIds(any(ZonedDateTime.class), eq(0L), any(Pageable.class));
+		verify(messageRepository, never()).deleteAllByIdInBatch(anyList());
+		verify(jobRepository, never()).updateProcessedCount(anyLong(), anyLong());
 		verify(systemPropertyService).get(SystemProperty.JOB_OLD_MESSAGE_LIMIT);
 		verify(systemPropertyService, never()).get(SystemProperty.MESSAGE_CLEANUP_RUNNER_CONTAINER_ID);
 		verify(systemPropertyService).getBoolean(SystemProperty.MESSAGE_CLEANUP_JOB_ENABLED);
@@ -140,7 +146,7 @@ class MessageCleanupJobTest extends AbstractLoggingUnitTest {
 	void run_whenAllConditionsMet_thenProcess() {
 		// arrange
 		setupClock(clock);
-		when(messageRepository.deleteAllEventDateOlderThan(any(ZonedDateTime.class))).thenReturn(1);
+		when(messageRepository.findAllExpiredIds(any(ZonedDateTime.class), eq(0L), any(Pageable.class))).thenReturn(List.of(3L));
 		when(systemPropertyService.getBoolean(SystemProperty.MESSAGE_CLEANUP_JOB_ENABLED)).thenReturn(true);
 		when(systemPropertyService.get(SystemProperty.JOB_OLD_MESSAGE_LIMIT)).thenReturn("1;d");
 		when(systemPropertyService.getBoolean(SystemProperty.ENABLE_MULTI_NODE)).thenReturn(false);
@@ -156,7 +162,8 @@ class MessageCleanupJobTest extends AbstractLoggingUnitTest {
 		// assert
 		assertFalse(logAppender.list.isEmpty());
 		assertEquals("1 message(s) deleted", logAppender.list.getFirst().getFormattedMessage());
-		verify(messageRepository).deleteAllEventDateOlderThan(any(ZonedDateTime.class));
+		verify(messageRepository).deleteAllByIdInBatch(List.of(3L));
+		verify(jobRepository).updateProcessedCount(1L, 1L);
 		verify(systemPropertyService).get(SystemProperty.JOB_OLD_MESSAGE_LIMIT);
 		verify(systemPropertyService, never()).get(SystemProperty.MESSAGE_CLEANUP_RUNNER_CONTAINER_ID);
 		verify(systemPropertyService).getBoolean(SystemProperty.MESSAGE_CLEANUP_JOB_ENABLED);
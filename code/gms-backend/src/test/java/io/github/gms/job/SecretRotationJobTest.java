@@ -1,14 +1,13 @@
 package io.github.gms.job;
 
-import com.google.common.collect.Lists;
 import io.github.gms.abstraction.AbstractLoggingUnitTest;
-import io.github.gms.common.enums.RotationPeriod;
 import io.github.gms.common.enums.SystemProperty;
 import io.github.gms.common.enums.SystemStatus;
+import io.github.gms.common.model.JobShard;
 import io.github.gms.functions.maintenance.job.JobEntity;
+import io.github.gms.functions.maintenance.job.JobLeaseService;
 import io.github.gms.functions.maintenance.job.JobRepository;
-import io.github.gms.functions.secret.SecretEntity;
-import io.github.gms.functions.secret.SecretRepository;
+import io.github.gms.functions.secret.SecretRotationResult;
 import io.github.gms.functions.secret.SecretRotationService;
 import io.github.gms.functions.setup.SystemAttributeRepository;
 import io.github.gms.functions.system.SystemService;
@@ -21,11 +20,13 @@ import org.slf4j.MDC;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.*;
+import java.util.List;
 import java.util.Optional;
 
 import static io.github.gms.util.TestUtils.createJobEntity;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -38,9 +39,9 @@ class SecretRotationJobTest extends AbstractLoggingUnitTest {
 	private JobRepository jobRepository;
 	private SystemService systemService;
 	private SystemPropertyService systemPropertyService;
-	private SecretRepository secretRepository;
 	private SecretRotationService service;
 	private SystemAttributeRepository systemAttributeRepository;
+	private JobLeaseService jobLeaseService;
 	private SecretRotationJob job;
 
 	@Override
@@ -51,16 +52,17 @@ class SecretRotationJobTest extends AbstractLoggingUnitTest {
 		jobRepository = mock(JobRepository.class);
 		systemService = mock(SystemService.class);
 		systemPropertyService = mock(SystemPropertyService.class);
-		secretRepository = mock(SecretRepository.class);
 		service = mock(SecretRotationService.class);
 		systemAttributeRepository = mock(SystemAttributeRepository.class);
-		job = new SecretRotationJob(secretRepository, service);
+		jobLeaseService = mock(JobLeaseService.class);
+		job = new SecretRotationJob(service);
 
 		ReflectionTestUtils.setField(job, "systemService", systemService);
 		ReflectionTestUtils.setField(job, "systemPropertyService", systemPropertyService);
 		ReflectionTestUtils.setField(job, "clock", clock);
 		ReflectionTestUtils.setField(job, "jobRepository", jobRepository);
 		ReflectionTestUtils.setField(job, "systemAttributeRepository", systemAttributeRepository);
+		ReflectionTestUtils.setField(job, "jobLeaseService", jobLeaseService);
 
 		addAppender(SecretRotationJob.class);
 
@@ -110,16 +112,14 @@ class SecretRotationJobTest extends AbstractLoggingUnitTest {
 		assertTrue(logAppender.list.isEmpty());
 		verify(systemPropertyService).get(SystemProperty.SECRET_ROTATION_RUNNER_CONTAINER_ID);
 		verify(systemPropertyService).getBoolean(SystemProperty.SECRET_ROTATION_JOB_ENABLED);
-		verify(service, never()).rotateSecret(any(SecretEntity.class));
+		verify(service, never()).rotateNextPage(any(ZonedDateTime.class), anyLong(), any(JobShard.class));
 	}
 
 	@Test
 	void run_whenSkipJobExecutionReturnsFalse_thenProcess() {
 		// arrange
 		when(systemPropertyService.getBoolean(SystemProperty.SECRET_ROTATION_JOB_ENABLED)).thenReturn(true);
-		Clock mockClock = Clock.fixed(Instant.parse("2023-06-29T00:00:00Z"), ZoneId.systemDefault());
-		when(secretRepository.findAllOldRotated(any(ZonedDateTime.class)))
-			.thenReturn(Lists.newArrayList(TestUtils.createSecretEntity(RotationPeriod.MONTHLY, ZonedDateTime.now(mockClock).minusDays(10L))));
+		when(service.rotateNextPage(any(ZonedDateTime.class), eq(0L), eq(JobShard.SINGLE))).thenReturn(new SecretRotationResult(1L, false, 0));
 		when(jobRepository.save(any(JobEntity.class))).thenReturn(createJobEntity());
 		when(jobRepository.findById(anyLong())).thenReturn(java.util.Optional.of(createJobEntity()));
 		when(clock.instant()).thenReturn(Instant.parse("2023-06-29T00:00:00Z"));
@@ -130,8 +130,7 @@ class SecretRotationJobTest extends AbstractLoggingUnitTest {
 		job.run();
 
 		// assert
-		verify(service, never()).rotateSecret(any(SecretEntity.class));
-		verify(secretRepository).findAllOldRotated(any(ZonedDateTime.class));
+		verify(service).rotateNextPage(any(ZonedDateTime.class), eq(0L), eq(JobShard.SINGLE));
 		verify(systemPropertyService).getBoolean(SystemProperty.SECRET_ROTATION_JOB_ENABLED);
 		assertTrue(logAppender.list.isEmpty());
 		verify(jobRepository, times(2)).save(any(JobEntity.class));
@@ -142,12 +141,9 @@ class SecretRotationJobTest extends AbstractLoggingUnitTest {
 	void run_whenAllConditionsMet_thenProcess() {
 		// arrange
 		when(systemPropertyService.getBoolean(SystemProperty.SECRET_ROTATION_JOB_ENABLED)).thenReturn(true);
-		Clock mockClock = Clock.fixed(Instant.parse("2023-06-29T00:00:00Z"), ZoneId.systemDefault());
-		when(secretRepository.findAllOldRotated(any(ZonedDateTime.class)))
-			.thenReturn(Lists.newArrayList(
-					TestUtils.createSecretEntity(RotationPeriod.HOURLY, ZonedDateTime.now(mockClock).minusDays(10L)), 
-					TestUtils.createSecretEntity(RotationPeriod.MONTHLY, ZonedDateTime.now(mockClock).minusDays(10L))
-			));
+		when(service.rotateNextPage(any(ZonedDateTime.class), anyLong(), eq(JobShard.SINGLE)))
+				.thenReturn(new SecretRotationResult(500L, true, 1))
+				.thenReturn(new SecretRotationResult(620L, false, 2));
 		when(jobRepository.save(any(JobEntity.class))).thenReturn(createJobEntity());
 		when(jobRepository.findById(anyLong())).thenReturn(java.util.Optional.of(createJobEntity()));
 		when(clock.instant()).thenReturn(Instant.parse("2023-06-29T00:00:00Z"));
@@ -158,16 +154,41 @@ class SecretRotationJobTest extends AbstractLoggingUnitTest {
 		job.run();
 
 		// assert
-		verify(service, times(1)).rotateSecret(any(SecretEntity.class));
 		verify(systemPropertyService).getBoolean(SystemProperty.SECRET_ROTATION_JOB_ENABLED);
-		verify(secretRepository).findAllOldRotated(any(ZonedDateTime.class));
 		assertFalse(logAppender.list.isEmpty());
-		assertEquals("1 entities updated", logAppender.list.getFirst().getFormattedMessage());
+		assertEquals("3 entities updated", logAppender.list.getFirst().getFormattedMessage());
 
 		ArgumentCaptor<ZonedDateTime> dateCArgumentCaptor = ArgumentCaptor.forClass(ZonedDateTime.class);
-		verify(secretRepository).findAllOldRotated(dateCArgumentCaptor.capture());
-		assertEquals("2023-06-28T23:59:05Z", dateCArgumentCaptor.getValue().toString());
+		ArgumentCaptor<Long> lastIdCaptor = ArgumentCaptor.forClass(Long.class);
+		verify(service, times(2)).rotateNextPage(dateCArgumentCaptor.capture(), lastIdCaptor.capture(), eq(JobShard.SINGLE));
+		assertEquals("2023-06-29T00:00Z", dateCArgumentCaptor.getValue().toString());
+		assertEquals(List.of(0L, 500L), lastIdCaptor.getAllValues());
 		verify(jobRepository, times(2)).save(any(JobEntity.class));
 		verify(jobRepository).findById(anyLong());
 	}
+
+	@Test
+	void run_whenShardingEnabled_thenRotateOnlyShareOfCurrentNode() {
+		// arrange
+		JobShard shard = new JobShard(0, 2);
+		when(systemPropertyService.getBoolean(SystemProperty.SECRET_ROTATION_JOB_ENABLED)).thenReturn(true);
+		when(systemPropertyService.getBoolean(SystemProperty.ENABLE_MULTI_NODE)).thenReturn(true);
+		when(systemPropertyService.getBoolean(SystemProperty.ENABLE_JOB_SHARDING)).thenReturn(true);
+		when(jobLeaseService.getShard()).thenReturn(shard);
+		when(service.rotateNextPage(any(ZonedDateTime.class), eq(0L), eq(shard))).thenReturn(new SecretRotationResult(2L, false, 1));
+		when(jobRepository.save(any(JobEntity.class))).thenReturn(createJobEntity());
+		when(jobRepository.findById(anyLong())).thenReturn(java.util.Optional.of(createJobEntity()));
+		when(clock.instant()).thenReturn(Instant.parse("2023-06-29T00:00:00Z"));
+		when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+		when(systemAttributeRepository.getSystemStatus()).thenReturn(Optional.of(TestUtils.createSystemAttributeEntity(SystemStatus.OK)));
+
+		// act
+		job.run();
+
+		// assert
+		assertEquals("1 entities updated", logAppender.list.getFirst().getFormattedMessage());
+		verify(service).rotateNextPage(any(ZonedDateTime.class), eq(0L), eq(shard));
+		verify(jobLeaseService).getShard();
+		verify(jobLeaseService, never()).tryAcquire(anyString());
+	}
 }
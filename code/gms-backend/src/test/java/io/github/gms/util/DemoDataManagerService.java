@@ -106,6 +106,7 @@ public class DemoDataManagerService {
 		disableJob(SystemProperty.MESSAGE_CLEANUP_JOB_ENABLED);
 		disableJob(SystemProperty.SECRET_ROTATION_JOB_ENABLED);
 		disableJob(SystemProperty.USER_DELETION_JOB_ENABLED);
+		disableJob(SystemProperty.USER_COUNTER_RECONCILIATION_JOB_ENABLED);
 
 		// Job logs
 		JobEntity jobEntity = TestUtils.createJobEntity();
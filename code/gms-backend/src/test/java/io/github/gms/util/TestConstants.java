@@ -10,6 +10,8 @@ public interface TestConstants {
 
 	String URL_INFO_STATUS = "/info/status";
 
+	String CRYPTO_SECRET = "MTIzNDU2NzgxMjM0NTY3ODEyMzQ1Njc4MTIzNDU2Nzg=";
+
 	// TestedMethod annotation values
 	String SAVE = "save";
 	String LIST = "list";
@@ -811,6 +811,7 @@ public class TestUtils {
 				.creationDate(ZonedDateTime.now())
 				.startTime(ZonedDateTime.now())
 				.duration(100L)
+				.processedCount(20L)
 				.message(TEST)
 				.build();
 	}
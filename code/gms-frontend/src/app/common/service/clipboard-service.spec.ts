@@ -2,11 +2,13 @@ import { TestBed } from "@angular/core/testing";
 import { ClipboardService } from "./clipboard-service";
 import { Clipboard } from '@angular/cdk/clipboard';
 import { MatSnackBar } from "@angular/material/snack-bar";
+import { of, Subject } from "rxjs";
 
 describe('ClipboardService', () => {
     let service : ClipboardService;
     let clipboard : any;
     let snackbar : any;
+    const originalClipboard = navigator.clipboard;
 
     const configureTestBed = () => {
         TestBed.configureTestingModule({
@@ -42,4 +44,65 @@ describe('ClipboardService', () => {
         expect(pendingCopy.destroy).toHaveBeenCalledTimes(input ? 1 : 0);
         expect(snackbar.open).toHaveBeenCalledTimes(input ? 1 : 0);
     });
-});
\ No newline at end of file
+
+    describe('Async value', () => {
+        let clipboardWrite : any;
+
+        beforeEach(() => {
+            snackbar = {
+                open : jest.fn()
+            };
+            clipboard = {
+                beginCopy : jest.fn()
+            };
+            clipboardWrite = jest.fn().mockResolvedValue(undefined);
+            (globalThis as any).ClipboardItem = class {
+                constructor(public readonly items : Record<string, Promise<Blob>>) {}
+            };
+            Object.defineProperty(navigator, 'clipboard', { value : { write : clipboardWrite }, configurable : true });
+        });
+
+        afterEach(() => {
+            delete (globalThis as any).ClipboardItem;
+            Object.defineProperty(navigator, 'clipboard', { value : originalClipboard, configurable : true });
+        });
+
+        it('Should write clipboard item before the value arrives', async () => {
+            configureTestBed();
+            const value = new Subject<string>();
+
+            // act
+            service.copyValueAsync(value, 'snackbar message');
+
+            // assert
+            expect(clipboardWrite).toHaveBeenCalledTimes(1);
+            const item = clipboardWrite.mock.calls[0][0][0];
+            value.next('copied-value');
+            value.complete();
+            const blob : Blob = await item.items['text/plain'];
+            expect(blob.type).toEqual('text/plain');
+            expect(blob.size).toEqual('copied-value'.length);
+            await Promise.resolve();
+            expect(snackbar.open).toHaveBeenCalledWith('snackbar message');
+            expect(clipboard.beginCopy).not.toHaveBeenCalled();
+        });
+
+        it('Should fall back when clipboard item is not supported', () => {
+            delete (globalThis as any).ClipboardItem;
+            const pendingCopy : any = {
+                copy : jest.fn().mockReturnValue(true),
+                destroy : jest.fn()
+            };
+            clipboard.beginCopy.mockReturnValue(pendingCopy);
+            configureTestBed();
+
+            // act
+            service.copyValueAsync(of('copied-value'), 'snackbar message');
+
+            // assert
+            expect(clipboardWrite).not.toHaveBeenCalled();
+            expect(clipboard.beginCopy).toHaveBeenCalledWith('copied-value');
+            expect(snackbar.open).toHaveBeenCalledWith('snackbar message');
+        });
+    });
+});
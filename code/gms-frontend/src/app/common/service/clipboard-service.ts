@@ -1,6 +1,7 @@
 import { Injectable } from "@angular/core";
 import { Clipboard } from '@angular/cdk/clipboard';
 import { MatSnackBar } from "@angular/material/snack-bar";
+import { firstValueFrom, Observable } from "rxjs";
 
 /**
  * @author Peter Szrnka
@@ -24,4 +25,22 @@ export class ClipboardService {
         };
         attempt();
     }
-}
\ No newline at end of file
+
+    /**
+     * Copies a value that is loaded asynchronously. Browsers accept a clipboard write only during the user gesture,
+     * so the clipboard item is created immediately and its content is resolved when the value arrives.
+     * @param value Observable of the value to copy
+     * @param snackbarMessage Message to display after the value has been copied
+     */
+    public copyValueAsync(value: Observable<string>, snackbarMessage : string) {
+        if (typeof ClipboardItem === 'undefined' || !navigator.clipboard?.write) {
+            value.subscribe(resolvedValue => this.copyValue(resolvedValue, snackbarMessage));
+            return;
+        }
+
+        const item = new ClipboardItem({
+            'text/plain': firstValueFrom(value).then(resolvedValue => new Blob([resolvedValue], { type: 'text/plain' }))
+        });
+        navigator.clipboard.write([item]).then(() => this.snackbar.open(snackbarMessage));
+    }
+}
@@ -3,7 +3,7 @@ import { CUSTOM_ELEMENTS_SCHEMA, NO_ERRORS_SCHEMA } from "@angular/core";
 import { ComponentFixture, TestBed } from "@angular/core/testing";
 import { BrowserAnimationsModule } from "@angular/platform-browser/animations";
 import { ActivatedRoute, Data, Router } from "@angular/router";
-import { of, throwError } from "rxjs";
+import { firstValueFrom, of, throwError } from "rxjs";
 import { AngularMaterialModule } from "../../angular-material-module";
 import { MomentPipe } from "../../common/components/pipes/date-formatter.pipe";
 import { TranslatorModule } from "../../common/components/pipes/translator/translator.module";
@@ -93,11 +93,12 @@ describe('ApiKeyListComponent', () => {
 
         service = {
             delete : jest.fn().mockReturnValue(of("OK")),
-            toggle : jest.fn().mockReturnValue(of("OK"))
+            toggle : jest.fn().mockReturnValue(of("OK")),
+            getById : jest.fn().mockReturnValue(of({ id : 1, value : "test" }))
         };
 
         clipboardService = {
-            copyValue : jest.fn()
+            copyValueAsync : jest.fn()
         };
     });
 
@@ -166,13 +167,15 @@ describe('ApiKeyListComponent', () => {
         expect(component.sharedData.getUserInfo).toHaveBeenCalled();
     });
 
-    it('Should copy value', () => {
+    it('Should copy value', async () => {
         configureTestBed();
 
         // act
-        component.copyApiKeyValue('value');
+        component.copyApiKeyValue(1);
 
         // assert
-        expect(clipboardService.copyValue).toHaveBeenCalled();
+        expect(service.getById).toHaveBeenCalledWith(1);
+        expect(clipboardService.copyValueAsync).toHaveBeenCalledWith(expect.anything(), expect.anything());
+        expect(await firstValueFrom(clipboardService.copyValueAsync.mock.calls[0][0])).toEqual("test");
     });
 });
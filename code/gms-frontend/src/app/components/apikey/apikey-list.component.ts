@@ -1,5 +1,6 @@
 import { Component } from "@angular/core";
 import { ActivatedRoute, Router } from "@angular/router";
+import { map } from "rxjs";
 import { BaseListComponent } from "../../common/components/abstractions/component/base-list.component";
 import { PageConfig } from "../../common/model/common.model";
 import { ClipboardService } from "../../common/service/clipboard-service";
@@ -35,10 +36,11 @@ export class ApiKeyListComponent extends BaseListComponent<ApiKey, ApiKeyService
     }
 
     /**
-     * Copies a value to the clipboard
-     * @param value Input value
+     * Loads the API key and copies its value to the clipboard
+     * @param id ID of the API key
      */
-    public copyApiKeyValue(value: string) {
-        this.clipboardService.copyValue(value, this.translatorService.translate('apikey.copied'));
+    public copyApiKeyValue(id: number) {
+        this.clipboardService.copyValueAsync(this.service.getById(id).pipe(map(apiKey => apiKey.value ?? '')),
+            this.translatorService.translate('apikey.copied'));
     }
 }
\ No newline at end of file
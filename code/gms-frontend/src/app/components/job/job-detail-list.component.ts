@@ -21,7 +21,8 @@ const MANUAL_JOB_EXECUTION_CONFIG = [
     { label: 'job.button.message.cleanup', url : 'message_cleanup' },
     { label: 'job.button.secret.rotation', url : 'secret_rotation' },
     { label: 'job.button.user.anonymization', url : 'user_anonymization' },
-    { label: 'job.button.user.deletion', url : 'user_deletion' }
+    { label: 'job.button.user.deletion', url : 'user_deletion' },
+    { label: 'job.button.user.counter.reconciliation', url : 'user_counter_reconciliation' }
 ];
 
 /**
@@ -35,7 +36,7 @@ const MANUAL_JOB_EXECUTION_CONFIG = [
 })
 export class JobDetailListComponent implements OnInit {
 
-    columns: string[] = ['id', 'name', 'correlationId', 'status', 'duration', 'creationDate', 'message'];
+    columns: string[] = ['id', 'name', 'correlationId', 'status', 'duration', 'processedCount', 'creationDate', 'message'];
     job_execution_config = MANUAL_JOB_EXECUTION_CONFIG;
 
     loading = true;
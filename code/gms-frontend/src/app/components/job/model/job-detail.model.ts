@@ -10,5 +10,6 @@ export interface JobDetail {
     startTime: Date;
     endTime?: Date;
     duration?: number;
+    processedCount?: number;
     message?: string;
 }
\ No newline at end of file
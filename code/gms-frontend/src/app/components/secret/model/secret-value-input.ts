@@ -5,4 +5,5 @@ export interface SecretValueInput {
     keystoreId: number;
     keystoreAliasId: number;
     value: string;
+    returnDecrypted: boolean;
 }
\ No newline at end of file
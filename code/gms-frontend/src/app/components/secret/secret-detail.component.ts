@@ -266,7 +266,8 @@ export class SecretDetailComponent extends BaseDetailComponent<Secret, SecretSer
         this.service.validateLength({
             keystoreId: this.data.keystoreId,
             keystoreAliasId: this.data.keystoreAliasId,
-            value: this.data.value
+            value: this.data.value,
+            returnDecrypted: this.data.returnDecrypted === true
         }).subscribe({
             next: (result) => this.validationState = result.value ? ValidationState.VALID : ValidationState.INVALID,
             error: () => {
@@ -162,7 +162,8 @@ describe("SecretService", () => {
       service.validateLength({
         value : "myValue",
         keystoreId : 1,
-        keystoreAliasId : 1
+        keystoreAliasId : 1,
+        returnDecrypted : false
       }).subscribe((res) => expect(res).toBe(mockResponse));
 
       // assert
@@ -88,7 +88,10 @@ export const PROPERTY_TEXT_MAP: any = {
   'USER_ANONYMIZATION_RUNNER_CONTAINER_ID': createTextConfig(),
   'USER_DELETION_JOB_ENABLED': createBoolConfig(),
   'USER_DELETION_RUNNER_CONTAINER_ID': createTextConfig(),
+  'USER_COUNTER_RECONCILIATION_JOB_ENABLED': createBoolConfig(),
+  'USER_COUNTER_RECONCILIATION_RUNNER_CONTAINER_ID': createTextConfig(),
   'ENABLE_MULTI_NODE': createBoolConfig(),
+  'ENABLE_JOB_SHARDING': createBoolConfig(),
   'ENABLE_AUTOMATIC_LOGOUT': createBoolConfig('checkSystemReady'),
   'AUTOMATIC_LOGOUT_TIME_IN_MINUTES': createUnitBasedTextConfig('checkSystemReady')
 };